@@ -580,6 +580,20 @@ public class StorIOSQLiteAnnotationsProcessorTest {
                 .withErrorContaining("Class marked with StorIOSQLiteType annotation needs factory method or constructor marked with StorIOSQLiteCreator annotation: PrivateFieldsWithoutCreator");
     }
 
+    @Test
+    public void shouldCompileWithNonDefaultPutStrategy() {
+        JavaFileObject model = JavaFileObjects.forResource("UpdateFirstPutStrategy.java");
+
+        JavaFileObject generatedPutResolver = JavaFileObjects.forResource("UpdateFirstPutStrategyStorIOSQLitePutResolver.java");
+
+        assert_().about(javaSource())
+                .that(model)
+                .processedWith(new StorIOSQLiteProcessor())
+                .compilesWithoutError()
+                .and()
+                .generatesSources(generatedPutResolver);
+    }
+
     @Test
     public void shouldGenerateTableClass() {
         JavaFileObject model = JavaFileObjects.forResource("WithGeneratedTable.java");
@@ -3,7 +3,9 @@ package com.pushtorefresh.storio3.sqlite.annotations;
 import android.support.annotation.NonNull;
 import com.pushtorefresh.storio3.sqlite.operations.delete.DefaultDeleteResolver;
 import com.pushtorefresh.storio3.sqlite.queries.DeleteQuery;
+import java.lang.Object;
 import java.lang.Override;
+import java.lang.String;
 
 /**
  * Generated resolver for Delete Operation.
@@ -21,4 +23,22 @@ public class BoxedTypesFieldsStorIOSQLiteDeleteResolver extends DefaultDeleteRes
             .whereArgs(object.field4)
             .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public String[] deleteKeyColumns() {
+        return new String[]{"field4"};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public Object[] mapToDeleteKey(@NonNull BoxedTypesFields object) {
+        return new Object[]{object.field4};
+    }
+}
@@ -2,41 +2,92 @@ package com.pushtorefresh.storio3.sqlite.annotations;
 
 import android.database.Cursor;
 import android.support.annotation.NonNull;
-
 import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio3.sqlite.operations.get.DefaultGetResolver;
+import java.lang.Object;
 import java.lang.Override;
+import java.lang.String;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Generated resolver for Get Operation.
  */
 public class BoxedTypesFieldsStorIOSQLiteGetResolver extends DefaultGetResolver<BoxedTypesFields> {
+    private static final List<String> MAPPED_COLUMNS = Collections.unmodifiableList(Arrays.asList("field1", "field2", "field3", "field4", "field5", "field6"));
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public List<String> mappedColumns() {
+        return MAPPED_COLUMNS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object primaryKey(@NonNull BoxedTypesFields object) {
+        return object.field4;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public int[] columnIndices(@NonNull Cursor cursor) {
+        return new int[]{
+            cursor.getColumnIndex("field1"),
+            cursor.getColumnIndex("field2"),
+            cursor.getColumnIndex("field3"),
+            cursor.getColumnIndex("field4"),
+            cursor.getColumnIndex("field5"),
+            cursor.getColumnIndex("field6"),
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public BoxedTypesFields mapFromCursor(@NonNull StorIOSQLite storIOSQLite,
+            @NonNull Cursor cursor) {
+        return mapFromCursor(storIOSQLite, cursor, columnIndices(cursor));
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     @NonNull
-    public BoxedTypesFields mapFromCursor(@NonNull StorIOSQLite storIOSQLite, @NonNull Cursor cursor) {
+    public BoxedTypesFields mapFromCursor(@NonNull StorIOSQLite storIOSQLite,
+            @NonNull Cursor cursor, @NonNull int[] columnIndices) {
         BoxedTypesFields object = new BoxedTypesFields();
 
-        if (!cursor.isNull(cursor.getColumnIndex("field1"))) {
-            object.field1 = cursor.getInt(cursor.getColumnIndex("field1")) == 1;
+        if (!cursor.isNull(columnIndices[0])) {
+            object.field1 = cursor.getInt(columnIndices[0]) == 1;
         }
-        if (!cursor.isNull(cursor.getColumnIndex("field2"))) {
-            object.field2 = cursor.getShort(cursor.getColumnIndex("field2"));
+        if (!cursor.isNull(columnIndices[1])) {
+            object.field2 = cursor.getShort(columnIndices[1]);
         }
-        if (!cursor.isNull(cursor.getColumnIndex("field3"))) {
-            object.field3 = cursor.getInt(cursor.getColumnIndex("field3"));
+        if (!cursor.isNull(columnIndices[2])) {
+            object.field3 = cursor.getInt(columnIndices[2]);
         }
-        if (!cursor.isNull(cursor.getColumnIndex("field4"))) {
-            object.field4 = cursor.getLong(cursor.getColumnIndex("field4"));
+        if (!cursor.isNull(columnIndices[3])) {
+            object.field4 = cursor.getLong(columnIndices[3]);
         }
-        if (!cursor.isNull(cursor.getColumnIndex("field5"))) {
-            object.field5 = cursor.getFloat(cursor.getColumnIndex("field5"));
+        if (!cursor.isNull(columnIndices[4])) {
+            object.field5 = cursor.getFloat(columnIndices[4]);
         }
-        if (!cursor.isNull(cursor.getColumnIndex("field6"))) {
-            object.field6 = cursor.getDouble(cursor.getColumnIndex("field6"));
+        if (!cursor.isNull(columnIndices[5])) {
+            object.field6 = cursor.getDouble(columnIndices[5]);
         }
 
         return object;
     }
-}
\ No newline at end of file
+}
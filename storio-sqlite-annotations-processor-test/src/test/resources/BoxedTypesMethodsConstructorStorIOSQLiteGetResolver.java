@@ -2,7 +2,6 @@ package com.pushtorefresh.storio3.sqlite.annotations;
 
 import android.database.Cursor;
 import android.support.annotation.NonNull;
-
 import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio3.sqlite.operations.get.DefaultGetResolver;
 import java.lang.Boolean;
@@ -10,47 +9,98 @@ import java.lang.Double;
 import java.lang.Float;
 import java.lang.Integer;
 import java.lang.Long;
+import java.lang.Object;
 import java.lang.Override;
 import java.lang.Short;
+import java.lang.String;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Generated resolver for Get Operation.
  */
 public class BoxedTypesMethodsConstructorStorIOSQLiteGetResolver extends DefaultGetResolver<BoxedTypesMethodsConstructor> {
+    private static final List<String> MAPPED_COLUMNS = Collections.unmodifiableList(Arrays.asList("field1", "field2", "field3", "field4", "field5", "field6"));
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public List<String> mappedColumns() {
+        return MAPPED_COLUMNS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object primaryKey(@NonNull BoxedTypesMethodsConstructor object) {
+        return object.getField4();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public int[] columnIndices(@NonNull Cursor cursor) {
+        return new int[]{
+            cursor.getColumnIndex("field1"),
+            cursor.getColumnIndex("field2"),
+            cursor.getColumnIndex("field3"),
+            cursor.getColumnIndex("field4"),
+            cursor.getColumnIndex("field5"),
+            cursor.getColumnIndex("field6"),
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public BoxedTypesMethodsConstructor mapFromCursor(@NonNull StorIOSQLite storIOSQLite,
+            @NonNull Cursor cursor) {
+        return mapFromCursor(storIOSQLite, cursor, columnIndices(cursor));
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     @NonNull
-    public BoxedTypesMethodsConstructor mapFromCursor(@NonNull StorIOSQLite storIOSQLite, @NonNull Cursor cursor) {
+    public BoxedTypesMethodsConstructor mapFromCursor(@NonNull StorIOSQLite storIOSQLite,
+            @NonNull Cursor cursor, @NonNull int[] columnIndices) {
 
         Boolean field1 = null;
-        if (!cursor.isNull(cursor.getColumnIndex("field1"))) {
-            field1 = cursor.getInt(cursor.getColumnIndex("field1")) == 1;
+        if (!cursor.isNull(columnIndices[0])) {
+            field1 = cursor.getInt(columnIndices[0]) == 1;
         }
         Short field2 = null;
-        if (!cursor.isNull(cursor.getColumnIndex("field2"))) {
-            field2 = cursor.getShort(cursor.getColumnIndex("field2"));
+        if (!cursor.isNull(columnIndices[1])) {
+            field2 = cursor.getShort(columnIndices[1]);
         }
         Integer field3 = null;
-        if (!cursor.isNull(cursor.getColumnIndex("field3"))) {
-            field3 = cursor.getInt(cursor.getColumnIndex("field3"));
+        if (!cursor.isNull(columnIndices[2])) {
+            field3 = cursor.getInt(columnIndices[2]);
         }
         Long field4 = null;
-        if (!cursor.isNull(cursor.getColumnIndex("field4"))) {
-            field4 = cursor.getLong(cursor.getColumnIndex("field4"));
+        if (!cursor.isNull(columnIndices[3])) {
+            field4 = cursor.getLong(columnIndices[3]);
         }
         Float field5 = null;
-        if (!cursor.isNull(cursor.getColumnIndex("field5"))) {
-            field5 = cursor.getFloat(cursor.getColumnIndex("field5"));
+        if (!cursor.isNull(columnIndices[4])) {
+            field5 = cursor.getFloat(columnIndices[4]);
         }
         Double field6 = null;
-        if (!cursor.isNull(cursor.getColumnIndex("field6"))) {
-            field6 = cursor.getDouble(cursor.getColumnIndex("field6"));
+        if (!cursor.isNull(columnIndices[5])) {
+            field6 = cursor.getDouble(columnIndices[5]);
         }
 
         BoxedTypesMethodsConstructor object = new BoxedTypesMethodsConstructor(field1, field2, field3, field4, field5, field6);
 
         return object;
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,13 @@
 package com.pushtorefresh.storio3.sqlite.annotations;
 
 import android.content.ContentValues;
+import android.database.sqlite.SQLiteStatement;
 import android.support.annotation.NonNull;
 import com.pushtorefresh.storio3.sqlite.operations.put.DefaultPutResolver;
 import com.pushtorefresh.storio3.sqlite.queries.InsertQuery;
 import com.pushtorefresh.storio3.sqlite.queries.UpdateQuery;
 import java.lang.Override;
+import java.lang.String;
 
 /**
  * Generated resolver for Put Operation.
@@ -52,4 +54,50 @@ public class BoxedTypesMethodsConstructorStorIOSQLitePutResolver extends Default
 
         return contentValues;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public String[] insertStatementColumns() {
+        return new String[]{"field1", "field2", "field3", "field4", "field5", "field6"};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindToStatement(@NonNull SQLiteStatement statement, @NonNull BoxedTypesMethodsConstructor object) {
+        if (object.getField1() == null) {
+            statement.bindNull(1);
+        } else {
+            statement.bindLong(1, object.getField1() ? 1 : 0);
+        }
+        if (object.getField2() == null) {
+            statement.bindNull(2);
+        } else {
+            statement.bindLong(2, object.getField2());
+        }
+        if (object.getField3() == null) {
+            statement.bindNull(3);
+        } else {
+            statement.bindLong(3, object.getField3());
+        }
+        if (object.getField4() == null) {
+            statement.bindNull(4);
+        } else {
+            statement.bindLong(4, object.getField4());
+        }
+        if (object.getField5() == null) {
+            statement.bindNull(5);
+        } else {
+            statement.bindDouble(5, object.getField5());
+        }
+        if (object.getField6() == null) {
+            statement.bindNull(6);
+        } else {
+            statement.bindDouble(6, object.getField6());
+        }
+    }
 }
\ No newline at end of file
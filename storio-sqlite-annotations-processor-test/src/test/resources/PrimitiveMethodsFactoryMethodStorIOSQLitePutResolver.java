@@ -1,11 +1,13 @@
 package com.pushtorefresh.storio3.sqlite.annotations;
 
 import android.content.ContentValues;
+import android.database.sqlite.SQLiteStatement;
 import android.support.annotation.NonNull;
 import com.pushtorefresh.storio3.sqlite.operations.put.DefaultPutResolver;
 import com.pushtorefresh.storio3.sqlite.queries.InsertQuery;
 import com.pushtorefresh.storio3.sqlite.queries.UpdateQuery;
 import java.lang.Override;
+import java.lang.String;
 
 /**
  * Generated resolver for Put Operation.
@@ -54,4 +56,36 @@ public class PrimitiveMethodsFactoryMethodStorIOSQLitePutResolver extends Defaul
 
         return contentValues;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public String[] insertStatementColumns() {
+        return new String[]{"field1", "field2", "field3", "field4", "field5", "field6", "field7", "field8"};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindToStatement(@NonNull SQLiteStatement statement, @NonNull PrimitiveMethodsFactoryMethod object) {
+        statement.bindLong(1, object.getField1() ? 1 : 0);
+        statement.bindLong(2, object.getField2());
+        statement.bindLong(3, object.getField3());
+        statement.bindLong(4, object.getField4());
+        statement.bindDouble(5, object.getField5());
+        statement.bindDouble(6, object.getField6());
+        if (object.getField7() == null) {
+            statement.bindNull(7);
+        } else {
+            statement.bindString(7, object.getField7());
+        }
+        if (object.getField8() == null) {
+            statement.bindNull(8);
+        } else {
+            statement.bindBlob(8, object.getField8());
+        }
+    }
 }
\ No newline at end of file
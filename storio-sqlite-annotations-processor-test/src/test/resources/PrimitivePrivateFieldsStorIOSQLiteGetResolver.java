@@ -2,34 +2,85 @@ package com.pushtorefresh.storio3.sqlite.annotations;
 
 import android.database.Cursor;
 import android.support.annotation.NonNull;
-
 import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio3.sqlite.operations.get.DefaultGetResolver;
+import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Generated resolver for Get Operation.
  */
 public class PrimitivePrivateFieldsStorIOSQLiteGetResolver extends DefaultGetResolver<PrimitivePrivateFields> {
+    private static final List<String> MAPPED_COLUMNS = Collections.unmodifiableList(Arrays.asList("field1", "field2", "field3", "field4", "field5", "field6", "field7", "field8"));
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public List<String> mappedColumns() {
+        return MAPPED_COLUMNS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object primaryKey(@NonNull PrimitivePrivateFields object) {
+        return object.getField4();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public int[] columnIndices(@NonNull Cursor cursor) {
+        return new int[]{
+            cursor.getColumnIndex("field1"),
+            cursor.getColumnIndex("field2"),
+            cursor.getColumnIndex("field3"),
+            cursor.getColumnIndex("field4"),
+            cursor.getColumnIndex("field5"),
+            cursor.getColumnIndex("field6"),
+            cursor.getColumnIndex("field7"),
+            cursor.getColumnIndex("field8"),
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public PrimitivePrivateFields mapFromCursor(@NonNull StorIOSQLite storIOSQLite,
+            @NonNull Cursor cursor) {
+        return mapFromCursor(storIOSQLite, cursor, columnIndices(cursor));
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     @NonNull
-    public PrimitivePrivateFields mapFromCursor(@NonNull StorIOSQLite storIOSQLite, @NonNull Cursor cursor) {
+    public PrimitivePrivateFields mapFromCursor(@NonNull StorIOSQLite storIOSQLite,
+            @NonNull Cursor cursor, @NonNull int[] columnIndices) {
 
-        boolean field1 = cursor.getInt(cursor.getColumnIndex("field1")) == 1;
-        short field2 = cursor.getShort(cursor.getColumnIndex("field2"));
-        int field3 = cursor.getInt(cursor.getColumnIndex("field3"));
-        long field4 = cursor.getLong(cursor.getColumnIndex("field4"));
-        float field5 = cursor.getFloat(cursor.getColumnIndex("field5"));
-        double field6 = cursor.getDouble(cursor.getColumnIndex("field6"));
-        String field7 = cursor.getString(cursor.getColumnIndex("field7"));
-        byte[] field8 = cursor.getBlob(cursor.getColumnIndex("field8"));
+        boolean field1 = cursor.getInt(columnIndices[0]) == 1;
+        short field2 = cursor.getShort(columnIndices[1]);
+        int field3 = cursor.getInt(columnIndices[2]);
+        long field4 = cursor.getLong(columnIndices[3]);
+        float field5 = cursor.getFloat(columnIndices[4]);
+        double field6 = cursor.getDouble(columnIndices[5]);
+        String field7 = cursor.getString(columnIndices[6]);
+        byte[] field8 = cursor.getBlob(columnIndices[7]);
 
         PrimitivePrivateFields object = new PrimitivePrivateFields(field1, field2, field3, field4, field5, field6, field7, field8);
 
         return object;
     }
-}
\ No newline at end of file
+}
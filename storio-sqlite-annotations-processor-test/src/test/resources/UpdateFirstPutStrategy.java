@@ -0,0 +1,11 @@
+package com.pushtorefresh.storio3.sqlite.annotations;
+
+@StorIOSQLiteType(table = "table", putStrategy = StorIOSQLitePutStrategy.UPDATE_FIRST)
+public class UpdateFirstPutStrategy {
+
+    @StorIOSQLiteColumn(name = "id", key = true)
+    long id;
+
+    @StorIOSQLiteColumn(name = "name")
+    String name;
+}
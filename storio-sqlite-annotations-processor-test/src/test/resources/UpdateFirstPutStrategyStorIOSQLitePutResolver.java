@@ -0,0 +1,85 @@
+package com.pushtorefresh.storio3.sqlite.annotations;
+
+import android.content.ContentValues;
+import android.database.sqlite.SQLiteStatement;
+import android.support.annotation.NonNull;
+import com.pushtorefresh.storio3.sqlite.operations.put.DefaultPutResolver;
+import com.pushtorefresh.storio3.sqlite.operations.put.PutStrategy;
+import com.pushtorefresh.storio3.sqlite.queries.InsertQuery;
+import com.pushtorefresh.storio3.sqlite.queries.UpdateQuery;
+import java.lang.Override;
+import java.lang.String;
+
+/**
+ * Generated resolver for Put Operation.
+ */
+public class UpdateFirstPutStrategyStorIOSQLitePutResolver extends DefaultPutResolver<UpdateFirstPutStrategy> {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public InsertQuery mapToInsertQuery(@NonNull UpdateFirstPutStrategy object) {
+        return InsertQuery.builder()
+            .table("table")
+            .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public UpdateQuery mapToUpdateQuery(@NonNull UpdateFirstPutStrategy object) {
+        return UpdateQuery.builder()
+            .table("table")
+            .where("id = ?")
+            .whereArgs(object.id)
+            .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public ContentValues mapToContentValues(@NonNull UpdateFirstPutStrategy object) {
+        ContentValues contentValues = new ContentValues(2);
+
+        contentValues.put("id", object.id);
+        contentValues.put("name", object.name);
+
+        return contentValues;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public PutStrategy putStrategy() {
+        return PutStrategy.UPDATE_FIRST;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public String[] insertStatementColumns() {
+        return new String[]{"id", "name"};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindToStatement(@NonNull SQLiteStatement statement, @NonNull UpdateFirstPutStrategy object) {
+        statement.bindLong(1, object.id);
+        if (object.name == null) {
+            statement.bindNull(2);
+        } else {
+            statement.bindString(2, object.name);
+        }
+    }
+}
@@ -55,12 +55,39 @@ open class StorIOSQLiteProcessor : StorIOAnnotationsProcessor<StorIOSQLiteTypeMe
             throw ProcessingException(classElement, "Table name of ${classElement.simpleName} annotated with ${StorIOSQLiteType::class.java.simpleName} is empty")
         }
 
+        validatePutStrategy(classElement, storIOSQLiteType, elementUtils)
+
         val simpleName = classElement.simpleName.toString()
         val packageName = elementUtils.getPackageOf(classElement).qualifiedName.toString()
 
         return StorIOSQLiteTypeMeta(simpleName, packageName, storIOSQLiteType, ABSTRACT in classElement.modifiers, nonNullAnnotationClassName)
     }
 
+    /**
+     * Checks that put strategy of annotated class exists in runtime [PUT_STRATEGY] enum
+     * which generated put resolver references.
+     *
+     * @param classElement type element annotated with [StorIOSQLiteType]
+     *
+     * @param storIOSQLiteType annotation of the class
+     *
+     * @param elementUtils utils for working with elementUtils
+     */
+    private fun validatePutStrategy(classElement: TypeElement, storIOSQLiteType: StorIOSQLiteType, elementUtils: Elements) {
+        // if runtime is not in the classpath generated code won't compile anyway
+        val putStrategyElement = elementUtils.getTypeElement(PUT_STRATEGY.reflectionName()) ?: return
+        val putStrategyName = storIOSQLiteType.putStrategy.name
+
+        val hasConstant = putStrategyElement.enclosedElements.any {
+            it.kind == ElementKind.ENUM_CONSTANT && it.simpleName.contentEquals(putStrategyName)
+        }
+
+        if (!hasConstant) {
+            throw ProcessingException(classElement, "Put strategy $putStrategyName of ${classElement.simpleName} is not supported by" +
+                    " ${PUT_STRATEGY.reflectionName()}, check that versions of StorIO annotations and runtime are the same")
+        }
+    }
+
     /**
      * Processes fields annotated with [StorIOSQLiteColumn].
      *
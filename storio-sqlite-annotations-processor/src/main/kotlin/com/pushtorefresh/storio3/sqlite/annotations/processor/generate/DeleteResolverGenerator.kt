@@ -2,6 +2,7 @@ package com.pushtorefresh.storio3.sqlite.annotations.processor.generate
 
 import com.pushtorefresh.storio3.common.annotations.processor.generate.Common.INDENT
 import com.pushtorefresh.storio3.common.annotations.processor.generate.Generator
+import com.pushtorefresh.storio3.sqlite.annotations.processor.introspection.StorIOSQLiteColumnMeta
 import com.pushtorefresh.storio3.sqlite.annotations.processor.introspection.StorIOSQLiteTypeMeta
 import com.squareup.javapoet.*
 import javax.lang.model.element.Modifier.PUBLIC
@@ -13,12 +14,21 @@ object DeleteResolverGenerator : Generator<StorIOSQLiteTypeMeta> {
     override fun generateJavaFile(typeMeta: StorIOSQLiteTypeMeta): JavaFile {
         val className = ClassName.get(typeMeta.packageName, typeMeta.simpleName)
 
-        val deleteResolver = TypeSpec.classBuilder(generateName(typeMeta))
+        val deleteResolverBuilder = TypeSpec.classBuilder(generateName(typeMeta))
                 .addJavadoc("Generated resolver for Delete Operation.\n")
                 .addModifiers(PUBLIC)
                 .superclass(ParameterizedTypeName.get(ClassName.get("com.pushtorefresh.storio3.sqlite.operations.delete", "DefaultDeleteResolver"), className))
                 .addMethod(createMapToDeleteQueryMethodSpec(typeMeta, className))
-                .build()
+
+        val keyColumns = typeMeta.columns.values.filter { it.storIOColumn.key }
+
+        if (keyColumns.isNotEmpty()) {
+            deleteResolverBuilder
+                    .addMethod(createDeleteKeyColumnsMethodSpec(typeMeta, keyColumns))
+                    .addMethod(createMapToDeleteKeyMethodSpec(typeMeta, className, keyColumns))
+        }
+
+        val deleteResolver = deleteResolverBuilder.build()
 
         return JavaFile
                 .builder(typeMeta.packageName, deleteResolver)
@@ -50,5 +60,34 @@ object DeleteResolverGenerator : Generator<StorIOSQLiteTypeMeta> {
                 .build()
     }
 
+    private fun createDeleteKeyColumnsMethodSpec(typeMeta: StorIOSQLiteTypeMeta, keyColumns: List<StorIOSQLiteColumnMeta>): MethodSpec {
+        val columns = keyColumns.joinToString(", ") { "\"${it.storIOColumn.name}\"" }
+
+        return MethodSpec.methodBuilder("deleteKeyColumns")
+                .addJavadoc("{@inheritDoc}\n")
+                .addAnnotation(Override::class.java)
+                .addAnnotation(typeMeta.nonNullAnnotationClass)
+                .addModifiers(PUBLIC)
+                .returns(ArrayTypeName.of(String::class.java))
+                .addStatement("return new String[]{\$L}", columns)
+                .build()
+    }
+
+    private fun createMapToDeleteKeyMethodSpec(typeMeta: StorIOSQLiteTypeMeta, className: ClassName, keyColumns: List<StorIOSQLiteColumnMeta>): MethodSpec {
+        val values = keyColumns.joinToString(", ") { "object.${it.contextAwareName}" }
+
+        return MethodSpec.methodBuilder("mapToDeleteKey")
+                .addJavadoc("{@inheritDoc}\n")
+                .addAnnotation(Override::class.java)
+                .addAnnotation(typeMeta.nonNullAnnotationClass)
+                .addModifiers(PUBLIC)
+                .returns(ArrayTypeName.of(Object::class.java))
+                .addParameter(ParameterSpec.builder(className, "object")
+                        .addAnnotation(typeMeta.nonNullAnnotationClass)
+                        .build())
+                .addStatement("return new Object[]{\$L}", values)
+                .build()
+    }
+
     fun generateName(typeMeta: StorIOSQLiteTypeMeta) = "${typeMeta.simpleName}$SUFFIX"
 }
\ No newline at end of file
@@ -3,14 +3,20 @@ package com.pushtorefresh.storio3.sqlite.annotations.processor.generate
 import com.pushtorefresh.storio3.common.annotations.processor.generate.Common.INDENT
 import com.pushtorefresh.storio3.common.annotations.processor.generate.Common.getFromCursorString
 import com.pushtorefresh.storio3.common.annotations.processor.generate.Generator
+import com.pushtorefresh.storio3.sqlite.annotations.processor.introspection.StorIOSQLiteColumnMeta
 import com.pushtorefresh.storio3.sqlite.annotations.processor.introspection.StorIOSQLiteTypeMeta
 import com.squareup.javapoet.*
 import javax.lang.model.element.ElementKind
 import javax.lang.model.element.ExecutableElement
+import javax.lang.model.element.Modifier.FINAL
+import javax.lang.model.element.Modifier.PRIVATE
 import javax.lang.model.element.Modifier.PUBLIC
+import javax.lang.model.element.Modifier.STATIC
 
 private const val SUFFIX = "StorIOSQLiteGetResolver"
 
+private val LIST_OF_STRINGS = ParameterizedTypeName.get(ClassName.get("java.util", "List"), ClassName.get(String::class.java))
+
 object GetResolverGenerator : Generator<StorIOSQLiteTypeMeta> {
 
     override fun generateJavaFile(typeMeta: StorIOSQLiteTypeMeta): JavaFile {
@@ -20,6 +26,11 @@ object GetResolverGenerator : Generator<StorIOSQLiteTypeMeta> {
                 .addJavadoc("Generated resolver for Get Operation.\n")
                 .addModifiers(PUBLIC)
                 .superclass(ParameterizedTypeName.get(ClassName.get("com.pushtorefresh.storio3.sqlite.operations.get", "DefaultGetResolver"), className))
+                .addField(createMappedColumnsFieldSpec(typeMeta))
+                .addMethod(createMappedColumnsMethodSpec(typeMeta))
+                .addMethod(createPrimaryKeyMethodSpec(typeMeta, className))
+                .addMethod(createColumnIndicesMethodSpec(typeMeta))
+                .addMethod(createMapFromCursorDelegateMethodSpec(typeMeta, className))
                 .addMethod(
                         if (typeMeta.needsCreator)
                             createMapFromCursorWithCreatorMethodSpec(typeMeta, className)
@@ -33,6 +44,96 @@ object GetResolverGenerator : Generator<StorIOSQLiteTypeMeta> {
                 .build()
     }
 
+    private fun createMappedColumnsFieldSpec(typeMeta: StorIOSQLiteTypeMeta): FieldSpec {
+        val columnNames = typeMeta.columns.values.map { it.storIOColumn.name }
+
+        return FieldSpec.builder(LIST_OF_STRINGS, "MAPPED_COLUMNS", PRIVATE, STATIC, FINAL)
+                .initializer("\$T.unmodifiableList(\$T.asList(${columnNames.joinToString { "\$S" }}))",
+                        ClassName.get("java.util", "Collections"),
+                        ClassName.get("java.util", "Arrays"),
+                        *columnNames.toTypedArray())
+                .build()
+    }
+
+    private fun createMappedColumnsMethodSpec(typeMeta: StorIOSQLiteTypeMeta): MethodSpec {
+        return MethodSpec.methodBuilder("mappedColumns")
+                .addJavadoc("{@inheritDoc}\n")
+                .addAnnotation(Override::class.java)
+                .addAnnotation(typeMeta.nonNullAnnotationClass)
+                .addModifiers(PUBLIC)
+                .returns(LIST_OF_STRINGS)
+                .addStatement("return MAPPED_COLUMNS")
+                .build()
+    }
+
+    private fun createPrimaryKeyMethodSpec(typeMeta: StorIOSQLiteTypeMeta, className: ClassName): MethodSpec {
+        val keys = typeMeta.columns.values
+                .filter { it.storIOColumn.key }
+                .map { "object.${it.contextAwareName}" }
+
+        val builder = MethodSpec.methodBuilder("primaryKey")
+                .addJavadoc("{@inheritDoc}\n")
+                .addAnnotation(Override::class.java)
+                .addModifiers(PUBLIC)
+                .returns(Any::class.java)
+                .addParameter(ParameterSpec.builder(className, "object")
+                        .addAnnotation(typeMeta.nonNullAnnotationClass)
+                        .build())
+
+        // composite key is compared as list of values
+        if (keys.size == 1) {
+            builder.addStatement("return \$L", keys[0])
+        } else {
+            builder.addStatement("return \$T.<Object>asList(\$L)", ClassName.get("java.util", "Arrays"), keys.joinToString(", "))
+        }
+
+        return builder.build()
+    }
+
+    private fun createColumnIndicesMethodSpec(typeMeta: StorIOSQLiteTypeMeta): MethodSpec {
+        val builder = MethodSpec.methodBuilder("columnIndices")
+                .addJavadoc("{@inheritDoc}\n")
+                .addAnnotation(Override::class.java)
+                .addAnnotation(typeMeta.nonNullAnnotationClass)
+                .addModifiers(PUBLIC)
+                .returns(ArrayTypeName.of(TypeName.INT))
+                .addParameter(ParameterSpec.builder(ClassName.get("android.database", "Cursor"), "cursor")
+                        .addAnnotation(typeMeta.nonNullAnnotationClass)
+                        .build())
+                .addCode("return new int[]{\n\$>")
+
+        typeMeta.columns.values.forEach { columnMeta ->
+            builder.addCode("cursor.getColumnIndex(\$S),\n", columnMeta.storIOColumn.name)
+        }
+
+        return builder
+                .addCode("\$<};\n")
+                .build()
+    }
+
+    private fun createMapFromCursorDelegateMethodSpec(typeMeta: StorIOSQLiteTypeMeta, className: ClassName): MethodSpec {
+        return MethodSpec.methodBuilder("mapFromCursor")
+                .addJavadoc("{@inheritDoc}\n")
+                .addAnnotation(Override::class.java)
+                .addAnnotation(typeMeta.nonNullAnnotationClass)
+                .addModifiers(PUBLIC)
+                .returns(className)
+                .addParameter(ParameterSpec.builder(ClassName.get("com.pushtorefresh.storio3.sqlite", "StorIOSQLite"), "storIOSQLite")
+                        .addAnnotation(typeMeta.nonNullAnnotationClass)
+                        .build())
+                .addParameter(ParameterSpec.builder(ClassName.get("android.database", "Cursor"), "cursor")
+                        .addAnnotation(typeMeta.nonNullAnnotationClass)
+                        .build())
+                .addStatement("return mapFromCursor(storIOSQLite, cursor, columnIndices(cursor))")
+                .build()
+    }
+
+    /**
+     * Index of the column in the array returned by generated {@code columnIndices()}.
+     */
+    private fun columnIndex(typeMeta: StorIOSQLiteTypeMeta, columnMeta: StorIOSQLiteColumnMeta) =
+            "columnIndices[${typeMeta.columns.values.indexOf(columnMeta)}]"
+
     private fun createMapFromCursorMethodSpec(typeMeta: StorIOSQLiteTypeMeta, className: ClassName): MethodSpec {
         val builder = MethodSpec.methodBuilder("mapFromCursor")
                 .addJavadoc("{@inheritDoc}\n")
@@ -46,11 +147,14 @@ object GetResolverGenerator : Generator<StorIOSQLiteTypeMeta> {
                 .addParameter(ParameterSpec.builder(ClassName.get("android.database", "Cursor"), "cursor")
                         .addAnnotation(typeMeta.nonNullAnnotationClass)
                         .build())
+                .addParameter(ParameterSpec.builder(ArrayTypeName.of(TypeName.INT), "columnIndices")
+                        .addAnnotation(typeMeta.nonNullAnnotationClass)
+                        .build())
                 .addStatement("\$T object = new \$T()", className, className)
                 .addCode("\n")
 
         typeMeta.columns.values.forEach { columnMeta ->
-            val columnIndex = "cursor.getColumnIndex(\"${columnMeta.storIOColumn.name}\")"
+            val columnIndex = columnIndex(typeMeta, columnMeta)
 
             val javaType = columnMeta.javaType
 
@@ -84,12 +188,15 @@ object GetResolverGenerator : Generator<StorIOSQLiteTypeMeta> {
                 .addParameter(ParameterSpec.builder(ClassName.get("android.database", "Cursor"), "cursor")
                         .addAnnotation(typeMeta.nonNullAnnotationClass)
                         .build())
+                .addParameter(ParameterSpec.builder(ArrayTypeName.of(TypeName.INT), "columnIndices")
+                        .addAnnotation(typeMeta.nonNullAnnotationClass)
+                        .build())
                 .addCode("\n")
 
         val paramsBuilder = StringBuilder().apply { append("(") }
         var first = true
         typeMeta.orderedColumns.forEach { columnMeta ->
-            val columnIndex = "cursor.getColumnIndex(\"${columnMeta.storIOColumn.name}\")"
+            val columnIndex = columnIndex(typeMeta, columnMeta)
 
             val javaType = columnMeta.javaType
 
@@ -2,25 +2,44 @@ package com.pushtorefresh.storio3.sqlite.annotations.processor.generate
 
 import com.pushtorefresh.storio3.common.annotations.processor.generate.Common.INDENT
 import com.pushtorefresh.storio3.common.annotations.processor.generate.Generator
+import com.pushtorefresh.storio3.common.annotations.processor.introspection.JavaType
+import com.pushtorefresh.storio3.sqlite.annotations.StorIOSQLitePutStrategy
 import com.pushtorefresh.storio3.sqlite.annotations.processor.introspection.StorIOSQLiteTypeMeta
 import com.squareup.javapoet.*
 import javax.lang.model.element.Modifier.PUBLIC
 
 private const val SUFFIX = "StorIOSQLitePutResolver"
 
+/**
+ * Runtime enum referenced by generated put resolvers, constants of [StorIOSQLitePutStrategy] map to it by name.
+ */
+internal val PUT_STRATEGY: ClassName = ClassName.get("com.pushtorefresh.storio3.sqlite.operations.put", "PutStrategy")
+
 object PutResolverGenerator : Generator<StorIOSQLiteTypeMeta> {
 
     override fun generateJavaFile(typeMeta: StorIOSQLiteTypeMeta): JavaFile {
         val className = ClassName.get(typeMeta.packageName, typeMeta.simpleName)
 
-        val putResolver = TypeSpec.classBuilder(generateName(typeMeta))
+        val putResolverBuilder = TypeSpec.classBuilder(generateName(typeMeta))
                 .addJavadoc("Generated resolver for Put Operation.\n")
                 .addModifiers(PUBLIC)
                 .superclass(ParameterizedTypeName.get(ClassName.get("com.pushtorefresh.storio3.sqlite.operations.put", "DefaultPutResolver"), className))
                 .addMethod(createMapToInsertQueryMethodSpec(typeMeta, className))
                 .addMethod(createMapToUpdateQueryMethodSpec(typeMeta, className))
                 .addMethod(createMapToContentValuesMethodSpec(typeMeta, className))
-                .build()
+
+        if (typeMeta.storIOType.putStrategy != StorIOSQLitePutStrategy.QUERY_FIRST) {
+            putResolverBuilder.addMethod(createPutStrategyMethodSpec(typeMeta))
+        }
+
+        // ignoreNull columns are omitted from ContentValues, it can't be expressed with single compiled statement
+        if (typeMeta.columns.values.none { it.storIOColumn.ignoreNull }) {
+            putResolverBuilder
+                    .addMethod(createInsertStatementColumnsMethodSpec(typeMeta))
+                    .addMethod(createBindToStatementMethodSpec(typeMeta, className))
+        }
+
+        val putResolver = putResolverBuilder.build()
 
         return JavaFile
                 .builder(typeMeta.packageName, putResolver)
@@ -98,5 +117,68 @@ object PutResolverGenerator : Generator<StorIOSQLiteTypeMeta> {
                 .build()
     }
 
+    private fun createPutStrategyMethodSpec(typeMeta: StorIOSQLiteTypeMeta): MethodSpec {
+        return MethodSpec.methodBuilder("putStrategy")
+                .addJavadoc("{@inheritDoc}\n")
+                .addAnnotation(Override::class.java)
+                .addAnnotation(typeMeta.nonNullAnnotationClass)
+                .addModifiers(PUBLIC)
+                .returns(PUT_STRATEGY)
+                .addStatement("return \$T.\$L", PUT_STRATEGY, typeMeta.storIOType.putStrategy.name)
+                .build()
+    }
+
+    private fun createInsertStatementColumnsMethodSpec(typeMeta: StorIOSQLiteTypeMeta): MethodSpec {
+        val columns = typeMeta.columns.values.joinToString(", ") { "\"${it.storIOColumn.name}\"" }
+
+        return MethodSpec.methodBuilder("insertStatementColumns")
+                .addJavadoc("{@inheritDoc}\n")
+                .addAnnotation(Override::class.java)
+                .addAnnotation(typeMeta.nonNullAnnotationClass)
+                .addModifiers(PUBLIC)
+                .returns(ArrayTypeName.of(String::class.java))
+                .addStatement("return new String[]{\$L}", columns)
+                .build()
+    }
+
+    private fun createBindToStatementMethodSpec(typeMeta: StorIOSQLiteTypeMeta, className: ClassName): MethodSpec {
+        val builder = MethodSpec.methodBuilder("bindToStatement")
+                .addJavadoc("{@inheritDoc}\n")
+                .addAnnotation(Override::class.java)
+                .addModifiers(PUBLIC)
+                .addParameter(ParameterSpec.builder(ClassName.get("android.database.sqlite", "SQLiteStatement"), "statement")
+                        .addAnnotation(typeMeta.nonNullAnnotationClass)
+                        .build())
+                .addParameter(ParameterSpec.builder(className, "object")
+                        .addAnnotation(typeMeta.nonNullAnnotationClass)
+                        .build())
+
+        typeMeta.columns.values.forEachIndexed { i, columnMeta ->
+            val index = i + 1
+            val value = "object.${columnMeta.contextAwareName}"
+            val javaType = columnMeta.javaType
+            val nullable = javaType.isBoxedType || javaType == JavaType.STRING || javaType == JavaType.BYTE_ARRAY
+
+            if (nullable) {
+                builder.beginControlFlow("if (\$L == null)", value)
+                        .addStatement("statement.bindNull(\$L)", index)
+                        .nextControlFlow("else")
+            }
+            when (javaType) {
+                JavaType.BOOLEAN, JavaType.BOOLEAN_OBJECT -> builder.addStatement("statement.bindLong(\$L, \$L ? 1 : 0)", index, value)
+                JavaType.SHORT, JavaType.SHORT_OBJECT,
+                JavaType.INTEGER, JavaType.INTEGER_OBJECT,
+                JavaType.LONG, JavaType.LONG_OBJECT -> builder.addStatement("statement.bindLong(\$L, \$L)", index, value)
+                JavaType.FLOAT, JavaType.FLOAT_OBJECT,
+                JavaType.DOUBLE, JavaType.DOUBLE_OBJECT -> builder.addStatement("statement.bindDouble(\$L, \$L)", index, value)
+                JavaType.STRING -> builder.addStatement("statement.bindString(\$L, \$L)", index, value)
+                JavaType.BYTE_ARRAY -> builder.addStatement("statement.bindBlob(\$L, \$L)", index, value)
+            }
+            if (nullable) builder.endControlFlow()
+        }
+
+        return builder.build()
+    }
+
     fun generateName(typeMeta: StorIOSQLiteTypeMeta) = "${typeMeta.simpleName}$SUFFIX"
 }
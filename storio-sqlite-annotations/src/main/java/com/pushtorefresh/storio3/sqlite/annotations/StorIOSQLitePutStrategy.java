@@ -0,0 +1,26 @@
+package com.pushtorefresh.storio3.sqlite.annotations;
+
+/**
+ * Strategy of generated put resolver.
+ * <p>
+ * Annotations can't reference runtime classes, so generated put resolver returns constant
+ * of {@code com.pushtorefresh.storio3.sqlite.operations.put.PutStrategy} with the same name,
+ * see it for details of each strategy.
+ */
+public enum StorIOSQLitePutStrategy {
+
+  /**
+   * Queries for existing row first, then inserts or updates it
+   */
+  QUERY_FIRST,
+
+  /**
+   * Updates row first and inserts it only if no rows were updated
+   */
+  UPDATE_FIRST,
+
+  /**
+   * Inserts row with {@code INSERT OR IGNORE} first and updates it only if insert was ignored
+   */
+  INSERT_FIRST
+}
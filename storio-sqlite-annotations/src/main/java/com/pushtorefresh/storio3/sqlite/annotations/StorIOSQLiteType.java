@@ -26,4 +26,11 @@ public @interface StorIOSQLiteType {
    * @return flag that shows if table class should be generated or not.
    */
   boolean generateTableClass() default true;
+
+  /**
+   * Optional: Specifies how generated put resolver decides between insert and update
+   *
+   * @return put strategy
+   */
+  StorIOSQLitePutStrategy putStrategy() default StorIOSQLitePutStrategy.QUERY_FIRST;
 }
@@ -4,16 +4,27 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import static com.pushtorefresh.storio3.internal.Checks.checkNotEmpty;
 import static com.pushtorefresh.storio3.internal.Checks.checkNotNull;
 import static com.pushtorefresh.storio3.internal.InternalQueries.nonNullSet;
+import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
+import static java.util.Collections.singletonMap;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.Collections.unmodifiableSet;
 
 /**
  * Immutable container of information about one or more changes happened in {@link StorIOSQLite}.
+ * <p>
+ * Optionally contains keys of affected rows of tables, see {@link #affectedKeys(String, String)},
+ * so observers of particular rows can ignore changes of other rows, and affected columns of tables,
+ * see {@link #affectedColumns(String)}, so observers of other columns can ignore these changes.
  */
 public final class Changes {
 
@@ -29,6 +40,27 @@ public final class Changes {
     @NonNull
     private final Set<String> affectedTags;
 
+    /**
+     * Immutable map from affected table to its key column,
+     * contains only tables with known keys of all affected rows.
+     */
+    @NonNull
+    private final Map<String, String> keyColumns;
+
+    /**
+     * Immutable map from affected table to values of its key column in affected rows,
+     * has same tables as {@link #keyColumns}.
+     */
+    @NonNull
+    private final Map<String, Set<String>> affectedKeys;
+
+    /**
+     * Immutable map from affected table to its affected columns,
+     * contains only tables with known columns of all affected rows.
+     */
+    @NonNull
+    private final Map<String, Set<String>> affectedColumns;
+
     /**
      * Creates {@link Changes} container with info about changes.
      *
@@ -36,6 +68,22 @@ public final class Changes {
      * @param affectedTags   set of tags which were affected by these changes.
      */
     private Changes(@NonNull Set<String> affectedTables, @NonNull Set<String> affectedTags) {
+        this(
+                affectedTables,
+                affectedTags,
+                Collections.<String, String>emptyMap(),
+                Collections.<String, Set<String>>emptyMap(),
+                Collections.<String, Set<String>>emptyMap()
+        );
+    }
+
+    private Changes(
+            @NonNull Set<String> affectedTables,
+            @NonNull Set<String> affectedTags,
+            @NonNull Map<String, String> keyColumns,
+            @NonNull Map<String, Set<String>> affectedKeys,
+            @NonNull Map<String, Set<String>> affectedColumns
+    ) {
         checkNotNull(affectedTables, "Please specify affected tables");
         checkNotNull(affectedTags, "Please specify affected tags");
 
@@ -45,6 +93,9 @@ public final class Changes {
 
         this.affectedTables = unmodifiableSet(affectedTables);
         this.affectedTags = unmodifiableSet(affectedTags);
+        this.keyColumns = keyColumns;
+        this.affectedKeys = affectedKeys;
+        this.affectedColumns = affectedColumns;
     }
 
     /**
@@ -103,6 +154,144 @@ public final class Changes {
         return new Changes(singleton(affectedTable), nonNullSet(affectedTags));
     }
 
+    /**
+     * Creates new instance of {@link Changes} with known keys of affected rows.
+     *
+     * @param affectedTable table that was affected.
+     * @param keyColumn     column that uniquely identifies rows of the table.
+     * @param affectedKeys  values of {@code keyColumn} of all affected rows,
+     *                      as they are passed to {@code whereArgs}.
+     * @param affectedTags  nullable set of affected tags.
+     * @return new immutable instance of {@link Changes}.
+     */
+    @NonNull
+    public static Changes newInstance(
+            @NonNull String affectedTable,
+            @NonNull String keyColumn,
+            @NonNull Collection<String> affectedKeys,
+            @Nullable Collection<String> affectedTags
+    ) {
+        checkNotNull(affectedTable, "Please specify affected table");
+        checkNotEmpty(keyColumn, "Please specify key column");
+        checkNotNull(affectedKeys, "Please specify affected keys");
+
+        return new Changes(
+                singleton(affectedTable),
+                nonNullSet(affectedTags),
+                singletonMap(affectedTable, keyColumn),
+                singletonMap(affectedTable, unmodifiableSet(new HashSet<String>(affectedKeys))),
+                Collections.<String, Set<String>>emptyMap()
+        );
+    }
+
+    /**
+     * Returns copy of these changes with known affected columns of the table,
+     * for example columns of {@link android.content.ContentValues} of an update.
+     * <p>
+     * Changes that insert or delete rows should not specify affected columns.
+     *
+     * @param affectedTable   one of {@link #affectedTables()}.
+     * @param affectedColumns all columns which values could be changed in affected rows of the table.
+     * @return new immutable instance of {@link Changes}.
+     */
+    @NonNull
+    public Changes withAffectedColumns(@NonNull String affectedTable, @NonNull Collection<String> affectedColumns) {
+        checkNotNull(affectedColumns, "Please specify affected columns");
+
+        if (!affectedTables.contains(affectedTable)) {
+            throw new IllegalArgumentException("Table " + affectedTable + " is not affected by " + this);
+        }
+
+        final Map<String, Set<String>> columns = new HashMap<String, Set<String>>(this.affectedColumns);
+        columns.put(affectedTable, unmodifiableSet(new HashSet<String>(affectedColumns)));
+
+        return new Changes(affectedTables, affectedTags, keyColumns, affectedKeys, unmodifiableMap(columns));
+    }
+
+    /**
+     * Merges several {@link Changes} into one.
+     * <p>
+     * Keys of affected rows of a table are kept only if all merged changes
+     * of this table have known keys of the same key column.
+     * Affected columns of a table are kept only if all merged changes of this table have known columns.
+     *
+     * @param changes non-null collection of changes.
+     * @return new immutable instance of {@link Changes}.
+     */
+    @NonNull
+    public static Changes merge(@NonNull Collection<Changes> changes) {
+        checkNotNull(changes, "Please specify changes");
+
+        if (changes.size() == 1) {
+            return changes.iterator().next();
+        }
+
+        final Set<String> affectedTables = new HashSet<String>(3);
+        final Set<String> affectedTags = new HashSet<String>(3);
+        final Set<String> tablesWithUnknownKeys = new HashSet<String>(3);
+        final Set<String> tablesWithUnknownColumns = new HashSet<String>(3);
+        final Map<String, String> keyColumns = new HashMap<String, String>(3);
+        final Map<String, Set<String>> affectedKeys = new HashMap<String, Set<String>>(3);
+        final Map<String, Set<String>> affectedColumns = new HashMap<String, Set<String>>(3);
+
+        for (Changes change : changes) {
+            affectedTags.addAll(change.affectedTags);
+
+            for (String table : change.affectedTables) {
+                final boolean seen = !affectedTables.add(table);
+
+                if (!tablesWithUnknownKeys.contains(table)) {
+                    final String keyColumn = change.keyColumns.get(table);
+
+                    if (keyColumn != null && !seen) {
+                        keyColumns.put(table, keyColumn);
+                        affectedKeys.put(table, new HashSet<String>(change.affectedKeys.get(table)));
+                    } else if (keyColumn != null && keyColumn.equals(keyColumns.get(table))) {
+                        affectedKeys.get(table).addAll(change.affectedKeys.get(table));
+                    } else {
+                        tablesWithUnknownKeys.add(table);
+                        keyColumns.remove(table);
+                        affectedKeys.remove(table);
+                    }
+                }
+
+                if (!tablesWithUnknownColumns.contains(table)) {
+                    final Set<String> columns = change.affectedColumns.get(table);
+
+                    if (columns != null && !seen) {
+                        affectedColumns.put(table, new HashSet<String>(columns));
+                    } else if (columns != null) {
+                        affectedColumns.get(table).addAll(columns);
+                    } else {
+                        tablesWithUnknownColumns.add(table);
+                        affectedColumns.remove(table);
+                    }
+                }
+            }
+        }
+
+        if (keyColumns.isEmpty() && affectedColumns.isEmpty()) {
+            return new Changes(affectedTables, affectedTags);
+        }
+
+        return new Changes(
+                affectedTables,
+                affectedTags,
+                unmodifiableMap(keyColumns),
+                unmodifiableMapOfSets(affectedKeys),
+                unmodifiableMapOfSets(affectedColumns)
+        );
+    }
+
+    @NonNull
+    private static Map<String, Set<String>> unmodifiableMapOfSets(@NonNull Map<String, Set<String>> map) {
+        for (Map.Entry<String, Set<String>> entry : map.entrySet()) {
+            entry.setValue(unmodifiableSet(entry.getValue()));
+        }
+
+        return unmodifiableMap(map);
+    }
+
     /**
      * Gets immutable set of affected tables.
      *
@@ -123,6 +312,39 @@ public final class Changes {
         return affectedTags;
     }
 
+    /**
+     * Gets values of key column of affected rows of the table.
+     *
+     * @param table     table of rows.
+     * @param keyColumn column that uniquely identifies rows of the table.
+     * @return immutable set of values of {@code keyColumn} of affected rows, empty if table was not affected,
+     * or {@code null} if affected rows are unknown, then any row of the table could be affected.
+     */
+    @Nullable
+    public Set<String> affectedKeys(@NonNull String table, @NonNull String keyColumn) {
+        if (!affectedTables.contains(table)) {
+            return emptySet();
+        }
+
+        return keyColumn.equals(keyColumns.get(table)) ? affectedKeys.get(table) : null;
+    }
+
+    /**
+     * Gets columns which values could be changed in affected rows of the table.
+     *
+     * @param table table of rows.
+     * @return immutable set of affected columns, empty if table was not affected,
+     * or {@code null} if affected columns are unknown, then any column of the table could be affected.
+     */
+    @Nullable
+    public Set<String> affectedColumns(@NonNull String table) {
+        if (!affectedTables.contains(table)) {
+            return emptySet();
+        }
+
+        return affectedColumns.get(table);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -131,7 +353,10 @@ public final class Changes {
         Changes changes = (Changes) o;
 
         if (!affectedTables.equals(changes.affectedTables)) return false;
-        return affectedTags.equals(changes.affectedTags);
+        if (!affectedTags.equals(changes.affectedTags)) return false;
+        if (!keyColumns.equals(changes.keyColumns)) return false;
+        if (!affectedKeys.equals(changes.affectedKeys)) return false;
+        return affectedColumns.equals(changes.affectedColumns);
 
     }
 
@@ -139,6 +364,9 @@ public final class Changes {
     public int hashCode() {
         int result = affectedTables.hashCode();
         result = 31 * result + affectedTags.hashCode();
+        result = 31 * result + keyColumns.hashCode();
+        result = 31 * result + affectedKeys.hashCode();
+        result = 31 * result + affectedColumns.hashCode();
         return result;
     }
 
@@ -147,6 +375,8 @@ public final class Changes {
         return "Changes{" +
                 "affectedTables=" + affectedTables +
                 ", affectedTags=" + affectedTags +
+                (keyColumns.isEmpty() ? "" : ", keyColumns=" + keyColumns + ", affectedKeys=" + affectedKeys) +
+                (affectedColumns.isEmpty() ? "" : ", affectedColumns=" + affectedColumns) +
                 '}';
     }
 }
@@ -7,6 +7,8 @@ import com.pushtorefresh.storio3.sqlite.operations.delete.DeleteResolver;
 import com.pushtorefresh.storio3.sqlite.operations.get.GetResolver;
 import com.pushtorefresh.storio3.sqlite.operations.put.PutResolver;
 
+import java.util.List;
+
 import static com.pushtorefresh.storio3.internal.Checks.checkNotNull;
 
 /**
@@ -48,6 +50,17 @@ public class SQLiteTypeMapping<T> implements TypeMapping<T> {
         return deleteResolver;
     }
 
+    /**
+     * Returns columns mapped by {@link #getResolver()},
+     * see {@link GetResolver#mappedColumns()}.
+     *
+     * @return non-null, immutable list of column names, can be empty.
+     */
+    @NonNull
+    public List<String> mappedColumns() {
+        return getResolver.mappedColumns();
+    }
+
     /**
      * Creates new builder for {@link SQLiteTypeMapping}.
      *
@@ -3,6 +3,7 @@ package com.pushtorefresh.storio3.sqlite;
 import android.content.ContentValues;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteOpenHelper;
+import android.database.sqlite.SQLiteStatement;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.annotation.WorkerThread;
@@ -14,6 +15,7 @@ import com.pushtorefresh.storio3.sqlite.operations.delete.PreparedDelete;
 import com.pushtorefresh.storio3.sqlite.operations.execute.PreparedExecuteSQL;
 import com.pushtorefresh.storio3.sqlite.operations.get.PreparedGet;
 import com.pushtorefresh.storio3.sqlite.operations.put.PreparedPut;
+import com.pushtorefresh.storio3.sqlite.operations.transaction.PreparedTransaction;
 import com.pushtorefresh.storio3.sqlite.queries.DeleteQuery;
 import com.pushtorefresh.storio3.sqlite.queries.InsertQuery;
 import com.pushtorefresh.storio3.sqlite.queries.Query;
@@ -83,6 +85,18 @@ public abstract class StorIOSQLite implements Closeable {
         return new PreparedDelete.Builder(this);
     }
 
+    /**
+     * Prepares "Transaction" Operation for {@link StorIOSQLite}.
+     * Allows to execute several operations in one transaction
+     * with one notification about their changes.
+     *
+     * @return builder for {@link PreparedTransaction}.
+     */
+    @NonNull
+    public PreparedTransaction.Builder transaction() {
+        return new PreparedTransaction.Builder(this);
+    }
+
     /**
      * Allows observe changes in all tables of the db.
      * <p/>
@@ -93,11 +107,21 @@ public abstract class StorIOSQLite implements Closeable {
      * Emission may happen on any thread that performed Put or Delete operation,
      * so it's recommended to apply {@link Flowable#observeOn(io.reactivex.Scheduler)}
      * if you need to receive events on a special thread.
+     * {@link com.pushtorefresh.storio3.sqlite.impl.DefaultStorIOSQLite} can deliver changes
+     * on a scheduler instead, see
+     * {@link com.pushtorefresh.storio3.sqlite.impl.DefaultStorIOSQLite.CompleteBuilder#changesScheduler(io.reactivex.Scheduler)}.
      * <p/>
      * Notice, that returned {@link Flowable} is "Hot Flowable", it never ends, which means,
      * that you should manually dispose from it to prevent memory leak.
-     * Also, it can cause BackPressure problems.
+     * <p/>
+     * With {@link BackpressureStrategy#LATEST}, {@link BackpressureStrategy#BUFFER} and
+     * {@link BackpressureStrategy#DROP} changes that subscriber has not requested yet
+     * are merged into one {@link Changes}, so slow subscriber uses bounded memory
+     * and does not miss any affected table or tag.
+     * {@link BackpressureStrategy#ERROR} and {@link BackpressureStrategy#MISSING}
+     * are applied as by {@link Flowable#create}.
      *
+     * @param backpressureStrategy strategy for subscribers that can not keep up with changes.
      * @return {@link io.reactivex.Flowable} of {@link Changes} subscribed to changes of all tables.
      */
     @NonNull
@@ -212,6 +236,19 @@ public abstract class StorIOSQLite implements Closeable {
     @Nullable
     public abstract Scheduler defaultRxScheduler();
 
+    /**
+     * Provides a scheduler on which {@link io.reactivex.Flowable} / {@link io.reactivex.Single}
+     * or {@link io.reactivex.Completable} of Put, Delete and Execute SQL Operations will be subscribed.
+     * <p/>
+     * By default returns {@link #defaultRxScheduler()}.
+     *
+     * @return the scheduler or {@code null} if it isn't needed to apply it.
+     */
+    @Nullable
+    public Scheduler defaultRxWriteScheduler() {
+        return defaultRxScheduler();
+    }
+
     /**
      * An API for low level interaction with DB, it's part of public API, so feel free to use it,
      * but please read documentation carefully!
@@ -311,6 +348,24 @@ public abstract class StorIOSQLite implements Closeable {
         @WorkerThread
         public abstract long insertWithOnConflict(@NonNull InsertQuery insertQuery, @NonNull ContentValues contentValues, int conflictAlgorithm);
 
+        /**
+         * Compiles an SQL statement into a reusable pre-compiled statement.
+         * <p>
+         * Caller owns returned statement and should close it as soon as it's not needed.
+         * <p>
+         * Notice: Execution of returned statement will not trigger notifications,
+         * you should call {@link #notifyAboutChanges(Changes)} manually.
+         *
+         * @param sql sql statement, may contain {@code ?} for bind arguments.
+         * @return compiled statement.
+         * @see android.database.sqlite.SQLiteDatabase#compileStatement(String)
+         */
+        @WorkerThread
+        @NonNull
+        public SQLiteStatement compileStatement(@NonNull String sql) {
+            return sqliteOpenHelper().getWritableDatabase().compileStatement(sql);
+        }
+
         /**
          * Updates one or multiple rows in the database.
          *
@@ -336,6 +391,11 @@ public abstract class StorIOSQLite implements Closeable {
          * Operations can be executed in transaction or one operation can affect multiple tables,
          * so to reduce number of notifications you can call this method once and
          * provide aggregated Changes object.
+         * <p>
+         * Changes notified by a thread in transaction are sent once, merged,
+         * when the outermost transaction of this thread is committed,
+         * and are discarded if it is rolled back.
+         * Changes notified by other threads are sent immediately.
          *
          * @param changes changes happened in {@link StorIOSQLite}.
          */
@@ -0,0 +1,115 @@
+package com.pushtorefresh.storio3.sqlite.impl;
+
+import android.support.annotation.NonNull;
+
+import com.pushtorefresh.storio3.sqlite.Changes;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * FOR INTERNAL USAGE ONLY.
+ * <p>
+ * Collects {@link Changes} of results of operations executed in one transaction
+ * to send them merged after its end.
+ * <p>
+ * Number of carried keys of affected rows is limited per table, once it is exceeded
+ * keys of the table are dropped and merged changes affect the whole table.
+ * <p>
+ * Not thread-safe.
+ */
+public final class ChangesCollector {
+
+    /**
+     * Default max number of keys of affected rows of one table.
+     */
+    public static final int MAX_AFFECTED_KEYS_PER_TABLE = 1000;
+
+    private final int maxAffectedKeysPerTable;
+
+    @NonNull
+    private final List<Changes> changes = new ArrayList<Changes>();
+
+    @NonNull
+    private final Map<String, Integer> numberOfKeys = new HashMap<String, Integer>(1); // in most cases it will be 1 table
+
+    @NonNull
+    private final Set<String> tablesWithoutKeys = new HashSet<String>(1);
+
+    @NonNull
+    private final Set<String> tagsWithoutKeys = new HashSet<String>(1);
+
+    public ChangesCollector() {
+        this(MAX_AFFECTED_KEYS_PER_TABLE);
+    }
+
+    public ChangesCollector(int maxAffectedKeysPerTable) {
+        this.maxAffectedKeysPerTable = maxAffectedKeysPerTable;
+    }
+
+    /**
+     * Counts keys of affected rows of a result before its {@link Changes} are created.
+     *
+     * @param table        table of affected rows.
+     * @param numberOfKeys number of keys of affected rows.
+     * @param affectedTags tags of the result.
+     * @return {@code true} if changes of the result should be added by {@link #add(Changes)},
+     * {@code false} if limit of keys of the table is exceeded, then table and tags of the result
+     * are already added without keys.
+     */
+    public boolean reserveKeys(@NonNull String table, int numberOfKeys, @NonNull Set<String> affectedTags) {
+        if (!tablesWithoutKeys.contains(table)) {
+            final Integer reservedKeys = this.numberOfKeys.get(table);
+            final int totalKeys = (reservedKeys != null ? reservedKeys : 0) + numberOfKeys;
+
+            if (totalKeys <= maxAffectedKeysPerTable) {
+                this.numberOfKeys.put(table, totalKeys);
+                return true;
+            }
+
+            tablesWithoutKeys.add(table);
+            this.numberOfKeys.remove(table);
+        }
+
+        tagsWithoutKeys.addAll(affectedTags);
+        return false;
+    }
+
+    /**
+     * Adds changes of a result.
+     *
+     * @param changes changes of the result.
+     */
+    public void add(@NonNull Changes changes) {
+        this.changes.add(changes);
+    }
+
+    /**
+     * @return {@code true} if no changes were added.
+     */
+    public boolean isEmpty() {
+        return changes.isEmpty() && tablesWithoutKeys.isEmpty();
+    }
+
+    /**
+     * Merges collected changes into one.
+     *
+     * @return merged changes, see {@link Changes#merge(java.util.Collection)}.
+     */
+    @NonNull
+    public Changes merge() {
+        if (tablesWithoutKeys.isEmpty()) {
+            return Changes.merge(changes);
+        }
+
+        final List<Changes> allChanges = new ArrayList<Changes>(changes.size() + 1);
+        allChanges.addAll(changes);
+        // changes without keys of a table make merged changes affect the whole table
+        allChanges.add(Changes.newInstance(tablesWithoutKeys, tagsWithoutKeys));
+        return Changes.merge(allChanges);
+    }
+}
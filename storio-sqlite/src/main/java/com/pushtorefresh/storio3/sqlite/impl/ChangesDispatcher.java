@@ -0,0 +1,199 @@
+package com.pushtorefresh.storio3.sqlite.impl;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.pushtorefresh.storio3.sqlite.Changes;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+
+/**
+ * FOR INTERNAL USAGE ONLY.
+ * <p>
+ * Thread-safe bus of {@link Changes} which indexes subscribers by observed tables and tags,
+ * so each {@link Changes} is checked only against subscribers of its affected tables and tags
+ * instead of all subscribers.
+ * <p>
+ * {@link ChangesFilter} applied to {@link #asFlowable(BackpressureStrategy)} is recognized and used as an index.
+ * Tables and tags of filters are interned in {@link NameRegistry} of the dispatcher, so filters
+ * check tables and tags of changes by intersection of bitsets.
+ */
+public final class ChangesDispatcher {
+
+    @NonNull
+    final NameRegistry names = new NameRegistry();
+
+    /**
+     * Scheduler of delivery of changes to subscribers, {@code null} if changes are delivered
+     * on the thread that dispatched them.
+     */
+    @Nullable
+    final Scheduler scheduler;
+
+    @NonNull
+    private final Set<ChangesRegistration> allChangesRegistrations = newConcurrentSet();
+
+    @NonNull
+    private final ConcurrentMap<String, Set<ChangesRegistration>> registrationsByTable
+            = new ConcurrentHashMap<String, Set<ChangesRegistration>>();
+
+    @NonNull
+    private final ConcurrentMap<String, Set<ChangesRegistration>> registrationsByTag
+            = new ConcurrentHashMap<String, Set<ChangesRegistration>>();
+
+    public ChangesDispatcher() {
+        this(null);
+    }
+
+    /**
+     * @param scheduler scheduler on which each subscriber receives changes,
+     *                  {@code null} to deliver them on the thread that dispatched them.
+     */
+    public ChangesDispatcher(@Nullable Scheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Sends changes to interested subscribers on the current thread or hands them over
+     * to scheduler of the dispatcher.
+     *
+     * @param changes changes to send.
+     */
+    public void dispatch(@NonNull Changes changes) {
+        for (ChangesRegistration registration : allChangesRegistrations) {
+            registration.onNext(changes);
+        }
+
+        // names which are not interned are not observed by any filter
+        final Set<String> affectedTables = names.find(changes.affectedTables());
+        final Set<String> affectedTags = names.find(changes.affectedTags());
+
+        // subscriber can be found by several tables and tags, but should receive changes once
+        Set<ChangesRegistration> checked = null;
+
+        for (String table : affectedTables) {
+            checked = dispatch(changes, affectedTables, affectedTags, registrationsByTable.get(table), checked);
+        }
+
+        for (String tag : affectedTags) {
+            checked = dispatch(changes, affectedTables, affectedTags, registrationsByTag.get(tag), checked);
+        }
+    }
+
+    @Nullable
+    private static Set<ChangesRegistration> dispatch(
+            @NonNull Changes changes,
+            @NonNull Set<String> affectedTables,
+            @NonNull Set<String> affectedTags,
+            @Nullable Set<ChangesRegistration> registrations,
+            @Nullable Set<ChangesRegistration> checked
+    ) {
+        if (registrations == null) {
+            return checked;
+        }
+
+        for (ChangesRegistration registration : registrations) {
+            if (checked == null) {
+                checked = Collections.newSetFromMap(new IdentityHashMap<ChangesRegistration, Boolean>());
+            }
+
+            //noinspection ConstantConditions registrations from indices always have filter
+            if (checked.add(registration) && registration.filter.matches(changes, affectedTables, affectedTags)) {
+                registration.onNext(changes);
+            }
+        }
+
+        return checked;
+    }
+
+    /**
+     * Returns {@link Flowable} of all changes. {@link ChangesFilter} applied to it subscribes
+     * only to changes of tables and tags of the filter.
+     * <p>
+     * {@link BackpressureStrategy#LATEST}, {@link BackpressureStrategy#BUFFER} and {@link BackpressureStrategy#DROP}
+     * merge changes that subscriber has not requested yet into one {@link Changes},
+     * {@link BackpressureStrategy#ERROR} and {@link BackpressureStrategy#MISSING}
+     * are applied as by {@link Flowable#create}.
+     * <p>
+     * If the dispatcher has scheduler, changes are observed on it.
+     *
+     * @param backpressureStrategy strategy for subscribers that can not keep up.
+     * @return non-null {@link Flowable} of changes.
+     */
+    @NonNull
+    public Flowable<Changes> asFlowable(@NonNull BackpressureStrategy backpressureStrategy) {
+        return new DispatchedChanges(this, null, backpressureStrategy, scheduler);
+    }
+
+    void register(@NonNull ChangesRegistration registration) {
+        final ChangesFilter filter = registration.filter;
+
+        if (filter == null) {
+            allChangesRegistrations.add(registration);
+            return;
+        }
+
+        if (filter.tables != null) {
+            for (String table : filter.tables) {
+                registrations(registrationsByTable, table).add(registration);
+            }
+        }
+
+        if (filter.tags != null) {
+            for (String tag : filter.tags) {
+                registrations(registrationsByTag, tag).add(registration);
+            }
+        }
+    }
+
+    void unregister(@NonNull ChangesRegistration registration) {
+        final ChangesFilter filter = registration.filter;
+
+        if (filter == null) {
+            allChangesRegistrations.remove(registration);
+            return;
+        }
+
+        // empty sets are kept, number of tables and tags is small
+        if (filter.tables != null) {
+            for (String table : filter.tables) {
+                registrations(registrationsByTable, table).remove(registration);
+            }
+        }
+
+        if (filter.tags != null) {
+            for (String tag : filter.tags) {
+                registrations(registrationsByTag, tag).remove(registration);
+            }
+        }
+    }
+
+    @NonNull
+    private static Set<ChangesRegistration> registrations(
+            @NonNull ConcurrentMap<String, Set<ChangesRegistration>> index,
+            @NonNull String key
+    ) {
+        final Set<ChangesRegistration> registrations = index.get(key);
+
+        if (registrations != null) {
+            return registrations;
+        }
+
+        final Set<ChangesRegistration> newRegistrations = newConcurrentSet();
+        final Set<ChangesRegistration> previous = index.putIfAbsent(key, newRegistrations);
+        return previous != null ? previous : newRegistrations;
+    }
+
+    @NonNull
+    private static Set<ChangesRegistration> newConcurrentSet() {
+        return Collections.newSetFromMap(new ConcurrentHashMap<ChangesRegistration, Boolean>());
+    }
+}
@@ -19,29 +19,76 @@ import static com.pushtorefresh.storio3.internal.Checks.checkNotNull;
  */
 public final class ChangesFilter implements Predicate<Changes> {
 
+    /**
+     * {@link NameSet} if the filter is bound to {@link NameRegistry} by {@link #in(NameRegistry)}.
+     */
     @Nullable
-    private final Set<String> tables;
+    final Set<String> tables;
 
+    /**
+     * {@link NameSet} if the filter is bound to {@link NameRegistry} by {@link #in(NameRegistry)}.
+     */
     @Nullable
-    private final Set<String> tags;
+    final Set<String> tags;
+
+    /**
+     * If not {@code null}, changes of tables are passed only if they can affect rows with {@link #key}.
+     */
+    @Nullable
+    private final String keyColumn;
+
+    @Nullable
+    private final String key;
+
+    /**
+     * If not {@code null}, changes of tables are passed only if they can affect one of these columns.
+     */
+    @Nullable
+    private final Set<String> columns;
 
     private ChangesFilter(@Nullable Set<String> tables, @Nullable Set<String> tags) {
+        this(tables, tags, null, null, null);
+    }
+
+    private ChangesFilter(
+            @Nullable Set<String> tables,
+            @Nullable Set<String> tags,
+            @Nullable String keyColumn,
+            @Nullable String key,
+            @Nullable Set<String> columns
+    ) {
         this.tables = tables;
         this.tags = tags;
+        this.keyColumn = keyColumn;
+        this.key = key;
+        this.columns = columns;
+    }
+
+    /**
+     * @param names registry of names of tables and tags.
+     * @return copy of this filter with tables and tags interned in the registry.
+     */
+    @NonNull
+    ChangesFilter in(@NonNull NameRegistry names) {
+        return new ChangesFilter(
+                tables != null ? names.intern(tables) : null,
+                tags != null ? names.intern(tags) : null,
+                keyColumn,
+                key,
+                columns
+        );
     }
 
     @NonNull
     public static Flowable<Changes> applyForTables(@NonNull Flowable<Changes> changes, @NonNull Set<String> tables) {
         checkNotNull(tables, "Set of tables can not be null");
-        return changes
-                .filter(new ChangesFilter(tables, null));
+        return filter(changes, new ChangesFilter(tables, null));
     }
 
     @NonNull
     public static Flowable<Changes> applyForTags(@NonNull Flowable<Changes> changes, @NonNull Set<String> tags) {
         checkNotNull(tags, "Set of tags can not be null");
-        return changes
-                .filter(new ChangesFilter(null, tags));
+        return filter(changes, new ChangesFilter(null, tags));
     }
 
     @NonNull
@@ -52,24 +99,133 @@ public final class ChangesFilter implements Predicate<Changes> {
     ) {
         checkNotNull(tables, "Set of tables can not be null");
         checkNotNull(tags, "Set of tags can not be null");
-        return changes
-                .filter(new ChangesFilter(tables, tags));
+        return filter(changes, new ChangesFilter(tables, tags));
+    }
+
+    /**
+     * Same as {@link #applyForTablesAndTags(Flowable, Set, Set)}, but changes of tables with known
+     * keys of affected rows are passed only if one of them is equal to {@code key},
+     * see {@link Changes#affectedKeys(String, String)}.
+     */
+    @NonNull
+    public static Flowable<Changes> applyForTablesAndTagsAndKey(
+            @NonNull Flowable<Changes> changes,
+            @NonNull Set<String> tables,
+            @NonNull Set<String> tags,
+            @NonNull String keyColumn,
+            @NonNull String key
+    ) {
+        checkNotNull(tables, "Set of tables can not be null");
+        checkNotNull(tags, "Set of tags can not be null");
+        return filter(changes, new ChangesFilter(tables, tags, keyColumn, key, null));
+    }
+
+    /**
+     * Same as {@link #applyForTablesAndTags(Flowable, Set, Set)}, but changes of tables are passed
+     * only if they can affect rows with {@code key} of {@code keyColumn} (if specified)
+     * and one of {@code columns} (if specified), see {@link Changes#affectedKeys(String, String)}
+     * and {@link Changes#affectedColumns(String)}.
+     */
+    @NonNull
+    public static Flowable<Changes> applyForTablesAndTagsAndRows(
+            @NonNull Flowable<Changes> changes,
+            @NonNull Set<String> tables,
+            @NonNull Set<String> tags,
+            @Nullable String keyColumn,
+            @Nullable String key,
+            @Nullable Set<String> columns
+    ) {
+        checkNotNull(tables, "Set of tables can not be null");
+        checkNotNull(tags, "Set of tags can not be null");
+        return filter(changes, new ChangesFilter(tables, tags, keyColumn, key, columns));
+    }
+
+    /**
+     * Changes of {@link ChangesDispatcher} are filtered by its index of tables and tags.
+     */
+    @NonNull
+    private static Flowable<Changes> filter(@NonNull Flowable<Changes> changes, @NonNull ChangesFilter filter) {
+        return changes instanceof DispatchedChanges
+                ? ((DispatchedChanges) changes).filter(filter)
+                : changes.filter(filter);
     }
 
     @Override
-    public boolean test(@NonNull Changes changes) throws Exception {
-        if (tables != null) {
+    public boolean test(@NonNull Changes changes) {
+        return matches(changes);
+    }
+
+    boolean matches(@NonNull Changes changes) {
+        return matches(changes, changes.affectedTables(), changes.affectedTags());
+    }
+
+    /**
+     * @param changes        changes to check.
+     * @param affectedTables tables of changes, {@link NameSet} of the same registry if the filter is bound to it.
+     * @param affectedTags   tags of changes, {@link NameSet} of the same registry if the filter is bound to it.
+     * @return {@code true} if changes match the filter.
+     */
+    boolean matches(@NonNull Changes changes, @NonNull Set<String> affectedTables, @NonNull Set<String> affectedTags) {
+        if (tables != null && keyColumn == null && columns == null) {
+            if (intersects(tables, affectedTables)) {
+                return true;
+            }
+        } else if (tables != null) {
             // if one of changed tables found in tables for subscription -> notify observer
             for (String affectedTable : changes.affectedTables()) {
-                if (tables.contains(affectedTable)) {
+                if (tables.contains(affectedTable)
+                        && affectsKey(changes, affectedTable)
+                        && affectsColumns(changes, affectedTable)) {
                     return true;
                 }
             }
         }
-        if (tags != null) {
-            // if one of changed tags found tag for subscription -> notify observer
-            for (String affectedTag : changes.affectedTags()) {
-                if (tags.contains(affectedTag)) {
+        // if one of changed tags found tag for subscription -> notify observer
+        if (tags != null && intersects(tags, affectedTags)) {
+            return true;
+        }
+
+        return false;
+    }
+
+    private static boolean intersects(@NonNull Set<String> names, @NonNull Set<String> otherNames) {
+        if (names instanceof NameSet && otherNames instanceof NameSet) {
+            return ((NameSet) names).intersects((NameSet) otherNames);
+        }
+
+        for (String name : otherNames) {
+            if (names.contains(name)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean affectsKey(@NonNull Changes changes, @NonNull String table) {
+        if (keyColumn == null) {
+            return true;
+        }
+
+        final Set<String> affectedKeys = changes.affectedKeys(table, keyColumn);
+        return affectedKeys == null || affectedKeys.contains(key);
+    }
+
+    private boolean affectsColumns(@NonNull Changes changes, @NonNull String table) {
+        if (columns == null) {
+            return true;
+        }
+
+        final Set<String> affectedColumns = changes.affectedColumns(table);
+
+        if (affectedColumns == null) {
+            return true;
+        }
+
+        // column names are case-insensitive in SQLite
+        for (String affectedColumn : affectedColumns) {
+            for (String column : columns) {
+                if (column.equalsIgnoreCase(affectedColumn)) {
                     return true;
                 }
             }
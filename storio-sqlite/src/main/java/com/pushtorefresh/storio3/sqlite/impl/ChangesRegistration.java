@@ -0,0 +1,36 @@
+package com.pushtorefresh.storio3.sqlite.impl;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.pushtorefresh.storio3.sqlite.Changes;
+
+/**
+ * Subscriber of {@link ChangesDispatcher}, one per subscription.
+ * <p>
+ * Required to avoid problems with ClassLoader when RxJava is not in ClassPath.
+ */
+abstract class ChangesRegistration {
+
+    @NonNull
+    final ChangesDispatcher dispatcher;
+
+    /**
+     * {@code null} if subscriber receives all changes.
+     */
+    @Nullable
+    final ChangesFilter filter;
+
+    ChangesRegistration(@NonNull ChangesDispatcher dispatcher, @Nullable ChangesFilter filter) {
+        this.dispatcher = dispatcher;
+        this.filter = filter;
+    }
+
+    /**
+     * Called by {@link ChangesDispatcher} for changes that match {@link #filter},
+     * can be called from different threads concurrently.
+     *
+     * @param changes changes to deliver to the subscriber.
+     */
+    abstract void onNext(@NonNull Changes changes);
+}
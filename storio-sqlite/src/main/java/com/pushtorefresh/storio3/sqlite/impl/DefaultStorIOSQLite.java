@@ -2,19 +2,26 @@ package com.pushtorefresh.storio3.sqlite.impl;
 
 import android.content.ContentValues;
 import android.database.Cursor;
+import android.database.DatabaseUtils;
+import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
+import android.database.sqlite.SQLiteStatement;
+import android.os.Build;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.annotation.WorkerThread;
 
 import com.pushtorefresh.storio3.TypeMappingFinder;
-import com.pushtorefresh.storio3.internal.ChangesBus;
 import com.pushtorefresh.storio3.internal.TypeMappingFinderImpl;
 import com.pushtorefresh.storio3.operations.PreparedCompletableOperation;
+import com.pushtorefresh.storio3.operations.PreparedOperation;
 import com.pushtorefresh.storio3.sqlite.Changes;
 import com.pushtorefresh.storio3.Interceptor;
 import com.pushtorefresh.storio3.sqlite.SQLiteTypeMapping;
 import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio3.sqlite.operations.get.GetResolver;
+import com.pushtorefresh.storio3.sqlite.operations.internal.LiveQueries;
+import com.pushtorefresh.storio3.sqlite.operations.internal.RxJavaUtils;
 import com.pushtorefresh.storio3.sqlite.queries.DeleteQuery;
 import com.pushtorefresh.storio3.sqlite.queries.InsertQuery;
 import com.pushtorefresh.storio3.sqlite.queries.Query;
@@ -24,11 +31,14 @@ import com.pushtorefresh.storio3.sqlite.queries.UpdateQuery;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import io.reactivex.BackpressureStrategy;
 import io.reactivex.Flowable;
@@ -37,6 +47,7 @@ import io.reactivex.schedulers.Schedulers;
 
 import static com.pushtorefresh.storio3.internal.Checks.checkNotNull;
 import static com.pushtorefresh.storio3.internal.Environment.RX_JAVA_2_IS_IN_THE_CLASS_PATH;
+import static com.pushtorefresh.storio3.internal.Environment.throwExceptionIfRxJava2IsNotAvailable;
 import static com.pushtorefresh.storio3.internal.InternalQueries.nullableArrayOfStrings;
 import static com.pushtorefresh.storio3.internal.InternalQueries.nullableArrayOfStringsFromListOfStrings;
 import static com.pushtorefresh.storio3.internal.InternalQueries.nullableString;
@@ -53,29 +64,68 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
     @NonNull
     private final SQLiteOpenHelper sqLiteOpenHelper;
 
-    @NonNull
-    private final ChangesBus<Changes> changesBus = new ChangesBus<Changes>(RX_JAVA_2_IS_IN_THE_CLASS_PATH);
+    @Nullable
+    private final ChangesDispatcher changesDispatcher;
 
     @Nullable
     private final Scheduler defaultRxScheduler;
 
+    @Nullable
+    private final Scheduler defaultRxWriteScheduler;
+
     @NonNull
     private final List<Interceptor> interceptors;
 
+    @Nullable
+    private final StatementCache statementCache;
+
+    @Nullable
+    private final QueryResultCache queryResultCache;
+
     /**
      * Implementation of {@link com.pushtorefresh.storio3.sqlite.StorIOSQLite.LowLevel}.
      */
     @NonNull
-    private final LowLevel lowLevel;
+    private final LowLevelImpl lowLevel;
 
     protected DefaultStorIOSQLite(
             @NonNull SQLiteOpenHelper sqLiteOpenHelper,
             @NonNull TypeMappingFinder typeMappingFinder,
             @Nullable Scheduler defaultRxScheduler,
             @NonNull List<Interceptor> interceptors) {
+        this(sqLiteOpenHelper, typeMappingFinder, defaultRxScheduler, interceptors, 0, defaultRxScheduler, 0, null);
+    }
+
+    /**
+     * Use {@link #builder()} to configure instance, {@link CompleteBuilder#build()} calls this constructor.
+     */
+    protected DefaultStorIOSQLite(
+            @NonNull SQLiteOpenHelper sqLiteOpenHelper,
+            @NonNull TypeMappingFinder typeMappingFinder,
+            @Nullable Scheduler defaultRxScheduler,
+            @NonNull List<Interceptor> interceptors,
+            int statementCacheSize,
+            @Nullable Scheduler defaultRxWriteScheduler,
+            int queryResultCacheSize,
+            @Nullable Scheduler changesScheduler) {
         this.sqLiteOpenHelper = sqLiteOpenHelper;
+        this.changesDispatcher = RX_JAVA_2_IS_IN_THE_CLASS_PATH
+                ? new ChangesDispatcher(changesScheduler)
+                : null;
         this.defaultRxScheduler = defaultRxScheduler;
-        this.interceptors = unmodifiableNonNullList(interceptors);
+        this.defaultRxWriteScheduler = defaultRxWriteScheduler;
+        this.statementCache = statementCacheSize > 0 ? new StatementCache(statementCacheSize) : null;
+        this.queryResultCache = queryResultCacheSize > 0 ? new QueryResultCache(queryResultCacheSize) : null;
+
+        if (queryResultCache != null) {
+            // cache is the last interceptor, so other interceptors see all operations
+            final List<Interceptor> interceptorsWithCache = new ArrayList<Interceptor>(interceptors);
+            interceptorsWithCache.add(new QueryResultCacheInterceptor());
+            this.interceptors = unmodifiableNonNullList(interceptorsWithCache);
+        } else {
+            this.interceptors = unmodifiableNonNullList(interceptors);
+        }
+
         lowLevel = new LowLevelImpl(typeMappingFinder);
     }
 
@@ -85,13 +135,11 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
     @NonNull
     @Override
     public Flowable<Changes> observeChanges(@NonNull BackpressureStrategy backpressureStrategy) {
-        final Flowable<Changes> rxBus = changesBus.asFlowable();
-
-        if (rxBus == null) {
+        if (changesDispatcher == null) {
             throw new IllegalStateException("Observing changes in StorIOSQLite requires RxJava");
         }
 
-        return rxBus;
+        return changesDispatcher.asFlowable(backpressureStrategy);
     }
 
     /**
@@ -122,6 +170,14 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
         return defaultRxScheduler;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Scheduler defaultRxWriteScheduler() {
+        return defaultRxWriteScheduler;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -141,7 +197,48 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
     }
 
     /**
-     * Closes underlying {@link SQLiteOpenHelper}.
+     * Returns number of times compiled statement was taken from the statement cache.
+     *
+     * @return number of cache hits, {@code 0} if statement cache is disabled.
+     * @see CompleteBuilder#statementCacheSize(int)
+     */
+    public long statementCacheHitCount() {
+        return statementCache != null ? statementCache.hitCount() : 0;
+    }
+
+    /**
+     * Returns number of times statement had to be compiled because it was not in the statement cache.
+     *
+     * @return number of cache misses, {@code 0} if statement cache is disabled.
+     * @see CompleteBuilder#statementCacheSize(int)
+     */
+    public long statementCacheMissCount() {
+        return statementCache != null ? statementCache.missCount() : 0;
+    }
+
+    /**
+     * Returns number of times result of Get Operation was taken from the query result cache.
+     *
+     * @return number of cache hits, {@code 0} if query result cache is disabled.
+     * @see CompleteBuilder#queryResultCacheSize(int)
+     */
+    public long queryResultCacheHitCount() {
+        return queryResultCache != null ? queryResultCache.hitCount() : 0;
+    }
+
+    /**
+     * Returns number of times Get Operation was executed because its result was not in the query result cache.
+     * Operations which results can not be cached are not counted.
+     *
+     * @return number of cache misses, {@code 0} if query result cache is disabled.
+     * @see CompleteBuilder#queryResultCacheSize(int)
+     */
+    public long queryResultCacheMissCount() {
+        return queryResultCache != null ? queryResultCache.missCount() : 0;
+    }
+
+    /**
+     * Closes underlying {@link SQLiteOpenHelper} and helper for reads if it was specified.
      * <p>
      * All calls to this instance of {@link StorIOSQLite}
      * after call to this method can produce exceptions
@@ -149,6 +246,12 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
      */
     @Override
     public void close() throws IOException {
+        if (statementCache != null) {
+            statementCache.evictAll();
+        }
+        if (queryResultCache != null) {
+            queryResultCache.evictAll();
+        }
         sqLiteOpenHelper.close();
     }
 
@@ -192,6 +295,26 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
      */
     public static final class CompleteBuilder {
 
+        @NonNull
+        private static final ThreadFactory WRITER_THREAD_FACTORY = new ThreadFactory() {
+            @Override
+            public Thread newThread(@NonNull Runnable runnable) {
+                final Thread thread = new Thread(runnable, "StorIOSQLite-writer");
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+
+        @NonNull
+        private static final ThreadFactory READER_THREAD_FACTORY = new ThreadFactory() {
+            @Override
+            public Thread newThread(@NonNull Runnable runnable) {
+                final Thread thread = new Thread(runnable, "StorIOSQLite-reader");
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+
         @NonNull
         private final SQLiteOpenHelper sqLiteOpenHelper;
 
@@ -203,9 +326,35 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
         @Nullable
         private Scheduler defaultRxScheduler = RX_JAVA_2_IS_IN_THE_CLASS_PATH ? Schedulers.io() : null;
 
+        private boolean defaultRxSchedulerSpecified;
+
+        private int readThreadPoolSize;
+
+        @Nullable
+        private Scheduler defaultRxWriteScheduler;
+
+        private boolean defaultRxWriteSchedulerSpecified;
+
+        private boolean singleWriterThread;
+
+        private int groupCommitMaxBatchSize;
+
+        private long groupCommitMaxDelayNanos;
+
+        @Nullable
+        private Scheduler changesScheduler;
+
+        private boolean sharedLiveQueriesEnabled;
+
         @NonNull
         private List<Interceptor> interceptors = new ArrayList<Interceptor>();
 
+        private int statementCacheSize;
+
+        private int queryResultCacheSize;
+
+        private boolean writeAheadLoggingEnabled;
+
         CompleteBuilder(@NonNull SQLiteOpenHelper sqLiteOpenHelper) {
             this.sqLiteOpenHelper = sqLiteOpenHelper;
         }
@@ -260,6 +409,137 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
         @NonNull
         public CompleteBuilder defaultRxScheduler(@Nullable Scheduler defaultRxScheduler) {
             this.defaultRxScheduler = defaultRxScheduler;
+            this.defaultRxSchedulerSpecified = true;
+            return this;
+        }
+
+        /**
+         * Optional: Specifies a scheduler on which Put, Delete and Execute SQL Operations
+         * will be subscribed, see {@link StorIOSQLite#defaultRxWriteScheduler()}.
+         * <p>
+         * SQLite allows only one writer at a time, so writes subscribed on a pool
+         * only block its threads waiting for the database lock, see {@link #singleWriterThread()}.
+         * <p>
+         * By default, writes are subscribed on {@link #defaultRxScheduler(Scheduler)}.
+         * <p>
+         * Can not be combined with {@link #singleWriterThread()} and {@link #groupCommit(int, long, TimeUnit)}.
+         *
+         * @param defaultRxWriteScheduler scheduler for writes or {@code null} to not subscribe writes on any scheduler.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder defaultRxWriteScheduler(@Nullable Scheduler defaultRxWriteScheduler) {
+            this.defaultRxWriteScheduler = defaultRxWriteScheduler;
+            this.defaultRxWriteSchedulerSpecified = true;
+            return this;
+        }
+
+        /**
+         * Optional: Subscribes Put, Delete and Execute SQL Operations on a single thread owned by this instance,
+         * so writes are executed one by one in FIFO order instead of blocking threads of
+         * {@link #defaultRxScheduler(Scheduler)} while they wait for the database lock.
+         * The thread is stopped after a minute without writes.
+         * <p>
+         * Can not be combined with {@link #defaultRxWriteScheduler(Scheduler)}.
+         * <p>
+         * By default, writes are subscribed on {@link #defaultRxScheduler(Scheduler)}.
+         *
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder singleWriterThread() {
+            throwExceptionIfRxJava2IsNotAvailable("Single writer thread");
+            this.singleWriterThread = true;
+            return this;
+        }
+
+        /**
+         * Optional: Subscribes operations on a pool of at most {@code maxThreads} threads owned by
+         * this instance instead of {@link Schedulers#io()}, so load does not create
+         * more threads than the database can serve: without write-ahead logging reads are
+         * executed one at a time anyway, with it size of the connection pool is limited by the platform,
+         * see {@link #writeAheadLoggingEnabled(boolean)}.
+         * Idle threads are stopped after a minute.
+         * <p>
+         * Writes are subscribed on this pool too unless {@link #singleWriterThread()},
+         * {@link #defaultRxWriteScheduler(Scheduler)} or {@link #groupCommit(int, long, TimeUnit)} is used.
+         * <p>
+         * Can not be combined with {@link #defaultRxScheduler(Scheduler)}.
+         * <p>
+         * By default, operations are subscribed on {@link Schedulers#io()}.
+         *
+         * @param maxThreads max number of threads, must be positive.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder readThreadPoolSize(int maxThreads) {
+            throwExceptionIfRxJava2IsNotAvailable("Read thread pool");
+
+            if (maxThreads <= 0) {
+                throw new IllegalArgumentException("maxThreads must be > 0, but was: " + maxThreads);
+            }
+            this.readThreadPoolSize = maxThreads;
+            return this;
+        }
+
+        /**
+         * Optional: Enables group commit of Put and Delete Operations executed via
+         * {@code asRxFlowable()}, {@code asRxSingle()} and {@code asRxCompletable()}.
+         * <p>
+         * Such operations are queued and executed together in one transaction when
+         * {@code maxBatchSize} operations were queued or {@code maxDelay} passed since the first of them,
+         * subscribers receive results after commit of the transaction.
+         * Observers of changes receive one merged {@link Changes} per batch.
+         * If any operation of the batch fails, batch is rolled back and its operations
+         * are executed again one by one.
+         * <p>
+         * Batches are executed on the single writer thread, so group commit can not be combined with
+         * {@link #defaultRxWriteScheduler(Scheduler)} and {@link #singleWriterThread()}. Execute SQL Operations subscribed after queued
+         * operations are executed after their batch. Blocking execution is not affected.
+         * <p>
+         * By default, group commit is disabled.
+         *
+         * @param maxBatchSize max number of operations in one transaction, must be positive.
+         * @param maxDelay     max time operation waits in the queue, must not be negative.
+         * @param unit         unit of {@code maxDelay}.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder groupCommit(int maxBatchSize, long maxDelay, @NonNull TimeUnit unit) {
+            throwExceptionIfRxJava2IsNotAvailable("Group commit");
+
+            if (maxBatchSize <= 0) {
+                throw new IllegalArgumentException("maxBatchSize must be > 0, but was: " + maxBatchSize);
+            }
+            if (maxDelay < 0) {
+                throw new IllegalArgumentException("maxDelay must be >= 0, but was: " + maxDelay);
+            }
+            checkNotNull(unit, "Please specify time unit");
+
+            this.groupCommitMaxBatchSize = maxBatchSize;
+            this.groupCommitMaxDelayNanos = unit.toNanos(maxDelay);
+            return this;
+        }
+
+        /**
+         * Optional: Specifies a scheduler on which subscribers of {@link StorIOSQLite#observeChanges(BackpressureStrategy)}
+         * and Get Operations observed as {@link Flowable} receive changes, so the thread that committed changes
+         * only hands them over to interested subscribers.
+         * <p>
+         * Not requested changes are still merged according to {@link BackpressureStrategy}
+         * while the scheduler delivers previous ones.
+         * <p>
+         * By default, changes are delivered on the thread that committed them.
+         *
+         * @param changesScheduler non-null scheduler for delivery of changes.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder changesScheduler(@NonNull Scheduler changesScheduler) {
+            throwExceptionIfRxJava2IsNotAvailable("Changes scheduler");
+            checkNotNull(changesScheduler, "Please specify changesScheduler");
+
+            this.changesScheduler = changesScheduler;
             return this;
         }
 
@@ -276,6 +556,110 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
             return this;
         }
 
+        /**
+         * Optional: Enables LRU cache of compiled statements used by insert, update, delete
+         * and {@code INSERT}/{@code UPDATE}/{@code DELETE} passed to execSQL, keyed by SQL text.
+         * <p>
+         * Cache is cleared when execSQL changes the schema and on {@link DefaultStorIOSQLite#close()}.
+         * Use {@link DefaultStorIOSQLite#statementCacheHitCount()} and
+         * {@link DefaultStorIOSQLite#statementCacheMissCount()} to choose the size.
+         * <p>
+         * By default, statement cache is disabled.
+         *
+         * @param statementCacheSize max number of cached statements, {@code 0} disables the cache.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder statementCacheSize(int statementCacheSize) {
+            if (statementCacheSize < 0) {
+                throw new IllegalArgumentException("statementCacheSize must be >= 0, but was: " + statementCacheSize);
+            }
+            this.statementCacheSize = statementCacheSize;
+            return this;
+        }
+
+        /**
+         * Optional: Enables LRU cache of results of Get Operations of list of objects, object
+         * and number of results, keyed by query, type of results and explicit {@link GetResolver}.
+         * Cached results are shared by all Get Operations with equal keys, so returned objects
+         * must not be modified.
+         * <p>
+         * Result is removed from the cache when {@link Changes} affect table or tag observed
+         * by its query: {@link Query#table()}, {@link Query#observesTags()},
+         * {@link RawQuery#observesTables()} or {@link RawQuery#observesTags()}.
+         * So changes must be made through StorIOSQLite operations or reported with
+         * {@link LowLevel#notifyAboutChanges(Changes)}.
+         * Results of {@link RawQuery} which does not observe any table,
+         * Get Operations of {@link Cursor} and reads inside of a transaction are not cached.
+         * <p>
+         * Use {@link DefaultStorIOSQLite#queryResultCacheHitCount()} and
+         * {@link DefaultStorIOSQLite#queryResultCacheMissCount()} to choose the size.
+         * <p>
+         * By default, query result cache is disabled.
+         *
+         * @param queryResultCacheSize max total number of objects in cached results,
+         *                             other results count as one. {@code 0} disables the cache.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder queryResultCacheSize(int queryResultCacheSize) {
+            if (queryResultCacheSize < 0) {
+                throw new IllegalArgumentException("queryResultCacheSize must be >= 0, but was: " + queryResultCacheSize);
+            }
+            this.queryResultCacheSize = queryResultCacheSize;
+            return this;
+        }
+
+        /**
+         * Optional: Enables write-ahead logging of the database, see
+         * {@link SQLiteOpenHelper#setWriteAheadLoggingEnabled(boolean)}.
+         * <p>
+         * With write-ahead logging, {@link SQLiteDatabase} of the helper keeps a pool of connections:
+         * {@link LowLevel#query(Query)} and {@link LowLevel#rawQuery(RawQuery)} that are not part of
+         * a transaction of current thread run on reader connections concurrently with each other
+         * and with the single writer connection, so reads do not wait for long write transactions.
+         * Reads in a transaction use its connection and see its uncommitted changes.
+         * Size of the pool is defined by the platform and can not be configured.
+         * <p>
+         * Schema is created and upgraded by the helper before any connection is opened,
+         * so readers never race {@link SQLiteOpenHelper#onCreate(SQLiteDatabase)}
+         * and {@link SQLiteOpenHelper#onUpgrade(SQLiteDatabase, int, int)}.
+         * <p>
+         * Ignored before Android 4.1 (API 16).
+         * By default, journal mode of the helper is not changed.
+         *
+         * @param enabled {@code true} to enable write-ahead logging.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder writeAheadLoggingEnabled(boolean enabled) {
+            this.writeAheadLoggingEnabled = enabled;
+            return this;
+        }
+
+        /**
+         * Optional: Enables sharing of live queries: "Hot" {@link io.reactivex.Flowable}s of Get Operations
+         * with equal query, type of results and resolver share one subscription to changes
+         * and one execution of the query per change, see {@link com.pushtorefresh.storio3.sqlite.operations.get.PreparedGet#resultKey()}.
+         * New subscribers receive the latest result of the shared query without executing it.
+         * <p>
+         * Backpressure strategy is applied to each subscriber, so a slow subscriber
+         * does not slow down others.
+         * <p>
+         * By default, each subscriber executes the query on its own.
+         *
+         * @param enabled {@code true} to share live queries.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder sharedLiveQueriesEnabled(boolean enabled) {
+            if (enabled) {
+                throwExceptionIfRxJava2IsNotAvailable("Shared live queries");
+            }
+            this.sharedLiveQueriesEnabled = enabled;
+            return this;
+        }
+
         /**
          * Builds {@link DefaultStorIOSQLite} instance with required params.
          *
@@ -291,7 +675,74 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
                 typeMappingFinder.directTypeMapping(unmodifiableMap(typeMapping));
             }
 
-            return new DefaultStorIOSQLite(sqLiteOpenHelper, typeMappingFinder, defaultRxScheduler, interceptors);
+            if (writeAheadLoggingEnabled && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+                sqLiteOpenHelper.setWriteAheadLoggingEnabled(true);
+            }
+
+            if (readThreadPoolSize > 0) {
+                if (defaultRxSchedulerSpecified) {
+                    throw new IllegalStateException("Please specify either readThreadPoolSize() or defaultRxScheduler(), not both");
+                }
+
+                defaultRxScheduler = Schedulers.from(newExecutor(readThreadPoolSize, READER_THREAD_FACTORY));
+            }
+
+            if (singleWriterThread && defaultRxWriteSchedulerSpecified) {
+                throw new IllegalStateException("Please specify either singleWriterThread() or defaultRxWriteScheduler(), not both");
+            }
+
+            if (groupCommitMaxBatchSize > 0) {
+                if (defaultRxWriteSchedulerSpecified) {
+                    throw new IllegalStateException("Group commit executes writes on its own thread, " +
+                            "please specify either groupCommit() or defaultRxWriteScheduler(), not both");
+                }
+                if (singleWriterThread) {
+                    throw new IllegalStateException("Group commit executes writes on its own thread, " +
+                            "please specify either groupCommit() or singleWriterThread(), not both");
+                }
+
+                defaultRxWriteScheduler = RxJavaUtils.newGroupCommitScheduler(
+                        groupCommitMaxBatchSize,
+                        groupCommitMaxDelayNanos,
+                        TimeUnit.NANOSECONDS,
+                        WRITER_THREAD_FACTORY
+                );
+            } else if (singleWriterThread) {
+                defaultRxWriteScheduler = Schedulers.from(newExecutor(1, WRITER_THREAD_FACTORY));
+            } else if (!defaultRxWriteSchedulerSpecified) {
+                defaultRxWriteScheduler = defaultRxScheduler;
+            }
+
+            final DefaultStorIOSQLite storIOSQLite = new DefaultStorIOSQLite(
+                    sqLiteOpenHelper,
+                    typeMappingFinder,
+                    defaultRxScheduler,
+                    interceptors,
+                    statementCacheSize,
+                    defaultRxWriteScheduler,
+                    queryResultCacheSize,
+                    changesScheduler
+            );
+
+            if (sharedLiveQueriesEnabled) {
+                LiveQueries.enable(storIOSQLite);
+            }
+
+            return storIOSQLite;
+        }
+
+        @NonNull
+        private static Executor newExecutor(int maxThreads, @NonNull ThreadFactory threadFactory) {
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    maxThreads,
+                    maxThreads,
+                    60,
+                    TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(),
+                    threadFactory
+            );
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
         }
     }
 
@@ -300,20 +751,15 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
      */
     protected class LowLevelImpl extends LowLevel {
 
-        @NonNull
-        private final Object lock = new Object();
-
         @NonNull
         private final TypeMappingFinder typeMappingFinder;
 
-        @NonNull
-        private AtomicInteger numberOfRunningTransactions = new AtomicInteger(0);
-
         /**
-         * Guarded by {@link #lock}.
+         * Transaction of each thread, {@code null} if thread is not in transaction.
+         * Only the owning thread accesses its transaction, so no synchronization is required.
          */
         @NonNull
-        private Set<Changes> pendingChanges = new HashSet<Changes>(5);
+        private final ThreadLocal<Transaction> transactions = new ThreadLocal<Transaction>();
 
         protected LowLevelImpl(@NonNull TypeMappingFinder typeMappingFinder) {
             this.typeMappingFinder = typeMappingFinder;
@@ -350,6 +796,21 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
         @WorkerThread
         @Override
         public void executeSQL(@NonNull RawQuery rawQuery) {
+            if (statementCache != null) {
+                final int statementType = DatabaseUtils.getSqlStatementType(rawQuery.query());
+
+                if (statementType == DatabaseUtils.STATEMENT_UPDATE) {
+                    statementCache.executeUpdateDelete(
+                            sqLiteOpenHelper.getWritableDatabase(),
+                            rawQuery.query(),
+                            rawQuery.args().toArray(new Object[rawQuery.args().size()])
+                    );
+                    return;
+                } else if (statementType == DatabaseUtils.STATEMENT_DDL) {
+                    statementCache.evictAll();
+                }
+            }
+
             if (rawQuery.args().isEmpty()) {
                 sqLiteOpenHelper
                         .getWritableDatabase()
@@ -422,6 +883,10 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
         @WorkerThread
         @Override
         public long insert(@NonNull InsertQuery insertQuery, @NonNull ContentValues contentValues) {
+            if (statementCache != null) {
+                return insertWithStatementCache(insertQuery, contentValues, SQLiteDatabase.CONFLICT_NONE);
+            }
+
             return sqLiteOpenHelper
                     .getWritableDatabase()
                     .insertOrThrow(
@@ -455,6 +920,10 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
         @WorkerThread
         @Override
         public long insertWithOnConflict(@NonNull InsertQuery insertQuery, @NonNull ContentValues contentValues, int conflictAlgorithm) {
+            if (statementCache != null) {
+                return insertWithStatementCache(insertQuery, contentValues, conflictAlgorithm);
+            }
+
             return sqLiteOpenHelper
                     .getWritableDatabase()
                     .insertWithOnConflict(
@@ -465,6 +934,25 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
                     );
         }
 
+        /**
+         * Compiles an SQL statement into a reusable pre-compiled statement.
+         * <p>
+         * Notice: Execution of returned statement will not trigger notification,
+         * you should do it manually with {@link #notifyAboutChanges(Changes)}.
+         *
+         * @param sql sql statement, may contain {@code ?} for bind arguments.
+         * @return compiled statement, caller should close it.
+         * @see android.database.sqlite.SQLiteDatabase#compileStatement(String)
+         */
+        @WorkerThread
+        @NonNull
+        @Override
+        public SQLiteStatement compileStatement(@NonNull String sql) {
+            return sqLiteOpenHelper
+                    .getWritableDatabase()
+                    .compileStatement(sql);
+        }
+
         /**
          * Updates one or multiple rows in the database.
          * <p>
@@ -480,6 +968,14 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
         @WorkerThread
         @Override
         public int update(@NonNull UpdateQuery updateQuery, @NonNull ContentValues contentValues) {
+            if (statementCache != null) {
+                return statementCache.executeUpdateDelete(
+                        sqLiteOpenHelper.getWritableDatabase(),
+                        StatementCache.updateSql(updateQuery.table(), contentValues, updateQuery.where()),
+                        StatementCache.updateArgs(contentValues, updateQuery.whereArgs())
+                );
+            }
+
             return sqLiteOpenHelper
                     .getWritableDatabase()
                     .update(
@@ -503,6 +999,14 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
         @WorkerThread
         @Override
         public int delete(@NonNull DeleteQuery deleteQuery) {
+            if (statementCache != null) {
+                return statementCache.executeUpdateDelete(
+                        sqLiteOpenHelper.getWritableDatabase(),
+                        StatementCache.deleteSql(deleteQuery.table(), deleteQuery.where()),
+                        deleteQuery.whereArgs().toArray()
+                );
+            }
+
             return sqLiteOpenHelper
                     .getWritableDatabase()
                     .delete(
@@ -512,6 +1016,19 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
                     );
         }
 
+        private boolean isInTransactionOnCurrentThread() {
+            return transactions.get() != null;
+        }
+
+        private long insertWithStatementCache(@NonNull InsertQuery insertQuery, @NonNull ContentValues contentValues, int conflictAlgorithm) {
+            //noinspection ConstantConditions
+            return statementCache.executeInsert(
+                    sqLiteOpenHelper.getWritableDatabase(),
+                    StatementCache.insertSql(insertQuery.table(), insertQuery.nullColumnHack(), contentValues, conflictAlgorithm),
+                    StatementCache.insertArgs(contentValues)
+            );
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -519,39 +1036,23 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
         public void notifyAboutChanges(@NonNull Changes changes) {
             checkNotNull(changes, "Changes can not be null");
 
-            // Fast path, no synchronization required
-            if (numberOfRunningTransactions.get() == 0) {
-                changesBus.onNext(changes);
-            } else {
-                synchronized (lock) {
-                    pendingChanges.add(changes);
-                }
+            final Transaction transaction = transactions.get();
 
-                notifyAboutPendingChangesIfNotInTransaction();
+            // changes of other threads are not postponed by transaction of this thread
+            if (transaction == null) {
+                sendChanges(changes);
+            } else {
+                transaction.pendingChanges.add(changes);
             }
         }
 
-        private void notifyAboutPendingChangesIfNotInTransaction() {
-            final Set<Changes> changesToSend;
-
-            if (numberOfRunningTransactions.get() == 0) {
-                synchronized (lock) {
-                    changesToSend = pendingChanges;
-                    pendingChanges = new HashSet<Changes>(5);
-                }
-            } else {
-                changesToSend = null;
+        private void sendChanges(@NonNull Changes changes) {
+            // cached results must be invalidated before observers query them again
+            if (queryResultCache != null) {
+                queryResultCache.invalidate(changes);
             }
-
-            if (changesToSend != null && changesToSend.size() > 0) {
-                final Set<String> affectedTables = new HashSet<String>(3);
-                final Set<String> affectedTags = new HashSet<String>(3);
-                for (Changes changes : changesToSend) {
-                    // Merge all changes into one Changes object.
-                    affectedTables.addAll(changes.affectedTables());
-                    affectedTags.addAll(changes.affectedTags());
-                }
-                changesBus.onNext(Changes.newInstance(affectedTables, affectedTags));
+            if (changesDispatcher != null) {
+                changesDispatcher.dispatch(changes);
             }
         }
 
@@ -564,7 +1065,15 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
                     .getWritableDatabase()
                     .beginTransaction();
 
-            numberOfRunningTransactions.incrementAndGet();
+            Transaction transaction = transactions.get();
+
+            if (transaction == null) {
+                transaction = new Transaction();
+                transactions.set(transaction);
+            }
+
+            transaction.depth++;
+            transaction.markedSuccessful = false;
         }
 
         /**
@@ -575,6 +1084,12 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
             sqLiteOpenHelper
                     .getWritableDatabase()
                     .setTransactionSuccessful();
+
+            final Transaction transaction = transactions.get();
+
+            if (transaction != null) {
+                transaction.markedSuccessful = true;
+            }
         }
 
         /**
@@ -586,8 +1101,26 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
                     .getWritableDatabase()
                     .endTransaction();
 
-            numberOfRunningTransactions.decrementAndGet();
-            notifyAboutPendingChangesIfNotInTransaction();
+            final Transaction transaction = transactions.get();
+
+            if (transaction == null) {
+                return;
+            }
+
+            // as in SQLiteDatabase, failure of nested transaction rolls back the outermost one
+            transaction.rolledBack |= !transaction.markedSuccessful;
+            // enclosing transaction can't be marked successful before nested one began
+            transaction.markedSuccessful = false;
+
+            if (--transaction.depth == 0) {
+                transactions.remove();
+
+                // changes of rolled back transaction did not happen
+                if (!transaction.rolledBack && !transaction.pendingChanges.isEmpty()) {
+                    // Merge all changes into one Changes object.
+                    sendChanges(Changes.merge(transaction.pendingChanges));
+                }
+            }
         }
 
         /**
@@ -599,4 +1132,43 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
             return sqLiteOpenHelper;
         }
     }
+
+    /**
+     * Bypasses query result cache for reads inside of a transaction,
+     * they see uncommitted changes that may be rolled back.
+     */
+    private class QueryResultCacheInterceptor implements Interceptor {
+        @Override
+        public <Result, WrappedResult, Data> Result intercept(@NonNull PreparedOperation<Result, WrappedResult, Data> operation, @NonNull Chain chain) {
+            //noinspection ConstantConditions
+            return lowLevel.isInTransactionOnCurrentThread()
+                    ? chain.proceed(operation)
+                    : queryResultCache.intercept(operation, chain);
+        }
+    }
+
+    /**
+     * Transaction of a thread, changes are sent when its outermost transaction is committed
+     * and discarded if it was rolled back.
+     */
+    private static final class Transaction {
+
+        /**
+         * Number of nested transactions.
+         */
+        int depth;
+
+        /**
+         * {@code true} if innermost transaction was marked successful.
+         */
+        boolean markedSuccessful;
+
+        /**
+         * {@code true} if one of nested transactions ended without being marked successful.
+         */
+        boolean rolledBack;
+
+        @NonNull
+        final List<Changes> pendingChanges = new ArrayList<Changes>(5);
+    }
 }
@@ -0,0 +1,81 @@
+package com.pushtorefresh.storio3.sqlite.impl;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.pushtorefresh.storio3.sqlite.Changes;
+
+import org.reactivestreams.Subscriber;
+
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+
+/**
+ * {@link Flowable} of changes from {@link ChangesDispatcher}, each subscriber is registered
+ * in the dispatcher with the filter of this {@link Flowable}.
+ * <p>
+ * Not requested changes of subscribers that can not keep up are merged,
+ * see {@link MergingChangesRegistration}: buffering or dropping them would either grow
+ * without bound or lose affected tables and tags. {@link BackpressureStrategy#ERROR}
+ * and {@link BackpressureStrategy#MISSING} are applied as by {@link Flowable#create}.
+ * <p>
+ * If {@link #scheduler} is set, changes are observed on it. Merging subscribers request
+ * changes one by one then, so changes are still merged while the scheduler delivers previous ones.
+ * <p>
+ * Required to avoid problems with ClassLoader when RxJava is not in ClassPath.
+ */
+final class DispatchedChanges extends Flowable<Changes> {
+
+    @NonNull
+    private final ChangesDispatcher dispatcher;
+
+    @Nullable
+    private final ChangesFilter filter;
+
+    @NonNull
+    private final BackpressureStrategy backpressureStrategy;
+
+    @Nullable
+    private final Scheduler scheduler;
+
+    DispatchedChanges(
+            @NonNull ChangesDispatcher dispatcher,
+            @Nullable ChangesFilter filter,
+            @NonNull BackpressureStrategy backpressureStrategy,
+            @Nullable Scheduler scheduler
+    ) {
+        this.dispatcher = dispatcher;
+        this.filter = filter;
+        this.backpressureStrategy = backpressureStrategy;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * @return {@link Flowable} of changes that match the filter.
+     */
+    @NonNull
+    Flowable<Changes> filter(@NonNull ChangesFilter filter) {
+        return this.filter == null
+                ? new DispatchedChanges(dispatcher, filter.in(dispatcher.names), backpressureStrategy, scheduler)
+                : super.filter(filter);
+    }
+
+    @Override
+    protected void subscribeActual(@NonNull Subscriber<? super Changes> subscriber) {
+        final boolean merging = backpressureStrategy != BackpressureStrategy.ERROR
+                && backpressureStrategy != BackpressureStrategy.MISSING;
+
+        if (scheduler != null) {
+            new DispatchedChanges(dispatcher, filter, backpressureStrategy, null)
+                    .observeOn(scheduler, false, merging ? 1 : bufferSize())
+                    .subscribe(subscriber);
+        } else if (!merging) {
+            Flowable
+                    .create(new EmittingChangesRegistration(dispatcher, filter), backpressureStrategy)
+                    .subscribe(subscriber);
+        } else {
+            new MergingChangesRegistration(dispatcher, filter, subscriber).subscribe();
+        }
+    }
+}
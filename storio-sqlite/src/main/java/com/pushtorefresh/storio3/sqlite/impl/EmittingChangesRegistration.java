@@ -0,0 +1,50 @@
+package com.pushtorefresh.storio3.sqlite.impl;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.pushtorefresh.storio3.sqlite.Changes;
+
+import io.reactivex.FlowableEmitter;
+import io.reactivex.FlowableOnSubscribe;
+import io.reactivex.functions.Cancellable;
+
+/**
+ * Subscriber of {@link ChangesDispatcher} which applies
+ * {@link io.reactivex.BackpressureStrategy} of {@link io.reactivex.Flowable#create}.
+ * <p>
+ * Required to avoid problems with ClassLoader when RxJava is not in ClassPath.
+ */
+final class EmittingChangesRegistration extends ChangesRegistration
+        implements FlowableOnSubscribe<Changes>, Cancellable {
+
+    @Nullable
+    private volatile FlowableEmitter<Changes> emitter;
+
+    EmittingChangesRegistration(@NonNull ChangesDispatcher dispatcher, @Nullable ChangesFilter filter) {
+        super(dispatcher, filter);
+    }
+
+    @Override
+    public void subscribe(@NonNull FlowableEmitter<Changes> emitter) {
+        // changes can be dispatched from different threads concurrently
+        this.emitter = emitter.serialize();
+        dispatcher.register(this);
+        // unregisters immediately if subscriber was already cancelled
+        emitter.setCancellable(this);
+    }
+
+    @Override
+    public void cancel() {
+        dispatcher.unregister(this);
+    }
+
+    @Override
+    void onNext(@NonNull Changes changes) {
+        final FlowableEmitter<Changes> emitter = this.emitter;
+
+        if (emitter != null) {
+            emitter.onNext(changes);
+        }
+    }
+}
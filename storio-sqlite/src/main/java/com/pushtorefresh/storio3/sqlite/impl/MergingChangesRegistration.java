@@ -0,0 +1,148 @@
+package com.pushtorefresh.storio3.sqlite.impl;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.pushtorefresh.storio3.sqlite.Changes;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.plugins.RxJavaPlugins;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Subscriber of {@link ChangesDispatcher} for {@link io.reactivex.BackpressureStrategy#LATEST},
+ * {@link io.reactivex.BackpressureStrategy#BUFFER} and {@link io.reactivex.BackpressureStrategy#DROP}.
+ * <p>
+ * Changes are queued while subscriber has requested them, changes beyond requested amount
+ * are merged into one pending {@link Changes} instead of being dropped or queued,
+ * so slow subscriber uses bounded memory, does not miss affected tables and tags,
+ * and does not slow down writers.
+ * <p>
+ * Required to avoid problems with ClassLoader when RxJava is not in ClassPath.
+ */
+final class MergingChangesRegistration extends ChangesRegistration implements Subscription {
+
+    @NonNull
+    private final Subscriber<? super Changes> subscriber;
+
+    /**
+     * Guarded by {@code this}, has at most one change more than {@link #requested}.
+     */
+    @NonNull
+    private final ArrayDeque<Changes> queue = new ArrayDeque<Changes>(2);
+
+    /**
+     * Guarded by {@code this}.
+     */
+    private long requested;
+
+    /**
+     * Number of concurrent calls of {@link #drain()}, only the first of them emits to subscriber.
+     */
+    @NonNull
+    private final AtomicInteger missedDrains = new AtomicInteger();
+
+    private volatile boolean cancelled;
+
+    MergingChangesRegistration(
+            @NonNull ChangesDispatcher dispatcher,
+            @Nullable ChangesFilter filter,
+            @NonNull Subscriber<? super Changes> subscriber
+    ) {
+        super(dispatcher, filter);
+        this.subscriber = subscriber;
+    }
+
+    void subscribe() {
+        subscriber.onSubscribe(this);
+
+        if (!cancelled) {
+            dispatcher.register(this);
+
+            // subscriber could be cancelled concurrently before registration
+            if (cancelled) {
+                dispatcher.unregister(this);
+            }
+        }
+    }
+
+    @Override
+    void onNext(@NonNull Changes changes) {
+        synchronized (this) {
+            if (queue.isEmpty() || queue.size() < requested) {
+                queue.add(changes);
+            } else {
+                queue.add(Changes.merge(asList(queue.pollLast(), changes)));
+            }
+        }
+
+        drain();
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            RxJavaPlugins.onError(new IllegalArgumentException("n > 0 required but it was " + n));
+            return;
+        }
+
+        synchronized (this) {
+            requested = requested + n < 0 ? Long.MAX_VALUE : requested + n;
+        }
+
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        if (!cancelled) {
+            cancelled = true;
+            dispatcher.unregister(this);
+
+            synchronized (this) {
+                queue.clear();
+            }
+        }
+    }
+
+    @Nullable
+    private synchronized Changes poll() {
+        if (requested == 0 || queue.isEmpty()) {
+            return null;
+        }
+
+        if (requested != Long.MAX_VALUE) {
+            requested--;
+        }
+
+        return queue.poll();
+    }
+
+    private void drain() {
+        if (missedDrains.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+
+        do {
+            while (!cancelled) {
+                final Changes changes = poll();
+
+                if (changes == null) {
+                    break;
+                }
+
+                subscriber.onNext(changes);
+            }
+
+            missed = missedDrains.addAndGet(-missed);
+        } while (missed != 0);
+    }
+}
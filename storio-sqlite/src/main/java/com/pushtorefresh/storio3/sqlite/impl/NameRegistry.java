@@ -0,0 +1,204 @@
+package com.pushtorefresh.storio3.sqlite.impl;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.pushtorefresh.storio3.internal.Checks.checkNotNull;
+
+/**
+ * Registry of names of tables and tags of one {@link ChangesDispatcher}, assigns ids to names
+ * for {@link NameSet}.
+ * <p>
+ * Only names observed by subscribers are interned, names of changes are only looked up,
+ * so the registry is bounded by observed tables and tags and is released with the dispatcher.
+ * <p>
+ * Thread-safe.
+ */
+final class NameRegistry {
+
+    @NonNull
+    final NameSet empty = new NameSet(this, new long[0], 0, 0);
+
+    @NonNull
+    private final Object lock = new Object();
+
+    @NonNull
+    private final ConcurrentMap<String, Integer> ids = new ConcurrentHashMap<String, Integer>();
+
+    /**
+     * Interned names by their ids, grows under {@link #lock}.
+     */
+    @NonNull
+    private volatile String[] names = new String[16];
+
+    /**
+     * Shared sets of a single interned name by its id, grows under {@link #lock}.
+     */
+    @NonNull
+    private volatile NameSet[] singletons = new NameSet[16];
+
+    // guarded by lock
+    private int count;
+
+    /**
+     * Interns names and converts them to {@link NameSet}.
+     *
+     * @param names non-null collection of non-null names.
+     * @return immutable set of all names.
+     */
+    @NonNull
+    NameSet intern(@NonNull Collection<String> names) {
+        return of(names, true);
+    }
+
+    /**
+     * Converts names to {@link NameSet} without interning them.
+     *
+     * @param names non-null collection of non-null names.
+     * @return immutable set of names that are already interned, other names can not match
+     * any set of interned names so they are skipped.
+     */
+    @NonNull
+    NameSet find(@NonNull Collection<String> names) {
+        return of(names, false);
+    }
+
+    @NonNull
+    private NameSet of(@NonNull Collection<String> names, boolean intern) {
+        if (names instanceof NameSet && ((NameSet) names).registry == this) {
+            return (NameSet) names;
+        } else if (names.isEmpty()) {
+            return empty;
+        } else if (names.size() == 1) {
+            final int id = id(names.iterator().next(), intern);
+            return id >= 0 ? singleton(id) : empty;
+        }
+
+        long[] words = new long[1];
+
+        for (String name : names) {
+            final int id = id(name, intern);
+
+            if (id < 0) {
+                continue;
+            }
+
+            final int wordIndex = id >>> 6;
+
+            if (wordIndex >= words.length) {
+                words = Arrays.copyOf(words, wordIndex + 1);
+            }
+
+            words[wordIndex] |= 1L << id;
+        }
+
+        return create(words);
+    }
+
+    @NonNull
+    private NameSet create(@NonNull long[] words) {
+        int length = words.length;
+
+        while (length > 0 && words[length - 1] == 0) {
+            length--;
+        }
+
+        int size = 0;
+        int hashCode = 0;
+
+        for (int wordIndex = 0; wordIndex < length; wordIndex++) {
+            for (long word = words[wordIndex]; word != 0; word &= word - 1) {
+                size++;
+                hashCode += name((wordIndex << 6) + Long.numberOfTrailingZeros(word)).hashCode();
+            }
+        }
+
+        if (size == 0) {
+            return empty;
+        } else if (size == 1) {
+            return singleton(((length - 1) << 6) + Long.numberOfTrailingZeros(words[length - 1]));
+        }
+
+        return new NameSet(this, length == words.length ? words : Arrays.copyOf(words, length), size, hashCode);
+    }
+
+    /**
+     * @param name name to look up.
+     * @return id of interned name or {@code -1} if name is not interned.
+     */
+    int idOf(@Nullable Object name) {
+        final Integer id = ids.get(name);
+        return id != null ? id : -1;
+    }
+
+    private int id(@NonNull String name, boolean intern) {
+        checkNotNull(name, "name must not be null");
+
+        final Integer id = ids.get(name);
+
+        if (id != null) {
+            return id;
+        }
+
+        return intern ? intern(name) : -1;
+    }
+
+    private int intern(@NonNull String name) {
+        synchronized (lock) {
+            final Integer existingId = ids.get(name);
+
+            if (existingId != null) {
+                return existingId;
+            }
+
+            final int id = count;
+
+            if (id == names.length) {
+                names = Arrays.copyOf(names, id * 2);
+                singletons = Arrays.copyOf(singletons, id * 2);
+            }
+
+            final long[] words = new long[(id >>> 6) + 1];
+            words[id >>> 6] = 1L << id;
+
+            names[id] = name;
+            singletons[id] = new NameSet(this, words, 1, name.hashCode());
+            count++;
+
+            // publishes name and singleton to readers of ids
+            ids.put(name, id);
+            return id;
+        }
+    }
+
+    @NonNull
+    String name(int id) {
+        final String[] names = this.names;
+
+        if (id < names.length && names[id] != null) {
+            return names[id];
+        }
+
+        synchronized (lock) {
+            return this.names[id];
+        }
+    }
+
+    @NonNull
+    private NameSet singleton(int id) {
+        final NameSet[] singletons = this.singletons;
+
+        if (id < singletons.length && singletons[id] != null) {
+            return singletons[id];
+        }
+
+        synchronized (lock) {
+            return this.singletons[id];
+        }
+    }
+}
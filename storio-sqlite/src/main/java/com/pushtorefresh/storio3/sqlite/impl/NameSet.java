@@ -0,0 +1,134 @@
+package com.pushtorefresh.storio3.sqlite.impl;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable set of names of tables or tags backed by bitset of ids of names interned
+ * in {@link NameRegistry}, so intersection and equality of such sets are word-wide operations
+ * and sets of a single name are shared.
+ * <p>
+ * Sets of different registries can not be intersected.
+ */
+final class NameSet extends AbstractSet<String> {
+
+    @NonNull
+    final NameRegistry registry;
+
+    /**
+     * Bit {@code id} is set for each name, has no trailing zero words.
+     */
+    @NonNull
+    private final long[] words;
+
+    private final int size;
+
+    private final int hashCode;
+
+    NameSet(@NonNull NameRegistry registry, @NonNull long[] words, int size, int hashCode) {
+        this.registry = registry;
+        this.words = words;
+        this.size = size;
+        this.hashCode = hashCode;
+    }
+
+    /**
+     * @param other set of names.
+     * @return {@code true} if sets have at least one common name, {@code false} otherwise.
+     */
+    boolean intersects(@NonNull NameSet other) {
+        checkSameRegistry(other);
+
+        final int length = Math.min(words.length, other.words.length);
+
+        for (int wordIndex = 0; wordIndex < length; wordIndex++) {
+            if ((words[wordIndex] & other.words[wordIndex]) != 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void checkSameRegistry(@NonNull NameSet other) {
+        if (registry != other.registry) {
+            throw new IllegalArgumentException("Sets of names of different registries can not be intersected");
+        }
+    }
+
+    @Override
+    public boolean contains(@Nullable Object o) {
+        if (!(o instanceof String)) {
+            return false;
+        }
+
+        final int id = registry.idOf(o);
+
+        if (id < 0) {
+            return false;
+        }
+
+        final int wordIndex = id >>> 6;
+        return wordIndex < words.length && (words[wordIndex] & (1L << id)) != 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @NonNull
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<String>() {
+
+            private int wordIndex;
+
+            private long word = words.length > 0 ? words[0] : 0;
+
+            @Override
+            public boolean hasNext() {
+                while (word == 0 && wordIndex + 1 < words.length) {
+                    word = words[++wordIndex];
+                }
+
+                return word != 0;
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                final int id = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                return registry.name(id);
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (o instanceof NameSet && ((NameSet) o).registry == registry) {
+            return Arrays.equals(words, ((NameSet) o).words);
+        }
+
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
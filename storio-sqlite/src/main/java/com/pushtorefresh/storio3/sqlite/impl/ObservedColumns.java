@@ -0,0 +1,101 @@
+package com.pushtorefresh.storio3.sqlite.impl;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.pushtorefresh.storio3.sqlite.queries.Query;
+import com.pushtorefresh.storio3.sqlite.queries.RawQuery;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * FOR INTERNAL USAGE ONLY.
+ * <p>
+ * Resolves columns which values are used by queries, used to match affected columns
+ * in {@link com.pushtorefresh.storio3.sqlite.Changes}.
+ */
+public final class ObservedColumns {
+
+    @NonNull
+    private static final Pattern COLUMN = Pattern.compile("^\\s*(?:[`\"\\[]?\\w+[`\"\\]]?\\s*\\.\\s*)?[`\"\\[]?(\\w+)[`\"\\]]?\\s*$");
+
+    @NonNull
+    private static final Pattern ORDERING_TERM = Pattern.compile("^(.+?)(?:\\s+(?:ASC|DESC))?\\s*$", Pattern.CASE_INSENSITIVE);
+
+    private ObservedColumns() {
+        throw new IllegalStateException("No instances please.");
+    }
+
+    /**
+     * Returns columns declared by {@link Query#observesColumns()}, otherwise derives them
+     * from {@link Query#columns()}, {@code "column = ?"} where clause and plain columns of order by clause.
+     *
+     * @param query query.
+     * @return columns or {@code null} if query can depend on any column of its table.
+     */
+    @Nullable
+    public static Set<String> of(@NonNull Query query) {
+        if (!query.observesColumns().isEmpty()) {
+            return query.observesColumns();
+        }
+
+        if (query.columns().isEmpty() || !query.groupBy().isEmpty() || !query.having().isEmpty()) {
+            return null;
+        }
+
+        final Set<String> columns = new HashSet<String>(query.columns().size() + 2);
+
+        for (String column : query.columns()) {
+            if (!addColumn(columns, column)) {
+                return null;
+            }
+        }
+
+        if (!query.where().isEmpty()) {
+            final String keyColumn = RowKeys.keyColumn(query.where(), query.whereArgs());
+
+            if (keyColumn == null) {
+                return null;
+            }
+
+            columns.add(keyColumn);
+        }
+
+        if (!query.orderBy().isEmpty()) {
+            for (String orderingTerm : query.orderBy().split(",")) {
+                final Matcher matcher = ORDERING_TERM.matcher(orderingTerm);
+
+                if (!matcher.matches() || !addColumn(columns, matcher.group(1))) {
+                    return null;
+                }
+            }
+        }
+
+        return columns;
+    }
+
+    /**
+     * Returns columns declared by {@link RawQuery#observesColumns()}.
+     *
+     * @param rawQuery raw query.
+     * @return columns or {@code null} if query can depend on any column of observed tables.
+     */
+    @Nullable
+    public static Set<String> of(@NonNull RawQuery rawQuery) {
+        return rawQuery.observesColumns().isEmpty() ? null : rawQuery.observesColumns();
+    }
+
+    private static boolean addColumn(@NonNull Set<String> columns, @NonNull String expression) {
+        final Matcher matcher = COLUMN.matcher(expression);
+
+        if (!matcher.matches()) {
+            return false;
+        }
+
+        columns.add(matcher.group(1));
+        return true;
+    }
+}
@@ -0,0 +1,249 @@
+package com.pushtorefresh.storio3.sqlite.impl;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.pushtorefresh.storio3.Interceptor;
+import com.pushtorefresh.storio3.operations.PreparedOperation;
+import com.pushtorefresh.storio3.sqlite.Changes;
+import com.pushtorefresh.storio3.sqlite.operations.get.PreparedGet;
+import com.pushtorefresh.storio3.sqlite.queries.Query;
+import com.pushtorefresh.storio3.sqlite.queries.RawQuery;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.singleton;
+
+/**
+ * Bounded LRU cache of results of Get Operations keyed by {@link PreparedGet#resultKey()}.
+ * <p>
+ * Entry is invalidated by {@link Changes} of the tables and tags observed by its query:
+ * {@link Query#table()} and {@link Query#observesTags()} or {@link RawQuery#observesTables()}
+ * and {@link RawQuery#observesTags()}. Results of {@link RawQuery} which does not observe
+ * any table are not cached.
+ * <p>
+ * Size of the entry is the number of objects in the result, at least {@code 1}.
+ * <p>
+ * Thread-safe.
+ */
+final class QueryResultCache {
+
+    /**
+     * Cached {@code null} result, for example Get Operation of object that does not exist.
+     */
+    private static final Object NULL = new Object();
+
+    private final int maxSize;
+
+    /**
+     * Guarded by {@code this}.
+     */
+    @NonNull
+    private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<Object, Entry>(16, 0.75f, true);
+
+    /**
+     * Keys of entries by observed tables, guarded by {@code this}.
+     */
+    @NonNull
+    private final Map<String, Set<Object>> keysByTable = new HashMap<String, Set<Object>>();
+
+    /**
+     * Keys of entries by observed tags, guarded by {@code this}.
+     */
+    @NonNull
+    private final Map<String, Set<Object>> keysByTag = new HashMap<String, Set<Object>>();
+
+    private int size;
+
+    /**
+     * Incremented on each invalidation, results of queries started before
+     * invalidation may be stale and are not cached.
+     */
+    private long invalidationCount;
+
+    private long hitCount;
+
+    private long missCount;
+
+    QueryResultCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be > 0, but was: " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
+
+    @Nullable
+    <Result, WrappedResult, Data> Result intercept(
+            @NonNull PreparedOperation<Result, WrappedResult, Data> operation,
+            @NonNull Interceptor.Chain chain
+    ) {
+        final Object key = operation instanceof PreparedGet
+                ? ((PreparedGet) operation).resultKey()
+                : null;
+
+        if (key == null) {
+            return chain.proceed(operation);
+        }
+
+        final Object data = operation.getData();
+        final Set<String> tables;
+        final Set<String> tags;
+
+        if (data instanceof Query) {
+            tables = singleton(((Query) data).table());
+            tags = ((Query) data).observesTags();
+        } else if (data instanceof RawQuery && !((RawQuery) data).observesTables().isEmpty()) {
+            tables = ((RawQuery) data).observesTables();
+            tags = ((RawQuery) data).observesTags();
+        } else {
+            return chain.proceed(operation);
+        }
+
+        final long invalidationCountBeforeQuery;
+
+        synchronized (this) {
+            final Entry entry = entries.get(key);
+
+            if (entry != null) {
+                hitCount++;
+                //noinspection unchecked
+                return entry.result != NULL ? (Result) entry.result : null;
+            }
+
+            missCount++;
+            invalidationCountBeforeQuery = invalidationCount;
+        }
+
+        final Result result = chain.proceed(operation);
+
+        synchronized (this) {
+            if (invalidationCount == invalidationCountBeforeQuery && !entries.containsKey(key)) {
+                put(key, new Entry(result != null ? result : NULL, tables, tags));
+            }
+        }
+
+        return result;
+    }
+
+    synchronized void invalidate(@NonNull Changes changes) {
+        invalidationCount++;
+
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        removeAll(keysByTable, changes.affectedTables());
+        removeAll(keysByTag, changes.affectedTags());
+    }
+
+    synchronized void evictAll() {
+        invalidationCount++;
+        entries.clear();
+        keysByTable.clear();
+        keysByTag.clear();
+        size = 0;
+    }
+
+    synchronized long hitCount() {
+        return hitCount;
+    }
+
+    synchronized long missCount() {
+        return missCount;
+    }
+
+    private void put(@NonNull Object key, @NonNull Entry entry) {
+        if (entry.size > maxSize) {
+            return;
+        }
+
+        entries.put(key, entry);
+        size += entry.size;
+        index(keysByTable, entry.tables, key);
+        index(keysByTag, entry.tags, key);
+
+        final Iterator<Map.Entry<Object, Entry>> iterator = entries.entrySet().iterator();
+
+        while (size > maxSize && iterator.hasNext()) {
+            final Map.Entry<Object, Entry> eldest = iterator.next();
+            iterator.remove();
+            unindex(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    private void removeAll(@NonNull Map<String, Set<Object>> keysByName, @NonNull Collection<String> names) {
+        for (final String name : names) {
+            final Set<Object> keys = keysByName.get(name);
+
+            if (keys == null) {
+                continue;
+            }
+
+            // copy, because set is modified by unindex()
+            for (final Object key : keys.toArray()) {
+                final Entry entry = entries.remove(key);
+
+                if (entry != null) {
+                    unindex(key, entry);
+                }
+            }
+        }
+    }
+
+    private void unindex(@NonNull Object key, @NonNull Entry entry) {
+        size -= entry.size;
+        unindex(keysByTable, entry.tables, key);
+        unindex(keysByTag, entry.tags, key);
+    }
+
+    private static void index(@NonNull Map<String, Set<Object>> keysByName, @NonNull Set<String> names, @NonNull Object key) {
+        for (final String name : names) {
+            Set<Object> keys = keysByName.get(name);
+
+            if (keys == null) {
+                keys = new HashSet<Object>();
+                keysByName.put(name, keys);
+            }
+
+            keys.add(key);
+        }
+    }
+
+    private static void unindex(@NonNull Map<String, Set<Object>> keysByName, @NonNull Set<String> names, @NonNull Object key) {
+        for (final String name : names) {
+            final Set<Object> keys = keysByName.get(name);
+
+            if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                keysByName.remove(name);
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        @NonNull
+        final Object result;
+
+        @NonNull
+        final Set<String> tables;
+
+        @NonNull
+        final Set<String> tags;
+
+        final int size;
+
+        Entry(@NonNull Object result, @NonNull Set<String> tables, @NonNull Set<String> tags) {
+            this.result = result;
+            this.tables = tables;
+            this.tags = tags;
+            this.size = result instanceof List ? Math.max(1, ((List) result).size()) : 1;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.pushtorefresh.storio3.sqlite.impl;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * FOR INTERNAL USAGE ONLY.
+ * <p>
+ * Recognizes {@code where} clauses which select rows by value of one column: {@code "column = ?"},
+ * used to fill and match keys of affected rows in {@link com.pushtorefresh.storio3.sqlite.Changes}.
+ */
+public final class RowKeys {
+
+    @NonNull
+    private static final Pattern KEY_WHERE = Pattern.compile("^\\s*[`\"\\[]?(\\w+)[`\"\\]]?\\s*=\\s*\\?\\s*$");
+
+    private RowKeys() {
+        throw new IllegalStateException("No instances please.");
+    }
+
+    /**
+     * Returns column of {@code "column = ?"} where clause.
+     *
+     * @param where     nullable where clause.
+     * @param whereArgs arguments of where clause.
+     * @return name of the column or {@code null} if where clause does not select rows by one column.
+     */
+    @Nullable
+    public static String keyColumn(@Nullable String where, @NonNull List<String> whereArgs) {
+        if (where == null || whereArgs.size() != 1) {
+            return null;
+        }
+
+        final Matcher matcher = KEY_WHERE.matcher(where);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+}
@@ -0,0 +1,258 @@
+package com.pushtorefresh.storio3.sqlite.impl;
+
+import android.content.ContentValues;
+import android.database.DatabaseUtils;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of compiled {@link SQLiteStatement}s keyed by SQL text.
+ * <p>
+ * Statement is taken out of the cache for the time of execution,
+ * so concurrent executions of the same SQL never share bindings.
+ * <p>
+ * Thread-safe.
+ */
+final class StatementCache {
+
+    private static final String[] CONFLICT_VALUES = new String[]{"", " OR ROLLBACK", " OR ABORT", " OR FAIL", " OR IGNORE", " OR REPLACE"};
+
+    private final int maxSize;
+
+    /**
+     * Guarded by {@code this}.
+     */
+    @NonNull
+    private final LinkedHashMap<String, SQLiteStatement> statements;
+
+    /**
+     * Database cached statements were compiled against, guarded by {@code this}.
+     */
+    @Nullable
+    private SQLiteDatabase database;
+
+    /**
+     * Incremented by {@link #evictAll()}, statements acquired before it are not cached again,
+     * guarded by {@code this}.
+     */
+    private int generation;
+
+    private long hitCount;
+
+    private long missCount;
+
+    StatementCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be > 0, but was: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.statements = new LinkedHashMap<String, SQLiteStatement>(maxSize, 0.75f, true);
+    }
+
+    @WorkerThread
+    long executeInsert(@NonNull SQLiteDatabase db, @NonNull String sql, @NonNull Object[] bindArgs) {
+        final Lease lease = acquire(db, sql);
+
+        try {
+            bind(lease.statement, bindArgs);
+            return lease.statement.executeInsert();
+        } finally {
+            release(db, sql, lease);
+        }
+    }
+
+    @WorkerThread
+    int executeUpdateDelete(@NonNull SQLiteDatabase db, @NonNull String sql, @NonNull Object[] bindArgs) {
+        final Lease lease = acquire(db, sql);
+
+        try {
+            bind(lease.statement, bindArgs);
+            return lease.statement.executeUpdateDelete();
+        } finally {
+            release(db, sql, lease);
+        }
+    }
+
+    /**
+     * Closes all cached statements, should be called on schema changes and on close of the database.
+     */
+    synchronized void evictAll() {
+        for (final SQLiteStatement statement : statements.values()) {
+            statement.close();
+        }
+        statements.clear();
+        database = null;
+        // statements taken out of the cache were compiled against previous schema
+        generation++;
+    }
+
+    synchronized long hitCount() {
+        return hitCount;
+    }
+
+    synchronized long missCount() {
+        return missCount;
+    }
+
+    @NonNull
+    private Lease acquire(@NonNull SQLiteDatabase db, @NonNull String sql) {
+        final int generation;
+
+        synchronized (this) {
+            if (database != db) {
+                // database was reopened, statements of previous instance can not be used
+                evictAll();
+                database = db;
+            }
+
+            generation = this.generation;
+            final SQLiteStatement statement = statements.remove(sql);
+
+            if (statement != null) {
+                hitCount++;
+                return new Lease(statement, generation);
+            }
+
+            missCount++;
+        }
+
+        // compilation may wait for the connection, so it's done without holding the lock
+        return new Lease(db.compileStatement(sql), generation);
+    }
+
+    private void release(@NonNull SQLiteDatabase db, @NonNull String sql, @NonNull Lease lease) {
+        synchronized (this) {
+            if (database == db && generation == lease.generation && !statements.containsKey(sql)) {
+                statements.put(sql, lease.statement);
+                trimToMaxSize();
+                return;
+            }
+        }
+
+        lease.statement.close();
+    }
+
+    private void trimToMaxSize() {
+        final Iterator<Map.Entry<String, SQLiteStatement>> iterator = statements.entrySet().iterator();
+
+        while (statements.size() > maxSize && iterator.hasNext()) {
+            iterator.next().getValue().close();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Statement taken out of the cache and generation of the cache at that moment.
+     */
+    private static final class Lease {
+
+        @NonNull
+        final SQLiteStatement statement;
+
+        final int generation;
+
+        Lease(@NonNull SQLiteStatement statement, int generation) {
+            this.statement = statement;
+            this.generation = generation;
+        }
+    }
+
+    private static void bind(@NonNull SQLiteStatement statement, @NonNull Object[] bindArgs) {
+        statement.clearBindings();
+
+        for (int i = 0; i < bindArgs.length; i++) {
+            DatabaseUtils.bindObjectToProgram(statement, i + 1, bindArgs[i]);
+        }
+    }
+
+    @NonNull
+    static String insertSql(@NonNull String table, @Nullable String nullColumnHack, @NonNull ContentValues contentValues, int conflictAlgorithm) {
+        final StringBuilder sql = new StringBuilder(64)
+                .append("INSERT")
+                .append(CONFLICT_VALUES[conflictAlgorithm])
+                .append(" INTO ")
+                .append(table)
+                .append('(');
+
+        if (contentValues.size() == 0) {
+            return sql.append(nullColumnHack).append(") VALUES (NULL)").toString();
+        }
+
+        int i = 0;
+        for (final String column : contentValues.keySet()) {
+            sql.append(i++ > 0 ? "," : "").append(column);
+        }
+
+        sql.append(") VALUES (");
+
+        for (i = 0; i < contentValues.size(); i++) {
+            sql.append(i > 0 ? ",?" : "?");
+        }
+
+        return sql.append(')').toString();
+    }
+
+    @NonNull
+    static Object[] insertArgs(@NonNull ContentValues contentValues) {
+        final Object[] bindArgs = new Object[contentValues.size()];
+
+        int i = 0;
+        for (final String column : contentValues.keySet()) {
+            bindArgs[i++] = contentValues.get(column);
+        }
+
+        return bindArgs;
+    }
+
+    @NonNull
+    static String updateSql(@NonNull String table, @NonNull ContentValues contentValues, @NonNull String where) {
+        if (contentValues.size() == 0) {
+            throw new IllegalArgumentException("Empty values");
+        }
+
+        final StringBuilder sql = new StringBuilder(64)
+                .append("UPDATE ")
+                .append(table)
+                .append(" SET ");
+
+        int i = 0;
+        for (final String column : contentValues.keySet()) {
+            sql.append(i++ > 0 ? "," : "").append(column).append("=?");
+        }
+
+        return appendWhere(sql, where).toString();
+    }
+
+    @NonNull
+    static Object[] updateArgs(@NonNull ContentValues contentValues, @NonNull List<String> whereArgs) {
+        final Object[] bindArgs = new Object[contentValues.size() + whereArgs.size()];
+
+        int i = 0;
+        for (final String column : contentValues.keySet()) {
+            bindArgs[i++] = contentValues.get(column);
+        }
+        for (final String whereArg : whereArgs) {
+            bindArgs[i++] = whereArg;
+        }
+
+        return bindArgs;
+    }
+
+    @NonNull
+    static String deleteSql(@NonNull String table, @NonNull String where) {
+        return appendWhere(new StringBuilder(32).append("DELETE FROM ").append(table), where).toString();
+    }
+
+    @NonNull
+    private static StringBuilder appendWhere(@NonNull StringBuilder sql, @NonNull String where) {
+        return where.length() == 0 ? sql : sql.append(" WHERE ").append(where);
+    }
+}
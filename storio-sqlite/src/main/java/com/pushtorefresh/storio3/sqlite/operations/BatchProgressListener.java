@@ -0,0 +1,22 @@
+package com.pushtorefresh.storio3.sqlite.operations;
+
+import android.support.annotation.WorkerThread;
+
+/**
+ * Receives progress of Put and Delete Operations for collections
+ * that commit objects in batches.
+ *
+ * @see com.pushtorefresh.storio3.sqlite.operations.put.PreparedPutCollectionOfObjects.Builder#batchSize(int)
+ * @see com.pushtorefresh.storio3.sqlite.operations.delete.PreparedDeleteCollectionOfObjects.Builder#batchSize(int)
+ */
+public interface BatchProgressListener {
+
+    /**
+     * Called on the thread that executes operation after each committed batch.
+     *
+     * @param numberOfCommittedObjects number of objects committed so far, including this batch.
+     * @param numberOfObjects          total number of objects in the operation.
+     */
+    @WorkerThread
+    void onBatchCommitted(int numberOfCommittedObjects, int numberOfObjects);
+}
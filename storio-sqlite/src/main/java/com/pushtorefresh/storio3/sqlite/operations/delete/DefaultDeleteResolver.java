@@ -1,9 +1,23 @@
 package com.pushtorefresh.storio3.sqlite.operations.delete;
 
+import android.database.Cursor;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
 import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio3.sqlite.impl.RowKeys;
 import com.pushtorefresh.storio3.sqlite.queries.DeleteQuery;
+import com.pushtorefresh.storio3.sqlite.queries.Query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.pushtorefresh.storio3.internal.InternalQueries.unmodifiableNonNullListOfStrings;
+import static java.util.Collections.singleton;
 
 /**
  * Default implementation of {@link DeleteResolver}.
@@ -11,6 +25,12 @@ import com.pushtorefresh.storio3.sqlite.queries.DeleteQuery;
  */
 public abstract class DefaultDeleteResolver<T> extends DeleteResolver<T> {
 
+    /**
+     * Default value of {@code SQLITE_MAX_VARIABLE_NUMBER},
+     * maximum number of host parameters in one statement.
+     */
+    static final int MAX_VARIABLE_NUMBER = 999;
+
     /**
      * Converts object to {@link DeleteQuery}.
      *
@@ -20,6 +40,43 @@ public abstract class DefaultDeleteResolver<T> extends DeleteResolver<T> {
     @NonNull
     protected abstract DeleteQuery mapToDeleteQuery(@NonNull T object);
 
+    /**
+     * Returns names of columns that uniquely identify row of the object,
+     * in order of values returned by {@link #mapToDeleteKey(Object)}.
+     * <p>
+     * Used by Delete Operation for collections to delete objects with
+     * {@code DELETE FROM table WHERE key IN (?, ?, ...)} statements instead of one statement per object.
+     * Table and tags are taken from {@link #mapToDeleteQuery(Object)} of the first object,
+     * so all objects of this resolver must be stored in the same table.
+     * <p>
+     * By default returns {@code null} which means that set-based delete is not supported
+     * and {@link #performDelete(StorIOSQLite, Object)} will be used instead.
+     *
+     * @return nullable array of column names.
+     */
+    @Nullable
+    protected String[] deleteKeyColumns() {
+        return null;
+    }
+
+    /**
+     * Returns values of key columns of the object, ordered as in {@link #deleteKeyColumns()}.
+     * <p>
+     * Results of each object are determined by comparing keys with values of key columns,
+     * so values should have the same type as key columns: integral numbers and booleans
+     * for {@code INTEGER} columns, strings for {@code TEXT} columns with binary collation.
+     * Objects with keys of other types are deleted by {@link #performDelete(StorIOSQLite, Object)}
+     * if results of objects are requested.
+     *
+     * @param object non-null object that should be deleted.
+     * @return non-null array of key values.
+     */
+    @NonNull
+    protected Object[] mapToDeleteKey(@NonNull T object) {
+        throw new IllegalStateException("mapToDeleteKey() is not implemented, " +
+                "please override it together with deleteKeyColumns()");
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -28,6 +85,226 @@ public abstract class DefaultDeleteResolver<T> extends DeleteResolver<T> {
     public DeleteResult performDelete(@NonNull StorIOSQLite storIOSQLite, @NonNull T object) {
         final DeleteQuery deleteQuery = mapToDeleteQuery(object);
         final int numberOfRowsDeleted = storIOSQLite.lowLevel().delete(deleteQuery);
-        return DeleteResult.newInstance(numberOfRowsDeleted, deleteQuery.table(), deleteQuery.affectsTags());
+        final String keyColumn = RowKeys.keyColumn(deleteQuery.where(), deleteQuery.whereArgs());
+
+        return keyColumn != null
+                ? DeleteResult.newInstance(numberOfRowsDeleted, deleteQuery.table(), deleteQuery.affectsTags(), keyColumn, singleton(deleteQuery.whereArgs().get(0)))
+                : DeleteResult.newInstance(numberOfRowsDeleted, deleteQuery.table(), deleteQuery.affectsTags());
+    }
+
+    /**
+     * Deletes objects by their keys with as few statements as {@code SQLITE_MAX_VARIABLE_NUMBER} allows.
+     * <p>
+     * If {@code results} are requested, keys of each chunk are queried before delete in the same transaction,
+     * so every object gets its own {@link DeleteResult} even if some of them were already deleted.
+     *
+     * @return aggregated result of all objects.
+     */
+    @NonNull
+    DeleteResult performDeleteByKeys(
+            @NonNull StorIOSQLite storIOSQLite,
+            @NonNull String[] keyColumns,
+            @NonNull List<T> objects,
+            @Nullable Map<T, DeleteResult> results
+    ) {
+        final StorIOSQLite.LowLevel lowLevel = storIOSQLite.lowLevel();
+
+        final DeleteQuery firstDeleteQuery = mapToDeleteQuery(objects.get(0));
+        final String table = firstDeleteQuery.table();
+        final Set<String> tags = firstDeleteQuery.affectsTags();
+
+        // results are immutable, so all objects share two instances
+        final DeleteResult deleted = DeleteResult.newInstance(1, table, tags);
+        final DeleteResult notDeleted = DeleteResult.newInstance(0, table, tags);
+
+        final int objectsPerStatement = Math.max(1, MAX_VARIABLE_NUMBER / keyColumns.length);
+        int numberOfRowsDeleted = 0;
+
+        // keys of composite key can't be matched by one column
+        final Set<String> affectedKeys = keyColumns.length == 1 ? new HashSet<String>(objects.size()) : null;
+
+        lowLevel.beginTransaction();
+
+        try {
+            for (int from = 0; from < objects.size(); from += objectsPerStatement) {
+                final List<T> chunk = objects.subList(from, Math.min(objects.size(), from + objectsPerStatement));
+                final List<List<Object>> keys = new ArrayList<List<Object>>(results != null ? chunk.size() : 0);
+                final List<String> whereArgs = new ArrayList<String>(chunk.size() * keyColumns.length);
+                boolean keysAreComparable = true;
+
+                for (final T object : chunk) {
+                    final Object[] keyValues = mapToDeleteKey(object);
+
+                    if (keyValues.length != keyColumns.length) {
+                        throw new IllegalStateException("mapToDeleteKey() returned " + keyValues.length
+                                + " values, but deleteKeyColumns() has " + keyColumns.length + " columns: "
+                                + Arrays.toString(keyColumns));
+                    }
+
+                    // whereArgs are bound as strings, same as DeleteQuery does
+                    final List<String> key = unmodifiableNonNullListOfStrings(keyValues);
+                    whereArgs.addAll(key);
+
+                    if (affectedKeys != null) {
+                        affectedKeys.add(key.get(0));
+                    }
+
+                    if (results != null && keysAreComparable) {
+                        final List<Object> comparableKey = comparableKey(keyValues);
+
+                        if (comparableKey != null) {
+                            keys.add(comparableKey);
+                        } else {
+                            keysAreComparable = false;
+                        }
+                    }
+                }
+
+                if (!keysAreComparable) {
+                    // rows of such keys can't be matched reliably, so each object gets its own statement
+                    for (final T object : chunk) {
+                        final DeleteResult deleteResult = performDelete(storIOSQLite, object);
+                        numberOfRowsDeleted += deleteResult.numberOfRowsDeleted();
+                        results.put(object, deleteResult.numberOfRowsDeleted() > 0 ? deleted : notDeleted);
+                    }
+
+                    continue;
+                }
+
+                final String where = keysWhere(keyColumns, chunk.size());
+                final Set<List<Object>> existingKeys = results != null
+                        ? queryExistingKeys(lowLevel, table, keyColumns, where, whereArgs)
+                        : null;
+
+                if (existingKeys == null || !existingKeys.isEmpty()) {
+                    numberOfRowsDeleted += lowLevel.delete(DeleteQuery.builder()
+                            .table(table)
+                            .where(where)
+                            .whereArgs(whereArgs.toArray())
+                            .affectsTags(tags)
+                            .build());
+                }
+
+                if (existingKeys != null) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        results.put(chunk.get(i), existingKeys.contains(keys.get(i)) ? deleted : notDeleted);
+                    }
+                }
+            }
+
+            lowLevel.setTransactionSuccessful();
+        } finally {
+            lowLevel.endTransaction();
+        }
+
+        return affectedKeys != null
+                ? DeleteResult.newInstance(numberOfRowsDeleted, table, tags, keyColumns[0], affectedKeys)
+                : DeleteResult.newInstance(numberOfRowsDeleted, table, tags);
+    }
+
+    /**
+     * Converts key values to values of types returned by {@link #queryExistingKeys},
+     * {@code null} if key can't be compared with values of key columns.
+     */
+    @Nullable
+    private static List<Object> comparableKey(@NonNull Object[] keyValues) {
+        final Object[] key = new Object[keyValues.length];
+
+        for (int i = 0; i < keyValues.length; i++) {
+            final Object value = keyValues[i];
+
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                key[i] = ((Number) value).longValue();
+            } else if (value instanceof Boolean) {
+                // booleans are stored as 0 and 1
+                key[i] = (Boolean) value ? 1L : 0L;
+            } else if (value instanceof String) {
+                key[i] = value;
+            } else {
+                // REAL values are bound as strings, their text representations differ from SQLite ones
+                return null;
+            }
+        }
+
+        return Arrays.asList(key);
+    }
+
+    @NonNull
+    private static Set<List<Object>> queryExistingKeys(
+            @NonNull StorIOSQLite.LowLevel lowLevel,
+            @NonNull String table,
+            @NonNull String[] keyColumns,
+            @NonNull String where,
+            @NonNull List<String> whereArgs
+    ) {
+        final Cursor cursor = lowLevel.query(Query.builder()
+                .table(table)
+                .columns(keyColumns)
+                .where(where)
+                .whereArgs(whereArgs.toArray())
+                .build());
+
+        try {
+            final Set<List<Object>> existingKeys = new HashSet<List<Object>>(cursor.getCount());
+
+            while (cursor.moveToNext()) {
+                final Object[] key = new Object[keyColumns.length];
+
+                for (int i = 0; i < key.length; i++) {
+                    // values are compared in their native types, not as text
+                    switch (cursor.getType(i)) {
+                        case Cursor.FIELD_TYPE_INTEGER:
+                            key[i] = cursor.getLong(i);
+                            break;
+                        case Cursor.FIELD_TYPE_FLOAT:
+                            // integral key bound to column with REAL affinity
+                            final double value = cursor.getDouble(i);
+                            key[i] = value == (long) value ? (Object) (long) value : value;
+                            break;
+                        default:
+                            key[i] = cursor.getString(i);
+                            break;
+                    }
+                }
+
+                existingKeys.add(Arrays.asList(key));
+            }
+
+            return existingKeys;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * Builds {@code key IN (?, ?)} for single key column and
+     * {@code (key1 = ? AND key2 = ?) OR (key1 = ? AND key2 = ?)} for composite keys,
+     * row values are not used because they require SQLite 3.15.
+     */
+    @NonNull
+    static String keysWhere(@NonNull String[] keyColumns, int numberOfKeys) {
+        final StringBuilder where = new StringBuilder(numberOfKeys * keyColumns.length * 8);
+
+        if (keyColumns.length == 1) {
+            where.append(keyColumns[0]).append(" IN (");
+
+            for (int i = 0; i < numberOfKeys; i++) {
+                where.append(i > 0 ? ", ?" : "?");
+            }
+
+            return where.append(')').toString();
+        }
+
+        for (int i = 0; i < numberOfKeys; i++) {
+            where.append(i > 0 ? " OR (" : "(");
+
+            for (int j = 0; j < keyColumns.length; j++) {
+                where.append(j > 0 ? " AND " : "").append(keyColumns[j]).append(" = ?");
+            }
+
+            where.append(')');
+        }
+
+        return where.toString();
     }
 }
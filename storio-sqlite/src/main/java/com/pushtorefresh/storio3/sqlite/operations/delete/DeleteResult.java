@@ -3,7 +3,10 @@ package com.pushtorefresh.storio3.sqlite.operations.delete;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import com.pushtorefresh.storio3.sqlite.Changes;
+
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Set;
 
 import static com.pushtorefresh.storio3.internal.Checks.checkNotEmpty;
@@ -27,10 +30,29 @@ public final class DeleteResult {
     @NonNull
     private final Set<String> affectedTags;
 
+    /**
+     * Column that identifies affected rows, {@code null} if affected rows are unknown.
+     */
+    @Nullable
+    private final String keyColumn;
+
+    @NonNull
+    private final Set<String> affectedKeys;
+
     private DeleteResult(
             int numberOfRowsDeleted,
             @NonNull Set<String> affectedTables,
             @NonNull Set<String> affectedTags
+    ) {
+        this(numberOfRowsDeleted, affectedTables, affectedTags, null, Collections.<String>emptySet());
+    }
+
+    private DeleteResult(
+            int numberOfRowsDeleted,
+            @NonNull Set<String> affectedTables,
+            @NonNull Set<String> affectedTags,
+            @Nullable String keyColumn,
+            @NonNull Set<String> affectedKeys
     ) {
         checkNotNull(affectedTables, "Please specify affected tables");
 
@@ -45,6 +67,8 @@ public final class DeleteResult {
         this.numberOfRowsDeleted = numberOfRowsDeleted;
         this.affectedTables = unmodifiableSet(affectedTables);
         this.affectedTags = unmodifiableSet(affectedTags);
+        this.keyColumn = keyColumn;
+        this.affectedKeys = unmodifiableSet(affectedKeys);
     }
 
     /**
@@ -145,6 +169,61 @@ public final class DeleteResult {
         return affectedTags;
     }
 
+    /**
+     * Creates new result with known keys of deleted rows.
+     */
+    @NonNull
+    static DeleteResult newInstance(
+            int numberOfRowsDeleted,
+            @NonNull String affectedTable,
+            @Nullable Collection<String> affectedTags,
+            @NonNull String keyColumn,
+            @NonNull Set<String> affectedKeys
+    ) {
+        return new DeleteResult(numberOfRowsDeleted, singleton(affectedTable), nonNullSet(affectedTags), keyColumn, affectedKeys);
+    }
+
+    /**
+     * Gets column that identifies affected rows.
+     *
+     * @return name of the column or {@code null} if affected rows are unknown.
+     */
+    @Nullable
+    public String keyColumn() {
+        return keyColumn;
+    }
+
+    /**
+     * Gets values of {@link #keyColumn()} of affected rows.
+     *
+     * @return non-null unmodifiable set of keys, empty if affected rows are unknown.
+     */
+    @NonNull
+    public Set<String> affectedKeys() {
+        return affectedKeys;
+    }
+
+    /**
+     * Keys identify rows of one table, so keys of result that affects several tables are not used.
+     *
+     * @return the only affected table if keys of affected rows are known, {@code null} otherwise.
+     */
+    @Nullable
+    String keyedTable() {
+        return keyColumn != null && affectedTables.size() == 1 ? affectedTables.iterator().next() : null;
+    }
+
+    /**
+     * @return {@link Changes} with keys of affected rows if they are known.
+     */
+    @NonNull
+    Changes toChanges() {
+        final String keyedTable = keyedTable();
+        return keyedTable != null
+                ? Changes.newInstance(keyedTable, keyColumn, affectedKeys, affectedTags)
+                : Changes.newInstance(affectedTables, affectedTags);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -154,7 +233,10 @@ public final class DeleteResult {
 
         if (numberOfRowsDeleted != that.numberOfRowsDeleted) return false;
         if (!affectedTables.equals(that.affectedTables)) return false;
-        return affectedTags.equals(that.affectedTags);
+        if (!affectedTags.equals(that.affectedTags)) return false;
+        if (keyColumn != null ? !keyColumn.equals(that.keyColumn) : that.keyColumn != null)
+            return false;
+        return affectedKeys.equals(that.affectedKeys);
 
     }
 
@@ -163,6 +245,8 @@ public final class DeleteResult {
         int result = numberOfRowsDeleted;
         result = 31 * result + affectedTables.hashCode();
         result = 31 * result + affectedTags.hashCode();
+        result = 31 * result + (keyColumn != null ? keyColumn.hashCode() : 0);
+        result = 31 * result + affectedKeys.hashCode();
         return result;
     }
 
@@ -172,6 +256,7 @@ public final class DeleteResult {
                 "numberOfRowsDeleted=" + numberOfRowsDeleted +
                 ", affectedTables=" + affectedTables +
                 ", affectedTags=" + affectedTags +
+                (keyColumn != null ? ", keyColumn=" + keyColumn + ", affectedKeys=" + affectedKeys : "") +
                 '}';
     }
 }
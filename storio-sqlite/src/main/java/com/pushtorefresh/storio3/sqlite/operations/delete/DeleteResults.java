@@ -1,9 +1,12 @@
 package com.pushtorefresh.storio3.sqlite.operations.delete;
 
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import static com.pushtorefresh.storio3.internal.Checks.checkNotNull;
 
@@ -16,12 +19,47 @@ import static com.pushtorefresh.storio3.internal.Checks.checkNotNull;
  */
 public final class DeleteResults<T> {
 
-    @NonNull
+    /**
+     * {@code null} if only aggregated results were collected
+     */
+    @Nullable
     private final Map<T, DeleteResult> results;
 
+    /**
+     * Aggregated results, used only if {@link #results} are {@code null}
+     */
+    private final int aggregatedNumberOfRowsDeleted;
+
+    @Nullable
+    private final Set<String> aggregatedAffectedTables;
+
+    @Nullable
+    private final Set<String> aggregatedAffectedTags;
+
+    @Nullable
+    private transient volatile Integer numberOfRowsDeletedCache;
+
+    @Nullable
+    private transient volatile Set<String> affectedTablesCache;
+
+    @Nullable
+    private transient volatile Set<String> affectedTagsCache;
+
     private DeleteResults(@NonNull Map<T, DeleteResult> results) {
         checkNotNull(results, "Please specify Delete Operation results");
         this.results = Collections.unmodifiableMap(results);
+        this.aggregatedNumberOfRowsDeleted = 0;
+        this.aggregatedAffectedTables = null;
+        this.aggregatedAffectedTags = null;
+    }
+
+    private DeleteResults(int numberOfRowsDeleted, @NonNull Set<String> affectedTables, @NonNull Set<String> affectedTags) {
+        checkNotNull(affectedTables, "Please specify affected tables");
+        checkNotNull(affectedTags, "Please specify affected tags");
+        this.results = null;
+        this.aggregatedNumberOfRowsDeleted = numberOfRowsDeleted;
+        this.aggregatedAffectedTables = Collections.unmodifiableSet(affectedTables);
+        this.aggregatedAffectedTags = Collections.unmodifiableSet(affectedTags);
     }
 
     /**
@@ -36,24 +74,56 @@ public final class DeleteResults<T> {
         return new DeleteResults<T>(results);
     }
 
+    /**
+     * Creates new instance of immutable container that has only aggregated results of Delete Operation,
+     * {@link #results()} and {@link #wasDeleted(Object)} are not available for it
+     *
+     * @param numberOfRowsDeleted number of deleted rows
+     * @param affectedTables      tables that were affected
+     * @param affectedTags        tags that were affected
+     * @param <T>                 type of objects
+     * @return new instance of {@link DeleteResults}
+     */
+    @NonNull
+    public static <T> DeleteResults<T> newInstance(int numberOfRowsDeleted,
+                                                   @NonNull Set<String> affectedTables,
+                                                   @NonNull Set<String> affectedTags) {
+        return new DeleteResults<T>(numberOfRowsDeleted, affectedTables, affectedTags);
+    }
+
     /**
      * Returns immutable Map of pairs (object, deleteResult)
      *
      * @return immutable Map of pairs (object, deleteResult)
+     * @throws IllegalStateException if only aggregated results were collected
      */
     @NonNull
     public Map<T, DeleteResult> results() {
+        if (results == null) {
+            throw new IllegalStateException("Results of objects were not collected, " +
+                    "only aggregated results are available");
+        }
         return results;
     }
 
+    /**
+     * Checks whether results of each object are available via {@link #results()}
+     *
+     * @return true if results of objects were collected, false if only aggregated results are available
+     */
+    public boolean hasResultsOfObjects() {
+        return results != null;
+    }
+
     /**
      * Checks whether particular object was deleted
      *
      * @param object object to check
      * @return true if object was deleted, false otherwise
+     * @throws IllegalStateException if only aggregated results were collected
      */
     public boolean wasDeleted(@NonNull T object) {
-        final DeleteResult result = results.get(object);
+        final DeleteResult result = results().get(object);
         return result != null && result.numberOfRowsDeleted() > 0;
     }
 
@@ -62,11 +132,103 @@ public final class DeleteResults<T> {
      *
      * @param object object to check
      * @return true if object was NOT deleter, false if it was deleted
+     * @throws IllegalStateException if only aggregated results were collected
      */
     public boolean wasNotDeleted(@NonNull T object) {
         return !wasDeleted(object);
     }
 
+    /**
+     * Returns number of deleted rows
+     *
+     * @return number of deleted rows
+     */
+    public int numberOfRowsDeleted() {
+        if (results == null) {
+            return aggregatedNumberOfRowsDeleted;
+        }
+
+        final Integer cachedValue = numberOfRowsDeletedCache;
+
+        if (cachedValue != null) {
+            return cachedValue;
+        }
+
+        int numberOfRowsDeleted = 0;
+
+        for (final DeleteResult deleteResult : results.values()) {
+            numberOfRowsDeleted += deleteResult.numberOfRowsDeleted();
+        }
+
+        numberOfRowsDeletedCache = numberOfRowsDeleted;
+
+        return numberOfRowsDeleted;
+    }
+
+    /**
+     * Returns tables that were affected by Delete Operation
+     *
+     * @return non-null, immutable set of affected tables
+     */
+    @NonNull
+    public Set<String> affectedTables() {
+        if (results == null) {
+            //noinspection ConstantConditions
+            return aggregatedAffectedTables;
+        }
+
+        final Set<String> cachedValue = affectedTablesCache;
+
+        if (cachedValue != null) {
+            return cachedValue;
+        }
+
+        final Set<String> affectedTables = new HashSet<String>(1); // in most cases it will be one table
+
+        for (final DeleteResult deleteResult : results.values()) {
+            if (deleteResult.numberOfRowsDeleted() > 0) {
+                affectedTables.addAll(deleteResult.affectedTables());
+            }
+        }
+
+        final Set<String> result = Collections.unmodifiableSet(affectedTables);
+        affectedTablesCache = result;
+
+        return result;
+    }
+
+    /**
+     * Returns tags that were affected by Delete Operation
+     *
+     * @return non-null, immutable set of affected tags
+     */
+    @NonNull
+    public Set<String> affectedTags() {
+        if (results == null) {
+            //noinspection ConstantConditions
+            return aggregatedAffectedTags;
+        }
+
+        final Set<String> cachedValue = affectedTagsCache;
+
+        if (cachedValue != null) {
+            return cachedValue;
+        }
+
+        final Set<String> affectedTags = new HashSet<String>(1);
+
+        for (final DeleteResult deleteResult : results.values()) {
+            if (deleteResult.numberOfRowsDeleted() > 0) {
+                affectedTags.addAll(deleteResult.affectedTags());
+            }
+        }
+
+        final Set<String> result = Collections.unmodifiableSet(affectedTags);
+        affectedTagsCache = result;
+
+        return result;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -74,18 +236,30 @@ public final class DeleteResults<T> {
 
         DeleteResults<?> that = (DeleteResults<?>) o;
 
-        return results.equals(that.results);
+        if (aggregatedNumberOfRowsDeleted != that.aggregatedNumberOfRowsDeleted) return false;
+        if (results != null ? !results.equals(that.results) : that.results != null)
+            return false;
+        if (aggregatedAffectedTables != null ? !aggregatedAffectedTables.equals(that.aggregatedAffectedTables) : that.aggregatedAffectedTables != null)
+            return false;
+        return aggregatedAffectedTags != null ? aggregatedAffectedTags.equals(that.aggregatedAffectedTags) : that.aggregatedAffectedTags == null;
     }
 
     @Override
     public int hashCode() {
-        return results.hashCode();
+        int result = results != null ? results.hashCode() : 0;
+        result = 31 * result + aggregatedNumberOfRowsDeleted;
+        result = 31 * result + (aggregatedAffectedTables != null ? aggregatedAffectedTables.hashCode() : 0);
+        result = 31 * result + (aggregatedAffectedTags != null ? aggregatedAffectedTags.hashCode() : 0);
+        return result;
     }
 
     @Override
     public String toString() {
         return "DeleteResults{" +
                 "results=" + results +
+                ", aggregatedNumberOfRowsDeleted=" + aggregatedNumberOfRowsDeleted +
+                ", aggregatedAffectedTables=" + aggregatedAffectedTables +
+                ", aggregatedAffectedTags=" + aggregatedAffectedTags +
                 '}';
     }
 }
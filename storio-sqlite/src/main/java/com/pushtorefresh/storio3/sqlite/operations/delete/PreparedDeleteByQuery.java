@@ -6,7 +6,6 @@ import android.support.annotation.Nullable;
 
 import com.pushtorefresh.storio3.StorIOException;
 import com.pushtorefresh.storio3.operations.PreparedOperation;
-import com.pushtorefresh.storio3.sqlite.Changes;
 import com.pushtorefresh.storio3.Interceptor;
 import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio3.sqlite.operations.internal.RxJavaUtils;
@@ -42,7 +41,7 @@ public class PreparedDeleteByQuery extends PreparedDelete<DeleteResult, DeleteQu
      * <p>
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxWriteScheduler()} if not {@code null}.</dd>
      * </dl>
      *
      * @return non-null {@link Flowable} which will perform Delete Operation.
@@ -58,7 +57,7 @@ public class PreparedDeleteByQuery extends PreparedDelete<DeleteResult, DeleteQu
      * Creates {@link Single} which will perform Delete Operation lazily when somebody subscribes to it and send result to observer.
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxWriteScheduler()} if not {@code null}.</dd>
      * </dl>
      *
      * @return non-null {@link Single} which will perform Delete Operation.
@@ -75,7 +74,7 @@ public class PreparedDeleteByQuery extends PreparedDelete<DeleteResult, DeleteQu
      * Creates {@link Completable} which will perform Delete Operation lazily when somebody subscribes to it.
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxWriteScheduler()} if not {@code null}.</dd>
      * </dl>
      *
      * @return non-null {@link Completable} which will perform Delete Operation.
@@ -106,11 +105,7 @@ public class PreparedDeleteByQuery extends PreparedDelete<DeleteResult, DeleteQu
             try {
                 final DeleteResult deleteResult = deleteResolver.performDelete(storIOSQLite, deleteQuery);
                 if (deleteResult.numberOfRowsDeleted() > 0) {
-                    final Changes changes = Changes.newInstance(
-                            deleteResult.affectedTables(),
-                            deleteResult.affectedTags()
-                    );
-                    storIOSQLite.lowLevel().notifyAboutChanges(changes);
+                    storIOSQLite.lowLevel().notifyAboutChanges(deleteResult.toChanges());
                 }
                 //noinspection unchecked
                 return (Result) deleteResult;
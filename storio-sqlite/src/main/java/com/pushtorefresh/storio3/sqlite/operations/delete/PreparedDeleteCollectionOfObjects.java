@@ -10,11 +10,13 @@ import com.pushtorefresh.storio3.sqlite.Changes;
 import com.pushtorefresh.storio3.Interceptor;
 import com.pushtorefresh.storio3.sqlite.SQLiteTypeMapping;
 import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio3.sqlite.impl.ChangesCollector;
+import com.pushtorefresh.storio3.sqlite.operations.BatchProgressListener;
 import com.pushtorefresh.storio3.sqlite.operations.internal.RxJavaUtils;
 
-import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -41,14 +43,34 @@ public class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<DeleteR
 
     private final boolean useTransaction;
 
+    private final int batchSize;
+
+    @Nullable
+    private final BatchProgressListener progressListener;
+
+    private final boolean resultsOfObjects;
+
     PreparedDeleteCollectionOfObjects(@NonNull StorIOSQLite storIOSQLite,
                                       @NonNull Collection<T> objects,
                                       @Nullable DeleteResolver<T> explicitDeleteResolver,
                                       boolean useTransaction) {
+        this(storIOSQLite, objects, explicitDeleteResolver, useTransaction, 0, null, true);
+    }
+
+    PreparedDeleteCollectionOfObjects(@NonNull StorIOSQLite storIOSQLite,
+                                      @NonNull Collection<T> objects,
+                                      @Nullable DeleteResolver<T> explicitDeleteResolver,
+                                      boolean useTransaction,
+                                      int batchSize,
+                                      @Nullable BatchProgressListener progressListener,
+                                      boolean resultsOfObjects) {
         super(storIOSQLite);
         this.objects = objects;
         this.explicitDeleteResolver = explicitDeleteResolver;
         this.useTransaction = useTransaction;
+        this.batchSize = batchSize;
+        this.progressListener = progressListener;
+        this.resultsOfObjects = resultsOfObjects;
     }
 
     /**
@@ -59,7 +81,7 @@ public class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<DeleteR
      * <p>
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxWriteScheduler()} if not {@code null}.</dd>
      * </dl>
      *
      * @return non-null {@link io.reactivex.Flowable} which will perform Delete Operation.
@@ -76,7 +98,7 @@ public class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<DeleteR
      * Creates {@link Single} which will perform Delete Operation lazily when somebody subscribes to it and send result to observer.
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxWriteScheduler()} if not {@code null}.</dd>
      * </dl>
      *
      * @return non-null {@link Single} which will perform Delete Operation.
@@ -93,7 +115,7 @@ public class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<DeleteR
      * Creates {@link Completable} which will perform Delete Operation lazily when somebody subscribes to it.
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxWriteScheduler()} if not {@code null}.</dd>
      * </dl>
      *
      * @return non-null {@link Completable} which will perform Delete Operation.
@@ -118,16 +140,18 @@ public class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<DeleteR
             try {
                 final StorIOSQLite.LowLevel lowLevel = storIOSQLite.lowLevel();
 
-                // Nullable
-                final List<SimpleImmutableEntry<T, DeleteResolver<T>>> objectsAndDeleteResolvers;
+                final List<T> objectsList = objects instanceof List
+                        ? (List<T>) objects
+                        : new ArrayList<T>(objects);
+
+                final List<DeleteResolver<T>> deleteResolvers;
 
                 if (explicitDeleteResolver != null) {
-                    objectsAndDeleteResolvers = null;
+                    deleteResolvers = Collections.nCopies(objectsList.size(), explicitDeleteResolver);
                 } else {
-                    objectsAndDeleteResolvers
-                            = new ArrayList<SimpleImmutableEntry<T, DeleteResolver<T>>>(objects.size());
+                    deleteResolvers = new ArrayList<DeleteResolver<T>>(objectsList.size());
 
-                    for (final T object : objects) {
+                    for (final T object : objectsList) {
                         //noinspection unchecked
                         final SQLiteTypeMapping<T> typeMapping
                                 = (SQLiteTypeMapping<T>) lowLevel.typeMapping(object.getClass());
@@ -138,92 +162,197 @@ public class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<DeleteR
                                     "db was not affected by this operation, please add type mapping for this type");
                         }
 
-                        objectsAndDeleteResolvers.add(new SimpleImmutableEntry<T, DeleteResolver<T>>(
-                                object,
-                                typeMapping.deleteResolver()
-                        ));
+                        deleteResolvers.add(typeMapping.deleteResolver());
                     }
                 }
 
+                final Map<T, DeleteResult> results = resultsOfObjects
+                        ? new HashMap<T, DeleteResult>(objectsList.size())
+                        : null;
+                final Summary summary = new Summary(false);
+
                 if (useTransaction) {
-                    lowLevel.beginTransaction();
-                }
+                    final int numberOfObjects = objectsList.size();
+                    final int chunkSize = batchSize > 0 ? batchSize : numberOfObjects;
+                    int numberOfCommittedObjects = 0;
 
-                final Map<T, DeleteResult> results = new HashMap<T, DeleteResult>(objects.size());
-                boolean transactionSuccessful = false;
+                    do {
+                        final int chunkEnd = Math.min(numberOfObjects, numberOfCommittedObjects + chunkSize);
 
-                try {
-                    if (explicitDeleteResolver != null) {
-                        for (final T object : objects) {
-                            final DeleteResult deleteResult = explicitDeleteResolver.performDelete(storIOSQLite, object);
+                        deleteInTransaction(
+                                lowLevel,
+                                objectsList.subList(numberOfCommittedObjects, chunkEnd),
+                                deleteResolvers.subList(numberOfCommittedObjects, chunkEnd),
+                                results,
+                                summary
+                        );
 
-                            results.put(object, deleteResult);
+                        numberOfCommittedObjects = chunkEnd;
 
-                            if (!useTransaction && deleteResult.numberOfRowsDeleted() > 0) {
-                                final Changes changes = Changes.newInstance(
-                                        deleteResult.affectedTables(),
-                                        deleteResult.affectedTags()
-                                );
-                                lowLevel.notifyAboutChanges(changes);
-                            }
-                        }
-                    } else {
-                        for (final SimpleImmutableEntry<T, DeleteResolver<T>> objectAndDeleteResolver : objectsAndDeleteResolvers) {
-                            final T object = objectAndDeleteResolver.getKey();
-                            final DeleteResolver<T> deleteResolver = objectAndDeleteResolver.getValue();
-
-                            final DeleteResult deleteResult = deleteResolver.performDelete(storIOSQLite, object);
-
-                            results.put(object, deleteResult);
-
-                            if (!useTransaction && deleteResult.numberOfRowsDeleted() > 0) {
-                                final Changes changes = Changes.newInstance(
-                                        deleteResult.affectedTables(),
-                                        deleteResult.affectedTags()
-                                );
-                                lowLevel.notifyAboutChanges(changes);
-                            }
+                        if (progressListener != null) {
+                            progressListener.onBatchCommitted(numberOfCommittedObjects, numberOfObjects);
                         }
-                    }
+                    } while (numberOfCommittedObjects < numberOfObjects);
+                } else {
+                    int from = 0;
 
-                    if (useTransaction) {
-                        lowLevel.setTransactionSuccessful();
-                        transactionSuccessful = true;
-                    }
-                } finally {
-                    if (useTransaction) {
-                        lowLevel.endTransaction();
-
-                        // if delete was in transaction and it was successful -> notify about changes
-                        if (transactionSuccessful) {
-                            final Set<String> affectedTables = new HashSet<String>(1); // in most cases it will be one table
-                            final Set<String> affectedTags = new HashSet<String>(1);
-
-                            for (final T object : results.keySet()) {
-                                final DeleteResult deleteResult = results.get(object);
-                                if (deleteResult.numberOfRowsDeleted() > 0) {
-                                    affectedTables.addAll(results.get(object).affectedTables());
-                                    affectedTags.addAll(results.get(object).affectedTags());
-                                }
-                            }
-
-                            // IMPORTANT: Notifying about change should be done after end of transaction
-                            // It'll reduce number of possible deadlock situations
-                            if (!affectedTables.isEmpty() || !affectedTags.isEmpty()) {
-                                final Changes changes = Changes.newInstance(affectedTables, affectedTags);
-                                lowLevel.notifyAboutChanges(changes);
-                            }
+                    while (from < objectsList.size()) {
+                        // set-based delete of several objects is executed in its own transaction
+                        final Summary deleteSummary = new Summary(true);
+                        from = performDelete(objectsList, deleteResolvers, from, results, deleteSummary);
+
+                        if (deleteSummary.numberOfRowsDeleted > 0) {
+                            summary.add(deleteSummary);
+                            //noinspection ConstantConditions
+                            lowLevel.notifyAboutChanges(deleteSummary.changes.merge());
                         }
                     }
                 }
 
-                //noinspection unchecked
-                return (Result) DeleteResults.newInstance(results);
+                if (results != null) {
+                    //noinspection unchecked
+                    return (Result) DeleteResults.newInstance(results);
+                } else {
+                    //noinspection unchecked
+                    return (Result) DeleteResults.<T>newInstance(
+                            summary.numberOfRowsDeleted,
+                            summary.affectedTables,
+                            summary.affectedTags
+                    );
+                }
 
             } catch (Exception exception) {
                 throw new StorIOException("Error has occurred during Delete operation. objects = " + objects, exception);
             }
         }
+
+        private void deleteInTransaction(
+                @NonNull StorIOSQLite.LowLevel lowLevel,
+                @NonNull List<T> objects,
+                @NonNull List<DeleteResolver<T>> deleteResolvers,
+                @Nullable Map<T, DeleteResult> results,
+                @NonNull Summary summary) {
+
+            // changes of objects are sent merged after end of transaction
+            final Summary transactionSummary = new Summary(true);
+            boolean transactionSuccessful = false;
+
+            lowLevel.beginTransaction();
+
+            try {
+                int from = 0;
+
+                while (from < objects.size()) {
+                    from = performDelete(objects, deleteResolvers, from, results, transactionSummary);
+                }
+
+                lowLevel.setTransactionSuccessful();
+                transactionSuccessful = true;
+            } finally {
+                lowLevel.endTransaction();
+
+                // IMPORTANT: Notifying about change should be done after end of transaction
+                // It'll reduce number of possible deadlock situations
+                if (transactionSuccessful && transactionSummary.numberOfRowsDeleted > 0) {
+                    summary.add(transactionSummary);
+                    //noinspection ConstantConditions
+                    lowLevel.notifyAboutChanges(transactionSummary.changes.merge());
+                }
+            }
+        }
+
+        /**
+         * Deletes object at {@code from} or, if its resolver supports set-based delete,
+         * all following objects that share the resolver.
+         *
+         * @return index of the first object that was not deleted yet.
+         */
+        private int performDelete(
+                @NonNull List<T> objects,
+                @NonNull List<DeleteResolver<T>> deleteResolvers,
+                int from,
+                @Nullable Map<T, DeleteResult> results,
+                @NonNull Summary summary) {
+
+            final DeleteResolver<T> deleteResolver = deleteResolvers.get(from);
+
+            if (deleteResolver instanceof DefaultDeleteResolver) {
+                final DefaultDeleteResolver<T> defaultDeleteResolver = (DefaultDeleteResolver<T>) deleteResolver;
+                final String[] keyColumns = defaultDeleteResolver.deleteKeyColumns();
+
+                if (keyColumns != null) {
+                    int to = from + 1;
+
+                    while (to < objects.size() && deleteResolvers.get(to) == deleteResolver) {
+                        to++;
+                    }
+
+                    summary.add(defaultDeleteResolver.performDeleteByKeys(
+                            storIOSQLite,
+                            keyColumns,
+                            objects.subList(from, to),
+                            results
+                    ));
+                    return to;
+                }
+            }
+
+            final T object = objects.get(from);
+            final DeleteResult deleteResult = deleteResolver.performDelete(storIOSQLite, object);
+
+            if (results != null) {
+                results.put(object, deleteResult);
+            }
+
+            summary.add(deleteResult);
+            return from + 1;
+        }
+    }
+
+    /**
+     * Aggregated results of deletes.
+     */
+    private static final class Summary {
+
+        int numberOfRowsDeleted;
+
+        @NonNull
+        final Set<String> affectedTables = new HashSet<String>(1); // in most cases it will be one table
+
+        @NonNull
+        final Set<String> affectedTags = new HashSet<String>(1);
+
+        /**
+         * Changes of results added to this summary, not copied by {@link #add(Summary)},
+         * {@code null} if changes are not collected.
+         */
+        @Nullable
+        final ChangesCollector changes;
+
+        Summary(boolean collectChanges) {
+            changes = collectChanges ? new ChangesCollector() : null;
+        }
+
+        void add(@NonNull DeleteResult deleteResult) {
+            if (deleteResult.numberOfRowsDeleted() > 0) {
+                numberOfRowsDeleted += deleteResult.numberOfRowsDeleted();
+                affectedTables.addAll(deleteResult.affectedTables());
+                affectedTags.addAll(deleteResult.affectedTags());
+
+                final String keyedTable = deleteResult.keyedTable();
+
+                if (changes != null && (keyedTable == null
+                        || changes.reserveKeys(keyedTable, deleteResult.affectedKeys().size(), deleteResult.affectedTags()))) {
+                    changes.add(deleteResult.toChanges());
+                }
+            }
+        }
+
+        void add(@NonNull Summary summary) {
+            numberOfRowsDeleted += summary.numberOfRowsDeleted;
+            affectedTables.addAll(summary.affectedTables);
+            affectedTags.addAll(summary.affectedTags);
+        }
     }
 
     @NonNull
@@ -249,6 +378,13 @@ public class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<DeleteR
 
         private boolean useTransaction = true;
 
+        private int batchSize;
+
+        @Nullable
+        private BatchProgressListener progressListener;
+
+        private boolean resultsOfObjects = true;
+
         Builder(@NonNull StorIOSQLite storIOSQLite, @NonNull Collection<T> objects) {
             this.storIOSQLite = storIOSQLite;
             this.objects = objects;
@@ -285,6 +421,60 @@ public class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<DeleteR
             return this;
         }
 
+        /**
+         * Optional: Defines that objects will be deleted in separate transactions
+         * of {@code batchSize} objects each instead of one transaction for whole collection.
+         * <p>
+         * Other writers can access database between batches, and one merged {@link Changes}
+         * is sent after each batch. If some batch fails, previous batches stay committed.
+         * Applies only if transaction is used, see {@link #useTransaction(boolean)}.
+         * <p>
+         * By default, whole collection is deleted in one transaction.
+         *
+         * @param batchSize number of objects per transaction, {@code 0} for whole collection.
+         * @return builder.
+         */
+        @NonNull
+        public Builder<T> batchSize(int batchSize) {
+            if (batchSize < 0) {
+                throw new IllegalArgumentException("batchSize must be >= 0, but was: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Optional: Specifies listener that will be notified after each committed transaction,
+         * see {@link #batchSize(int)}.
+         *
+         * @param progressListener listener or {@code null}.
+         * @return builder.
+         */
+        @NonNull
+        public Builder<T> withProgressListener(@Nullable BatchProgressListener progressListener) {
+            this.progressListener = progressListener;
+            return this;
+        }
+
+        /**
+         * Optional: Defines that {@link DeleteResults} should contain result of each object.
+         * <p>
+         * If {@code false}, only aggregated results are collected: number of deleted rows,
+         * affected tables and tags. Objects are not hashed and not retained by {@link DeleteResults},
+         * and set-based deletes do not query keys of objects before delete,
+         * see {@link DeleteResults#hasResultsOfObjects()}.
+         * <p>
+         * By default, result of each object is collected.
+         *
+         * @param resultsOfObjects {@code true} to collect result of each object, {@code false} to collect only aggregated results.
+         * @return builder.
+         */
+        @NonNull
+        public Builder<T> resultsOfObjects(boolean resultsOfObjects) {
+            this.resultsOfObjects = resultsOfObjects;
+            return this;
+        }
+
         /**
          * Prepares Delete Operation.
          *
@@ -296,7 +486,10 @@ public class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<DeleteR
                     storIOSQLite,
                     objects,
                     deleteResolver,
-                    useTransaction
+                    useTransaction,
+                    batchSize,
+                    progressListener,
+                    resultsOfObjects
             );
         }
     }
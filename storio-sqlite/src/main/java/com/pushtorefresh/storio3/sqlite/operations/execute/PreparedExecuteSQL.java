@@ -67,7 +67,7 @@ public class PreparedExecuteSQL implements PreparedCompletableOperation<Object,
      * <p>
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxWriteScheduler()} if not {@code null}.</dd>
      * </dl>
      *
      * @return non-null {@link Flowable} which will perform Delete Operation
@@ -87,7 +87,7 @@ public class PreparedExecuteSQL implements PreparedCompletableOperation<Object,
      * Creates {@link Single} which will perform Execute SQL Operation lazily when somebody subscribes to it and send result to observer.
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxWriteScheduler()} if not {@code null}.</dd>
      * </dl>
      *
      * @return non-null {@link Single} which will perform Execute SQL Operation.
@@ -104,7 +104,7 @@ public class PreparedExecuteSQL implements PreparedCompletableOperation<Object,
      * Creates {@link Completable} which will perform Execute SQL Operation lazily when somebody subscribes to it.
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxWriteScheduler()} if not {@code null}.</dd>
      * </dl>
      *
      * @return non-null {@link Completable} which will perform Execute SQL Operation.
@@ -0,0 +1,140 @@
+package com.pushtorefresh.storio3.sqlite.operations.get;
+
+import android.database.Cursor;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.Closeable;
+import java.util.AbstractList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Read-only {@link java.util.List} of objects backed by the open {@link Cursor},
+ * see {@link PreparedGetListOfObjects#executeAsCursorList()}.
+ * <p>
+ * Objects are mapped from the {@link Cursor} on demand and the most recently used of them
+ * are kept in a bounded cache, so memory used by the list does not depend on number of rows.
+ * <p>
+ * Please don't forget to {@link #close()} the list, it closes the {@link Cursor}.
+ * Methods of closed list throw {@link IllegalStateException}.
+ * <p>
+ * Instances of this class are thread-safe.
+ *
+ * @param <T> type of objects.
+ */
+public final class CursorList<T> extends AbstractList<T> implements RandomAccess, Closeable {
+
+    @NonNull
+    private final PreparedGetListOfObjects<T> operation;
+
+    @NonNull
+    private final GetResolver<T> getResolver;
+
+    @NonNull
+    private final Cursor cursor;
+
+    @Nullable
+    private final int[] columnIndices;
+
+    private final int size;
+
+    /**
+     * Least recently used mapped objects by their positions.
+     */
+    @NonNull
+    private final Map<Integer, T> cache;
+
+    private boolean closed;
+
+    CursorList(
+            @NonNull PreparedGetListOfObjects<T> operation,
+            @NonNull GetResolver<T> getResolver,
+            @NonNull Cursor cursor,
+            final int cacheSize
+    ) {
+        this.operation = operation;
+        this.getResolver = getResolver;
+        this.cursor = cursor;
+        this.columnIndices = getResolver.columnIndices(cursor);
+        this.size = cursor.getCount();
+        this.cache = new LinkedHashMap<Integer, T>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(@NonNull Map.Entry<Integer, T> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Returns object at the position, maps it from the {@link Cursor} if it is not cached.
+     *
+     * @param position position of the object.
+     * @return non-null object.
+     */
+    @NonNull
+    @Override
+    public synchronized T get(int position) {
+        checkNotClosed();
+
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("position = " + position + ", size = " + size);
+        }
+
+        T object = cache.get(position);
+
+        if (object == null) {
+            try {
+                if (!cursor.moveToPosition(position)) {
+                    throw new IllegalStateException("Can not move cursor to position = " + position);
+                }
+
+                object = GetResolver.mapFromCursor(getResolver, operation.storIOSQLite, cursor, columnIndices);
+            } catch (Exception exception) {
+                throw operation.newStorIOException(exception);
+            }
+
+            cache.put(position, object);
+        }
+
+        return object;
+    }
+
+    /**
+     * Returns number of rows of the {@link Cursor}, does not map objects.
+     *
+     * @return number of objects in the list.
+     */
+    @Override
+    public synchronized int size() {
+        checkNotClosed();
+        return size;
+    }
+
+    /**
+     * Closes the {@link Cursor} and clears cache of mapped objects.
+     * Calling this method more than once has no effect.
+     */
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            closed = true;
+            cache.clear();
+            cursor.close();
+        }
+    }
+
+    /**
+     * @return {@code true} if list was closed, {@code false} otherwise.
+     */
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    private void checkNotClosed() {
+        if (closed) {
+            throw new IllegalStateException("CursorList is closed");
+        }
+    }
+}
@@ -2,11 +2,15 @@ package com.pushtorefresh.storio3.sqlite.operations.get;
 
 import android.database.Cursor;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
 import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio3.sqlite.queries.Query;
 import com.pushtorefresh.storio3.sqlite.queries.RawQuery;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Defines behavior of Get Operation.
  * <p>
@@ -25,6 +29,81 @@ public abstract class GetResolver<T> {
     @NonNull
     public abstract T mapFromCursor(@NonNull StorIOSQLite storIOSQLite, @NonNull Cursor cursor);
 
+    /**
+     * Resolves indices of columns used by mapping, called once per {@link Cursor}
+     * before mapping of its rows with {@link #mapFromCursor(StorIOSQLite, Cursor, int[])}.
+     * <p>
+     * Default implementation returns {@code null}, so rows are mapped
+     * with {@link #mapFromCursor(StorIOSQLite, Cursor)}.
+     *
+     * @param cursor not closed {@link Cursor}.
+     * @return indices of columns in the order expected by
+     * {@link #mapFromCursor(StorIOSQLite, Cursor, int[])} or {@code null}.
+     */
+    @Nullable
+    public int[] columnIndices(@NonNull Cursor cursor) {
+        return null;
+    }
+
+    /**
+     * Converts {@link Cursor} with already set position to object of required type
+     * using indices of columns resolved by {@link #columnIndices(Cursor)} for this cursor.
+     * <p>
+     * Default implementation delegates to {@link #mapFromCursor(StorIOSQLite, Cursor)}.
+     *
+     * @param storIOSQLite  {@link StorIOSQLite} instance to perform get from.
+     * @param cursor        not closed {@link Cursor} with already set position
+     *                      that should be parsed and converted to object of required type.
+     * @param columnIndices non-null result of {@link #columnIndices(Cursor)} for this cursor.
+     * @return non-null object of required type with data parsed from passed {@link Cursor}.
+     */
+    @NonNull
+    public T mapFromCursor(@NonNull StorIOSQLite storIOSQLite, @NonNull Cursor cursor, @NonNull int[] columnIndices) {
+        return mapFromCursor(storIOSQLite, cursor);
+    }
+
+    @NonNull
+    static <T> T mapFromCursor(
+            @NonNull GetResolver<T> getResolver,
+            @NonNull StorIOSQLite storIOSQLite,
+            @NonNull Cursor cursor,
+            @Nullable int[] columnIndices
+    ) {
+        return columnIndices != null
+                ? getResolver.mapFromCursor(storIOSQLite, cursor, columnIndices)
+                : getResolver.mapFromCursor(storIOSQLite, cursor);
+    }
+
+    /**
+     * Returns columns read by mapping of this resolver.
+     * <p>
+     * If {@link Query} of Get Operation does not specify {@link Query#columns()},
+     * only these columns are requested instead of all columns of the table,
+     * so wide columns which are not mapped are not read from the database.
+     * <p>
+     * Default implementation returns empty list, so all columns are requested.
+     *
+     * @return non-null, immutable list of column names, can be empty.
+     */
+    @NonNull
+    public List<String> mappedColumns() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns primary key of the object, used to match objects of different results
+     * of the same query, see {@link ListDiff}.
+     * <p>
+     * Default implementation returns {@code null}, so objects are matched by {@link Object#equals(Object)}.
+     *
+     * @param object object mapped by this resolver.
+     * @return value of key column or {@link List} of values of key columns, or {@code null}.
+     */
+    @Nullable
+    public Object primaryKey(@NonNull T object) {
+        return null;
+    }
+
     /**
      * Performs get of results with passed query.
      *
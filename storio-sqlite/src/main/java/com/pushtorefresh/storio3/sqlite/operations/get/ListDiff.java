@@ -0,0 +1,323 @@
+package com.pushtorefresh.storio3.sqlite.operations.get;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Difference between two results of Get Operation of list of objects,
+ * see {@link PreparedGetListOfObjects#asRxFlowableOfDiffs(io.reactivex.BackpressureStrategy)}.
+ * <p>
+ * Objects are matched by {@link GetResolver#primaryKey(Object)}, objects without primary key
+ * are matched by {@link Object#equals(Object)}.
+ * <p>
+ * Positions of removed objects refer to previous list, positions of inserted and changed objects
+ * refer to current list. Objects that are not moved keep their relative order.
+ *
+ * @param <T> type of objects.
+ */
+public final class ListDiff<T> {
+
+    @NonNull
+    private final List<T> previous;
+
+    @NonNull
+    private final List<T> current;
+
+    @NonNull
+    private final List<Integer> inserted;
+
+    @NonNull
+    private final List<Integer> removed;
+
+    @NonNull
+    private final List<Move> moved;
+
+    @NonNull
+    private final List<Integer> changed;
+
+    private ListDiff(
+            @NonNull List<T> previous,
+            @NonNull List<T> current,
+            @NonNull List<Integer> inserted,
+            @NonNull List<Integer> removed,
+            @NonNull List<Move> moved,
+            @NonNull List<Integer> changed
+    ) {
+        this.previous = previous;
+        this.current = current;
+        this.inserted = unmodifiableList(inserted);
+        this.removed = unmodifiableList(removed);
+        this.moved = unmodifiableList(moved);
+        this.changed = unmodifiableList(changed);
+    }
+
+    /**
+     * Calculates difference between two lists of objects.
+     *
+     * @param previous        previous list.
+     * @param current         current list.
+     * @param getResolver     resolver that provides primary keys of objects.
+     * @param contentEquality compares contents of objects with equal primary keys.
+     * @param <T>             type of objects.
+     * @return non-null difference.
+     */
+    @NonNull
+    public static <T> ListDiff<T> calculate(
+            @NonNull List<T> previous,
+            @NonNull List<T> current,
+            @NonNull GetResolver<T> getResolver,
+            @NonNull ContentEquality<? super T> contentEquality
+    ) {
+        final Map<Object, Integer> previousPositions = new HashMap<Object, Integer>(previous.size());
+
+        for (int i = previous.size() - 1; i >= 0; i--) {
+            // first position wins for duplicated keys
+            previousPositions.put(key(getResolver, previous.get(i)), i);
+        }
+
+        final boolean[] matched = new boolean[previous.size()];
+        final List<Integer> inserted = new ArrayList<Integer>();
+        final List<Integer> changed = new ArrayList<Integer>();
+
+        // previous positions of matched objects in order of current list
+        final int[] matchedFrom = new int[current.size()];
+        final int[] matchedTo = new int[current.size()];
+        int matchedCount = 0;
+
+        for (int j = 0; j < current.size(); j++) {
+            final T object = current.get(j);
+            final Integer i = previousPositions.get(key(getResolver, object));
+
+            if (i == null || matched[i]) {
+                inserted.add(j);
+                continue;
+            }
+
+            matched[i] = true;
+            matchedFrom[matchedCount] = i;
+            matchedTo[matchedCount] = j;
+            matchedCount++;
+
+            if (!contentEquality.areContentsEqual(previous.get(i), object)) {
+                changed.add(j);
+            }
+        }
+
+        final List<Integer> removed = new ArrayList<Integer>();
+
+        for (int i = 0; i < matched.length; i++) {
+            if (!matched[i]) {
+                removed.add(i);
+            }
+        }
+
+        final boolean[] stays = longestIncreasingSubsequence(matchedFrom, matchedCount);
+        final List<Move> moved = new ArrayList<Move>();
+
+        for (int k = 0; k < matchedCount; k++) {
+            if (!stays[k]) {
+                moved.add(new Move(matchedFrom[k], matchedTo[k]));
+            }
+        }
+
+        return new ListDiff<T>(previous, current, inserted, removed, moved, changed);
+    }
+
+    @NonNull
+    private static <T> Object key(@NonNull GetResolver<T> getResolver, @NonNull T object) {
+        final Object primaryKey = getResolver.primaryKey(object);
+        return primaryKey != null ? primaryKey : object;
+    }
+
+    /**
+     * Marks elements of the longest increasing subsequence, O(n log(n)).
+     * Matched objects from it keep their relative order, others are moved.
+     */
+    @NonNull
+    private static boolean[] longestIncreasingSubsequence(@NonNull int[] values, int count) {
+        // tails[length - 1] = index of the smallest tail of increasing subsequence of that length
+        final int[] tails = new int[count];
+        final int[] predecessors = new int[count];
+        int length = 0;
+
+        for (int k = 0; k < count; k++) {
+            int low = 0;
+            int high = length;
+
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+
+                if (values[tails[middle]] < values[k]) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+
+            predecessors[k] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = k;
+
+            if (low == length) {
+                length++;
+            }
+        }
+
+        final boolean[] result = new boolean[count];
+
+        for (int k = length > 0 ? tails[length - 1] : -1; k >= 0; k = predecessors[k]) {
+            result[k] = true;
+        }
+
+        return result;
+    }
+
+    /**
+     * @return previous list, empty for the first result.
+     */
+    @NonNull
+    public List<T> previous() {
+        return previous;
+    }
+
+    /**
+     * @return current list.
+     */
+    @NonNull
+    public List<T> current() {
+        return current;
+    }
+
+    /**
+     * @return ascending positions of inserted objects in {@link #current()}.
+     */
+    @NonNull
+    public List<Integer> inserted() {
+        return inserted;
+    }
+
+    /**
+     * @return ascending positions of removed objects in {@link #previous()}.
+     */
+    @NonNull
+    public List<Integer> removed() {
+        return removed;
+    }
+
+    /**
+     * @return moves of objects, ordered by positions in {@link #current()}.
+     */
+    @NonNull
+    public List<Move> moved() {
+        return moved;
+    }
+
+    /**
+     * @return ascending positions in {@link #current()} of objects
+     * which contents differ from contents of objects with the same primary key in {@link #previous()}.
+     */
+    @NonNull
+    public List<Integer> changed() {
+        return changed;
+    }
+
+    /**
+     * @return {@code true} if lists contain same objects in the same order, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return inserted.isEmpty() && removed.isEmpty() && moved.isEmpty() && changed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "ListDiff{" +
+                "inserted=" + inserted +
+                ", removed=" + removed +
+                ", moved=" + moved +
+                ", changed=" + changed +
+                '}';
+    }
+
+    /**
+     * Move of object from position in previous list to position in current list.
+     */
+    public static final class Move {
+
+        private final int fromPosition;
+
+        private final int toPosition;
+
+        public Move(int fromPosition, int toPosition) {
+            this.fromPosition = fromPosition;
+            this.toPosition = toPosition;
+        }
+
+        public int fromPosition() {
+            return fromPosition;
+        }
+
+        public int toPosition() {
+            return toPosition;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Move move = (Move) o;
+
+            if (fromPosition != move.fromPosition) return false;
+            return toPosition == move.toPosition;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = fromPosition;
+            result = 31 * result + toPosition;
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "Move{" +
+                    "fromPosition=" + fromPosition +
+                    ", toPosition=" + toPosition +
+                    '}';
+        }
+    }
+
+    /**
+     * Compares contents of objects with equal primary keys.
+     * <p>
+     * Implementation should be thread-safe!
+     *
+     * @param <T> type of objects.
+     */
+    public interface ContentEquality<T> {
+
+        /**
+         * @param previous object from previous list.
+         * @param current  object from current list with the same primary key.
+         * @return {@code true} if object was not changed, {@code false} otherwise.
+         */
+        boolean areContentsEqual(@NonNull T previous, @NonNull T current);
+    }
+
+    /**
+     * {@link ContentEquality} that uses {@link Object#equals(Object)}.
+     */
+    @NonNull
+    public static final ContentEquality<Object> EQUALS = new ContentEquality<Object>() {
+        @Override
+        public boolean areContentsEqual(@NonNull Object previous, @NonNull Object current) {
+            return previous.equals(current);
+        }
+    };
+}
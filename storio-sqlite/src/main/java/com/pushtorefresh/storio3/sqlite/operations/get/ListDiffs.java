@@ -0,0 +1,75 @@
+package com.pushtorefresh.storio3.sqlite.operations.get;
+
+import android.support.annotation.NonNull;
+
+import org.reactivestreams.Publisher;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import io.reactivex.Flowable;
+import io.reactivex.functions.Function;
+
+/**
+ * Maps results of {@link PreparedGetListOfObjects} to {@link ListDiff}s against previous result,
+ * see {@link PreparedGetListOfObjects#asRxFlowableOfDiffs(io.reactivex.BackpressureStrategy, ListDiff.ContentEquality)}.
+ * Each subscriber diffs against the results it received.
+ * <p>
+ * Required to avoid problems with ClassLoader when RxJava is not in ClassPath.
+ */
+final class ListDiffs<T> implements Callable<Publisher<ListDiff<T>>> {
+
+    @NonNull
+    private final PreparedGetListOfObjects<T> operation;
+
+    @NonNull
+    private final Flowable<List<T>> results;
+
+    @NonNull
+    private final ListDiff.ContentEquality<? super T> contentEquality;
+
+    ListDiffs(
+            @NonNull PreparedGetListOfObjects<T> operation,
+            @NonNull Flowable<List<T>> results,
+            @NonNull ListDiff.ContentEquality<? super T> contentEquality
+    ) {
+        this.operation = operation;
+        this.results = results;
+        this.contentEquality = contentEquality;
+    }
+
+    @NonNull
+    @Override
+    public Publisher<ListDiff<T>> call() {
+        return results.map(new DiffWithPrevious<T>(operation.getResolver(), contentEquality));
+    }
+
+    private static final class DiffWithPrevious<T> implements Function<List<T>, ListDiff<T>> {
+
+        @NonNull
+        private final GetResolver<T> getResolver;
+
+        @NonNull
+        private final ListDiff.ContentEquality<? super T> contentEquality;
+
+        /**
+         * Results are mapped sequentially, no need in synchronization.
+         */
+        @NonNull
+        private List<T> previous = Collections.emptyList();
+
+        DiffWithPrevious(@NonNull GetResolver<T> getResolver, @NonNull ListDiff.ContentEquality<? super T> contentEquality) {
+            this.getResolver = getResolver;
+            this.contentEquality = contentEquality;
+        }
+
+        @NonNull
+        @Override
+        public ListDiff<T> apply(@NonNull List<T> current) {
+            final ListDiff<T> diff = ListDiff.calculate(previous, current, getResolver, contentEquality);
+            previous = current;
+            return diff;
+        }
+    }
+}
@@ -0,0 +1,469 @@
+package com.pushtorefresh.storio3.sqlite.operations.get;
+
+import android.database.Cursor;
+import android.support.annotation.CheckResult;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
+
+import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio3.sqlite.operations.internal.RxJavaUtils;
+import com.pushtorefresh.storio3.sqlite.queries.Query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+
+import static com.pushtorefresh.storio3.internal.Environment.RX_JAVA_2_IS_IN_THE_CLASS_PATH;
+import static com.pushtorefresh.storio3.internal.Environment.throwExceptionIfRxJava2IsNotAvailable;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Pages of objects loaded with keyset pagination:
+ * each page continues after key of the last row of previous page,
+ * so loading of a page does not depend on number of rows before it, unlike {@code OFFSET}.
+ * <p>
+ * Rows are ordered by key columns, which must uniquely identify a row
+ * and must be present in the result of the query.
+ * <p>
+ * Thread-safe.
+ *
+ * @param <T> type of objects.
+ * @see PreparedGetListOfObjects.CompleteBuilder#paged(int, String...)
+ */
+public class PagedListOfObjects<T> {
+
+    @NonNull
+    private final StorIOSQLite storIOSQLite;
+
+    @NonNull
+    private final Class<T> type;
+
+    @NonNull
+    private final Query query;
+
+    @Nullable
+    private final GetResolver<T> explicitGetResolver;
+
+    private final int pageSize;
+
+    @NonNull
+    private final List<String> keyColumns;
+
+    private final boolean prefetchNextPage;
+
+    @NonNull
+    private final Object lock = new Object();
+
+    /**
+     * Key of the last row of each loaded page, guarded by {@link #lock}.
+     */
+    @NonNull
+    private final List<Object[]> lastKeys = new ArrayList<Object[]>();
+
+    /**
+     * Guarded by {@link #lock}.
+     */
+    private boolean hasMorePages = true;
+
+    /**
+     * Guarded by {@link #lock}.
+     */
+    @Nullable
+    private Page<T> prefetchedPage;
+
+    PagedListOfObjects(
+            @NonNull StorIOSQLite storIOSQLite,
+            @NonNull Class<T> type,
+            @NonNull Query query,
+            @Nullable GetResolver<T> explicitGetResolver,
+            int pageSize,
+            @NonNull List<String> keyColumns,
+            boolean prefetchNextPage
+    ) {
+        this.storIOSQLite = storIOSQLite;
+        this.type = type;
+        this.query = query;
+        this.explicitGetResolver = explicitGetResolver;
+        this.pageSize = pageSize;
+        this.keyColumns = keyColumns;
+        this.prefetchNextPage = prefetchNextPage;
+    }
+
+    /**
+     * Loads page that follows the last loaded page.
+     * <p>
+     * If prefetch of the next page was enabled, it is started on
+     * {@link StorIOSQLite#defaultRxScheduler()} after the page is loaded,
+     * and the next call returns its result without accessing the database.
+     *
+     * @return non-null, immutable list of objects of the page, empty if there are no more rows.
+     */
+    @WorkerThread
+    @NonNull
+    public List<T> loadNextPage() {
+        final Page<T> page;
+
+        synchronized (lock) {
+            if (prefetchedPage != null && prefetchedPage.number == lastKeys.size()) {
+                page = prefetchedPage;
+            } else {
+                page = loadPage(lastKeys.size());
+            }
+            prefetchedPage = null;
+
+            hasMorePages = page.items.size() == pageSize;
+
+            if (page.lastKey != null) {
+                lastKeys.add(page.lastKey);
+            }
+        }
+
+        if (prefetchNextPage && page.items.size() == pageSize) {
+            prefetch();
+        }
+
+        return page.items;
+    }
+
+    /**
+     * Creates {@link Single} which will load page that follows the last loaded page
+     * lazily when somebody subscribes to it, see {@link #loadNextPage()}.
+     * <dl>
+     * <dt><b>Scheduler:</b></dt>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null}.</dd>
+     * </dl>
+     *
+     * @return non-null {@link Single} which will emit objects of the page.
+     */
+    @NonNull
+    @CheckResult
+    public Single<List<T>> loadNextPageAsRxSingle() {
+        throwExceptionIfRxJava2IsNotAvailable("loadNextPageAsRxSingle()");
+
+        return RxJavaUtils.subscribeOn(storIOSQLite, Single.fromCallable(new Callable<List<T>>() {
+            @Override
+            public List<T> call() {
+                return loadNextPage();
+            }
+        }));
+    }
+
+    /**
+     * Returns {@code false} if the last loaded page was not full.
+     * Rows added after that can still be loaded with {@link #loadNextPage()}.
+     *
+     * @return {@code true} if there may be more pages.
+     */
+    public boolean hasMorePages() {
+        synchronized (lock) {
+            return hasMorePages;
+        }
+    }
+
+    /**
+     * @return number of loaded non-empty pages.
+     */
+    public int numberOfLoadedPages() {
+        synchronized (lock) {
+            return lastKeys.size();
+        }
+    }
+
+    /**
+     * Creates Get Operation for rows of loaded page, it can be used to observe only visible pages
+     * with {@link PreparedGetListOfObjects#asRxFlowable(io.reactivex.BackpressureStrategy)}.
+     * <p>
+     * Page is bounded by keys of the last rows of previous and this page,
+     * so rows inserted into other pages do not shift it.
+     *
+     * @param index index of loaded page.
+     * @return non-null Get Operation.
+     */
+    @NonNull
+    public PreparedGetListOfObjects<T> page(int index) {
+        final Object[] lowerKey;
+        final Object[] upperKey;
+
+        synchronized (lock) {
+            if (index < 0 || index >= lastKeys.size()) {
+                throw new IndexOutOfBoundsException("index = " + index + ", numberOfLoadedPages = " + lastKeys.size());
+            }
+            lowerKey = index > 0 ? lastKeys.get(index - 1) : null;
+            upperKey = lastKeys.get(index);
+        }
+
+        return new PreparedGetListOfObjects<T>(
+                storIOSQLite,
+                type,
+                pageQuery(lowerKey, upperKey, null),
+                explicitGetResolver
+        );
+    }
+
+    private void prefetch() {
+        if (!RX_JAVA_2_IS_IN_THE_CLASS_PATH) {
+            return;
+        }
+
+        final Scheduler scheduler = storIOSQLite.defaultRxScheduler();
+
+        if (scheduler != null) {
+            scheduler.scheduleDirect(new Runnable() {
+                @Override
+                public void run() {
+                    synchronized (lock) {
+                        if (prefetchedPage != null) {
+                            return;
+                        }
+
+                        try {
+                            prefetchedPage = loadPage(lastKeys.size());
+                        } catch (Exception ignored) {
+                            // page will be loaded again by loadNextPage() which will report the error
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Should be called under {@link #lock}.
+     */
+    @NonNull
+    private Page<T> loadPage(int number) {
+        final Query pageQuery = pageQuery(number > 0 ? lastKeys.get(number - 1) : null, null, pageSize);
+
+        final PreparedGetListOfObjects<T> operation = new PreparedGetListOfObjects<T>(
+                storIOSQLite,
+                type,
+                pageQuery,
+                explicitGetResolver
+        );
+
+        try {
+            final GetResolver<T> getResolver = operation.getResolver();
+            // key of the last row is read from the cursor, even if it's not mapped
+            final Cursor cursor = getResolver.performGet(
+                    storIOSQLite,
+                    PreparedGet.withMappedColumns(pageQuery, getResolver, keyColumns)
+            );
+
+            try {
+                final List<T> items = new ArrayList<T>(pageSize);
+                final int[] columnIndices = getResolver.columnIndices(cursor);
+
+                while (cursor.moveToNext()) {
+                    items.add(GetResolver.mapFromCursor(getResolver, storIOSQLite, cursor, columnIndices));
+                }
+
+                if (items.isEmpty()) {
+                    return new Page<T>(number, Collections.<T>emptyList(), null);
+                }
+
+                cursor.moveToLast();
+                return new Page<T>(number, unmodifiableList(items), readKey(cursor));
+            } finally {
+                cursor.close();
+            }
+        } catch (Exception exception) {
+            throw operation.newStorIOException(exception);
+        }
+    }
+
+    @NonNull
+    private Object[] readKey(@NonNull Cursor cursor) {
+        final Object[] key = new Object[keyColumns.size()];
+
+        for (int i = 0; i < key.length; i++) {
+            final String keyColumn = keyColumns.get(i);
+            final int columnIndex = cursor.getColumnIndexOrThrow(keyColumn.substring(keyColumn.lastIndexOf('.') + 1));
+
+            switch (cursor.getType(columnIndex)) {
+                case Cursor.FIELD_TYPE_INTEGER:
+                    key[i] = cursor.getLong(columnIndex);
+                    break;
+                case Cursor.FIELD_TYPE_FLOAT:
+                    key[i] = cursor.getDouble(columnIndex);
+                    break;
+                case Cursor.FIELD_TYPE_STRING:
+                    key[i] = cursor.getString(columnIndex);
+                    break;
+                default:
+                    throw new IllegalStateException("Key column must be integer, real or text and not null: " + keyColumn);
+            }
+        }
+
+        return key;
+    }
+
+    @NonNull
+    private Query pageQuery(@Nullable Object[] lowerKey, @Nullable Object[] upperKey, @Nullable Integer limit) {
+        final StringBuilder where = new StringBuilder();
+        final List<Object> whereArgs = new ArrayList<Object>(query.whereArgs());
+
+        if (query.where().length() > 0) {
+            where.append('(').append(query.where()).append(')');
+        }
+        if (lowerKey != null) {
+            appendKeyset(where.append(where.length() > 0 ? " AND " : ""), whereArgs, lowerKey, true);
+        }
+        if (upperKey != null) {
+            appendKeyset(where.append(where.length() > 0 ? " AND " : ""), whereArgs, upperKey, false);
+        }
+
+        final StringBuilder orderBy = new StringBuilder();
+
+        for (final String keyColumn : keyColumns) {
+            orderBy.append(orderBy.length() > 0 ? ", " : "").append(keyColumn);
+        }
+
+        return query.toBuilder()
+                .where(where.length() > 0 ? where.toString() : null)
+                .whereArgs(whereArgs.toArray())
+                .orderBy(orderBy.toString())
+                .limit(limit != null ? limit.toString() : null)
+                .build();
+    }
+
+    /**
+     * Appends {@code (k1, k2) > (?, ?)} or {@code (k1, k2) <= (?, ?)} in the expanded form,
+     * row values are not supported by SQLite before 3.15.
+     */
+    private void appendKeyset(
+            @NonNull StringBuilder where,
+            @NonNull List<Object> whereArgs,
+            @NonNull Object[] key,
+            boolean after
+    ) {
+        final int last = keyColumns.size() - 1;
+
+        where.append('(');
+
+        for (int i = 0; i < last; i++) {
+            where.append(keyColumns.get(i)).append(after ? " > ?" : " < ?")
+                    .append(" OR (")
+                    .append(keyColumns.get(i)).append(" = ? AND ");
+            whereArgs.add(key[i]);
+            whereArgs.add(key[i]);
+        }
+
+        where.append(keyColumns.get(last)).append(after ? " > ?" : " <= ?");
+        whereArgs.add(key[last]);
+
+        for (int i = 0; i < last; i++) {
+            where.append(')');
+        }
+
+        where.append(')');
+    }
+
+    private static final class Page<T> {
+
+        final int number;
+
+        @NonNull
+        final List<T> items;
+
+        @Nullable
+        final Object[] lastKey;
+
+        Page(int number, @NonNull List<T> items, @Nullable Object[] lastKey) {
+            this.number = number;
+            this.items = items;
+            this.lastKey = lastKey;
+        }
+    }
+
+    /**
+     * Builder for {@link PagedListOfObjects}.
+     *
+     * @param <T> type of objects.
+     */
+    public static class Builder<T> {
+
+        @NonNull
+        private final StorIOSQLite storIOSQLite;
+
+        @NonNull
+        private final Class<T> type;
+
+        @NonNull
+        private final Query query;
+
+        @Nullable
+        private final GetResolver<T> getResolver;
+
+        private final int pageSize;
+
+        @NonNull
+        private final List<String> keyColumns;
+
+        private boolean prefetchNextPage;
+
+        Builder(
+                @NonNull StorIOSQLite storIOSQLite,
+                @NonNull Class<T> type,
+                @NonNull Query query,
+                @Nullable GetResolver<T> getResolver,
+                int pageSize,
+                @NonNull String[] keyColumns
+        ) {
+            if (pageSize <= 0) {
+                throw new IllegalArgumentException("pageSize must be > 0, but was: " + pageSize);
+            }
+            if (keyColumns.length == 0) {
+                throw new IllegalArgumentException("Please specify key columns");
+            }
+            if (query.orderBy().length() > 0 || query.limit().length() > 0) {
+                throw new IllegalArgumentException("Paged query must not have orderBy or limit, " +
+                        "pages are ordered by key columns, query = " + query);
+            }
+            this.storIOSQLite = storIOSQLite;
+            this.type = type;
+            this.query = query;
+            this.getResolver = getResolver;
+            this.pageSize = pageSize;
+            this.keyColumns = unmodifiableList(new ArrayList<String>(Arrays.asList(keyColumns)));
+        }
+
+        /**
+         * Optional: Enables loading of the next page on {@link StorIOSQLite#defaultRxScheduler()}
+         * right after previous page was loaded, see {@link PagedListOfObjects#loadNextPage()}.
+         * <p>
+         * By default, prefetch is disabled.
+         *
+         * @param prefetchNextPage {@code true} to prefetch next page.
+         * @return builder.
+         */
+        @NonNull
+        public Builder<T> prefetchNextPage(boolean prefetchNextPage) {
+            this.prefetchNextPage = prefetchNextPage;
+            return this;
+        }
+
+        /**
+         * Builds new instance of {@link PagedListOfObjects}.
+         *
+         * @return new instance of {@link PagedListOfObjects}.
+         */
+        @NonNull
+        public PagedListOfObjects<T> prepare() {
+            return new PagedListOfObjects<T>(
+                    storIOSQLite,
+                    type,
+                    query,
+                    getResolver,
+                    pageSize,
+                    keyColumns,
+                    prefetchNextPage
+            );
+        }
+    }
+}
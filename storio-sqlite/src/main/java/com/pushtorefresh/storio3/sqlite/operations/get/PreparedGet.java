@@ -11,6 +11,10 @@ import com.pushtorefresh.storio3.sqlite.queries.GetQuery;
 import com.pushtorefresh.storio3.sqlite.queries.Query;
 import com.pushtorefresh.storio3.sqlite.queries.RawQuery;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import static com.pushtorefresh.storio3.impl.ChainImpl.buildChain;
 
 /**
@@ -72,6 +76,64 @@ public abstract class PreparedGet<Result, WrappedResult> implements PreparedOper
         }
     }
 
+    /**
+     * FOR INTERNAL USAGE ONLY.
+     * <p>
+     * Returns key of result of this operation: operations with equal keys
+     * have equal results until tables or tags observed by the query are changed.
+     * Used by query result cache, see
+     * {@link com.pushtorefresh.storio3.sqlite.impl.DefaultStorIOSQLite.CompleteBuilder#queryResultCacheSize(int)}.
+     *
+     * @return key of result or {@code null} if result can not be shared between executions.
+     */
+    @Nullable
+    public Object resultKey() {
+        return null;
+    }
+
+    /**
+     * Requests only {@link GetResolver#mappedColumns()} if query does not specify columns.
+     * Queries with {@code DISTINCT} are not changed because it applies to the requested columns.
+     *
+     * @param query           query of Get Operation.
+     * @param getResolver     resolver that maps results of the query.
+     * @param requiredColumns columns that should be requested in addition to mapped ones.
+     * @return query with columns or passed query if it can not be changed.
+     */
+    @NonNull
+    static Query withMappedColumns(
+            @NonNull Query query,
+            @NonNull GetResolver<?> getResolver,
+            @NonNull List<String> requiredColumns
+    ) {
+        if (!query.columns().isEmpty() || query.distinct()) {
+            return query;
+        }
+
+        final List<String> mappedColumns = getResolver.mappedColumns();
+
+        if (mappedColumns.isEmpty()) {
+            return query;
+        }
+
+        final List<String> columns = new ArrayList<String>(mappedColumns);
+
+        for (final String column : requiredColumns) {
+            if (!columns.contains(column)) {
+                columns.add(column);
+            }
+        }
+
+        return query.toBuilder()
+                .columns(columns.toArray(new String[columns.size()]))
+                .build();
+    }
+
+    @NonNull
+    static Query withMappedColumns(@NonNull Query query, @NonNull GetResolver<?> getResolver) {
+        return withMappedColumns(query, getResolver, Collections.<String>emptyList());
+    }
+
     /**
      * Builder for {@link PreparedGet}.
      */
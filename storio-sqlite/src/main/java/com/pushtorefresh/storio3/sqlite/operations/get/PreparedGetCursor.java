@@ -96,7 +96,7 @@ public class PreparedGetCursor extends PreparedGetMandatoryResult<Cursor> {
             try {
                 if (query != null) {
                     //noinspection unchecked
-                    return (Result) getResolver.performGet(storIOSQLite, query);
+                    return (Result) getResolver.performGet(storIOSQLite, withMappedColumns(query, getResolver));
                 } else if (rawQuery != null) {
                     //noinspection unchecked
                     return (Result) getResolver.performGet(storIOSQLite, rawQuery);
@@ -4,6 +4,7 @@ import android.database.Cursor;
 import android.support.annotation.CheckResult;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
 
 import com.pushtorefresh.storio3.StorIOException;
 import com.pushtorefresh.storio3.operations.PreparedOperation;
@@ -15,13 +16,16 @@ import com.pushtorefresh.storio3.sqlite.queries.Query;
 import com.pushtorefresh.storio3.sqlite.queries.RawQuery;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import io.reactivex.BackpressureStrategy;
 import io.reactivex.Flowable;
 import io.reactivex.Single;
 
 import static com.pushtorefresh.storio3.internal.Checks.checkNotNull;
+import static com.pushtorefresh.storio3.internal.Environment.throwExceptionIfRxJava2IsNotAvailable;
 import static java.util.Collections.EMPTY_LIST;
 import static java.util.Collections.unmodifiableList;
 
@@ -32,6 +36,11 @@ import static java.util.Collections.unmodifiableList;
  */
 public class PreparedGetListOfObjects<T> extends PreparedGetMandatoryResult<List<T>> {
 
+    /**
+     * Default number of mapped objects cached by {@link CursorList}.
+     */
+    public static final int DEFAULT_CURSOR_LIST_CACHE_SIZE = 64;
+
     @NonNull
     private final Class<T> type;
 
@@ -82,6 +91,85 @@ public class PreparedGetListOfObjects<T> extends PreparedGetMandatoryResult<List
         return RxJavaUtils.createGetFlowable(storIOSQLite, this, query, rawQuery, backpressureStrategy);
     }
 
+    /**
+     * Creates "Hot" {@link Flowable} which will be subscribed to changes of tables from query
+     * and will emit the latest result after changes, like {@link #asRxFlowable(BackpressureStrategy)}.
+     * <p>
+     * Changes that occur while the query is executed are conflated into one more execution,
+     * results that were not requested by subscriber yet are replaced with the latest one.
+     * Next execution starts not earlier than {@code minRequeryInterval} after the previous one.
+     * <dl>
+     * <dt><b>Scheduler:</b></dt>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null},
+     * otherwise on the thread that sent changes, delayed executions run on
+     * {@link io.reactivex.schedulers.Schedulers#io()}.</dd>
+     * </dl>
+     * <p>
+     * Please don't forget to dispose from this {@link Flowable} because
+     * it's "Hot" and endless.
+     *
+     * @param minRequeryInterval min interval between starts of query executions, can be {@code 0}.
+     * @param unit               time unit of {@code minRequeryInterval}.
+     * @return non-null {@link Flowable} which will emit non-null, immutable {@link List} with mapped results
+     * and will be subscribed to changes of tables from query.
+     */
+    @NonNull
+    @CheckResult
+    public Flowable<List<T>> asRxFlowableConflated(long minRequeryInterval, @NonNull TimeUnit unit) {
+        return RxJavaUtils.createConflatedGetFlowable(storIOSQLite, this, query, rawQuery, minRequeryInterval, unit);
+    }
+
+    /**
+     * Creates "Hot" {@link Flowable} which will be subscribed to changes of tables from query
+     * and will emit {@link ListDiff} of each result against the previous one,
+     * like {@link #asRxFlowable(BackpressureStrategy)} emits lists.
+     * <p>
+     * Objects are matched by {@link GetResolver#primaryKey(Object)} and compared with {@link Object#equals(Object)}.
+     * First diff contains all objects of the first result as inserted.
+     * <dl>
+     * <dt><b>Scheduler:</b></dt>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null}.
+     * Diffs are calculated on the thread that delivers results to the subscriber:
+     * the first diff on the thread the subscriber was subscribed on, if query is shared with
+     * other subscribers and already has a result (see {@link com.pushtorefresh.storio3.sqlite.impl.DefaultStorIOSQLite.CompleteBuilder#sharedLiveQueriesEnabled(boolean)}),
+     * following diffs on the thread that executed the query or the thread that requested them.</dd>
+     * </dl>
+     * <p>
+     * Please don't forget to dispose from this {@link Flowable} because
+     * it's "Hot" and endless.
+     *
+     * @param backpressureStrategy strategy for subscribers that can not keep up with results,
+     *                             dropped results are not diffed.
+     * @return non-null {@link Flowable} which will emit non-null {@link ListDiff}s.
+     */
+    @NonNull
+    @CheckResult
+    public Flowable<ListDiff<T>> asRxFlowableOfDiffs(@NonNull BackpressureStrategy backpressureStrategy) {
+        return asRxFlowableOfDiffs(backpressureStrategy, ListDiff.EQUALS);
+    }
+
+    /**
+     * Same as {@link #asRxFlowableOfDiffs(BackpressureStrategy)}, but compares contents
+     * of objects with equal primary keys with passed {@link ListDiff.ContentEquality}.
+     *
+     * @param backpressureStrategy strategy for subscribers that can not keep up with results,
+     *                             dropped results are not diffed.
+     * @param contentEquality      compares contents of objects with equal primary keys.
+     * @return non-null {@link Flowable} which will emit non-null {@link ListDiff}s.
+     */
+    @NonNull
+    @CheckResult
+    public Flowable<ListDiff<T>> asRxFlowableOfDiffs(
+            @NonNull BackpressureStrategy backpressureStrategy,
+            @NonNull ListDiff.ContentEquality<? super T> contentEquality
+    ) {
+        throwExceptionIfRxJava2IsNotAvailable("asRxFlowableOfDiffs()");
+        checkNotNull(contentEquality, "Please specify contentEquality");
+
+        // results dropped by backpressure are not diffed, so diffs are always against the previous emitted result
+        return Flowable.defer(new ListDiffs<T>(this, asRxFlowable(backpressureStrategy), contentEquality));
+    }
+
     /**
      * Creates {@link Single} which will perform Get Operation lazily when somebody subscribes to it and send result to observer.
      * <dl>
@@ -99,6 +187,98 @@ public class PreparedGetListOfObjects<T> extends PreparedGetMandatoryResult<List
         return RxJavaUtils.createSingle(storIOSQLite, this);
     }
 
+    /**
+     * Creates "Cold" {@link Flowable} which will perform Get Operation lazily when somebody
+     * subscribes to it and emit mapped rows one by one, directly from the open {@link Cursor}.
+     * <p>
+     * Rows are read only when requested by downstream, so memory used by this {@link Flowable}
+     * does not depend on number of rows. {@link Cursor} is closed when all rows were emitted,
+     * in case of error and on cancellation.
+     * <p>
+     * Unlike {@link #asRxFlowable(BackpressureStrategy)}, it is not subscribed to changes of tables from query
+     * and {@link StorIOSQLite#interceptors()} are not applied.
+     * <dl>
+     * <dt><b>Scheduler:</b></dt>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null}.</dd>
+     * </dl>
+     *
+     * @return non-null {@link Flowable} which will emit non-null mapped rows and complete.
+     */
+    @NonNull
+    @CheckResult
+    public Flowable<T> asRxFlowableOfRows() {
+        throwExceptionIfRxJava2IsNotAvailable("asRxFlowableOfRows()");
+
+        final RowsGenerator<T> generator = new RowsGenerator<T>(this);
+        final Flowable<T> flowable = Flowable.generate(generator, generator, generator);
+
+        return RxJavaUtils.subscribeOn(storIOSQLite, flowable);
+    }
+
+    /**
+     * Executes Get Operation immediately in current thread and returns read-only list
+     * backed by the open {@link Cursor}, objects are mapped from the {@link Cursor} on demand,
+     * see {@link CursorList}.
+     * <p>
+     * Unlike {@link #executeAsBlocking()}, {@link StorIOSQLite#interceptors()} are not applied.
+     * <p>
+     * Please don't forget to close the list.
+     *
+     * @return non-null list backed by the open {@link Cursor}, caches up to
+     * {@link #DEFAULT_CURSOR_LIST_CACHE_SIZE} mapped objects.
+     */
+    @WorkerThread
+    @NonNull
+    public CursorList<T> executeAsCursorList() {
+        return executeAsCursorList(DEFAULT_CURSOR_LIST_CACHE_SIZE);
+    }
+
+    /**
+     * Executes Get Operation immediately in current thread and returns read-only list
+     * backed by the open {@link Cursor}, objects are mapped from the {@link Cursor} on demand,
+     * see {@link CursorList}.
+     * <p>
+     * Unlike {@link #executeAsBlocking()}, {@link StorIOSQLite#interceptors()} are not applied.
+     * <p>
+     * Please don't forget to close the list.
+     *
+     * @param cacheSize max number of recently used mapped objects kept by the list.
+     * @return non-null list backed by the open {@link Cursor}.
+     */
+    @WorkerThread
+    @NonNull
+    public CursorList<T> executeAsCursorList(int cacheSize) {
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("cacheSize must be >= 0, but was: " + cacheSize);
+        }
+
+        final GetResolver<T> getResolver;
+        final Cursor cursor;
+
+        try {
+            getResolver = getResolver();
+            cursor = performGet(getResolver);
+        } catch (Exception exception) {
+            throw newStorIOException(exception);
+        }
+
+        try {
+            return new CursorList<T>(this, getResolver, cursor, cacheSize);
+        } catch (Exception exception) {
+            cursor.close();
+            throw newStorIOException(exception);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nullable
+    @Override
+    public Object resultKey() {
+        return Arrays.<Object>asList(getClass(), type, explicitGetResolver, getData());
+    }
+
     @NonNull
     @Override
     protected Interceptor getRealCallInterceptor() {
@@ -112,31 +292,8 @@ public class PreparedGetListOfObjects<T> extends PreparedGetMandatoryResult<List
         @Override
         public <Result, WrappedResult, Data> Result intercept(@NonNull PreparedOperation<Result, WrappedResult, Data> operation, @NonNull Chain chain) {
             try {
-                final GetResolver<T> getResolver;
-
-                if (explicitGetResolver != null) {
-                    getResolver = explicitGetResolver;
-                } else {
-                    final SQLiteTypeMapping<T> typeMapping = storIOSQLite.lowLevel().typeMapping(type);
-
-                    if (typeMapping == null) {
-                        throw new IllegalStateException("This type does not have type mapping: " +
-                                "type = " + type + "," +
-                                "db was not touched by this operation, please add type mapping for this type");
-                    }
-
-                    getResolver = typeMapping.getResolver();
-                }
-
-                final Cursor cursor;
-
-                if (query != null) {
-                    cursor = getResolver.performGet(storIOSQLite, query);
-                } else if (rawQuery != null) {
-                    cursor = getResolver.performGet(storIOSQLite, rawQuery);
-                } else {
-                    throw new IllegalStateException("Please specify query");
-                }
+                final GetResolver<T> getResolver = getResolver();
+                final Cursor cursor = performGet(getResolver);
 
                 try {
                     final int count = cursor.getCount();
@@ -146,9 +303,10 @@ public class PreparedGetListOfObjects<T> extends PreparedGetMandatoryResult<List
                     }
 
                     final List<T> list = new ArrayList<T>(count);
+                    final int[] columnIndices = getResolver.columnIndices(cursor);
 
                     while (cursor.moveToNext()) {
-                        list.add(getResolver.mapFromCursor(storIOSQLite, cursor));
+                        list.add(GetResolver.mapFromCursor(getResolver, storIOSQLite, cursor, columnIndices));
                     }
 
                     return (Result) unmodifiableList(list);
@@ -156,11 +314,44 @@ public class PreparedGetListOfObjects<T> extends PreparedGetMandatoryResult<List
                     cursor.close();
                 }
             } catch (Exception exception) {
-                throw new StorIOException("Error has occurred during Get operation. query = " + (query != null ? query : rawQuery), exception);
+                throw newStorIOException(exception);
             }
         }
     }
 
+    @NonNull
+    GetResolver<T> getResolver() {
+        if (explicitGetResolver != null) {
+            return explicitGetResolver;
+        }
+
+        final SQLiteTypeMapping<T> typeMapping = storIOSQLite.lowLevel().typeMapping(type);
+
+        if (typeMapping == null) {
+            throw new IllegalStateException("This type does not have type mapping: " +
+                    "type = " + type + "," +
+                    "db was not touched by this operation, please add type mapping for this type");
+        }
+
+        return typeMapping.getResolver();
+    }
+
+    @NonNull
+    Cursor performGet(@NonNull GetResolver<T> getResolver) {
+        if (query != null) {
+            return getResolver.performGet(storIOSQLite, withMappedColumns(query, getResolver));
+        } else if (rawQuery != null) {
+            return getResolver.performGet(storIOSQLite, rawQuery);
+        } else {
+            throw new IllegalStateException("Please specify query");
+        }
+    }
+
+    @NonNull
+    StorIOException newStorIOException(@NonNull Exception cause) {
+        return new StorIOException("Error has occurred during Get operation. query = " + (query != null ? query : rawQuery), cause);
+    }
+
     /**
      * Builder for {@link PreparedGetListOfObjects} Operation.
      *
@@ -261,6 +452,27 @@ public class PreparedGetListOfObjects<T> extends PreparedGetMandatoryResult<List
             return this;
         }
 
+        /**
+         * Optional: Switches to keyset pagination of objects, see {@link PagedListOfObjects}.
+         * <p>
+         * Page continues after key of the last row of previous page:
+         * {@code WHERE (where) AND (k1, k2) > (?, ?) ORDER BY k1, k2 LIMIT pageSize},
+         * so query must not have {@code ORDER BY} or {@code LIMIT}.
+         * Works only with {@link Query}.
+         *
+         * @param pageSize   max number of objects in a page.
+         * @param keyColumns columns which uniquely identify a row and define order of rows.
+         * @return builder of {@link PagedListOfObjects}.
+         */
+        @NonNull
+        public PagedListOfObjects.Builder<T> paged(int pageSize, @NonNull String... keyColumns) {
+            if (query == null) {
+                throw new IllegalStateException("Paged Get Operation requires Query, RawQuery is not supported");
+            }
+            checkNotNull(keyColumns, "Please specify key columns");
+            return new PagedListOfObjects.Builder<T>(storIOSQLite, type, query, getResolver, pageSize, keyColumns);
+        }
+
         /**
          * Builds new instance of {@link PreparedGetListOfObjects}.
          *
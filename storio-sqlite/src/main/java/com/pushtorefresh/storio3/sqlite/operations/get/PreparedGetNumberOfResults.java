@@ -13,6 +13,9 @@ import com.pushtorefresh.storio3.sqlite.operations.internal.RxJavaUtils;
 import com.pushtorefresh.storio3.sqlite.queries.Query;
 import com.pushtorefresh.storio3.sqlite.queries.RawQuery;
 
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
 import io.reactivex.BackpressureStrategy;
 import io.reactivex.Flowable;
 import io.reactivex.Single;
@@ -59,6 +62,34 @@ public class PreparedGetNumberOfResults extends PreparedGetMandatoryResult<Integ
         return RxJavaUtils.createGetFlowable(storIOSQLite, this, query, rawQuery, backpressureStrategy);
     }
 
+    /**
+     * Creates "Hot" {@link Flowable} which will be subscribed to changes of tables from query
+     * and will emit the latest result after changes, like {@link #asRxFlowable(BackpressureStrategy)}.
+     * <p>
+     * Changes that occur while the query is executed are conflated into one more execution,
+     * results that were not requested by subscriber yet are replaced with the latest one.
+     * Next execution starts not earlier than {@code minRequeryInterval} after the previous one.
+     * <dl>
+     * <dt><b>Scheduler:</b></dt>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null},
+     * otherwise on the thread that sent changes, delayed executions run on
+     * {@link io.reactivex.schedulers.Schedulers#io()}.</dd>
+     * </dl>
+     * <p>
+     * Please don't forget to dispose from this {@link Flowable} because
+     * it's "Hot" and endless.
+     *
+     * @param minRequeryInterval min interval between starts of query executions, can be {@code 0}.
+     * @param unit               time unit of {@code minRequeryInterval}.
+     * @return non-null {@link Flowable} which will emit number of results of the query
+     * and will be subscribed to changes of tables from query.
+     */
+    @NonNull
+    @CheckResult
+    public Flowable<Integer> asRxFlowableConflated(long minRequeryInterval, @NonNull TimeUnit unit) {
+        return RxJavaUtils.createConflatedGetFlowable(storIOSQLite, this, query, rawQuery, minRequeryInterval, unit);
+    }
+
     /**
      * Creates {@link Single} which will get number of results lazily when somebody subscribes to it and send result to observer.
      * <dl>
@@ -76,6 +107,15 @@ public class PreparedGetNumberOfResults extends PreparedGetMandatoryResult<Integ
         return RxJavaUtils.createSingle(storIOSQLite, this);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Nullable
+    @Override
+    public Object resultKey() {
+        return Arrays.<Object>asList(getClass(), getResolver, getData());
+    }
+
     @NonNull
     @Override
     protected Interceptor getRealCallInterceptor() {
@@ -18,6 +18,9 @@ import com.pushtorefresh.storio3.sqlite.queries.GetQuery;
 import com.pushtorefresh.storio3.sqlite.queries.Query;
 import com.pushtorefresh.storio3.sqlite.queries.RawQuery;
 
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
 import io.reactivex.BackpressureStrategy;
 import io.reactivex.Flowable;
 import io.reactivex.Maybe;
@@ -87,6 +90,34 @@ public class PreparedGetObject<T> extends PreparedGet<T, Optional<T>> implements
         return RxJavaUtils.createGetFlowableOptional(storIOSQLite, this, query, rawQuery, backpressureStrategy);
     }
 
+    /**
+     * Creates "Hot" {@link Flowable} which will be subscribed to changes of tables from query
+     * and will emit the latest result after changes, like {@link #asRxFlowable(BackpressureStrategy)}.
+     * <p>
+     * Changes that occur while the query is executed are conflated into one more execution,
+     * results that were not requested by subscriber yet are replaced with the latest one.
+     * Next execution starts not earlier than {@code minRequeryInterval} after the previous one.
+     * <dl>
+     * <dt><b>Scheduler:</b></dt>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null},
+     * otherwise on the thread that sent changes, delayed executions run on
+     * {@link io.reactivex.schedulers.Schedulers#io()}.</dd>
+     * </dl>
+     * <p>
+     * Please don't forget to dispose from this {@link Flowable} because
+     * it's "Hot" and endless.
+     *
+     * @param minRequeryInterval min interval between starts of query executions, can be {@code 0}.
+     * @param unit               time unit of {@code minRequeryInterval}.
+     * @return non-null {@link Flowable} which will emit {@link Optional} with mapped object
+     * and will be subscribed to changes of tables from query.
+     */
+    @NonNull
+    @CheckResult
+    public Flowable<Optional<T>> asRxFlowableConflated(long minRequeryInterval, @NonNull TimeUnit unit) {
+        return RxJavaUtils.createConflatedGetFlowableOptional(storIOSQLite, this, query, rawQuery, minRequeryInterval, unit);
+    }
+
     /**
      * Creates {@link Single} which will perform Get Operation lazily when somebody subscribes to it and send result to observer.
      * <dl>
@@ -120,6 +151,15 @@ public class PreparedGetObject<T> extends PreparedGet<T, Optional<T>> implements
         return RxJavaUtils.createMaybe(storIOSQLite, this);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Nullable
+    @Override
+    public Object resultKey() {
+        return Arrays.<Object>asList(getClass(), type, explicitGetResolver, getData());
+    }
+
     @NonNull
     @Override
     protected Interceptor getRealCallInterceptor() {
@@ -151,7 +191,7 @@ public class PreparedGetObject<T> extends PreparedGet<T, Optional<T>> implements
                 final Cursor cursor;
 
                 if (query != null) {
-                    cursor = getResolver.performGet(storIOSQLite, query);
+                    cursor = getResolver.performGet(storIOSQLite, withMappedColumns(query, getResolver));
                 } else if (rawQuery != null) {
                     cursor = getResolver.performGet(storIOSQLite, rawQuery);
                 } else {
@@ -166,7 +206,7 @@ public class PreparedGetObject<T> extends PreparedGet<T, Optional<T>> implements
                     } else {
                         cursor.moveToNext();
                         //noinspection unchecked
-                        return (Result) getResolver.mapFromCursor(storIOSQLite, cursor);
+                        return (Result) GetResolver.mapFromCursor(getResolver, storIOSQLite, cursor, getResolver.columnIndices(cursor));
                     }
                 } finally {
                     cursor.close();
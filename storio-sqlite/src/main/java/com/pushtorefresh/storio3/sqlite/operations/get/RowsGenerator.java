@@ -0,0 +1,80 @@
+package com.pushtorefresh.storio3.sqlite.operations.get;
+
+import android.database.Cursor;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.concurrent.Callable;
+
+import io.reactivex.Emitter;
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Consumer;
+
+/**
+ * Emits rows of {@link PreparedGetListOfObjects} one by one from the open {@link Cursor},
+ * see {@link PreparedGetListOfObjects#asRxFlowableOfRows()}.
+ * <p>
+ * Required to avoid problems with ClassLoader when RxJava is not in ClassPath.
+ */
+final class RowsGenerator<T> implements
+        Callable<RowsGenerator.Rows<T>>,
+        BiFunction<RowsGenerator.Rows<T>, Emitter<T>, RowsGenerator.Rows<T>>,
+        Consumer<RowsGenerator.Rows<T>> {
+
+    @NonNull
+    private final PreparedGetListOfObjects<T> operation;
+
+    RowsGenerator(@NonNull PreparedGetListOfObjects<T> operation) {
+        this.operation = operation;
+    }
+
+    @NonNull
+    @Override
+    public Rows<T> call() {
+        try {
+            final GetResolver<T> getResolver = operation.getResolver();
+            final Cursor cursor = operation.performGet(getResolver);
+            return new Rows<T>(getResolver, cursor, getResolver.columnIndices(cursor));
+        } catch (Exception exception) {
+            throw operation.newStorIOException(exception);
+        }
+    }
+
+    @NonNull
+    @Override
+    public Rows<T> apply(@NonNull Rows<T> rows, @NonNull Emitter<T> emitter) {
+        try {
+            if (rows.cursor.moveToNext()) {
+                emitter.onNext(GetResolver.mapFromCursor(rows.getResolver, operation.storIOSQLite, rows.cursor, rows.columnIndices));
+            } else {
+                emitter.onComplete();
+            }
+        } catch (Exception exception) {
+            emitter.onError(operation.newStorIOException(exception));
+        }
+        return rows;
+    }
+
+    @Override
+    public void accept(@NonNull Rows<T> rows) {
+        rows.cursor.close();
+    }
+
+    static final class Rows<T> {
+
+        @NonNull
+        final GetResolver<T> getResolver;
+
+        @NonNull
+        final Cursor cursor;
+
+        @Nullable
+        final int[] columnIndices;
+
+        Rows(@NonNull GetResolver<T> getResolver, @NonNull Cursor cursor, @Nullable int[] columnIndices) {
+            this.getResolver = getResolver;
+            this.cursor = cursor;
+            this.columnIndices = columnIndices;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.pushtorefresh.storio3.sqlite.operations.internal;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Flowable;
+import io.reactivex.FlowableEmitter;
+import io.reactivex.FlowableOnSubscribe;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.CompositeDisposable;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.subscribers.DisposableSubscriber;
+
+/**
+ * Required to avoid problems with ClassLoader when RxJava is not in ClassPath
+ * We can not use anonymous classes from RxJava directly in StorIO, ClassLoader won't be happy :(
+ * <p>
+ * For internal usage only!
+ * <p>
+ * Executes query on subscription and after changes. Changes received while query is
+ * executed or waits for the min interval are conflated into one execution.
+ */
+final class FlowableOnSubscribeConflatedRequery<Result> implements FlowableOnSubscribe<Result> {
+
+    @NonNull
+    private final Flowable<?> changes;
+
+    @NonNull
+    private final Function<Object, Result> requery;
+
+    @Nullable
+    private final Scheduler scheduler;
+
+    private final long minIntervalNanos;
+
+    FlowableOnSubscribeConflatedRequery(
+            @NonNull Flowable<?> changes,
+            @NonNull Function<Object, Result> requery,
+            @Nullable Scheduler scheduler,
+            long minIntervalNanos
+    ) {
+        this.changes = changes;
+        this.requery = requery;
+        this.scheduler = scheduler;
+        this.minIntervalNanos = minIntervalNanos;
+    }
+
+    @Override
+    public void subscribe(@NonNull FlowableEmitter<Result> emitter) {
+        final Scheduler.Worker worker = scheduler != null ? scheduler.createWorker() : null;
+        final Scheduler.Worker timer = scheduler == null && minIntervalNanos > 0 ? Schedulers.io().createWorker() : null;
+
+        final ChangesSubscriber<Result> subscriber = new ChangesSubscriber<Result>(
+                emitter.serialize(),
+                requery,
+                worker,
+                timer,
+                minIntervalNanos
+        );
+
+        final CompositeDisposable disposables = new CompositeDisposable(subscriber);
+        if (worker != null) {
+            disposables.add(worker);
+        }
+        if (timer != null) {
+            disposables.add(timer);
+        }
+        emitter.setDisposable(disposables);
+        changes.subscribe(subscriber);
+
+        // first result
+        subscriber.requery();
+    }
+
+    private static final class ChangesSubscriber<Result> extends DisposableSubscriber<Object> implements Runnable {
+
+        @NonNull
+        private final FlowableEmitter<Result> emitter;
+
+        @NonNull
+        private final Function<Object, Result> requery;
+
+        /**
+         * {@code null} if query should be executed on the thread that received changes.
+         */
+        @Nullable
+        private final Scheduler.Worker worker;
+
+        /**
+         * Executes delayed queries if there is no scheduler.
+         */
+        @Nullable
+        private final Scheduler.Worker timer;
+
+        private final long minIntervalNanos;
+
+        /**
+         * Number of requeries requested since start of the last execution.
+         */
+        @NonNull
+        private final AtomicInteger requested = new AtomicInteger();
+
+        private volatile long lastExecutionNanos;
+
+        private volatile boolean executed;
+
+        ChangesSubscriber(
+                @NonNull FlowableEmitter<Result> emitter,
+                @NonNull Function<Object, Result> requery,
+                @Nullable Scheduler.Worker worker,
+                @Nullable Scheduler.Worker timer,
+                long minIntervalNanos
+        ) {
+            this.emitter = emitter;
+            this.requery = requery;
+            this.worker = worker;
+            this.timer = timer;
+            this.minIntervalNanos = minIntervalNanos;
+        }
+
+        @Override
+        public void onNext(@NonNull Object changes) {
+            requery();
+        }
+
+        @Override
+        public void onError(@NonNull Throwable e) {
+            emitter.onError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            emitter.onComplete();
+        }
+
+        void requery() {
+            if (requested.getAndIncrement() == 0) {
+                schedule(delayNanos());
+            }
+        }
+
+        @Override
+        public void run() {
+            for (; ; ) {
+                if (emitter.isCancelled()) {
+                    return;
+                }
+
+                final int missed = requested.get();
+                lastExecutionNanos = now();
+                executed = true;
+
+                final Result result;
+
+                try {
+                    result = requery.apply(this);
+                } catch (Throwable e) {
+                    emitter.onError(e);
+                    return;
+                }
+
+                emitter.onNext(result);
+
+                if (requested.addAndGet(-missed) == 0) {
+                    return;
+                }
+
+                final long delayNanos = delayNanos();
+
+                if (delayNanos > 0) {
+                    schedule(delayNanos);
+                    return;
+                }
+            }
+        }
+
+        private long delayNanos() {
+            return executed ? lastExecutionNanos + minIntervalNanos - now() : 0;
+        }
+
+        private long now() {
+            return worker != null ? worker.now(TimeUnit.NANOSECONDS) : System.nanoTime();
+        }
+
+        private void schedule(long delayNanos) {
+            if (delayNanos > 0) {
+                //noinspection ConstantConditions one of them is not null if there is min interval
+                (worker != null ? worker : timer).schedule(this, delayNanos, TimeUnit.NANOSECONDS);
+            } else if (worker != null) {
+                worker.schedule(this);
+            } else {
+                run();
+            }
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.pushtorefresh.storio3.sqlite.operations.internal;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
+
+import com.pushtorefresh.storio3.operations.PreparedOperation;
+import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import io.reactivex.SingleEmitter;
+import io.reactivex.SingleOnSubscribe;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * Write scheduler of {@link com.pushtorefresh.storio3.sqlite.impl.DefaultStorIOSQLite} with group commit,
+ * see {@link com.pushtorefresh.storio3.sqlite.impl.DefaultStorIOSQLite.CompleteBuilder#groupCommit(int, long, TimeUnit)}
+ * and {@link RxJavaUtils#newGroupCommitScheduler(int, long, TimeUnit, ThreadFactory)}.
+ * <p>
+ * Operations passed to {@link #enqueue(StorIOSQLite, PreparedOperation)} are executed
+ * in one transaction when {@code maxBatchSize} operations were queued or {@code maxDelay}
+ * passed since the first of them. Subscribers receive results after commit of the transaction.
+ * If any operation of the batch fails or transaction can not be committed, transaction is rolled back
+ * and operations of the batch are executed again one by one, so failure of one operation does not affect others.
+ * <p>
+ * Batches and other work scheduled on this scheduler are executed on a single thread in FIFO order.
+ */
+final class GroupCommitScheduler extends Scheduler {
+
+    private final int maxBatchSize;
+
+    private final long maxDelayNanos;
+
+    @NonNull
+    private final ScheduledThreadPoolExecutor executor;
+
+    @NonNull
+    private final Scheduler delegate;
+
+    @NonNull
+    private final Runnable flush = new Runnable() {
+        @Override
+        public void run() {
+            flush();
+        }
+    };
+
+    /**
+     * Guarded by {@code this}.
+     */
+    @NonNull
+    private List<Entry<?>> pending = new ArrayList<Entry<?>>();
+
+    /**
+     * Flush scheduled after {@code maxDelay} for current pending operations, guarded by {@code this}.
+     */
+    @Nullable
+    private ScheduledFuture<?> delayedFlush;
+
+    GroupCommitScheduler(int maxBatchSize, long maxDelay, @NonNull TimeUnit unit, @NonNull ThreadFactory threadFactory) {
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = unit.toNanos(maxDelay);
+
+        executor = new ScheduledThreadPoolExecutor(1, threadFactory);
+        executor.setKeepAliveTime(60, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+
+        delegate = Schedulers.from(executor);
+    }
+
+    /**
+     * Queues operation for execution in the next batch.
+     *
+     * @param storIOSQLite instance that owns this scheduler.
+     * @param operation    Put or Delete Operation.
+     * @return {@link Single} that executes operation in the next batch on subscription
+     * and emits its result after commit of the batch.
+     */
+    @NonNull
+    <Result> Single<Result> enqueue(
+            @NonNull final StorIOSQLite storIOSQLite,
+            @NonNull final PreparedOperation<Result, ?, ?> operation
+    ) {
+        return Single.create(new SingleOnSubscribe<Result>() {
+            @Override
+            public void subscribe(@NonNull SingleEmitter<Result> emitter) {
+                add(new Entry<Result>(storIOSQLite, operation, emitter));
+            }
+        });
+    }
+
+    @NonNull
+    @Override
+    public Worker createWorker() {
+        return new FlushingWorker(delegate.createWorker());
+    }
+
+    private void add(@NonNull Entry<?> entry) {
+        final int size;
+
+        synchronized (this) {
+            pending.add(entry);
+            size = pending.size();
+
+            if (size == 1 && size < maxBatchSize) {
+                delayedFlush = executor.schedule(flush, maxDelayNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (size >= maxBatchSize) {
+            executor.execute(flush);
+        }
+    }
+
+    /**
+     * Queued operations must be committed before work scheduled after them.
+     */
+    private void flushNow() {
+        final boolean hasPending;
+
+        synchronized (this) {
+            hasPending = !pending.isEmpty();
+        }
+
+        if (hasPending) {
+            executor.execute(flush);
+        }
+    }
+
+    @WorkerThread
+    private void flush() {
+        final List<Entry<?>> batch;
+
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new ArrayList<Entry<?>>();
+
+            if (delayedFlush != null) {
+                // batch is taken already, next operation schedules its own delayed flush
+                delayedFlush.cancel(false);
+                delayedFlush = null;
+            }
+        }
+
+        final StorIOSQLite.LowLevel lowLevel = batch.get(0).storIOSQLite.lowLevel();
+        boolean successful = true;
+
+        try {
+            lowLevel.beginTransaction();
+
+            try {
+                for (final Entry<?> entry : batch) {
+                    successful &= entry.execute();
+                }
+
+                if (successful) {
+                    lowLevel.setTransactionSuccessful();
+                }
+            } finally {
+                lowLevel.endTransaction();
+            }
+        } catch (Exception e) {
+            // transaction could not be started or committed, it's handled as failure of the batch
+            successful = false;
+        }
+
+        if (!successful) {
+            // batch was rolled back, each operation commits on its own now
+            for (final Entry<?> entry : batch) {
+                entry.execute();
+            }
+        }
+
+        for (final Entry<?> entry : batch) {
+            entry.emit();
+        }
+    }
+
+    private static final class Entry<Result> {
+
+        @NonNull
+        final StorIOSQLite storIOSQLite;
+
+        @NonNull
+        private final PreparedOperation<Result, ?, ?> operation;
+
+        @NonNull
+        private final SingleEmitter<Result> emitter;
+
+        private Result result;
+
+        private Exception error;
+
+        Entry(
+                @NonNull StorIOSQLite storIOSQLite,
+                @NonNull PreparedOperation<Result, ?, ?> operation,
+                @NonNull SingleEmitter<Result> emitter
+        ) {
+            this.storIOSQLite = storIOSQLite;
+            this.operation = operation;
+            this.emitter = emitter;
+        }
+
+        boolean execute() {
+            if (emitter.isDisposed()) {
+                return true;
+            }
+
+            try {
+                result = operation.executeAsBlocking();
+                error = null;
+                return true;
+            } catch (Exception e) {
+                error = e;
+                return false;
+            }
+        }
+
+        void emit() {
+            if (emitter.isDisposed()) {
+                return;
+            }
+
+            if (error != null) {
+                emitter.onError(error);
+            } else {
+                // null result is signaled as NullPointerException by the emitter
+                emitter.onSuccess(result);
+            }
+        }
+    }
+
+    private final class FlushingWorker extends Worker {
+
+        @NonNull
+        private final Worker worker;
+
+        FlushingWorker(@NonNull Worker worker) {
+            this.worker = worker;
+        }
+
+        @NonNull
+        @Override
+        public Disposable schedule(@NonNull Runnable run, long delay, @NonNull TimeUnit unit) {
+            flushNow();
+            return worker.schedule(run, delay, unit);
+        }
+
+        @Override
+        public void dispose() {
+            worker.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return worker.isDisposed();
+        }
+    }
+}
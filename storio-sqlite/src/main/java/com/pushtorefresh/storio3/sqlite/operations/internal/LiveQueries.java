@@ -0,0 +1,105 @@
+package com.pushtorefresh.storio3.sqlite.operations.internal;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.reactivex.Flowable;
+import io.reactivex.functions.Action;
+
+/**
+ * FOR INTERNAL USAGE ONLY.
+ * <p>
+ * Registry of live queries of one {@link StorIOSQLite}: "Hot" {@link Flowable}s of Get Operations
+ * with equal keys share one subscription to changes and one execution of the query per change.
+ * Registry is created by {@link #enable(StorIOSQLite)}, see
+ * {@link com.pushtorefresh.storio3.sqlite.impl.DefaultStorIOSQLite.CompleteBuilder#sharedLiveQueriesEnabled(boolean)}.
+ * New subscribers receive the latest result immediately, on their subscribing thread.
+ * Slow subscribers are not dropped from replay, so callers should apply backpressure strategy
+ * to each subscriber of returned {@link Flowable}.
+ * Shared {@link Flowable} is removed from the registry when all its subscribers
+ * are disposed or when it terminates.
+ * <p>
+ * Thread-safe.
+ */
+public final class LiveQueries {
+
+    /**
+     * Registries of instances of {@link StorIOSQLite} that share live queries, guarded by itself.
+     * Registry is dropped together with its instance.
+     */
+    @NonNull
+    private static final Map<StorIOSQLite, LiveQueries> REGISTRIES = new WeakHashMap<StorIOSQLite, LiveQueries>();
+
+    @NonNull
+    private final ConcurrentMap<Object, Flowable<?>> flowables = new ConcurrentHashMap<Object, Flowable<?>>();
+
+    private LiveQueries() {
+    }
+
+    /**
+     * Enables sharing of live queries of the instance.
+     *
+     * @param storIOSQLite instance of {@link StorIOSQLite}.
+     */
+    public static void enable(@NonNull StorIOSQLite storIOSQLite) {
+        synchronized (REGISTRIES) {
+            if (!REGISTRIES.containsKey(storIOSQLite)) {
+                REGISTRIES.put(storIOSQLite, new LiveQueries());
+            }
+        }
+    }
+
+    /**
+     * @param storIOSQLite instance of {@link StorIOSQLite}.
+     * @return registry of the instance or {@code null} if its live queries are not shared.
+     */
+    @Nullable
+    static LiveQueries of(@NonNull StorIOSQLite storIOSQLite) {
+        synchronized (REGISTRIES) {
+            return REGISTRIES.get(storIOSQLite);
+        }
+    }
+
+    /**
+     * Returns {@link Flowable} shared by all subscribers of live queries with equal keys.
+     *
+     * @param key      key of results of the query, see
+     *                 {@link com.pushtorefresh.storio3.sqlite.operations.get.PreparedGet#resultKey()}.
+     * @param upstream {@link Flowable} that executes the query on subscription and on each change.
+     * @return shared {@link Flowable}.
+     */
+    @NonNull
+    <T> Flowable<T> share(@NonNull final Object key, @NonNull Flowable<T> upstream) {
+        //noinspection unchecked
+        final Flowable<T> existing = (Flowable<T>) flowables.get(key);
+
+        if (existing != null) {
+            return existing;
+        }
+
+        final Flowable<?>[] shared = new Flowable<?>[1];
+
+        shared[0] = upstream
+                .doFinally(new Action() {
+                    @Override
+                    public void run() {
+                        flowables.remove(key, shared[0]);
+                    }
+                })
+                .replay(1)
+                .refCount();
+
+        //noinspection unchecked
+        final Flowable<T> concurrentlyShared = (Flowable<T>) flowables.putIfAbsent(key, shared[0]);
+
+        //noinspection unchecked
+        return concurrentlyShared != null ? concurrentlyShared : (Flowable<T>) shared[0];
+    }
+}
@@ -20,19 +20,33 @@ import com.pushtorefresh.storio3.operations.internal.SingleOnSubscribeExecuteAsB
 import com.pushtorefresh.storio3.sqlite.Changes;
 import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio3.sqlite.impl.ChangesFilter;
+import com.pushtorefresh.storio3.sqlite.impl.ObservedColumns;
+import com.pushtorefresh.storio3.sqlite.impl.RowKeys;
+import com.pushtorefresh.storio3.sqlite.operations.delete.PreparedDelete;
+import com.pushtorefresh.storio3.sqlite.operations.execute.PreparedExecuteSQL;
+import com.pushtorefresh.storio3.sqlite.operations.get.PreparedGet;
+import com.pushtorefresh.storio3.sqlite.operations.put.PreparedPut;
+import com.pushtorefresh.storio3.sqlite.operations.transaction.PreparedTransaction;
 import com.pushtorefresh.storio3.sqlite.queries.GetQuery;
 import com.pushtorefresh.storio3.sqlite.queries.Query;
 import com.pushtorefresh.storio3.sqlite.queries.RawQuery;
 
 import io.reactivex.Maybe;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.reactivestreams.Publisher;
 
 import io.reactivex.BackpressureStrategy;
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Scheduler;
 import io.reactivex.Single;
+import io.reactivex.functions.Function;
 
 import static com.pushtorefresh.storio3.internal.Environment.throwExceptionIfRxJava2IsNotAvailable;
 
@@ -51,10 +65,16 @@ public final class RxJavaUtils {
     ) {
         throwExceptionIfRxJava2IsNotAvailable("asRxFlowable()");
 
-        return subscribeOn(
-                storIOSQLite,
-                Flowable.create(new FlowableOnSubscribeExecuteAsBlocking<Result, WrappedResult, Data>(operation), backpressureStrategy)
-        );
+        final Scheduler scheduler = scheduler(storIOSQLite, operation);
+
+        if (isGroupCommitted(scheduler, operation)) {
+            return ((GroupCommitScheduler) scheduler).enqueue(storIOSQLite, operation).toFlowable();
+        }
+
+        final Flowable<Result> flowable =
+                Flowable.create(new FlowableOnSubscribeExecuteAsBlocking<Result, WrappedResult, Data>(operation), backpressureStrategy);
+
+        return scheduler != null ? flowable.subscribeOn(scheduler) : flowable;
     }
 
     @CheckResult
@@ -74,9 +94,11 @@ public final class RxJavaUtils {
         final Flowable<Result> flowable;
 
         if (!tables.isEmpty() || !tags.isEmpty()) {
-            flowable = ChangesFilter.applyForTablesAndTags(storIOSQLite.observeChanges(backpressureStrategy), tables, tags)
+            flowable = observeChanges(storIOSQLite, query, rawQuery, tables, tags, backpressureStrategy)
                     .map(new MapSomethingToExecuteAsBlocking<Changes, Result, WrappedResult, GetQuery>(operation))  // each change triggers executeAsBlocking
                     .startWith(Flowable.create(new FlowableOnSubscribeExecuteAsBlocking<Result, WrappedResult, GetQuery>(operation), backpressureStrategy)); // start stream with first query result
+
+            return share(storIOSQLite, operation, "live", flowable, backpressureStrategy);
         } else {
             flowable = Flowable.create(new FlowableOnSubscribeExecuteAsBlocking<Result, WrappedResult, GetQuery>(operation), backpressureStrategy);
         }
@@ -101,9 +123,11 @@ public final class RxJavaUtils {
         final Flowable<Optional<Result>> flowable;
 
         if (!tables.isEmpty() || !tags.isEmpty()) {
-            flowable = ChangesFilter.applyForTablesAndTags(storIOSQLite.observeChanges(backpressureStrategy), tables, tags)
+            flowable = observeChanges(storIOSQLite, query, rawQuery, tables, tags, backpressureStrategy)
                     .map(new MapSomethingToExecuteAsBlockingOptional<Changes, Result, GetQuery>(operation))  // each change triggers executeAsBlocking
                     .startWith(Flowable.create(new FlowableOnSubscribeExecuteAsBlockingOptional<Result, GetQuery>(operation), backpressureStrategy)); // start stream with first query result
+
+            return share(storIOSQLite, operation, "live", flowable, backpressureStrategy);
         } else {
             flowable = Flowable.create(new FlowableOnSubscribeExecuteAsBlockingOptional<Result, GetQuery>(operation), backpressureStrategy);
         }
@@ -111,6 +135,93 @@ public final class RxJavaUtils {
         return RxJavaUtils.subscribeOn(storIOSQLite, flowable);
     }
 
+    @CheckResult
+    @NonNull
+    public static <Result, WrappedResult> Flowable<Result> createConflatedGetFlowable(
+            @NonNull StorIOSQLite storIOSQLite,
+            @NonNull PreparedOperation<Result, WrappedResult, GetQuery> operation,
+            @Nullable Query query,
+            @Nullable RawQuery rawQuery,
+            long minRequeryInterval,
+            @NonNull TimeUnit unit
+    ) {
+        throwExceptionIfRxJava2IsNotAvailable("asRxFlowableConflated()");
+
+        return createConflatedGetFlowable(
+                storIOSQLite,
+                operation,
+                query,
+                rawQuery,
+                new MapSomethingToExecuteAsBlocking<Object, Result, WrappedResult, GetQuery>(operation),
+                minRequeryInterval,
+                unit
+        );
+    }
+
+    @CheckResult
+    @NonNull
+    public static <Result> Flowable<Optional<Result>> createConflatedGetFlowableOptional(
+            @NonNull StorIOSQLite storIOSQLite,
+            @NonNull PreparedOperation<Result, Optional<Result>, GetQuery> operation,
+            @Nullable Query query,
+            @Nullable RawQuery rawQuery,
+            long minRequeryInterval,
+            @NonNull TimeUnit unit
+    ) {
+        throwExceptionIfRxJava2IsNotAvailable("asRxFlowableConflated()");
+
+        return createConflatedGetFlowable(
+                storIOSQLite,
+                operation,
+                query,
+                rawQuery,
+                new MapSomethingToExecuteAsBlockingOptional<Object, Result, GetQuery>(operation),
+                minRequeryInterval,
+                unit
+        );
+    }
+
+    /**
+     * Changes received while query is executed are conflated into one execution,
+     * results not requested by subscriber are replaced by the latest one.
+     */
+    @NonNull
+    private static <T> Flowable<T> createConflatedGetFlowable(
+            @NonNull StorIOSQLite storIOSQLite,
+            @NonNull PreparedOperation<?, ?, GetQuery> operation,
+            @Nullable Query query,
+            @Nullable RawQuery rawQuery,
+            @NonNull Function<Object, T> requery,
+            long minRequeryInterval,
+            @NonNull TimeUnit unit
+    ) {
+        if (minRequeryInterval < 0) {
+            throw new IllegalArgumentException("minRequeryInterval must be >= 0, but was: " + minRequeryInterval + " " + unit);
+        }
+
+        final long minRequeryIntervalNanos = unit.toNanos(minRequeryInterval);
+
+        final Set<String> tables = extractTables(query, rawQuery);
+        final Set<String> tags = extractTags(query, rawQuery);
+
+        if (tables.isEmpty() && tags.isEmpty()) {
+            // nothing to observe, query is executed once
+            return RxJavaUtils.subscribeOn(storIOSQLite, Flowable.<Object>just(operation).map(requery));
+        }
+
+        final Flowable<T> flowable = Flowable.create(
+                new FlowableOnSubscribeConflatedRequery<T>(
+                        observeChanges(storIOSQLite, query, rawQuery, tables, tags, BackpressureStrategy.LATEST),
+                        requery,
+                        storIOSQLite.defaultRxScheduler(),
+                        minRequeryIntervalNanos
+                ),
+                BackpressureStrategy.LATEST
+        );
+
+        return share(storIOSQLite, operation, Arrays.<Object>asList("conflated", minRequeryIntervalNanos), flowable, BackpressureStrategy.LATEST);
+    }
+
     @CheckResult
     @NonNull
     public static <Result, WrappedResult, Data> Single<Result> createSingle(
@@ -119,10 +230,16 @@ public final class RxJavaUtils {
     ) {
         throwExceptionIfRxJava2IsNotAvailable("asRxSingle()");
 
+        final Scheduler scheduler = scheduler(storIOSQLite, operation);
+
+        if (isGroupCommitted(scheduler, operation)) {
+            return ((GroupCommitScheduler) scheduler).enqueue(storIOSQLite, operation);
+        }
+
         final Single<Result> single =
                 Single.create(new SingleOnSubscribeExecuteAsBlocking<Result, WrappedResult, Data>(operation));
 
-        return subscribeOn(storIOSQLite, single);
+        return scheduler != null ? single.subscribeOn(scheduler) : single;
     }
 
     @CheckResult
@@ -147,10 +264,16 @@ public final class RxJavaUtils {
     ) {
         throwExceptionIfRxJava2IsNotAvailable("asRxCompletable()");
 
+        final Scheduler scheduler = scheduler(storIOSQLite, operation);
+
+        if (isGroupCommitted(scheduler, operation)) {
+            return Completable.fromSingle(((GroupCommitScheduler) scheduler).enqueue(storIOSQLite, operation));
+        }
+
         final Completable completable =
                 Completable.create(new CompletableOnSubscribeExecuteAsBlocking(operation));
 
-        return subscribeOn(storIOSQLite, completable);
+        return scheduler != null ? completable.subscribeOn(scheduler) : completable;
     }
 
     @CheckResult
@@ -207,6 +330,141 @@ public final class RxJavaUtils {
         return scheduler != null ? maybe.subscribeOn(scheduler) : maybe;
     }
 
+    /**
+     * Creates write scheduler that commits Put and Delete Operations in batches,
+     * see {@link com.pushtorefresh.storio3.sqlite.impl.DefaultStorIOSQLite.CompleteBuilder#groupCommit(int, long, TimeUnit)}.
+     *
+     * @param maxBatchSize  max number of operations in one transaction.
+     * @param maxDelay      max time operation waits for other operations of the batch.
+     * @param unit          time unit of {@code maxDelay}.
+     * @param threadFactory factory of the thread that executes batches.
+     * @return group commit scheduler.
+     */
+    @NonNull
+    public static Scheduler newGroupCommitScheduler(
+            int maxBatchSize,
+            long maxDelay,
+            @NonNull TimeUnit unit,
+            @NonNull ThreadFactory threadFactory
+    ) {
+        return new GroupCommitScheduler(maxBatchSize, maxDelay, unit, threadFactory);
+    }
+
+    /**
+     * Changes of tables and tags of the query, if {@link Query} selects rows by one column,
+     * changes of other rows are skipped, see {@link Changes#affectedKeys(String, String)}.
+     * Changes of columns not used by the query are skipped too, see {@link Changes#affectedColumns(String)}.
+     */
+    @NonNull
+    private static Flowable<Changes> observeChanges(
+            @NonNull StorIOSQLite storIOSQLite,
+            @Nullable Query query,
+            @Nullable RawQuery rawQuery,
+            @NonNull Set<String> tables,
+            @NonNull Set<String> tags,
+            @NonNull BackpressureStrategy backpressureStrategy
+    ) {
+        final Flowable<Changes> changes = storIOSQLite.observeChanges(backpressureStrategy);
+        final String keyColumn = query != null ? RowKeys.keyColumn(query.where(), query.whereArgs()) : null;
+        final Set<String> columns = query != null
+                ? ObservedColumns.of(query)
+                : rawQuery != null ? ObservedColumns.of(rawQuery) : null;
+
+        if (keyColumn == null && columns == null) {
+            return ChangesFilter.applyForTablesAndTags(changes, tables, tags);
+        }
+
+        return ChangesFilter.applyForTablesAndTagsAndRows(
+                changes,
+                tables,
+                tags,
+                keyColumn,
+                keyColumn != null ? query.whereArgs().get(0) : null,
+                columns
+        );
+    }
+
+    /**
+     * Put, Delete and Execute SQL Operations run on {@link StorIOSQLite#defaultRxWriteScheduler()},
+     * others on {@link StorIOSQLite#defaultRxScheduler()}.
+     */
+    @Nullable
+    private static Scheduler scheduler(@NonNull StorIOSQLite storIOSQLite, @NonNull PreparedOperation<?, ?, ?> operation) {
+        if (operation instanceof PreparedPut
+                || operation instanceof PreparedDelete
+                || operation instanceof PreparedExecuteSQL
+                || operation instanceof PreparedTransaction) {
+            return storIOSQLite.defaultRxWriteScheduler();
+        }
+        return storIOSQLite.defaultRxScheduler();
+    }
+
+    /**
+     * Subscribers of live queries with equal {@link PreparedGet#resultKey()} and {@code flowableKey}
+     * (requery mode) share one upstream if live queries of the instance are shared, see {@link LiveQueries}.
+     * <p>
+     * Shared upstream is requested by the fastest subscriber and replays results to the slow ones,
+     * so backpressure strategy is applied to each subscriber after sharing.
+     * Subscribers are subscribed on {@link StorIOSQLite#defaultRxScheduler()}, so the replayed
+     * latest result is not delivered on the subscribing thread.
+     */
+    @NonNull
+    private static <T> Flowable<T> share(
+            @NonNull StorIOSQLite storIOSQLite,
+            @NonNull PreparedOperation<?, ?, GetQuery> operation,
+            @NonNull Object flowableKey,
+            @NonNull final Flowable<T> flowable,
+            @NonNull BackpressureStrategy backpressureStrategy
+    ) {
+        final Object resultKey = operation instanceof PreparedGet ? ((PreparedGet) operation).resultKey() : null;
+        final LiveQueries liveQueries = resultKey != null ? LiveQueries.of(storIOSQLite) : null;
+
+        if (liveQueries == null) {
+            return RxJavaUtils.subscribeOn(storIOSQLite, flowable);
+        }
+
+        final Object key = Arrays.<Object>asList(resultKey, flowableKey);
+
+        // registry is checked on subscription, shared Flowable may be already gone by then
+        final Flowable<T> shared = Flowable.defer(new Callable<Publisher<T>>() {
+            @Override
+            public Publisher<T> call() {
+                return liveQueries.share(key, flowable);
+            }
+        });
+
+        return RxJavaUtils.subscribeOn(storIOSQLite, onBackpressure(shared, backpressureStrategy));
+    }
+
+    /**
+     * Applies backpressure strategy to subscriber of shared {@link Flowable},
+     * same as {@link io.reactivex.Observable#toFlowable(BackpressureStrategy)} does.
+     */
+    @NonNull
+    private static <T> Flowable<T> onBackpressure(
+            @NonNull Flowable<T> flowable,
+            @NonNull BackpressureStrategy backpressureStrategy
+    ) {
+        switch (backpressureStrategy) {
+            case LATEST:
+                return flowable.onBackpressureLatest();
+            case DROP:
+                return flowable.onBackpressureDrop();
+            case BUFFER:
+                return flowable.onBackpressureBuffer();
+            case ERROR:
+                // RxJava has no public operator that signals MissingBackpressureException without buffering
+                return flowable.toObservable().toFlowable(BackpressureStrategy.ERROR);
+            default:
+                return flowable;
+        }
+    }
+
+    private static boolean isGroupCommitted(@Nullable Scheduler scheduler, @NonNull PreparedOperation<?, ?, ?> operation) {
+        return scheduler instanceof GroupCommitScheduler
+                && (operation instanceof PreparedPut || operation instanceof PreparedDelete);
+    }
+
     @VisibleForTesting
     @NonNull
     static Set<String> extractTables(
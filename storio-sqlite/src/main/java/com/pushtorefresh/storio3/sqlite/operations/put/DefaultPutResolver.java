@@ -2,15 +2,24 @@ package com.pushtorefresh.storio3.sqlite.operations.put;
 
 import android.content.ContentValues;
 import android.database.Cursor;
+import android.database.sqlite.SQLiteConstraintException;
+import android.database.sqlite.SQLiteStatement;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
+import com.pushtorefresh.storio3.StorIOException;
 import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio3.sqlite.impl.RowKeys;
 import com.pushtorefresh.storio3.sqlite.queries.InsertQuery;
 import com.pushtorefresh.storio3.sqlite.queries.Query;
 import com.pushtorefresh.storio3.sqlite.queries.UpdateQuery;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import static com.pushtorefresh.storio3.internal.InternalQueries.nullableArrayOfStringsFromListOfStrings;
 import static com.pushtorefresh.storio3.internal.InternalQueries.nullableString;
+import static java.util.Collections.singleton;
 
 /**
  * Default implementation of {@link PutResolver}.
@@ -48,6 +57,47 @@ public abstract class DefaultPutResolver<T> extends PutResolver<T> {
     @NonNull
     protected abstract ContentValues mapToContentValues(@NonNull T object);
 
+    /**
+     * Returns strategy that is used to decide between insert and update of the object.
+     * <p>
+     * By default returns {@link PutStrategy#QUERY_FIRST}.
+     *
+     * @return non-null put strategy.
+     */
+    @NonNull
+    protected PutStrategy putStrategy() {
+        return PutStrategy.QUERY_FIRST;
+    }
+
+    /**
+     * Returns names of columns that {@link #bindToStatement(SQLiteStatement, Object)} binds,
+     * in order of bind indexes starting from {@code 1}.
+     * <p>
+     * Used by bulk insert of collections to compile single {@code INSERT} statement
+     * and execute it for each object instead of building {@link ContentValues}.
+     * <p>
+     * By default returns {@code null} which means that compiled insert is not supported
+     * and {@link #performPut(StorIOSQLite, Object)} will be used instead.
+     *
+     * @return nullable array of column names.
+     */
+    @Nullable
+    protected String[] insertStatementColumns() {
+        return null;
+    }
+
+    /**
+     * Binds values of object to compiled {@code INSERT} statement,
+     * columns are ordered as in {@link #insertStatementColumns()}.
+     *
+     * @param statement non-null compiled statement, bind indexes start from {@code 1}.
+     * @param object    non-null object that should be bound to the statement.
+     */
+    protected void bindToStatement(@NonNull SQLiteStatement statement, @NonNull T object) {
+        throw new IllegalStateException("bindToStatement() is not implemented, " +
+                "please override it together with insertStatementColumns()");
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -57,6 +107,19 @@ public abstract class DefaultPutResolver<T> extends PutResolver<T> {
         final UpdateQuery updateQuery = mapToUpdateQuery(object);
         final StorIOSQLite.LowLevel lowLevel = storIOSQLite.lowLevel();
 
+        switch (putStrategy()) {
+            case UPDATE_FIRST:
+                return updateFirst(lowLevel, updateQuery, object);
+            case INSERT_FIRST:
+                return insertFirst(lowLevel, updateQuery, object);
+            default:
+                return queryFirst(lowLevel, updateQuery, object);
+        }
+    }
+
+    @NonNull
+    private PutResult queryFirst(@NonNull StorIOSQLite.LowLevel lowLevel, @NonNull UpdateQuery updateQuery, @NonNull T object) {
+
         // for data consistency in concurrent environment, encapsulate Put Operation into transaction
         lowLevel.beginTransaction();
 
@@ -75,10 +138,10 @@ public abstract class DefaultPutResolver<T> extends PutResolver<T> {
                 if (cursor.getCount() == 0) {
                     final InsertQuery insertQuery = mapToInsertQuery(object);
                     final long insertedId = lowLevel.insert(insertQuery, contentValues);
-                    putResult = PutResult.newInsertResult(insertedId, insertQuery.table(), insertQuery.affectsTags());
+                    putResult = withAffectedRows(PutResult.newInsertResult(insertedId, insertQuery.table(), insertQuery.affectsTags()), updateQuery, contentValues);
                 } else {
                     final int numberOfRowsUpdated = lowLevel.update(updateQuery, contentValues);
-                    putResult = PutResult.newUpdateResult(numberOfRowsUpdated, updateQuery.table(), updateQuery.affectsTags());
+                    putResult = withAffectedRows(PutResult.newUpdateResult(numberOfRowsUpdated, updateQuery.table(), updateQuery.affectsTags()), updateQuery, contentValues);
                 }
             } finally {
                 cursor.close();
@@ -93,4 +156,141 @@ public abstract class DefaultPutResolver<T> extends PutResolver<T> {
             lowLevel.endTransaction();
         }
     }
+
+    @NonNull
+    private PutResult updateFirst(@NonNull StorIOSQLite.LowLevel lowLevel, @NonNull UpdateQuery updateQuery, @NonNull T object) {
+        final ContentValues contentValues = mapToContentValues(object);
+
+        // object without key (for example, not yet stored object with autoincrement id) can't be updated
+        if (!hasNullKey(updateQuery, contentValues)) {
+            final int numberOfRowsUpdated = lowLevel.update(updateQuery, contentValues);
+
+            if (numberOfRowsUpdated > 0) {
+                return withAffectedRows(PutResult.newUpdateResult(numberOfRowsUpdated, updateQuery.table(), updateQuery.affectsTags()), updateQuery, contentValues);
+            }
+        }
+
+        final InsertQuery insertQuery = mapToInsertQuery(object);
+
+        try {
+            final long insertedId = lowLevel.insert(insertQuery, contentValues);
+            return withAffectedRows(PutResult.newInsertResult(insertedId, insertQuery.table(), insertQuery.affectsTags()), updateQuery, contentValues);
+        } catch (SQLiteConstraintException insertException) {
+            // row could be inserted concurrently between update and insert
+            return updateAfterFailedInsert(lowLevel, updateQuery, contentValues, insertException);
+        }
+    }
+
+    @NonNull
+    private PutResult insertFirst(@NonNull StorIOSQLite.LowLevel lowLevel, @NonNull UpdateQuery updateQuery, @NonNull T object) {
+        final ContentValues contentValues = mapToContentValues(object);
+        final InsertQuery insertQuery = mapToInsertQuery(object);
+
+        try {
+            final long insertedId = lowLevel.insert(insertQuery, contentValues);
+            return withAffectedRows(PutResult.newInsertResult(insertedId, insertQuery.table(), insertQuery.affectsTags()), updateQuery, contentValues);
+        } catch (SQLiteConstraintException insertException) {
+            // most likely row already exists
+            return updateAfterFailedInsert(lowLevel, updateQuery, contentValues, insertException);
+        }
+    }
+
+    /**
+     * Checks if {@link UpdateQuery} selects the row by one column and value of the column is {@code null},
+     * {@code "column = ?"} never matches {@code NULL}, so update can be skipped.
+     */
+    private static boolean hasNullKey(@NonNull UpdateQuery updateQuery, @NonNull ContentValues contentValues) {
+        final String keyColumn = RowKeys.keyColumn(updateQuery.where(), updateQuery.whereArgs());
+
+        if (keyColumn == null) {
+            return false;
+        }
+
+        if (contentValues.containsKey(keyColumn)) {
+            return contentValues.get(keyColumn) == null;
+        }
+
+        // null key could be omitted from content values, then only converted argument of where clause is left
+        return "null".equals(updateQuery.whereArgs().get(0));
+    }
+
+    /**
+     * Updates row after insert failed because of constraint violation.
+     * If no rows were updated, violated constraint was not the conflict with existing row
+     * (NOT NULL, CHECK or UNIQUE constraint of other column), so object can not be stored.
+     */
+    @NonNull
+    private static PutResult updateAfterFailedInsert(
+            @NonNull StorIOSQLite.LowLevel lowLevel,
+            @NonNull UpdateQuery updateQuery,
+            @NonNull ContentValues contentValues,
+            @NonNull SQLiteConstraintException insertException
+    ) {
+        final int numberOfRowsUpdated = lowLevel.update(updateQuery, contentValues);
+
+        if (numberOfRowsUpdated == 0) {
+            throw new StorIOException("Object was neither inserted nor updated, updateQuery = " + updateQuery, insertException);
+        }
+
+        return withAffectedRows(PutResult.newUpdateResult(numberOfRowsUpdated, updateQuery.table(), updateQuery.affectsTags()), updateQuery, contentValues);
+    }
+
+    /**
+     * Adds key of the affected row to the result if {@link UpdateQuery} selects the row by one column,
+     * so observers of other rows can skip the change, see {@link com.pushtorefresh.storio3.sqlite.Changes#affectedKeys(String, String)}.
+     * New value of the column and id of inserted row are added too, since they can be the key of the row after put.
+     * <p>
+     * Result of update also gets columns of {@link ContentValues},
+     * see {@link com.pushtorefresh.storio3.sqlite.Changes#affectedColumns(String)}.
+     */
+    @NonNull
+    private static PutResult withAffectedRows(@NonNull PutResult putResult, @NonNull UpdateQuery updateQuery, @NonNull ContentValues contentValues) {
+        if (!putResult.affectedTables().equals(singleton(updateQuery.table()))) {
+            return putResult;
+        }
+
+        final Long insertedId = putResult.insertedId();
+
+        if (insertedId == null) {
+            // update changes only columns of content values, while inserted row affects all of them
+            putResult = putResult.withAffectedColumns(contentValues.keySet());
+        }
+
+        final String keyColumn = RowKeys.keyColumn(updateQuery.where(), updateQuery.whereArgs());
+
+        if (keyColumn == null) {
+            return putResult;
+        }
+
+        final Set<String> keys = new HashSet<String>(3);
+
+        if (insertedId != null) {
+            // row that matches where clause did not exist
+            keys.add(insertedId.toString());
+        } else {
+            keys.add(updateQuery.whereArgs().get(0));
+        }
+
+        final Object newKey = contentValues.get(keyColumn);
+        if (newKey != null) {
+            keys.add(newKey.toString());
+        }
+
+        return putResult.withAffectedKeys(keyColumn, keys);
+    }
+
+    /**
+     * Inserts object via compiled statement without checking if it's already stored.
+     */
+    @NonNull
+    PutResult performInsert(@NonNull InsertStatements insertStatements, @NonNull String[] columns, @NonNull T object) {
+        final InsertQuery insertQuery = mapToInsertQuery(object);
+        final SQLiteStatement statement = insertStatements.statement(insertQuery.table(), columns);
+
+        statement.clearBindings();
+        bindToStatement(statement, object);
+
+        final long insertedId = statement.executeInsert();
+        return PutResult.newInsertResult(insertedId, insertQuery.table(), insertQuery.affectsTags());
+    }
 }
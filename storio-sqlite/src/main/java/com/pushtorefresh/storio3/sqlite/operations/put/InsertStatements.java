@@ -0,0 +1,88 @@
+package com.pushtorefresh.storio3.sqlite.operations.put;
+
+import android.database.sqlite.SQLiteStatement;
+import android.support.annotation.NonNull;
+
+import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compiled {@code INSERT} statements reused during one bulk Put Operation.
+ * <p>
+ * Not thread-safe, should be closed after the operation.
+ */
+final class InsertStatements {
+
+    @NonNull
+    private final StorIOSQLite.LowLevel lowLevel;
+
+    @NonNull
+    private final Map<String, CompiledInsert> statements = new HashMap<String, CompiledInsert>(2); // table -> statement
+
+    InsertStatements(@NonNull StorIOSQLite.LowLevel lowLevel) {
+        this.lowLevel = lowLevel;
+    }
+
+    @NonNull
+    SQLiteStatement statement(@NonNull String table, @NonNull String[] columns) {
+        final CompiledInsert compiledInsert = statements.get(table);
+
+        if (compiledInsert != null) {
+            if (Arrays.equals(compiledInsert.columns, columns)) {
+                return compiledInsert.statement;
+            }
+            compiledInsert.statement.close();
+        }
+
+        final SQLiteStatement statement = lowLevel.compileStatement(insertSql(table, columns));
+        statements.put(table, new CompiledInsert(columns, statement));
+        return statement;
+    }
+
+    void close() {
+        for (final CompiledInsert compiledInsert : statements.values()) {
+            compiledInsert.statement.close();
+        }
+        statements.clear();
+    }
+
+    @NonNull
+    static String insertSql(@NonNull String table, @NonNull String[] columns) {
+        final StringBuilder sql = new StringBuilder(32 + columns.length * 16)
+                .append("INSERT INTO ")
+                .append(table)
+                .append(" (");
+
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(columns[i]);
+        }
+
+        sql.append(") VALUES (");
+
+        for (int i = 0; i < columns.length; i++) {
+            sql.append(i > 0 ? ", ?" : "?");
+        }
+
+        return sql.append(')').toString();
+    }
+
+    private static final class CompiledInsert {
+
+        @NonNull
+        final String[] columns;
+
+        @NonNull
+        final SQLiteStatement statement;
+
+        CompiledInsert(@NonNull String[] columns, @NonNull SQLiteStatement statement) {
+            this.columns = columns;
+            this.statement = statement;
+        }
+    }
+}
@@ -10,11 +10,13 @@ import com.pushtorefresh.storio3.sqlite.Changes;
 import com.pushtorefresh.storio3.Interceptor;
 import com.pushtorefresh.storio3.sqlite.SQLiteTypeMapping;
 import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio3.sqlite.impl.ChangesCollector;
+import com.pushtorefresh.storio3.sqlite.operations.BatchProgressListener;
 import com.pushtorefresh.storio3.sqlite.operations.internal.RxJavaUtils;
 
-import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -33,6 +35,15 @@ public class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResults<T>
 
     private final boolean useTransaction;
 
+    private final boolean useBulkInsert;
+
+    private final int batchSize;
+
+    @Nullable
+    private final BatchProgressListener progressListener;
+
+    private final boolean resultsOfObjects;
+
     @Nullable
     private final PutResolver<T> explicitPutResolver;
 
@@ -40,9 +51,24 @@ public class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResults<T>
                                    @NonNull Collection<T> objects,
                                    @Nullable PutResolver<T> explicitPutResolver,
                                    boolean useTransaction) {
+        this(storIOSQLite, objects, explicitPutResolver, useTransaction, false, 0, null, true);
+    }
+
+    PreparedPutCollectionOfObjects(@NonNull StorIOSQLite storIOSQLite,
+                                   @NonNull Collection<T> objects,
+                                   @Nullable PutResolver<T> explicitPutResolver,
+                                   boolean useTransaction,
+                                   boolean useBulkInsert,
+                                   int batchSize,
+                                   @Nullable BatchProgressListener progressListener,
+                                   boolean resultsOfObjects) {
         super(storIOSQLite);
         this.objects = objects;
         this.useTransaction = useTransaction;
+        this.useBulkInsert = useBulkInsert;
+        this.batchSize = batchSize;
+        this.progressListener = progressListener;
+        this.resultsOfObjects = resultsOfObjects;
         this.explicitPutResolver = explicitPutResolver;
     }
 
@@ -54,7 +80,7 @@ public class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResults<T>
      * <p>
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxWriteScheduler()} if not {@code null}.</dd>
      * </dl>
      *
      * @return non-null {@link Flowable} which will perform Put Operation.
@@ -70,7 +96,7 @@ public class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResults<T>
      * Creates {@link Single} which will perform Put Operation lazily when somebody subscribes to it and send result to observer.
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxWriteScheduler()} if not {@code null}.</dd>
      * </dl>
      *
      * @return non-null {@link Single} which will perform Put Operation.
@@ -87,7 +113,7 @@ public class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResults<T>
      * Creates {@link Completable} which will perform Put Operation lazily when somebody subscribes to it.
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxWriteScheduler()} if not {@code null}.</dd>
      * </dl>
      *
      * @return non-null {@link Completable} which will perform Put Operation.
@@ -118,15 +144,18 @@ public class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResults<T>
             try {
                 final StorIOSQLite.LowLevel lowLevel = storIOSQLite.lowLevel();
 
-                // Nullable
-                final List<SimpleImmutableEntry<T, PutResolver<T>>> objectsAndPutResolvers;
+                final List<T> objectsList = objects instanceof List
+                        ? (List<T>) objects
+                        : new ArrayList<T>(objects);
+
+                final List<PutResolver<T>> putResolvers;
 
                 if (explicitPutResolver != null) {
-                    objectsAndPutResolvers = null;
+                    putResolvers = Collections.nCopies(objectsList.size(), explicitPutResolver);
                 } else {
-                    objectsAndPutResolvers = new ArrayList<SimpleImmutableEntry<T, PutResolver<T>>>(objects.size());
+                    putResolvers = new ArrayList<PutResolver<T>>(objectsList.size());
 
-                    for (final T object : objects) {
+                    for (final T object : objectsList) {
                         //noinspection unchecked
                         final SQLiteTypeMapping<T> typeMapping
                                 = (SQLiteTypeMapping<T>) lowLevel.typeMapping(object.getClass());
@@ -137,90 +166,192 @@ public class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResults<T>
                                     "db was not affected by this operation, please add type mapping for this type");
                         }
 
-                        objectsAndPutResolvers.add(new SimpleImmutableEntry<T, PutResolver<T>>(
-                                object,
-                                typeMapping.putResolver()
-                        ));
+                        putResolvers.add(typeMapping.putResolver());
                     }
                 }
 
-                if (useTransaction) {
-                    lowLevel.beginTransaction();
-                }
-
-                final Map<T, PutResult> results = new HashMap<T, PutResult>(objects.size());
-                boolean transactionSuccessful = false;
+                final Map<T, PutResult> results = resultsOfObjects
+                        ? new HashMap<T, PutResult>(objectsList.size())
+                        : null;
+                final Summary summary = new Summary(false);
+                final InsertStatements insertStatements = useBulkInsert ? new InsertStatements(lowLevel) : null;
 
                 try {
-                    if (explicitPutResolver != null) {
-                        for (final T object : objects) {
-                            final PutResult putResult = explicitPutResolver.performPut(storIOSQLite, object);
-                            results.put(object, putResult);
-
-                            if (!useTransaction && (putResult.wasInserted() || putResult.wasUpdated())) {
-                                final Changes changes = Changes.newInstance(
-                                        putResult.affectedTables(),
-                                        putResult.affectedTags()
-                                );
-                                lowLevel.notifyAboutChanges(changes);
+                    if (useTransaction) {
+                        final int numberOfObjects = objectsList.size();
+                        final int chunkSize = batchSize > 0 ? batchSize : numberOfObjects;
+                        int numberOfCommittedObjects = 0;
+
+                        do {
+                            final int chunkEnd = Math.min(numberOfObjects, numberOfCommittedObjects + chunkSize);
+
+                            putInTransaction(
+                                    lowLevel,
+                                    objectsList.subList(numberOfCommittedObjects, chunkEnd),
+                                    putResolvers.subList(numberOfCommittedObjects, chunkEnd),
+                                    results,
+                                    summary,
+                                    insertStatements
+                            );
+
+                            numberOfCommittedObjects = chunkEnd;
+
+                            if (progressListener != null) {
+                                progressListener.onBatchCommitted(numberOfCommittedObjects, numberOfObjects);
                             }
-                        }
+                        } while (numberOfCommittedObjects < numberOfObjects);
                     } else {
-                        for (final SimpleImmutableEntry<T, PutResolver<T>> objectAndPutResolver : objectsAndPutResolvers) {
-                            final T object = objectAndPutResolver.getKey();
-                            final PutResolver<T> putResolver = objectAndPutResolver.getValue();
+                        for (int i = 0; i < objectsList.size(); i++) {
+                            final T object = objectsList.get(i);
+                            final PutResult putResult = performPut(putResolvers.get(i), object, insertStatements);
 
-                            final PutResult putResult = putResolver.performPut(storIOSQLite, object);
+                            if (results != null) {
+                                results.put(object, putResult);
+                            }
 
-                            results.put(object, putResult);
+                            if (putResult.wasInserted() || putResult.wasUpdated()) {
+                                summary.add(putResult);
 
-                            if (!useTransaction && (putResult.wasInserted() || putResult.wasUpdated())) {
-                                final Changes changes = Changes.newInstance(
-                                        putResult.affectedTables(),
-                                        putResult.affectedTags()
-                                );
-                                lowLevel.notifyAboutChanges(changes);
+                                lowLevel.notifyAboutChanges(putResult.toChanges());
                             }
                         }
                     }
-
-                    if (useTransaction) {
-                        lowLevel.setTransactionSuccessful();
-                        transactionSuccessful = true;
-                    }
                 } finally {
-                    if (useTransaction) {
-                        lowLevel.endTransaction();
-
-                        // if put was in transaction and it was successful -> notify about changes
-                        if (transactionSuccessful) {
-                            final Set<String> affectedTables = new HashSet<String>(1); // in most cases it will be 1 table
-                            final Set<String> affectedTags = new HashSet<String>(1);
-
-                            for (final T object : results.keySet()) {
-                                final PutResult putResult = results.get(object);
-                                if (putResult.wasInserted() || putResult.wasUpdated()) {
-                                    affectedTables.addAll(putResult.affectedTables());
-                                    affectedTags.addAll(putResult.affectedTags());
-                                }
-                            }
-
-                            // IMPORTANT: Notifying about change should be done after end of transaction
-                            // It'll reduce number of possible deadlock situations
-                            if (!affectedTables.isEmpty() || !affectedTags.isEmpty()) {
-                                lowLevel.notifyAboutChanges(Changes.newInstance(affectedTables, affectedTags));
-                            }
-                        }
+                    if (insertStatements != null) {
+                        insertStatements.close();
                     }
                 }
 
-                //noinspection unchecked
-                return (Result) PutResults.newInstance(results);
+                if (results != null) {
+                    //noinspection unchecked
+                    return (Result) PutResults.newInstance(results);
+                } else {
+                    //noinspection unchecked
+                    return (Result) PutResults.<T>newInstance(
+                            summary.numberOfInserts,
+                            summary.numberOfUpdates,
+                            summary.affectedTables,
+                            summary.affectedTags
+                    );
+                }
 
             } catch (Exception exception) {
                 throw new StorIOException("Error has occurred during Put operation. objects = " + objects, exception);
             }
         }
+
+        private void putInTransaction(
+                @NonNull StorIOSQLite.LowLevel lowLevel,
+                @NonNull List<T> objects,
+                @NonNull List<PutResolver<T>> putResolvers,
+                @Nullable Map<T, PutResult> results,
+                @NonNull Summary summary,
+                @Nullable InsertStatements insertStatements) {
+
+            // changes of objects are sent merged after end of transaction
+            final Summary transactionSummary = new Summary(true);
+            boolean transactionSuccessful = false;
+
+            lowLevel.beginTransaction();
+
+            try {
+                for (int i = 0; i < objects.size(); i++) {
+                    final T object = objects.get(i);
+                    final PutResult putResult = performPut(putResolvers.get(i), object, insertStatements);
+
+                    if (results != null) {
+                        results.put(object, putResult);
+                    }
+
+                    if (putResult.wasInserted() || putResult.wasUpdated()) {
+                        transactionSummary.add(putResult);
+                    }
+                }
+
+                lowLevel.setTransactionSuccessful();
+                transactionSuccessful = true;
+            } finally {
+                lowLevel.endTransaction();
+
+                // IMPORTANT: Notifying about change should be done after end of transaction
+                // It'll reduce number of possible deadlock situations
+                if (transactionSuccessful) {
+                    summary.add(transactionSummary);
+
+                    //noinspection ConstantConditions
+                    if (!transactionSummary.changes.isEmpty()) {
+                        lowLevel.notifyAboutChanges(transactionSummary.changes.merge());
+                    }
+                }
+            }
+        }
+
+        @NonNull
+        private PutResult performPut(@NonNull PutResolver<T> putResolver, @NonNull T object, @Nullable InsertStatements insertStatements) {
+            if (insertStatements != null && putResolver instanceof DefaultPutResolver) {
+                final DefaultPutResolver<T> defaultPutResolver = (DefaultPutResolver<T>) putResolver;
+                final String[] columns = defaultPutResolver.insertStatementColumns();
+
+                if (columns != null) {
+                    return defaultPutResolver.performInsert(insertStatements, columns, object);
+                }
+            }
+
+            return putResolver.performPut(storIOSQLite, object);
+        }
+    }
+
+    /**
+     * Aggregated results of inserts and updates.
+     */
+    private static final class Summary {
+
+        int numberOfInserts;
+
+        int numberOfUpdates;
+
+        @NonNull
+        final Set<String> affectedTables = new HashSet<String>(1); // in most cases it will be 1 table
+
+        @NonNull
+        final Set<String> affectedTags = new HashSet<String>(1);
+
+        /**
+         * Changes of results added to this summary, not copied by {@link #add(Summary)},
+         * {@code null} if changes are not collected.
+         */
+        @Nullable
+        final ChangesCollector changes;
+
+        Summary(boolean collectChanges) {
+            changes = collectChanges ? new ChangesCollector() : null;
+        }
+
+        void add(@NonNull PutResult putResult) {
+            if (putResult.wasInserted()) {
+                numberOfInserts++;
+            } else {
+                //noinspection ConstantConditions
+                numberOfUpdates += putResult.numberOfRowsUpdated();
+            }
+
+            affectedTables.addAll(putResult.affectedTables());
+            affectedTags.addAll(putResult.affectedTags());
+
+            final String keyedTable = putResult.keyedTable();
+
+            if (changes != null && (keyedTable == null
+                    || changes.reserveKeys(keyedTable, putResult.affectedKeys().size(), putResult.affectedTags()))) {
+                changes.add(putResult.toChanges());
+            }
+        }
+
+        void add(@NonNull Summary summary) {
+            numberOfInserts += summary.numberOfInserts;
+            numberOfUpdates += summary.numberOfUpdates;
+            affectedTables.addAll(summary.affectedTables);
+            affectedTags.addAll(summary.affectedTags);
+        }
     }
 
     /**
@@ -240,6 +371,15 @@ public class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResults<T>
 
         private boolean useTransaction = true;
 
+        private boolean useBulkInsert;
+
+        private int batchSize;
+
+        @Nullable
+        private BatchProgressListener progressListener;
+
+        private boolean resultsOfObjects = true;
+
         Builder(@NonNull StorIOSQLite storIOSQLite, @NonNull Collection<T> objects) {
             this.storIOSQLite = storIOSQLite;
             this.objects = objects;
@@ -275,6 +415,78 @@ public class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResults<T>
             return this;
         }
 
+        /**
+         * Optional: Defines that objects should be inserted via single compiled {@code INSERT} statement
+         * instead of querying for existing row and building {@link android.content.ContentValues} for each object.
+         * <p>
+         * Applies only to {@link DefaultPutResolver}s that support it,
+         * see {@link DefaultPutResolver#insertStatementColumns()}, other resolvers are used as usual.
+         * Objects are always inserted, so use it only for objects that are not stored yet,
+         * {@link PutResolver#performPut(StorIOSQLite, Object)} is not called for them.
+         * <p>
+         * By default, bulk insert is not used
+         *
+         * @return builder
+         */
+        @NonNull
+        public Builder<T> useBulkInsert(boolean useBulkInsert) {
+            this.useBulkInsert = useBulkInsert;
+            return this;
+        }
+
+        /**
+         * Optional: Defines that objects will be committed in separate transactions
+         * of {@code batchSize} objects each instead of one transaction for whole collection.
+         * <p>
+         * Other writers can access database between batches, and one merged {@link Changes}
+         * is sent after each batch. If some batch fails, previous batches stay committed.
+         * Applies only if transaction is used, see {@link #useTransaction(boolean)}.
+         * <p>
+         * By default, whole collection is committed in one transaction
+         *
+         * @param batchSize number of objects per transaction, {@code 0} for whole collection.
+         * @return builder
+         */
+        @NonNull
+        public Builder<T> batchSize(int batchSize) {
+            if (batchSize < 0) {
+                throw new IllegalArgumentException("batchSize must be >= 0, but was: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Optional: Specifies listener that will be notified after each committed transaction,
+         * see {@link #batchSize(int)}.
+         *
+         * @param progressListener listener or {@code null}.
+         * @return builder
+         */
+        @NonNull
+        public Builder<T> withProgressListener(@Nullable BatchProgressListener progressListener) {
+            this.progressListener = progressListener;
+            return this;
+        }
+
+        /**
+         * Optional: Defines that {@link PutResults} should contain result of each object.
+         * <p>
+         * If {@code false}, only aggregated results are collected: number of inserts and updates,
+         * affected tables and tags. Objects are not hashed and not retained by {@link PutResults},
+         * which saves memory and time for big collections, see {@link PutResults#hasResultsOfObjects()}.
+         * <p>
+         * By default, result of each object is collected
+         *
+         * @param resultsOfObjects {@code true} to collect result of each object, {@code false} to collect only aggregated results.
+         * @return builder
+         */
+        @NonNull
+        public Builder<T> resultsOfObjects(boolean resultsOfObjects) {
+            this.resultsOfObjects = resultsOfObjects;
+            return this;
+        }
+
         /**
          * Prepares Put Operation
          *
@@ -286,7 +498,11 @@ public class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResults<T>
                     storIOSQLite,
                     objects,
                     putResolver,
-                    useTransaction
+                    useTransaction,
+                    useBulkInsert,
+                    batchSize,
+                    progressListener,
+                    resultsOfObjects
             );
         }
     }
@@ -6,7 +6,6 @@ import android.support.annotation.NonNull;
 
 import com.pushtorefresh.storio3.StorIOException;
 import com.pushtorefresh.storio3.operations.PreparedOperation;
-import com.pushtorefresh.storio3.sqlite.Changes;
 import com.pushtorefresh.storio3.Interceptor;
 import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio3.sqlite.operations.internal.RxJavaUtils;
@@ -43,7 +42,7 @@ public class PreparedPutContentValues extends PreparedPut<PutResult, ContentValu
      * <p>
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxWriteScheduler()} if not {@code null}.</dd>
      * </dl>
      *
      * @return non-null {@link Flowable} which will perform Put Operation.
@@ -60,7 +59,7 @@ public class PreparedPutContentValues extends PreparedPut<PutResult, ContentValu
      * Creates {@link Single} which will perform Put Operation lazily when somebody subscribes to it and send result to observer.
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxWriteScheduler()} if not {@code null}.</dd>
      * </dl>
      *
      * @return non-null {@link Single} which will perform Put Operation.
@@ -77,7 +76,7 @@ public class PreparedPutContentValues extends PreparedPut<PutResult, ContentValu
      * Creates {@link Completable} which will perform Put Operation lazily when somebody subscribes to it.
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxWriteScheduler()} if not {@code null}.</dd>
      * </dl>
      *
      * @return non-null {@link Completable} which will perform Put Operation.
@@ -108,8 +107,7 @@ public class PreparedPutContentValues extends PreparedPut<PutResult, ContentValu
             try {
                 final PutResult putResult = putResolver.performPut(storIOSQLite, contentValues);
                 if (putResult.wasInserted() || putResult.wasUpdated()) {
-                    final Changes changes = Changes.newInstance(putResult.affectedTables(), putResult.affectedTags());
-                    storIOSQLite.lowLevel().notifyAboutChanges(changes);
+                    storIOSQLite.lowLevel().notifyAboutChanges(putResult.toChanges());
                 }
                 //noinspection unchecked
                 return (Result) putResult;
@@ -11,10 +11,10 @@ import com.pushtorefresh.storio3.Interceptor;
 import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio3.sqlite.operations.internal.RxJavaUtils;
 
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import io.reactivex.BackpressureStrategy;
 import io.reactivex.Completable;
@@ -53,7 +53,7 @@ public class PreparedPutContentValuesIterable extends PreparedPut<PutResults<Con
      * <p>
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxWriteScheduler()} if not {@code null}.</dd>
      * </dl>
      *
      * @return non-null {@link Flowable} which will perform Put Operation.
@@ -70,7 +70,7 @@ public class PreparedPutContentValuesIterable extends PreparedPut<PutResults<Con
      * Creates {@link Single} which will perform Put Operation lazily when somebody subscribes to it and send result to observer.
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxWriteScheduler()} if not {@code null}.</dd>
      * </dl>
      *
      * @return non-null {@link Single} which will perform Put Operation.
@@ -87,7 +87,7 @@ public class PreparedPutContentValuesIterable extends PreparedPut<PutResults<Con
      * Creates {@link Completable} which will perform Put Operation lazily when somebody subscribes to it.
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxWriteScheduler()} if not {@code null}.</dd>
      * </dl>
      *
      * @return non-null {@link Completable} which will perform Put Operation.
@@ -132,11 +132,7 @@ public class PreparedPutContentValuesIterable extends PreparedPut<PutResults<Con
                         putResults.put(contentValues, putResult);
 
                         if (!useTransaction && (putResult.wasInserted() || putResult.wasUpdated())) {
-                            final Changes changes = Changes.newInstance(
-                                    putResult.affectedTables(),
-                                    putResult.affectedTags()
-                            );
-                            lowLevel.notifyAboutChanges(changes);
+                            lowLevel.notifyAboutChanges(putResult.toChanges());
                         }
                     }
 
@@ -149,21 +145,19 @@ public class PreparedPutContentValuesIterable extends PreparedPut<PutResults<Con
                         lowLevel.endTransaction();
 
                         if (transactionSuccessful) {
-                            final Set<String> affectedTables = new HashSet<String>(1); // in most cases it will be 1 table
-                            final Set<String> affectedTags = new HashSet<String>(1);
+                            final List<Changes> changes = new ArrayList<Changes>(putResults.size());
 
                             for (final ContentValues contentValues : putResults.keySet()) {
                                 final PutResult putResult = putResults.get(contentValues);
                                 if (putResult.wasInserted() || putResult.wasUpdated()) {
-                                    affectedTables.addAll(putResult.affectedTables());
-                                    affectedTags.addAll(putResult.affectedTags());
+                                    changes.add(putResult.toChanges());
                                 }
                             }
 
                             // IMPORTANT: Notifying about change should be done after end of transaction
                             // It'll reduce number of possible deadlock situations
-                            if (!affectedTables.isEmpty() || !affectedTags.isEmpty()) {
-                                lowLevel.notifyAboutChanges(Changes.newInstance(affectedTables, affectedTags));
+                            if (!changes.isEmpty()) {
+                                lowLevel.notifyAboutChanges(Changes.merge(changes));
                             }
                         }
                     }
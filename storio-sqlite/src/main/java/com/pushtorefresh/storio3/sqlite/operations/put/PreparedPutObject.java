@@ -6,7 +6,6 @@ import android.support.annotation.Nullable;
 
 import com.pushtorefresh.storio3.StorIOException;
 import com.pushtorefresh.storio3.operations.PreparedOperation;
-import com.pushtorefresh.storio3.sqlite.Changes;
 import com.pushtorefresh.storio3.Interceptor;
 import com.pushtorefresh.storio3.sqlite.SQLiteTypeMapping;
 import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
@@ -46,7 +45,7 @@ public class PreparedPutObject<T> extends PreparedPut<PutResult, T> {
      * <p>
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxWriteScheduler()} if not {@code null}.</dd>
      * </dl>
      *
      * @return non-null {@link Flowable} which will perform Put Operation.
@@ -63,7 +62,7 @@ public class PreparedPutObject<T> extends PreparedPut<PutResult, T> {
      * Creates {@link Single} which will perform Put Operation lazily when somebody subscribes to it and send result to observer.
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxWriteScheduler()} if not {@code null}.</dd>
      * </dl>
      *
      * @return non-null {@link Single} which will perform Put Operation.
@@ -80,7 +79,7 @@ public class PreparedPutObject<T> extends PreparedPut<PutResult, T> {
      * Creates {@link Completable} which will perform Put Operation lazily when somebody subscribes to it.
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link StorIOSQLite#defaultRxScheduler()} if not {@code null}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxWriteScheduler()} if not {@code null}.</dd>
      * </dl>
      *
      * @return non-null {@link Completable} which will perform Put Operation.
@@ -130,11 +129,7 @@ public class PreparedPutObject<T> extends PreparedPut<PutResult, T> {
                 final PutResult putResult = putResolver.performPut(storIOSQLite, object);
 
                 if (putResult.wasInserted() || putResult.wasUpdated()) {
-                    final Changes changes = Changes.newInstance(
-                            putResult.affectedTables(),
-                            putResult.affectedTags()
-                    );
-                    lowLevel.notifyAboutChanges(changes);
+                    lowLevel.notifyAboutChanges(putResult.toChanges());
                 }
 
                 //noinspection unchecked
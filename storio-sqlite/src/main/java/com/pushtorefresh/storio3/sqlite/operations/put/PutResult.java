@@ -3,7 +3,10 @@ package com.pushtorefresh.storio3.sqlite.operations.put;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import com.pushtorefresh.storio3.sqlite.Changes;
+
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Set;
 
 import static com.pushtorefresh.storio3.internal.Checks.checkNotEmpty;
@@ -31,11 +34,38 @@ public final class PutResult {
     @NonNull
     private final Set<String> affectedTags;
 
+    /**
+     * Column that identifies affected rows, {@code null} if affected rows are unknown.
+     */
+    @Nullable
+    private final String keyColumn;
+
+    @NonNull
+    private final Set<String> affectedKeys;
+
+    /**
+     * Columns changed by update, {@code null} if any column could be changed.
+     */
+    @Nullable
+    private final Set<String> affectedColumns;
+
     private PutResult(
             @Nullable Long insertedId,
             @Nullable Integer numberOfRowsUpdated,
             @NonNull Set<String> affectedTables,
             @NonNull Set<String> affectedTags
+    ) {
+        this(insertedId, numberOfRowsUpdated, affectedTables, affectedTags, null, Collections.<String>emptySet(), null);
+    }
+
+    private PutResult(
+            @Nullable Long insertedId,
+            @Nullable Integer numberOfRowsUpdated,
+            @NonNull Set<String> affectedTables,
+            @NonNull Set<String> affectedTags,
+            @Nullable String keyColumn,
+            @NonNull Set<String> affectedKeys,
+            @Nullable Set<String> affectedColumns
     ) {
         if (numberOfRowsUpdated != null && numberOfRowsUpdated < 0) {
             throw new IllegalArgumentException("Number of rows updated must be >= 0, but was: " + numberOfRowsUpdated);
@@ -59,6 +89,9 @@ public final class PutResult {
         this.numberOfRowsUpdated = numberOfRowsUpdated;
         this.affectedTables = unmodifiableSet(affectedTables);
         this.affectedTags = unmodifiableSet(affectedTags);
+        this.keyColumn = keyColumn;
+        this.affectedKeys = unmodifiableSet(affectedKeys);
+        this.affectedColumns = affectedColumns != null ? unmodifiableSet(affectedColumns) : null;
     }
 
     /**
@@ -286,6 +319,79 @@ public final class PutResult {
         return affectedTags;
     }
 
+    /**
+     * Creates copy of this result with known keys of affected rows,
+     * result must have single affected table.
+     */
+    @NonNull
+    PutResult withAffectedKeys(@NonNull String keyColumn, @NonNull Set<String> affectedKeys) {
+        return new PutResult(insertedId, numberOfRowsUpdated, affectedTables, affectedTags, keyColumn, affectedKeys, affectedColumns);
+    }
+
+    /**
+     * Creates copy of this result of update with known changed columns,
+     * result must have single affected table.
+     */
+    @NonNull
+    PutResult withAffectedColumns(@NonNull Set<String> affectedColumns) {
+        return new PutResult(insertedId, numberOfRowsUpdated, affectedTables, affectedTags, keyColumn, affectedKeys, affectedColumns);
+    }
+
+    /**
+     * Gets column that identifies affected rows.
+     *
+     * @return name of the column or {@code null} if affected rows are unknown.
+     */
+    @Nullable
+    public String keyColumn() {
+        return keyColumn;
+    }
+
+    /**
+     * Gets values of {@link #keyColumn()} of affected rows.
+     *
+     * @return non-null unmodifiable set of keys, empty if affected rows are unknown.
+     */
+    @NonNull
+    public Set<String> affectedKeys() {
+        return affectedKeys;
+    }
+
+    /**
+     * Gets columns which values could be changed by update.
+     *
+     * @return unmodifiable set of columns or {@code null} if any column could be changed.
+     */
+    @Nullable
+    public Set<String> affectedColumns() {
+        return affectedColumns;
+    }
+
+    /**
+     * Keys identify rows of one table, so keys of result that affects several tables are not used.
+     *
+     * @return the only affected table if keys of affected rows are known, {@code null} otherwise.
+     */
+    @Nullable
+    String keyedTable() {
+        return keyColumn != null && affectedTables.size() == 1 ? affectedTables.iterator().next() : null;
+    }
+
+    /**
+     * @return {@link Changes} with keys of affected rows and affected columns if they are known.
+     */
+    @NonNull
+    Changes toChanges() {
+        final String keyedTable = keyedTable();
+        final Changes changes = keyedTable != null
+                ? Changes.newInstance(keyedTable, keyColumn, affectedKeys, affectedTags)
+                : Changes.newInstance(affectedTables, affectedTags);
+
+        return affectedColumns != null && affectedTables.size() == 1
+                ? changes.withAffectedColumns(affectedTables.iterator().next(), affectedColumns)
+                : changes;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -298,7 +404,11 @@ public final class PutResult {
         if (numberOfRowsUpdated != null ? !numberOfRowsUpdated.equals(putResult.numberOfRowsUpdated) : putResult.numberOfRowsUpdated != null)
             return false;
         if (!affectedTables.equals(putResult.affectedTables)) return false;
-        return affectedTags.equals(putResult.affectedTags);
+        if (!affectedTags.equals(putResult.affectedTags)) return false;
+        if (keyColumn != null ? !keyColumn.equals(putResult.keyColumn) : putResult.keyColumn != null)
+            return false;
+        if (!affectedKeys.equals(putResult.affectedKeys)) return false;
+        return affectedColumns != null ? affectedColumns.equals(putResult.affectedColumns) : putResult.affectedColumns == null;
 
     }
 
@@ -308,6 +418,9 @@ public final class PutResult {
         result = 31 * result + (numberOfRowsUpdated != null ? numberOfRowsUpdated.hashCode() : 0);
         result = 31 * result + affectedTables.hashCode();
         result = 31 * result + affectedTags.hashCode();
+        result = 31 * result + (keyColumn != null ? keyColumn.hashCode() : 0);
+        result = 31 * result + affectedKeys.hashCode();
+        result = 31 * result + (affectedColumns != null ? affectedColumns.hashCode() : 0);
         return result;
     }
 
@@ -318,6 +431,8 @@ public final class PutResult {
                 ", numberOfRowsUpdated=" + numberOfRowsUpdated +
                 ", affectedTables=" + affectedTables +
                 ", affectedTags=" + affectedTags +
+                (keyColumn != null ? ", keyColumn=" + keyColumn + ", affectedKeys=" + affectedKeys : "") +
+                (affectedColumns != null ? ", affectedColumns=" + affectedColumns : "") +
                 '}';
     }
 }
@@ -4,7 +4,9 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Immutable container for results of Put Operation.
@@ -15,17 +17,47 @@ import java.util.Map;
  */
 public final class PutResults<T> {
 
-    @NonNull
+    /**
+     * {@code null} if only aggregated results were collected.
+     */
+    @Nullable
     private final Map<T, PutResult> results;
 
+    /**
+     * Aggregated results, used only if {@link #results} are {@code null}.
+     */
+    private final int aggregatedNumberOfInserts;
+
+    private final int aggregatedNumberOfUpdates;
+
+    @Nullable
+    private final Set<String> aggregatedAffectedTables;
+
+    @Nullable
+    private final Set<String> aggregatedAffectedTags;
+
     @Nullable
     private transient volatile Integer numberOfInsertsCache;
 
     @Nullable
     private transient volatile Integer numberOfUpdatesCache;
 
-    private PutResults(@NonNull Map<T, PutResult> putResults) {
-        this.results = Collections.unmodifiableMap(putResults);
+    @Nullable
+    private transient volatile Set<String> affectedTablesCache;
+
+    @Nullable
+    private transient volatile Set<String> affectedTagsCache;
+
+    private PutResults(@Nullable Map<T, PutResult> putResults,
+                       int numberOfInserts,
+                       int numberOfUpdates,
+                       @Nullable Set<String> affectedTables,
+                       @Nullable Set<String> affectedTags) {
+        this.results = putResults != null ? Collections.unmodifiableMap(putResults) : null;
+        this.aggregatedNumberOfInserts = numberOfInserts;
+        this.aggregatedNumberOfUpdates = numberOfUpdates;
+        this.aggregatedAffectedTables = affectedTables != null ? Collections.unmodifiableSet(affectedTables) : null;
+        this.aggregatedAffectedTags = affectedTags != null ? Collections.unmodifiableSet(affectedTags) : null;
     }
 
     /**
@@ -37,25 +69,62 @@ public final class PutResults<T> {
      */
     @NonNull
     public static <T> PutResults<T> newInstance(@NonNull Map<T, PutResult> putResults) {
-        return new PutResults<T>(putResults);
+        return new PutResults<T>(putResults, 0, 0, null, null);
+    }
+
+    /**
+     * Creates new instance of {@link PutResults} that has only aggregated results,
+     * {@link #results()} is not available for it.
+     *
+     * @param numberOfInserts number of inserted objects.
+     * @param numberOfUpdates number of updated rows.
+     * @param affectedTables  tables that were affected.
+     * @param affectedTags    tags that were affected.
+     * @param <T>             type of objects.
+     * @return immutable instance of {@link PutResults}.
+     */
+    @NonNull
+    public static <T> PutResults<T> newInstance(int numberOfInserts,
+                                                int numberOfUpdates,
+                                                @NonNull Set<String> affectedTables,
+                                                @NonNull Set<String> affectedTags) {
+        return new PutResults<T>(null, numberOfInserts, numberOfUpdates, affectedTables, affectedTags);
     }
 
     /**
      * Returns immutable Map of pairs {@code (object, PutResult)}.
      *
      * @return immutable Map of pairs {@code (object, PutResult)}.
+     * @throws IllegalStateException if only aggregated results were collected.
      */
     @NonNull
     public Map<T, PutResult> results() {
+        if (results == null) {
+            throw new IllegalStateException("Results of objects were not collected, " +
+                    "only aggregated results are available");
+        }
         return results;
     }
 
+    /**
+     * Checks whether results of each object are available via {@link #results()}.
+     *
+     * @return {@code true} if results of objects were collected, {@code false} if only aggregated results are available.
+     */
+    public boolean hasResultsOfObjects() {
+        return results != null;
+    }
+
     /**
      * Returns number of inserts from all {@link #results()}.
      *
      * @return number of inserts from all {@link #results()}.
      */
     public int numberOfInserts() {
+        if (results == null) {
+            return aggregatedNumberOfInserts;
+        }
+
         final Integer cachedValue = numberOfInsertsCache;
 
         if (cachedValue != null) {
@@ -81,6 +150,10 @@ public final class PutResults<T> {
      * @return number of updates from all {@link #results()}.
      */
     public int numberOfUpdates() {
+        if (results == null) {
+            return aggregatedNumberOfUpdates;
+        }
+
         final Integer cachedValue = numberOfUpdatesCache;
 
         if (cachedValue != null) {
@@ -103,6 +176,70 @@ public final class PutResults<T> {
         return numberOfUpdates;
     }
 
+    /**
+     * Returns tables that were affected by inserts and updates.
+     *
+     * @return non-null, immutable set of affected tables.
+     */
+    @NonNull
+    public Set<String> affectedTables() {
+        if (results == null) {
+            //noinspection ConstantConditions
+            return aggregatedAffectedTables;
+        }
+
+        final Set<String> cachedValue = affectedTablesCache;
+
+        if (cachedValue != null) {
+            return cachedValue;
+        }
+
+        final Set<String> affectedTables = new HashSet<String>(1); // in most cases it will be 1 table
+
+        for (final PutResult putResult : results.values()) {
+            if (putResult.wasInserted() || putResult.wasUpdated()) {
+                affectedTables.addAll(putResult.affectedTables());
+            }
+        }
+
+        final Set<String> result = Collections.unmodifiableSet(affectedTables);
+        affectedTablesCache = result;
+
+        return result;
+    }
+
+    /**
+     * Returns tags that were affected by inserts and updates.
+     *
+     * @return non-null, immutable set of affected tags.
+     */
+    @NonNull
+    public Set<String> affectedTags() {
+        if (results == null) {
+            //noinspection ConstantConditions
+            return aggregatedAffectedTags;
+        }
+
+        final Set<String> cachedValue = affectedTagsCache;
+
+        if (cachedValue != null) {
+            return cachedValue;
+        }
+
+        final Set<String> affectedTags = new HashSet<String>(1);
+
+        for (final PutResult putResult : results.values()) {
+            if (putResult.wasInserted() || putResult.wasUpdated()) {
+                affectedTags.addAll(putResult.affectedTags());
+            }
+        }
+
+        final Set<String> result = Collections.unmodifiableSet(affectedTags);
+        affectedTagsCache = result;
+
+        return result;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -110,18 +247,33 @@ public final class PutResults<T> {
 
         PutResults<?> that = (PutResults<?>) o;
 
-        return results.equals(that.results);
+        if (aggregatedNumberOfInserts != that.aggregatedNumberOfInserts) return false;
+        if (aggregatedNumberOfUpdates != that.aggregatedNumberOfUpdates) return false;
+        if (results != null ? !results.equals(that.results) : that.results != null)
+            return false;
+        if (aggregatedAffectedTables != null ? !aggregatedAffectedTables.equals(that.aggregatedAffectedTables) : that.aggregatedAffectedTables != null)
+            return false;
+        return aggregatedAffectedTags != null ? aggregatedAffectedTags.equals(that.aggregatedAffectedTags) : that.aggregatedAffectedTags == null;
     }
 
     @Override
     public int hashCode() {
-        return results.hashCode();
+        int result = results != null ? results.hashCode() : 0;
+        result = 31 * result + aggregatedNumberOfInserts;
+        result = 31 * result + aggregatedNumberOfUpdates;
+        result = 31 * result + (aggregatedAffectedTables != null ? aggregatedAffectedTables.hashCode() : 0);
+        result = 31 * result + (aggregatedAffectedTags != null ? aggregatedAffectedTags.hashCode() : 0);
+        return result;
     }
 
     @Override
     public String toString() {
         return "PutResults{" +
                 "results=" + results +
+                ", aggregatedNumberOfInserts=" + aggregatedNumberOfInserts +
+                ", aggregatedNumberOfUpdates=" + aggregatedNumberOfUpdates +
+                ", aggregatedAffectedTables=" + aggregatedAffectedTables +
+                ", aggregatedAffectedTags=" + aggregatedAffectedTags +
                 '}';
     }
 }
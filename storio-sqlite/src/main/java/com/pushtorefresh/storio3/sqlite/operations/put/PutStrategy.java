@@ -0,0 +1,30 @@
+package com.pushtorefresh.storio3.sqlite.operations.put;
+
+/**
+ * Defines how {@link DefaultPutResolver} decides between insert and update of the object.
+ */
+public enum PutStrategy {
+
+    /**
+     * Queries for existing row first, then inserts or updates it, all in one transaction.
+     * <p>
+     * Default strategy, three statements and a transaction per object.
+     */
+    QUERY_FIRST,
+
+    /**
+     * Updates row first and inserts it only if no rows were updated.
+     * <p>
+     * Single statement if row already exists, best when most puts are updates.
+     */
+    UPDATE_FIRST,
+
+    /**
+     * Inserts row first and updates it only if insert failed because of constraint violation.
+     * <p>
+     * Single statement if row does not exist yet, best when most puts are inserts.
+     * If update after failed insert does not match any row, violated constraint was not
+     * the conflict with existing row, and {@link com.pushtorefresh.storio3.StorIOException} is thrown.
+     */
+    INSERT_FIRST
+}
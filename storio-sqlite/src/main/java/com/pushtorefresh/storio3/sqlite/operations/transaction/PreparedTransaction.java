@@ -0,0 +1,301 @@
+package com.pushtorefresh.storio3.sqlite.operations.transaction;
+
+import android.support.annotation.CheckResult;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
+
+import com.pushtorefresh.storio3.Interceptor;
+import com.pushtorefresh.storio3.StorIOException;
+import com.pushtorefresh.storio3.operations.PreparedCompletableOperation;
+import com.pushtorefresh.storio3.operations.PreparedOperation;
+import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio3.sqlite.operations.internal.RxJavaUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.Single;
+
+import static com.pushtorefresh.storio3.impl.ChainImpl.buildChain;
+import static com.pushtorefresh.storio3.internal.Checks.checkNotNull;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Prepared Transaction Operation for {@link StorIOSQLite}.
+ * <p>
+ * Executes several operations (Put, Delete, Execute SQL or any other) and tasks one by one
+ * in a single transaction: either all of them are committed or, if one of them fails,
+ * none of them.
+ * <p>
+ * Changes of all operations are sent once, merged into one {@link com.pushtorefresh.storio3.sqlite.Changes},
+ * after the transaction ends, see {@link StorIOSQLite.LowLevel#notifyAboutChanges}.
+ */
+public class PreparedTransaction implements PreparedCompletableOperation<TransactionResult, List<Object>> {
+
+    @NonNull
+    private final StorIOSQLite storIOSQLite;
+
+    /**
+     * Operations and tasks in order of execution.
+     */
+    @NonNull
+    private final List<Object> steps;
+
+    PreparedTransaction(@NonNull StorIOSQLite storIOSQLite, @NonNull List<Object> steps) {
+        this.storIOSQLite = storIOSQLite;
+        this.steps = unmodifiableList(new ArrayList<Object>(steps));
+    }
+
+    /**
+     * Executes Transaction Operation immediately in current thread.
+     * <p>
+     * Notice: This is blocking I/O operation that should not be executed on the Main Thread,
+     * it can cause ANR (Activity Not Responding dialog), block the UI and drop animations frames.
+     * So please, call this method on some background thread. See {@link WorkerThread}.
+     *
+     * @return non-null results of operations and tasks.
+     */
+    @WorkerThread
+    @NonNull
+    @Override
+    public TransactionResult executeAsBlocking() {
+        return buildChain(storIOSQLite.interceptors(), new RealCallInterceptor())
+                .proceed(this);
+    }
+
+    /**
+     * Creates {@link Flowable} which will perform Transaction Operation and send result to observer.
+     * <p>
+     * Returned {@link Flowable} will be "Cold Flowable", which means that it performs
+     * transaction only after subscribing to it. Also, it emits the result once.
+     * <p>
+     * <dl>
+     * <dt><b>Scheduler:</b></dt>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxWriteScheduler()} if not {@code null}.</dd>
+     * </dl>
+     *
+     * @return non-null {@link Flowable} which will perform Transaction Operation
+     * and send result to observer.
+     */
+    @NonNull
+    @CheckResult
+    @Override
+    public Flowable<TransactionResult> asRxFlowable(@NonNull BackpressureStrategy backpressureStrategy) {
+        return RxJavaUtils.createFlowable(storIOSQLite, this, backpressureStrategy);
+    }
+
+    /**
+     * Creates {@link Single} which will perform Transaction Operation lazily when somebody subscribes to it
+     * and send result to observer.
+     * <dl>
+     * <dt><b>Scheduler:</b></dt>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxWriteScheduler()} if not {@code null}.</dd>
+     * </dl>
+     *
+     * @return non-null {@link Single} which will perform Transaction Operation.
+     * And send result to observer.
+     */
+    @NonNull
+    @CheckResult
+    @Override
+    public Single<TransactionResult> asRxSingle() {
+        return RxJavaUtils.createSingle(storIOSQLite, this);
+    }
+
+    /**
+     * Creates {@link Completable} which will perform Transaction Operation lazily when somebody subscribes to it.
+     * <dl>
+     * <dt><b>Scheduler:</b></dt>
+     * <dd>Operates on {@link StorIOSQLite#defaultRxWriteScheduler()} if not {@code null}.</dd>
+     * </dl>
+     *
+     * @return non-null {@link Completable} which will perform Transaction Operation.
+     */
+    @NonNull
+    @CheckResult
+    @Override
+    public Completable asRxCompletable() {
+        return RxJavaUtils.createCompletable(storIOSQLite, this);
+    }
+
+    @NonNull
+    @Override
+    public List<Object> getData() {
+        return steps;
+    }
+
+    private class RealCallInterceptor implements Interceptor {
+        @NonNull
+        @Override
+        public <Result, WrappedResult, Data> Result intercept(@NonNull PreparedOperation<Result, WrappedResult, Data> operation, @NonNull Chain chain) {
+            final StorIOSQLite.LowLevel lowLevel = storIOSQLite.lowLevel();
+
+            try {
+                final List<Object> results = new ArrayList<Object>(steps.size());
+
+                lowLevel.beginTransaction();
+
+                try {
+                    for (Object step : steps) {
+                        if (step instanceof PreparedOperation) {
+                            results.add(((PreparedOperation<?, ?, ?>) step).executeAsBlocking());
+                        } else {
+                            results.add(((Task<?>) step).execute(storIOSQLite));
+                        }
+                    }
+
+                    lowLevel.setTransactionSuccessful();
+                } finally {
+                    // changes of operations are sent here, after the outermost transaction ends
+                    lowLevel.endTransaction();
+                }
+
+                //noinspection unchecked
+                return (Result) TransactionResult.newInstance(steps, results);
+            } catch (Exception exception) {
+                throw new StorIOException("Error has occurred during Transaction operation. steps = " + steps, exception);
+            }
+        }
+    }
+
+    /**
+     * Custom work of transaction, for example reading of data that following operations depend on.
+     * <p>
+     * Implementation should use passed {@link StorIOSQLite} on the calling thread,
+     * otherwise its work will not be part of the transaction.
+     *
+     * @param <Result> type of result.
+     */
+    public interface Task<Result> {
+
+        /**
+         * Executes work of the task in the transaction.
+         *
+         * @param storIOSQLite instance of {@link StorIOSQLite}.
+         * @return nullable result of the task, see {@link TransactionResult#resultOf(Task)}.
+         */
+        @Nullable
+        @WorkerThread
+        Result execute(@NonNull StorIOSQLite storIOSQLite);
+    }
+
+    /**
+     * Builder for {@link PreparedTransaction}.
+     */
+    public static class Builder {
+
+        @NonNull
+        private final StorIOSQLite storIOSQLite;
+
+        public Builder(@NonNull StorIOSQLite storIOSQLite) {
+            this.storIOSQLite = storIOSQLite;
+        }
+
+        /**
+         * Required: Specifies operation of transaction.
+         *
+         * @param operation prepared operation, for example Put, Delete or Execute SQL.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder operation(@NonNull PreparedOperation<?, ?, ?> operation) {
+            return new CompleteBuilder(storIOSQLite).operation(operation);
+        }
+
+        /**
+         * Required: Specifies operations of transaction.
+         *
+         * @param operations prepared operations, they are executed in order of iteration.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder operations(@NonNull Collection<? extends PreparedOperation<?, ?, ?>> operations) {
+            return new CompleteBuilder(storIOSQLite).operations(operations);
+        }
+
+        /**
+         * Required: Specifies custom work of transaction.
+         *
+         * @param task task of transaction.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder task(@NonNull Task<?> task) {
+            return new CompleteBuilder(storIOSQLite).task(task);
+        }
+    }
+
+    /**
+     * Compile-time safe part of {@link Builder}.
+     */
+    public static class CompleteBuilder {
+
+        @NonNull
+        private final StorIOSQLite storIOSQLite;
+
+        @NonNull
+        private final List<Object> steps = new ArrayList<Object>();
+
+        CompleteBuilder(@NonNull StorIOSQLite storIOSQLite) {
+            this.storIOSQLite = storIOSQLite;
+        }
+
+        /**
+         * Adds operation to transaction, it will be executed after previously added operations and tasks.
+         *
+         * @param operation prepared operation, for example Put, Delete or Execute SQL.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder operation(@NonNull PreparedOperation<?, ?, ?> operation) {
+            checkNotNull(operation, "Please specify operation");
+            steps.add(operation);
+            return this;
+        }
+
+        /**
+         * Adds operations to transaction, they will be executed after previously added operations and tasks.
+         *
+         * @param operations prepared operations, they are executed in order of iteration.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder operations(@NonNull Collection<? extends PreparedOperation<?, ?, ?>> operations) {
+            checkNotNull(operations, "Please specify operations");
+
+            for (PreparedOperation<?, ?, ?> operation : operations) {
+                operation(operation);
+            }
+
+            return this;
+        }
+
+        /**
+         * Adds task to transaction, it will be executed after previously added operations and tasks.
+         *
+         * @param task task of transaction.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder task(@NonNull Task<?> task) {
+            checkNotNull(task, "Please specify task");
+            steps.add(task);
+            return this;
+        }
+
+        /**
+         * Prepares Transaction Operation.
+         *
+         * @return {@link PreparedTransaction} instance.
+         */
+        @NonNull
+        public PreparedTransaction prepare() {
+            return new PreparedTransaction(storIOSQLite, steps);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.pushtorefresh.storio3.sqlite.operations.transaction;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.pushtorefresh.storio3.operations.PreparedOperation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.pushtorefresh.storio3.internal.Checks.checkNotNull;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Immutable container for results of Transaction Operation.
+ * <p>
+ * Instances of this class are Immutable
+ */
+public final class TransactionResult {
+
+    /**
+     * Operations and tasks in order of execution.
+     */
+    @NonNull
+    private final List<Object> steps;
+
+    /**
+     * Results of {@link #steps}, can contain {@code null}.
+     */
+    @NonNull
+    private final List<Object> results;
+
+    private TransactionResult(@NonNull List<Object> steps, @NonNull List<Object> results) {
+        checkNotNull(steps, "Please specify operations of transaction");
+        checkNotNull(results, "Please specify results of transaction");
+
+        if (steps.size() != results.size()) {
+            throw new IllegalArgumentException("Number of results = " + results.size()
+                    + " is not equal to number of operations = " + steps.size());
+        }
+
+        this.steps = unmodifiableList(new ArrayList<Object>(steps));
+        this.results = unmodifiableList(new ArrayList<Object>(results));
+    }
+
+    /**
+     * Creates new instance of immutable container for results of Transaction Operation.
+     *
+     * @param steps   operations and tasks of transaction in order of execution.
+     * @param results results of operations and tasks in the same order.
+     * @return new instance of {@link TransactionResult}.
+     */
+    @NonNull
+    public static TransactionResult newInstance(@NonNull List<Object> steps, @NonNull List<Object> results) {
+        return new TransactionResult(steps, results);
+    }
+
+    /**
+     * Gets results of operations and tasks in order of their execution.
+     *
+     * @return immutable list of results, can contain {@code null}.
+     */
+    @NonNull
+    public List<Object> results() {
+        return results;
+    }
+
+    /**
+     * Gets result of the operation.
+     * If operation was added to transaction several times, result of its last execution is returned.
+     *
+     * @param operation operation of transaction.
+     * @param <Result>  type of result of operation.
+     * @return nullable result of operation.
+     * @throws IllegalArgumentException if operation is not part of transaction.
+     */
+    @Nullable
+    public <Result> Result resultOf(@NonNull PreparedOperation<Result, ?, ?> operation) {
+        //noinspection unchecked
+        return (Result) resultOfStep(operation);
+    }
+
+    /**
+     * Gets result of the task.
+     * If task was added to transaction several times, result of its last execution is returned.
+     *
+     * @param task     task of transaction.
+     * @param <Result> type of result of task.
+     * @return nullable result of task.
+     * @throws IllegalArgumentException if task is not part of transaction.
+     */
+    @Nullable
+    public <Result> Result resultOf(@NonNull PreparedTransaction.Task<Result> task) {
+        //noinspection unchecked
+        return (Result) resultOfStep(task);
+    }
+
+    @Nullable
+    private Object resultOfStep(@NonNull Object step) {
+        // operations do not override equals(), so they are compared by identity
+        for (int i = steps.size() - 1; i >= 0; i--) {
+            if (steps.get(i) == step) {
+                return results.get(i);
+            }
+        }
+
+        throw new IllegalArgumentException("Operation is not part of transaction, operation = " + step);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        TransactionResult that = (TransactionResult) o;
+
+        if (!steps.equals(that.steps)) return false;
+        return results.equals(that.results);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = steps.hashCode();
+        result = 31 * result + results.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionResult{" +
+                "steps=" + steps +
+                ", results=" + results +
+                '}';
+    }
+}
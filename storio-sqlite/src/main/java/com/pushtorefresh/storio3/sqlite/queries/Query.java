@@ -49,6 +49,9 @@ public final class Query implements GetQuery {
     @NonNull
     private final Set<String> observesTags;
 
+    @NonNull
+    private final Set<String> observesColumns;
+
     /**
      * Please use {@link com.pushtorefresh.storio3.sqlite.queries.Query.Builder}
      * instead of constructor.
@@ -56,7 +59,8 @@ public final class Query implements GetQuery {
     private Query(boolean distinct, @NonNull String table, @Nullable List<String> columns,
                   @Nullable String where, @Nullable List<String> whereArgs,
                   @Nullable String groupBy, @Nullable String having,
-                  @Nullable String orderBy, @Nullable String limit, @Nullable Set<String> observesTags) {
+                  @Nullable String orderBy, @Nullable String limit, @Nullable Set<String> observesTags,
+                  @Nullable Set<String> observesColumns) {
 
         if (observesTags != null) {
             for (String tag : observesTags) {
@@ -64,6 +68,12 @@ public final class Query implements GetQuery {
             }
         }
 
+        if (observesColumns != null) {
+            for (String column : observesColumns) {
+                checkNotEmpty(column, "observesColumn must not be null or empty, observesColumns = " + observesColumns);
+            }
+        }
+
         this.distinct = distinct;
         this.table = table;
         this.columns = unmodifiableNonNullListOfStrings(columns);
@@ -74,6 +84,7 @@ public final class Query implements GetQuery {
         this.orderBy = nonNullString(orderBy);
         this.limit = nonNullString(limit);
         this.observesTags = unmodifiableNonNullSet(observesTags);
+        this.observesColumns = unmodifiableNonNullSet(observesColumns);
     }
 
     /**
@@ -213,6 +224,22 @@ public final class Query implements GetQuery {
         return observesTags;
     }
 
+    /**
+     * Gets optional immutable set of columns which values are used by this query.
+     * <p>
+     * Changes of rows of {@link #table()} which are known to affect only other columns
+     * will not re-execute this query, see {@link com.pushtorefresh.storio3.sqlite.Changes#affectedColumns(String)}.
+     * <p>
+     * If empty — columns are derived from {@link #columns()} for simple queries,
+     * otherwise any change of the table re-executes the query.
+     *
+     * @return non-null, immutable set of columns, that should be observed by this query.
+     */
+    @NonNull
+    public Set<String> observesColumns() {
+        return observesColumns;
+    }
+
     /**
      * Returns the new builder that has the same content as this query.
      * It can be used to create new queries.
@@ -240,7 +267,8 @@ public final class Query implements GetQuery {
         if (!having.equals(query.having)) return false;
         if (!orderBy.equals(query.orderBy)) return false;
         if (!limit.equals(query.limit)) return false;
-        return observesTags.equals(query.observesTags);
+        if (!observesTags.equals(query.observesTags)) return false;
+        return observesColumns.equals(query.observesColumns);
     }
 
     @Override
@@ -255,6 +283,7 @@ public final class Query implements GetQuery {
         result = 31 * result + orderBy.hashCode();
         result = 31 * result + limit.hashCode();
         result = 31 * result + observesTags.hashCode();
+        result = 31 * result + observesColumns.hashCode();
         return result;
     }
 
@@ -271,6 +300,7 @@ public final class Query implements GetQuery {
                 ", orderBy='" + orderBy + '\'' +
                 ", limit='" + limit + '\'' +
                 ", observesTags='" + observesTags + '\'' +
+                (observesColumns.isEmpty() ? "" : ", observesColumns=" + observesColumns) +
                 '}';
     }
 
@@ -336,6 +366,9 @@ public final class Query implements GetQuery {
         @Nullable
         private Set<String> observesTags;
 
+        @Nullable
+        private Set<String> observesColumns;
+
         CompleteBuilder(@NonNull String table) {
             this.table = table;
         }
@@ -351,6 +384,7 @@ public final class Query implements GetQuery {
             this.orderBy = query.orderBy;
             this.limit = query.limit;
             this.observesTags = query.observesTags;
+            this.observesColumns = query.observesColumns;
         }
 
         /**
@@ -615,6 +649,41 @@ public final class Query implements GetQuery {
             return this;
         }
 
+        /**
+         * Optional: Specifies set of columns which values are used by this query.
+         * <p/>
+         * Changes of rows which are known to affect only other columns will not re-execute this query.
+         * Columns used by {@code WHERE}, {@code GROUP BY}, {@code HAVING} and {@code ORDER BY} clauses
+         * should be specified too.
+         *
+         * @param column  the first required column which will be observed by this query.
+         * @param columns optional set of columns which will be observed by this query.
+         * @return builder.
+         * @see Query#observesColumns()
+         */
+        @NonNull
+        public CompleteBuilder observesColumns(@NonNull String column, @Nullable String... columns) {
+            observesColumns = nonNullSet(column, columns);
+            return this;
+        }
+
+        /**
+         * Optional: Specifies set of columns which values are used by this query.
+         * <p/>
+         * Changes of rows which are known to affect only other columns will not re-execute this query.
+         * Columns used by {@code WHERE}, {@code GROUP BY}, {@code HAVING} and {@code ORDER BY} clauses
+         * should be specified too.
+         *
+         * @param columns set of columns which will be observed by this query.
+         * @return builder.
+         * @see Query#observesColumns()
+         */
+        @NonNull
+        public CompleteBuilder observesColumns(@Nullable Collection<String> columns) {
+            observesColumns = nonNullSet(columns);
+            return this;
+        }
+
         /**
          * Builds immutable instance of {@link Query}.
          *
@@ -636,7 +705,8 @@ public final class Query implements GetQuery {
                     having,
                     orderBy,
                     limit,
-                    observesTags
+                    observesTags,
+                    observesColumns
             );
         }
     }
@@ -39,6 +39,9 @@ public final class RawQuery implements GetQuery {
     @NonNull
     private final Set<String> observesTags;
 
+    @NonNull
+    private final Set<String> observesColumns;
+
     /**
      * Please use {@link com.pushtorefresh.storio3.sqlite.queries.RawQuery.Builder}
      * instead of constructor.
@@ -49,7 +52,8 @@ public final class RawQuery implements GetQuery {
             @Nullable Set<String> affectsTables,
             @Nullable Set<String> affectsTags,
             @Nullable Set<String> observesTables,
-            @Nullable Set<String> observesTags
+            @Nullable Set<String> observesTags,
+            @Nullable Set<String> observesColumns
     ) {
         if (affectsTags != null) {
             for (String tag : affectsTags) {
@@ -63,12 +67,19 @@ public final class RawQuery implements GetQuery {
             }
         }
 
+        if (observesColumns != null) {
+            for (String column : observesColumns) {
+                checkNotEmpty(column, "observesColumn must not be null or empty, observesColumns = " + observesColumns);
+            }
+        }
+
         this.query = query;
         this.args = unmodifiableNonNullList(args);
         this.affectsTables = unmodifiableNonNullSet(affectsTables);
         this.affectsTags = unmodifiableNonNullSet(affectsTags);
         this.observesTables = unmodifiableNonNullSet(observesTables);
         this.observesTags = unmodifiableNonNullSet(observesTags);
+        this.observesColumns = unmodifiableNonNullSet(observesColumns);
     }
 
     /**
@@ -139,6 +150,20 @@ public final class RawQuery implements GetQuery {
         return observesTags;
     }
 
+    /**
+     * Gets optional immutable set of columns of {@link #observesTables()} which values are used by this query.
+     * <p>
+     * Changes of rows which are known to affect only other columns will not re-execute this query,
+     * see {@link com.pushtorefresh.storio3.sqlite.Changes#affectedColumns(String)}.
+     * If empty — any change of observed tables re-executes this query.
+     *
+     * @return non-null, immutable set of columns, that should be observed by this query.
+     */
+    @NonNull
+    public Set<String> observesColumns() {
+        return observesColumns;
+    }
+
     /**
      * Returns the new builder that has the same content as this query.
      * It can be used to create new queries.
@@ -162,7 +187,8 @@ public final class RawQuery implements GetQuery {
         if (!affectsTables.equals(rawQuery.affectsTables)) return false;
         if (!affectsTags.equals(rawQuery.affectsTags)) return false;
         if (!observesTables.equals(rawQuery.observesTables)) return false;
-        return observesTags.equals(rawQuery.observesTags);
+        if (!observesTags.equals(rawQuery.observesTags)) return false;
+        return observesColumns.equals(rawQuery.observesColumns);
 
     }
 
@@ -174,6 +200,7 @@ public final class RawQuery implements GetQuery {
         result = 31 * result + affectsTags.hashCode();
         result = 31 * result + observesTables.hashCode();
         result = 31 * result + observesTags.hashCode();
+        result = 31 * result + observesColumns.hashCode();
         return result;
     }
 
@@ -186,6 +213,7 @@ public final class RawQuery implements GetQuery {
                 ", affectsTags=" + affectsTags +
                 ", observesTables=" + observesTables +
                 ", observesTags=" + observesTags +
+                (observesColumns.isEmpty() ? "" : ", observesColumns=" + observesColumns) +
                 '}';
     }
 
@@ -242,6 +270,8 @@ public final class RawQuery implements GetQuery {
 
         private Set<String> observesTags;
 
+        private Set<String> observesColumns;
+
         CompleteBuilder(@NonNull String query) {
             this.query = query;
         }
@@ -253,6 +283,7 @@ public final class RawQuery implements GetQuery {
             this.affectsTags = rawQuery.affectsTags;
             this.observesTables = rawQuery.observesTables;
             this.observesTags = rawQuery.observesTags;
+            this.observesColumns = rawQuery.observesColumns;
         }
 
         /**
@@ -443,6 +474,39 @@ public final class RawQuery implements GetQuery {
             return this;
         }
 
+        /**
+         * Optional: Specifies set of columns of observed tables which values are used by this query.
+         * Changes of rows which are known to affect only other columns will not re-execute this query.
+         * <p>
+         * Default values is {@code null}.
+         *
+         * @param column  the first required column which should be observed by this query.
+         * @param columns optional set of columns which should be observed by this query.
+         * @return builder.
+         * @see RawQuery#observesColumns()
+         */
+        @NonNull
+        public CompleteBuilder observesColumns(@NonNull String column, @Nullable String... columns) {
+            observesColumns = nonNullSet(column, columns);
+            return this;
+        }
+
+        /**
+         * Optional: Specifies set of columns of observed tables which values are used by this query.
+         * Changes of rows which are known to affect only other columns will not re-execute this query.
+         * <p>
+         * Default values is {@code null}.
+         *
+         * @param columns set of columns which should be observed by this query.
+         * @return builder.
+         * @see RawQuery#observesColumns()
+         */
+        @NonNull
+        public CompleteBuilder observesColumns(@Nullable Collection<String> columns) {
+            observesColumns = nonNullSet(columns);
+            return this;
+        }
+
         /**
          * Builds immutable instance of {@link RawQuery}.
          *
@@ -456,7 +520,8 @@ public final class RawQuery implements GetQuery {
                     affectsTables,
                     affectsTags,
                     observesTables,
-                    observesTags
+                    observesTags,
+                    observesColumns
             );
         }
     }
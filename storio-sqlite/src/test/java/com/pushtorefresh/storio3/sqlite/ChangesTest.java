@@ -13,6 +13,7 @@ import java.util.Set;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Java6Assertions.assertThat;
@@ -131,6 +132,128 @@ public class ChangesTest {
         Changes.newInstance("table", "");
     }
 
+    @Test
+    public void newInstance_withKeys() {
+        final Changes changes = Changes.newInstance("table", "_id", asList("1", "2"), singleton("tag"));
+
+        assertThat(changes.affectedTables()).containsOnly("table");
+        assertThat(changes.affectedTags()).containsOnly("tag");
+        assertThat(changes.affectedKeys("table", "_id")).containsOnly("1", "2");
+    }
+
+    @Test
+    public void affectedKeys_shouldBeEmptyForNotAffectedTable() {
+        final Changes changes = Changes.newInstance("table", "_id", singleton("1"), null);
+
+        assertThat(changes.affectedKeys("other_table", "_id")).isEmpty();
+    }
+
+    @Test
+    public void affectedKeys_shouldBeNullIfKeysAreUnknown() {
+        assertThat(Changes.newInstance("table").affectedKeys("table", "_id")).isNull();
+        assertThat(Changes.newInstance("table", "_id", singleton("1"), null).affectedKeys("table", "email")).isNull();
+    }
+
+    @Test
+    public void merge_shouldUniteKeysOfSameKeyColumn() {
+        final Changes changes = Changes.merge(asList(
+                Changes.newInstance("table", "_id", singleton("1"), singleton("tag1")),
+                Changes.newInstance("table", "_id", singleton("2"), singleton("tag2")),
+                Changes.newInstance("other_table", "_id", singleton("3"), null)
+        ));
+
+        assertThat(changes.affectedTables()).containsOnly("table", "other_table");
+        assertThat(changes.affectedTags()).containsOnly("tag1", "tag2");
+        assertThat(changes.affectedKeys("table", "_id")).containsOnly("1", "2");
+        assertThat(changes.affectedKeys("other_table", "_id")).containsOnly("3");
+    }
+
+    @Test
+    public void merge_shouldDropKeysIfSomeChangesHaveUnknownKeys() {
+        final Changes changes = Changes.merge(asList(
+                Changes.newInstance("table", "_id", singleton("1"), null),
+                Changes.newInstance("table"),
+                Changes.newInstance("table", "_id", singleton("2"), null)
+        ));
+
+        assertThat(changes.affectedKeys("table", "_id")).isNull();
+        assertThat(changes).isEqualTo(Changes.newInstance("table"));
+    }
+
+    @Test
+    public void merge_shouldDropKeysOfDifferentKeyColumns() {
+        final Changes changes = Changes.merge(asList(
+                Changes.newInstance("table", "_id", singleton("1"), null),
+                Changes.newInstance("table", "email", singleton("a@example.com"), null)
+        ));
+
+        assertThat(changes.affectedKeys("table", "_id")).isNull();
+        assertThat(changes.affectedKeys("table", "email")).isNull();
+    }
+
+    @Test
+    public void withAffectedColumns() {
+        final Changes changes = Changes.newInstance("table", "tag")
+                .withAffectedColumns("table", asList("column1", "column2"));
+
+        assertThat(changes.affectedTables()).containsOnly("table");
+        assertThat(changes.affectedTags()).containsOnly("tag");
+        assertThat(changes.affectedColumns("table")).containsOnly("column1", "column2");
+        assertThat(changes.affectedColumns("other_table")).isEmpty();
+        assertThat(Changes.newInstance("table").affectedColumns("table")).isNull();
+    }
+
+    @Test
+    public void withAffectedColumns_shouldThrowIfTableIsNotAffected() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage(startsWith("Table other_table is not affected by Changes{"));
+
+        Changes.newInstance("table").withAffectedColumns("other_table", singleton("column"));
+    }
+
+    @Test
+    public void merge_shouldUniteAffectedColumns() {
+        final Changes changes = Changes.merge(asList(
+                Changes.newInstance("table").withAffectedColumns("table", singleton("column1")),
+                Changes.newInstance("table").withAffectedColumns("table", singleton("column2"))
+        ));
+
+        assertThat(changes.affectedColumns("table")).containsOnly("column1", "column2");
+    }
+
+    @Test
+    public void merge_shouldDropColumnsIfSomeChangesHaveUnknownColumns() {
+        final Changes changes = Changes.merge(asList(
+                Changes.newInstance("table").withAffectedColumns("table", singleton("column1")),
+                Changes.newInstance("table")
+        ));
+
+        assertThat(changes.affectedColumns("table")).isNull();
+    }
+
+    @Test
+    public void merge_shouldUniteTablesAndTags() {
+        final Changes changes = Changes.merge(asList(
+                Changes.newInstance("table_1", "tag_1"),
+                Changes.newInstance("table_2"),
+                Changes.newInstance("table_1", "tag_2")
+        ));
+
+        assertThat(changes.affectedTables()).containsOnly("table_1", "table_2");
+        assertThat(changes.affectedTags()).containsOnly("tag_1", "tag_2");
+        assertThat(changes).isEqualTo(Changes.newInstance(
+                new HashSet<String>(asList("table_1", "table_2")),
+                "tag_1",
+                "tag_2"
+        ));
+    }
+
+    @Test
+    public void merge_shouldReturnSingleChanges() {
+        final Changes changes = Changes.newInstance("table", "tag");
+        assertThat(Changes.merge(singletonList(changes))).isSameAs(changes);
+    }
+
     @Test
     public void verifyEqualsAndHashCodeImplementation() {
         EqualsVerifier
@@ -0,0 +1,65 @@
+package com.pushtorefresh.storio3.sqlite.impl;
+
+import com.pushtorefresh.storio3.sqlite.Changes;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+public class ChangesCollectorTest {
+
+    @Test
+    public void shouldBeEmptyByDefault() {
+        assertThat(new ChangesCollector().isEmpty()).isTrue();
+    }
+
+    @Test
+    public void shouldKeepKeysWithinLimit() {
+        final ChangesCollector collector = new ChangesCollector(3);
+
+        assertThat(collector.reserveKeys("table", 2, Collections.<String>emptySet())).isTrue();
+        collector.add(Changes.newInstance("table", "id", asList("1", "2"), null));
+
+        assertThat(collector.reserveKeys("table", 1, Collections.<String>emptySet())).isTrue();
+        collector.add(Changes.newInstance("table", "id", singleton("3"), null));
+
+        assertThat(collector.isEmpty()).isFalse();
+        assertThat(collector.merge().affectedKeys("table", "id")).containsOnly("1", "2", "3");
+    }
+
+    @Test
+    public void shouldDropKeysOfTableIfLimitExceeded() {
+        final ChangesCollector collector = new ChangesCollector(3);
+
+        assertThat(collector.reserveKeys("table", 2, Collections.<String>emptySet())).isTrue();
+        collector.add(Changes.newInstance("table", "id", asList("1", "2"), null));
+
+        assertThat(collector.reserveKeys("table", 2, singleton("tag"))).isFalse();
+        // following results of the table are not counted anymore
+        assertThat(collector.reserveKeys("table", 1, singleton("other_tag"))).isFalse();
+
+        assertThat(collector.reserveKeys("other_table", 1, Collections.<String>emptySet())).isTrue();
+        collector.add(Changes.newInstance("other_table", "id", singleton("1"), null));
+
+        final Changes changes = collector.merge();
+
+        assertThat(changes.affectedTables()).containsOnly("table", "other_table");
+        assertThat(changes.affectedTags()).containsOnly("tag", "other_tag");
+        assertThat(changes.affectedKeys("table", "id")).isNull();
+        assertThat(changes.affectedKeys("other_table", "id")).containsOnly("1");
+    }
+
+    @Test
+    public void shouldNotBeEmptyIfOnlyChangesWithoutKeysWereAdded() {
+        final ChangesCollector collector = new ChangesCollector(0);
+
+        assertThat(collector.reserveKeys("table", 1, Collections.<String>emptySet())).isFalse();
+
+        assertThat(collector.isEmpty()).isFalse();
+        assertThat(collector.merge()).isEqualTo(Changes.newInstance("table"));
+    }
+}
@@ -0,0 +1,255 @@
+package com.pushtorefresh.storio3.sqlite.impl;
+
+import com.pushtorefresh.storio3.sqlite.Changes;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import io.reactivex.exceptions.MissingBackpressureException;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subscribers.TestSubscriber;
+
+import static io.reactivex.BackpressureStrategy.BUFFER;
+import static io.reactivex.BackpressureStrategy.DROP;
+import static io.reactivex.BackpressureStrategy.ERROR;
+import static io.reactivex.BackpressureStrategy.LATEST;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+public class ChangesDispatcherTest {
+
+    private final ChangesDispatcher dispatcher = new ChangesDispatcher();
+
+    @Test
+    public void shouldSendAllChangesToSubscribersWithoutFilter() {
+        final TestSubscriber<Changes> testSubscriber = dispatcher.asFlowable(BUFFER).test();
+
+        final Changes changes1 = Changes.newInstance("table1");
+        final Changes changes2 = Changes.newInstance("table2", "tag");
+        dispatcher.dispatch(changes1);
+        dispatcher.dispatch(changes2);
+
+        testSubscriber.assertValues(changes1, changes2);
+        testSubscriber.dispose();
+    }
+
+    @Test
+    public void shouldSendChangesOnlyToSubscribersOfAffectedTablesAndTags() {
+        final TestSubscriber<Changes> table1Subscriber = ChangesFilter
+                .applyForTables(dispatcher.asFlowable(BUFFER), singleton("table1"))
+                .test();
+
+        final TestSubscriber<Changes> tagSubscriber = ChangesFilter
+                .applyForTags(dispatcher.asFlowable(BUFFER), singleton("tag"))
+                .test();
+
+        final Changes changes1 = Changes.newInstance("table1");
+        final Changes changes2 = Changes.newInstance("table2", "tag");
+        dispatcher.dispatch(changes1);
+        dispatcher.dispatch(changes2);
+
+        table1Subscriber.assertValues(changes1);
+        tagSubscriber.assertValues(changes2);
+
+        table1Subscriber.dispose();
+        tagSubscriber.dispose();
+    }
+
+    @Test
+    public void shouldSendChangesOnceIfSeveralTablesAndTagsMatch() {
+        final TestSubscriber<Changes> testSubscriber = ChangesFilter
+                .applyForTablesAndTags(
+                        dispatcher.asFlowable(BUFFER),
+                        new HashSet<String>(asList("table1", "table2")),
+                        singleton("tag"))
+                .test();
+
+        final Changes changes = Changes.newInstance(
+                new HashSet<String>(asList("table1", "table2")),
+                "tag"
+        );
+        dispatcher.dispatch(changes);
+
+        testSubscriber.assertValues(changes);
+        testSubscriber.dispose();
+    }
+
+    @Test
+    public void shouldApplyKeysOfRowsToIndexedSubscribers() {
+        final TestSubscriber<Changes> testSubscriber = ChangesFilter
+                .applyForTablesAndTagsAndKey(
+                        dispatcher.asFlowable(BUFFER),
+                        singleton("table"),
+                        Collections.<String>emptySet(),
+                        "_id",
+                        "1")
+                .test();
+
+        final Changes otherRow = Changes.newInstance("table", "_id", singleton("2"), null);
+        final Changes observedRow = Changes.newInstance("table", "_id", singleton("1"), null);
+        dispatcher.dispatch(otherRow);
+        dispatcher.dispatch(observedRow);
+
+        testSubscriber.assertValues(observedRow);
+        testSubscriber.dispose();
+    }
+
+    @Test
+    public void shouldApplySeveralFilters() {
+        final TestSubscriber<Changes> testSubscriber = ChangesFilter
+                .applyForTags(
+                        ChangesFilter.applyForTables(dispatcher.asFlowable(BUFFER), singleton("table")),
+                        singleton("tag"))
+                .test();
+
+        final Changes tableChanges = Changes.newInstance("table");
+        final Changes tableAndTagChanges = Changes.newInstance("table", "tag");
+        dispatcher.dispatch(tableChanges);
+        dispatcher.dispatch(tableAndTagChanges);
+
+        testSubscriber.assertValues(tableAndTagChanges);
+        testSubscriber.dispose();
+    }
+
+    @Test
+    public void shouldNotSendChangesAfterDispose() {
+        final TestSubscriber<Changes> allSubscriber = dispatcher.asFlowable(BUFFER).test();
+        final TestSubscriber<Changes> tableSubscriber = ChangesFilter
+                .applyForTables(dispatcher.asFlowable(BUFFER), singleton("table"))
+                .test();
+
+        allSubscriber.dispose();
+        tableSubscriber.dispose();
+
+        dispatcher.dispatch(Changes.newInstance("table"));
+
+        allSubscriber.assertNoValues();
+        tableSubscriber.assertNoValues();
+    }
+
+    @Test
+    public void latestShouldMergeChangesUntilTheyAreRequested() {
+        final TestSubscriber<Changes> testSubscriber = ChangesFilter
+                .applyForTables(dispatcher.asFlowable(LATEST), new HashSet<String>(asList("table1", "table2")))
+                .test(0);
+
+        dispatcher.dispatch(Changes.newInstance("table1", "tag"));
+        dispatcher.dispatch(Changes.newInstance("table2"));
+        dispatcher.dispatch(Changes.newInstance("table3"));
+        testSubscriber.assertNoValues();
+
+        testSubscriber.request(1);
+        testSubscriber.assertValue(Changes.newInstance(new HashSet<String>(asList("table1", "table2")), "tag"));
+
+        final Changes changes = Changes.newInstance("table1");
+        testSubscriber.request(1);
+        dispatcher.dispatch(changes);
+        testSubscriber.assertValueCount(2);
+        assertThat(testSubscriber.values().get(1)).isSameAs(changes);
+
+        testSubscriber.dispose();
+    }
+
+    @Test
+    public void latestShouldNotSendChangesAfterCancellation() {
+        final TestSubscriber<Changes> testSubscriber = dispatcher.asFlowable(LATEST).test(0);
+
+        dispatcher.dispatch(Changes.newInstance("table"));
+        testSubscriber.dispose();
+        testSubscriber.request(1);
+        dispatcher.dispatch(Changes.newInstance("table"));
+
+        testSubscriber.assertNoValues();
+    }
+
+    @Test
+    public void bufferShouldMergeChangesOfSlowSubscriber() {
+        final TestSubscriber<Changes> testSubscriber = dispatcher.asFlowable(BUFFER).test(1);
+        final Set<String> floodedTables = new HashSet<String>();
+
+        dispatcher.dispatch(Changes.newInstance("first_table"));
+
+        for (int i = 0; i < 10000; i++) {
+            final String table = "table" + i;
+            floodedTables.add(table);
+            dispatcher.dispatch(Changes.newInstance(table));
+        }
+
+        testSubscriber.assertValue(Changes.newInstance("first_table"));
+
+        // all not requested changes are kept as one
+        testSubscriber.requestMore(Long.MAX_VALUE);
+        testSubscriber.assertValueCount(2);
+        assertThat(testSubscriber.values().get(1).affectedTables()).isEqualTo(floodedTables);
+
+        testSubscriber.dispose();
+    }
+
+    @Test
+    public void dropShouldMergeChangesUntilTheyAreRequested() {
+        final TestSubscriber<Changes> testSubscriber = dispatcher.asFlowable(DROP).test(0);
+
+        dispatcher.dispatch(Changes.newInstance("table1"));
+        dispatcher.dispatch(Changes.newInstance("table2"));
+
+        testSubscriber.requestMore(2);
+        testSubscriber.assertValue(Changes.newInstance(new HashSet<String>(asList("table1", "table2"))));
+
+        testSubscriber.dispose();
+    }
+
+    @Test
+    public void shouldApplyErrorBackpressureStrategy() {
+        final TestSubscriber<Changes> errorSubscriber = dispatcher.asFlowable(ERROR).test(0);
+
+        dispatcher.dispatch(Changes.newInstance("table1"));
+
+        errorSubscriber.assertError(MissingBackpressureException.class);
+    }
+
+    @Test
+    public void shouldDeliverChangesOnScheduler() {
+        final TestScheduler scheduler = new TestScheduler();
+        final ChangesDispatcher dispatcher = new ChangesDispatcher(scheduler);
+
+        final TestSubscriber<Changes> testSubscriber = ChangesFilter
+                .applyForTables(dispatcher.asFlowable(BUFFER), singleton("table1"))
+                .test();
+
+        final Changes changes = Changes.newInstance("table1");
+        dispatcher.dispatch(changes);
+        dispatcher.dispatch(Changes.newInstance("table2"));
+
+        testSubscriber.assertNoValues();
+
+        scheduler.triggerActions();
+
+        testSubscriber.assertValue(changes);
+        testSubscriber.dispose();
+    }
+
+    @Test
+    public void shouldMergeChangesWhileSchedulerDeliversPreviousOnes() {
+        final TestScheduler scheduler = new TestScheduler();
+        final ChangesDispatcher dispatcher = new ChangesDispatcher(scheduler);
+
+        final TestSubscriber<Changes> testSubscriber = dispatcher.asFlowable(LATEST).test();
+
+        final Changes changes1 = Changes.newInstance("table1");
+        dispatcher.dispatch(changes1);
+        dispatcher.dispatch(Changes.newInstance("table2"));
+        dispatcher.dispatch(Changes.newInstance("table3"));
+
+        scheduler.triggerActions();
+
+        testSubscriber.assertValues(
+                changes1,
+                Changes.newInstance(new HashSet<String>(asList("table2", "table3")))
+        );
+        testSubscriber.dispose();
+    }
+}
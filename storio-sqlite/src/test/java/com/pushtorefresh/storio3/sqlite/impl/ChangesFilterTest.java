@@ -12,6 +12,7 @@ import java.util.HashSet;
 import io.reactivex.Flowable;
 import io.reactivex.subscribers.TestSubscriber;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -212,4 +213,51 @@ public class ChangesFilterTest {
 
         testSubscriber.dispose();
     }
+
+    @Test
+    public void applyForTablesAndTagsAndKey_shouldFilterChangesOfOtherKeys() {
+        final TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
+
+        ChangesFilter
+                .applyForTablesAndTagsAndKey(
+                        Flowable.just(Changes.newInstance("table", "_id", singleton("2"), null),
+                                Changes.newInstance("table", "_id", singleton("1"), null),
+                                Changes.newInstance("table"),
+                                Changes.newInstance("another_table", "_id", singleton("2"), singleton("tag"))),
+                        singleton("table"),
+                        singleton("tag"),
+                        "_id",
+                        "1")
+                .subscribe(testSubscriber);
+
+        testSubscriber.assertValues(
+                Changes.newInstance("table", "_id", singleton("1"), null),
+                Changes.newInstance("table"),
+                Changes.newInstance("another_table", "_id", singleton("2"), singleton("tag")));
+
+        testSubscriber.dispose();
+    }
+
+    @Test
+    public void applyForTablesAndTagsAndRows_shouldFilterChangesOfOtherColumns() {
+        final TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
+
+        final Changes otherColumn = Changes.newInstance("table").withAffectedColumns("table", singleton("last_seen"));
+        final Changes observedColumn = Changes.newInstance("table").withAffectedColumns("table", singleton("NAME"));
+        final Changes unknownColumns = Changes.newInstance("table");
+
+        ChangesFilter
+                .applyForTablesAndTagsAndRows(
+                        Flowable.just(otherColumn, observedColumn, unknownColumns),
+                        singleton("table"),
+                        Collections.<String>emptySet(),
+                        null,
+                        null,
+                        new HashSet<String>(asList("name", "avatar")))
+                .subscribe(testSubscriber);
+
+        testSubscriber.assertValues(observedColumn, unknownColumns);
+
+        testSubscriber.dispose();
+    }
 }
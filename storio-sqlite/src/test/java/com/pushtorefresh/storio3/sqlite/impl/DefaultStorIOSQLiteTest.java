@@ -7,7 +7,6 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
 import com.pushtorefresh.storio3.TypeMappingFinder;
-import com.pushtorefresh.storio3.internal.ChangesBus;
 import com.pushtorefresh.storio3.internal.TypeMappingFinderImpl;
 import com.pushtorefresh.storio3.sqlite.Changes;
 import com.pushtorefresh.storio3.Interceptor;
@@ -32,8 +31,11 @@ import java.lang.reflect.Modifier;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import io.reactivex.Scheduler;
+import io.reactivex.schedulers.TestScheduler;
 import io.reactivex.subscribers.TestSubscriber;
 
 import static io.reactivex.BackpressureStrategy.LATEST;
@@ -135,6 +137,63 @@ public class DefaultStorIOSQLiteTest {
         builder.typeMappingFinder(null);
     }
 
+    @Test
+    public void negativeStatementCacheSize() {
+        DefaultStorIOSQLite.CompleteBuilder builder = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper);
+
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("statementCacheSize must be >= 0, but was: -1");
+        expectedException.expectCause(nullValue(Throwable.class));
+
+        builder.statementCacheSize(-1);
+    }
+
+    @Test
+    public void negativeQueryResultCacheSize() {
+        DefaultStorIOSQLite.CompleteBuilder builder = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper);
+
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("queryResultCacheSize must be >= 0, but was: -1");
+        expectedException.expectCause(nullValue(Throwable.class));
+
+        builder.queryResultCacheSize(-1);
+    }
+
+    @Test
+    public void nonPositiveGroupCommitMaxBatchSize() {
+        DefaultStorIOSQLite.CompleteBuilder builder = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper);
+
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("maxBatchSize must be > 0, but was: 0");
+        expectedException.expectCause(nullValue(Throwable.class));
+
+        builder.groupCommit(0, 1, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void groupCommitShouldNotBeCombinedWithWriteScheduler() {
+        DefaultStorIOSQLite.CompleteBuilder builder = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .defaultRxWriteScheduler(null)
+                .groupCommit(10, 1, TimeUnit.MILLISECONDS);
+
+        expectedException.expect(IllegalStateException.class);
+        expectedException.expectMessage("Group commit executes writes on its own thread, " +
+                "please specify either groupCommit() or defaultRxWriteScheduler(), not both");
+        expectedException.expectCause(nullValue(Throwable.class));
+
+        builder.build();
+    }
+
+    @Test
+    public void statementCacheCountersShouldBeZeroIfCacheIsDisabled() {
+        assertThat(storIOSQLite.statementCacheHitCount()).isEqualTo(0);
+        assertThat(storIOSQLite.statementCacheMissCount()).isEqualTo(0);
+    }
+
     @Test
     public void shouldUseSpecifiedTypeMappingFinder() throws NoSuchFieldException, IllegalAccessException {
         TypeMappingFinder typeMappingFinder = mock(TypeMappingFinder.class);
@@ -343,11 +402,36 @@ public class DefaultStorIOSQLiteTest {
         testSubscriber.dispose();
     }
 
+    @Test
+    public void observeChangesShouldDeliverChangesOnChangesScheduler() {
+        final TestScheduler changesScheduler = new TestScheduler();
+
+        final DefaultStorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .changesScheduler(changesScheduler)
+                .build();
+
+        final TestSubscriber<Changes> testSubscriber = storIOSQLite
+                .observeChangesInTables(Collections.singleton("test_table"), LATEST)
+                .test();
+
+        final Changes changes = Changes.newInstance("test_table", "tag");
+
+        storIOSQLite
+                .lowLevel()
+                .notifyAboutChanges(changes);
+
+        testSubscriber.assertNoValues();
+
+        changesScheduler.triggerActions();
+
+        testSubscriber.assertValue(changes);
+        testSubscriber.dispose();
+    }
+
     @Test
     public void observeChangesShouldThrowIfRxJavaNotInClassPath() throws NoSuchFieldException, IllegalAccessException {
-        //noinspection unchecked
-        ChangesBus<Changes> changesBus = mock(ChangesBus.class);
-        setChangesBus(storIOSQLite, changesBus);
+        setChangesDispatcher(storIOSQLite, null);
 
         expectedException.expect(IllegalStateException.class);
         expectedException.expectMessage("Observing changes in StorIOSQLite requires RxJava");
@@ -573,6 +657,145 @@ public class DefaultStorIOSQLiteTest {
         assertThat(storIOSQLite.defaultRxScheduler()).isNull();
     }
 
+    @Test
+    public void defaultWriteSchedulerReturnsDefaultSchedulerIfNotSpecified() {
+        assertThat(storIOSQLite.defaultRxWriteScheduler()).isSameAs(io());
+    }
+
+    @Test
+    public void singleWriterThreadShouldExecuteWritesOnOneThread() throws InterruptedException {
+        final Scheduler writeScheduler = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .singleWriterThread()
+                .build()
+                .defaultRxWriteScheduler();
+
+        assertThat(writeScheduler).isNotNull();
+        assertThat(writeScheduler).isNotSameAs(io());
+
+        final Set<Thread> threads = Collections.synchronizedSet(new HashSet<Thread>());
+        final CountDownLatch latch = new CountDownLatch(10);
+
+        for (int i = 0; i < 10; i++) {
+            writeScheduler.scheduleDirect(new Runnable() {
+                @Override
+                public void run() {
+                    threads.add(Thread.currentThread());
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threads).hasSize(1);
+    }
+
+    @Test
+    public void singleWriterThreadShouldNotBeCombinedWithWriteScheduler() {
+        DefaultStorIOSQLite.CompleteBuilder builder = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .defaultRxWriteScheduler(null)
+                .singleWriterThread();
+
+        expectedException.expect(IllegalStateException.class);
+        expectedException.expectMessage("Please specify either singleWriterThread() or defaultRxWriteScheduler(), not both");
+        expectedException.expectCause(nullValue(Throwable.class));
+
+        builder.build();
+    }
+
+    @Test
+    public void readThreadPoolShouldLimitNumberOfThreads() throws InterruptedException {
+        final StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .readThreadPoolSize(2)
+                .build();
+
+        final Scheduler scheduler = storIOSQLite.defaultRxScheduler();
+
+        assertThat(scheduler).isNotNull();
+        assertThat(scheduler).isNotSameAs(io());
+        assertThat(storIOSQLite.defaultRxWriteScheduler()).isSameAs(scheduler);
+
+        final Set<Thread> threads = Collections.synchronizedSet(new HashSet<Thread>());
+        final CountDownLatch latch = new CountDownLatch(10);
+
+        for (int i = 0; i < 10; i++) {
+            scheduler.scheduleDirect(new Runnable() {
+                @Override
+                public void run() {
+                    threads.add(Thread.currentThread());
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threads.size()).isBetween(1, 2);
+    }
+
+    @Test
+    public void readThreadPoolSizeShouldBePositive() {
+        DefaultStorIOSQLite.CompleteBuilder builder = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper);
+
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("maxThreads must be > 0, but was: 0");
+        expectedException.expectCause(nullValue(Throwable.class));
+
+        builder.readThreadPoolSize(0);
+    }
+
+    @Test
+    public void readThreadPoolShouldNotBeCombinedWithDefaultScheduler() {
+        DefaultStorIOSQLite.CompleteBuilder builder = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .defaultRxScheduler(null)
+                .readThreadPoolSize(2);
+
+        expectedException.expect(IllegalStateException.class);
+        expectedException.expectMessage("Please specify either readThreadPoolSize() or defaultRxScheduler(), not both");
+        expectedException.expectCause(nullValue(Throwable.class));
+
+        builder.build();
+    }
+
+    @Test
+    public void defaultWriteSchedulerReturnsDefaultSchedulerIfOnlyItWasSpecified() {
+        Scheduler scheduler = mock(Scheduler.class);
+        StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .defaultRxScheduler(scheduler)
+                .build();
+
+        assertThat(storIOSQLite.defaultRxWriteScheduler()).isSameAs(scheduler);
+    }
+
+    @Test
+    public void defaultWriteSchedulerReturnsSpecifiedScheduler() {
+        Scheduler scheduler = mock(Scheduler.class);
+        Scheduler writeScheduler = mock(Scheduler.class);
+        StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .defaultRxScheduler(scheduler)
+                .defaultRxWriteScheduler(writeScheduler)
+                .build();
+
+        assertThat(storIOSQLite.defaultRxScheduler()).isSameAs(scheduler);
+        assertThat(storIOSQLite.defaultRxWriteScheduler()).isSameAs(writeScheduler);
+    }
+
+    @Test
+    public void defaultWriteSchedulerReturnsNullIfSpecifiedSchedulerNull() {
+        StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .defaultRxWriteScheduler(null)
+                .build();
+
+        assertThat(storIOSQLite.defaultRxScheduler()).isSameAs(io());
+        assertThat(storIOSQLite.defaultRxWriteScheduler()).isNull();
+    }
+
     static class ClassEntity {
     }
 
@@ -585,18 +808,17 @@ public class DefaultStorIOSQLiteTest {
         return (TypeMappingFinder) field.get(storIOSQLite.lowLevel());
     }
 
-    private static void setChangesBus(@NonNull DefaultStorIOSQLite storIOSQLite, @NonNull ChangesBus<Changes> changesBus)
+    private static void setChangesDispatcher(@NonNull DefaultStorIOSQLite storIOSQLite, @Nullable ChangesDispatcher changesDispatcher)
             throws NoSuchFieldException, IllegalAccessException {
 
-        Field field = DefaultStorIOSQLite.class.getDeclaredField("changesBus");
+        Field field = DefaultStorIOSQLite.class.getDeclaredField("changesDispatcher");
         field.setAccessible(true);
 
         Field modifiersField = Field.class.getDeclaredField("modifiers");
         modifiersField.setAccessible(true);
         modifiersField.setInt(field, field.getModifiers() & ~Modifier.FINAL);
 
-        //noinspection unchecked
-        field.set(storIOSQLite, changesBus);
+        field.set(storIOSQLite, changesDispatcher);
     }
 
     class TestDefaultStorIOSQLite extends DefaultStorIOSQLite {
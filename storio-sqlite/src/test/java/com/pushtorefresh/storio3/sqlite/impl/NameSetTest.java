@@ -0,0 +1,97 @@
+package com.pushtorefresh.storio3.sqlite.impl;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.assertj.core.api.Java6Assertions.fail;
+
+public class NameSetTest {
+
+    @Test
+    public void shouldShareSetsOfSingleName() {
+        final NameRegistry names = new NameRegistry();
+
+        assertThat(names.intern(singleton("table"))).isSameAs(names.intern(singleton("table")));
+        assertThat(names.intern(new ArrayList<String>())).isSameAs(names.empty);
+    }
+
+    @Test
+    public void shouldBeEqualToOtherSetsWithSameNames() {
+        final NameRegistry names = new NameRegistry();
+        final Set<String> set = new HashSet<String>(asList("a", "b", "c"));
+        final NameSet nameSet = names.intern(set);
+
+        assertThat(nameSet).hasSize(3).containsOnly("a", "b", "c");
+        assertThat(nameSet).isEqualTo(set);
+        assertThat(set).isEqualTo(nameSet);
+        assertThat(nameSet.hashCode()).isEqualTo(set.hashCode());
+        assertThat(nameSet).isEqualTo(names.intern(asList("c", "b", "a")));
+        assertThat(nameSet).isEqualTo(new NameRegistry().intern(asList("c", "b", "a")));
+        assertThat(nameSet).doesNotContain("d");
+    }
+
+    @Test
+    public void intersects() {
+        final NameRegistry names = new NameRegistry();
+        final NameSet first = names.intern(asList("a", "b"));
+
+        assertThat(first.intersects(names.intern(asList("b", "c")))).isTrue();
+        assertThat(first.intersects(names.intern(singleton("c")))).isFalse();
+        assertThat(first.intersects(names.empty)).isFalse();
+    }
+
+    @Test
+    public void shouldNotIntersectSetsOfDifferentRegistries() {
+        try {
+            new NameRegistry().intern(singleton("a")).intersects(new NameRegistry().intern(singleton("a")));
+            fail("IllegalArgumentException should be thrown");
+        } catch (IllegalArgumentException expected) {
+            assertThat(expected).hasMessage("Sets of names of different registries can not be intersected");
+        }
+    }
+
+    @Test
+    public void findShouldSkipNamesThatAreNotInterned() {
+        final NameRegistry names = new NameRegistry();
+        names.intern(asList("a", "b"));
+
+        assertThat(names.find(asList("b", "c"))).containsOnly("b");
+        assertThat(names.find(singleton("c"))).isSameAs(names.empty);
+        // lookup does not intern names
+        assertThat(names.idOf("c")).isEqualTo(-1);
+    }
+
+    @Test
+    public void shouldSupportManyNames() {
+        final NameRegistry names = new NameRegistry();
+        final List<String> list = new ArrayList<String>();
+
+        for (int i = 0; i < 200; i++) {
+            list.add("name_" + i);
+        }
+
+        final NameSet nameSet = names.intern(list);
+        final NameSet last = names.intern(singleton(list.get(199)));
+
+        assertThat(nameSet).hasSize(200).containsAll(list);
+        assertThat(nameSet.intersects(last)).isTrue();
+        assertThat(names.intern(list.subList(0, 100)).intersects(last)).isFalse();
+    }
+
+    @Test
+    public void shouldNotAllowModifications() {
+        try {
+            new NameRegistry().intern(asList("a", "b")).remove("a");
+            fail("UnsupportedOperationException should be thrown");
+        } catch (UnsupportedOperationException expected) {
+            // ok
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.pushtorefresh.storio3.sqlite.impl;
+
+import com.pushtorefresh.storio3.sqlite.queries.Query;
+import com.pushtorefresh.storio3.sqlite.queries.RawQuery;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+public class ObservedColumnsTest {
+
+    @Test
+    public void shouldReturnDeclaredColumns() {
+        final Query query = Query.builder()
+                .table("table")
+                .where("name LIKE ?")
+                .whereArgs("a%")
+                .observesColumns("name", "avatar")
+                .build();
+
+        assertThat(ObservedColumns.of(query)).containsOnly("name", "avatar");
+    }
+
+    @Test
+    public void shouldDeriveColumnsOfSimpleQuery() {
+        final Query query = Query.builder()
+                .table("table")
+                .columns("table.name", "`avatar`")
+                .where("_id = ?")
+                .whereArgs(1)
+                .orderBy("name DESC, created_at")
+                .build();
+
+        assertThat(ObservedColumns.of(query)).containsOnly("name", "avatar", "_id", "created_at");
+    }
+
+    @Test
+    public void shouldNotDeriveColumnsIfAllColumnsAreQueried() {
+        assertThat(ObservedColumns.of(Query.builder().table("table").build())).isNull();
+    }
+
+    @Test
+    public void shouldNotDeriveColumnsOfExpressions() {
+        final Query query = Query.builder()
+                .table("table")
+                .columns("count(*)")
+                .build();
+
+        assertThat(ObservedColumns.of(query)).isNull();
+    }
+
+    @Test
+    public void shouldNotDeriveColumnsOfComplexWhereClause() {
+        final Query query = Query.builder()
+                .table("table")
+                .columns("name")
+                .where("last_seen > ?")
+                .whereArgs(1)
+                .build();
+
+        assertThat(ObservedColumns.of(query)).isNull();
+    }
+
+    @Test
+    public void shouldNotDeriveColumnsOfGroupedQuery() {
+        final Query query = Query.builder()
+                .table("table")
+                .columns("name")
+                .groupBy("name")
+                .build();
+
+        assertThat(ObservedColumns.of(query)).isNull();
+    }
+
+    @Test
+    public void shouldReturnDeclaredColumnsOfRawQuery() {
+        assertThat(ObservedColumns.of(RawQuery.builder().query("SELECT 1").build())).isNull();
+        assertThat(ObservedColumns.of(RawQuery.builder().query("SELECT 1").observesColumns("name").build()))
+                .containsOnly("name");
+    }
+}
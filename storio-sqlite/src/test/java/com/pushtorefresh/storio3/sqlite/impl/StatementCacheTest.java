@@ -0,0 +1,70 @@
+package com.pushtorefresh.storio3.sqlite.impl;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class StatementCacheTest {
+
+    private static final String SQL = "DELETE FROM table WHERE _id = ?";
+
+    private SQLiteDatabase db;
+
+    private SQLiteStatement statement;
+
+    private StatementCache statementCache;
+
+    @Before
+    public void setUp() {
+        db = mock(SQLiteDatabase.class);
+        statement = mock(SQLiteStatement.class);
+        when(db.compileStatement(SQL)).thenReturn(statement);
+        statementCache = new StatementCache(4);
+    }
+
+    @Test
+    public void shouldReuseReleasedStatement() {
+        statementCache.executeUpdateDelete(db, SQL, new Object[]{1});
+        statementCache.executeUpdateDelete(db, SQL, new Object[]{2});
+
+        verify(db).compileStatement(SQL);
+        verify(statement, never()).close();
+        assertThat(statementCache.missCount()).isEqualTo(1);
+        assertThat(statementCache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldCloseStatementAcquiredBeforeEviction() {
+        when(statement.executeUpdateDelete()).thenAnswer(new Answer<Integer>() {
+            @Override
+            public Integer answer(InvocationOnMock invocation) {
+                // schema is changed while statement is executed
+                statementCache.evictAll();
+                return 1;
+            }
+        });
+
+        statementCache.executeUpdateDelete(db, SQL, new Object[]{1});
+
+        verify(statement).close();
+
+        when(statement.executeUpdateDelete()).thenReturn(1);
+        statementCache.executeUpdateDelete(db, SQL, new Object[]{2});
+
+        // stale statement was not cached again
+        verify(db, times(2)).compileStatement(SQL);
+        assertThat(statementCache.missCount()).isEqualTo(2);
+        assertThat(statementCache.hitCount()).isEqualTo(0);
+    }
+}
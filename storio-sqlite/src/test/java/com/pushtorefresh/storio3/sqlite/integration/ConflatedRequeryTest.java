@@ -0,0 +1,169 @@
+package com.pushtorefresh.storio3.sqlite.integration;
+
+import android.support.annotation.NonNull;
+
+import com.pushtorefresh.storio3.Interceptor;
+import com.pushtorefresh.storio3.operations.PreparedOperation;
+import com.pushtorefresh.storio3.sqlite.BuildConfig;
+import com.pushtorefresh.storio3.sqlite.SQLiteTypeMapping;
+import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio3.sqlite.impl.DefaultStorIOSQLite;
+import com.pushtorefresh.storio3.sqlite.operations.get.PreparedGet;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subscribers.TestSubscriber;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.assertj.core.api.Java6Assertions.fail;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class ConflatedRequeryTest extends BaseTest {
+
+    @NonNull
+    private final AtomicInteger numberOfGets = new AtomicInteger();
+
+    @NonNull
+    private final TestScheduler scheduler = new TestScheduler();
+
+    @NonNull
+    private StorIOSQLite newStorIOSQLite(@NonNull Scheduler scheduler) {
+        return DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .defaultRxScheduler(scheduler)
+                .addTypeMapping(User.class, SQLiteTypeMapping.<User>builder()
+                        .putResolver(UserTableMeta.PUT_RESOLVER)
+                        .getResolver(UserTableMeta.GET_RESOLVER)
+                        .deleteResolver(UserTableMeta.DELETE_RESOLVER)
+                        .build())
+                .addInterceptor(new Interceptor() {
+                    @Override
+                    public <Result, WrappedResult, Data> Result intercept(@NonNull PreparedOperation<Result, WrappedResult, Data> operation, @NonNull Chain chain) {
+                        if (operation instanceof PreparedGet) {
+                            numberOfGets.incrementAndGet();
+                        }
+                        return chain.proceed(operation);
+                    }
+                })
+                .build();
+    }
+
+    @NonNull
+    private static Flowable<List<User>> allUsers(@NonNull StorIOSQLite storIOSQLite, long minRequeryIntervalMillis) {
+        return storIOSQLite
+                .get()
+                .listOfObjects(User.class)
+                .withQuery(UserTableMeta.QUERY_ALL)
+                .prepare()
+                .asRxFlowableConflated(minRequeryIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static void putUsers(@NonNull StorIOSQLite storIOSQLite, int count) {
+        for (int i = 0; i < count; i++) {
+            storIOSQLite
+                    .put()
+                    .object(TestFactory.newUser())
+                    .prepare()
+                    .executeAsBlocking();
+        }
+    }
+
+    @Test
+    public void changesReceivedBeforeExecutionShouldBeConflated() {
+        final StorIOSQLite storIOSQLite = newStorIOSQLite(scheduler);
+
+        final TestSubscriber<List<User>> subscriber = allUsers(storIOSQLite, 0).test();
+        scheduler.triggerActions();
+
+        subscriber.assertValueCount(1);
+
+        putUsers(storIOSQLite, 5);
+        scheduler.triggerActions();
+
+        subscriber.assertValueCount(2);
+        assertThat(subscriber.values().get(1)).hasSize(5);
+        assertThat(numberOfGets.get()).isEqualTo(2);
+
+        subscriber.dispose();
+    }
+
+    @Test
+    public void requeryShouldNotStartEarlierThanMinInterval() {
+        final StorIOSQLite storIOSQLite = newStorIOSQLite(scheduler);
+
+        final TestSubscriber<List<User>> subscriber = allUsers(storIOSQLite, 1000).test();
+        scheduler.triggerActions();
+
+        putUsers(storIOSQLite, 1);
+        scheduler.advanceTimeBy(999, TimeUnit.MILLISECONDS);
+
+        subscriber.assertValueCount(1);
+
+        putUsers(storIOSQLite, 1);
+        scheduler.advanceTimeBy(1, TimeUnit.MILLISECONDS);
+
+        subscriber.assertValueCount(2);
+        assertThat(subscriber.values().get(1)).hasSize(2);
+        assertThat(numberOfGets.get()).isEqualTo(2);
+
+        subscriber.dispose();
+    }
+
+    @Test
+    public void slowSubscriberShouldReceiveOnlyLatestResult() {
+        final StorIOSQLite storIOSQLite = newStorIOSQLite(scheduler);
+
+        final TestSubscriber<List<User>> subscriber = allUsers(storIOSQLite, 0).test(1);
+        scheduler.triggerActions();
+
+        for (int i = 0; i < 3; i++) {
+            putUsers(storIOSQLite, 1);
+            scheduler.triggerActions();
+        }
+
+        subscriber.assertValueCount(1);
+
+        subscriber.request(5);
+
+        subscriber.assertValueCount(2);
+        assertThat(subscriber.values().get(1)).hasSize(3);
+
+        subscriber.dispose();
+    }
+
+    @Test
+    public void shouldNotRequeryAfterDispose() {
+        final StorIOSQLite storIOSQLite = newStorIOSQLite(scheduler);
+
+        final TestSubscriber<List<User>> subscriber = allUsers(storIOSQLite, 0).test();
+        scheduler.triggerActions();
+
+        putUsers(storIOSQLite, 1);
+        subscriber.dispose();
+        scheduler.triggerActions();
+
+        subscriber.assertValueCount(1);
+        assertThat(numberOfGets.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldThrowIfMinIntervalIsNegative() {
+        try {
+            allUsers(newStorIOSQLite(scheduler), -1);
+            fail("IllegalArgumentException should be thrown");
+        } catch (IllegalArgumentException expected) {
+            assertThat(expected).hasMessage("minRequeryInterval must be >= 0, but was: -1 MILLISECONDS");
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.pushtorefresh.storio3.sqlite.integration;
 
 import android.database.Cursor;
+import android.support.annotation.NonNull;
 
 import com.pushtorefresh.storio3.sqlite.BuildConfig;
+import com.pushtorefresh.storio3.sqlite.operations.delete.DefaultDeleteResolver;
+import com.pushtorefresh.storio3.sqlite.operations.delete.DeleteResolver;
 import com.pushtorefresh.storio3.sqlite.operations.delete.DeleteResults;
+import com.pushtorefresh.storio3.sqlite.queries.DeleteQuery;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -64,4 +68,85 @@ public class DeleteTest extends BaseTest {
             assertThat(usersAfterDelete.contains(user)).isEqualTo(!shouldBeDeleted);
         }
     }
+
+    @Test
+    public void deleteCollectionByKeys() {
+        // more objects than fit into one statement
+        final List<User> allUsers = putUsersBlocking(1500);
+
+        final List<User> usersToDelete = new ArrayList<User>();
+
+        for (int i = 0; i < allUsers.size(); i += 2) {  // Delete every second user
+            usersToDelete.add(allUsers.get(i));
+        }
+
+        final User notStoredUser = User.newInstance(100500L, "not@stored.com", null);
+        usersToDelete.add(notStoredUser);
+
+        final DeleteResults<User> deleteResults = storIOSQLite
+                .delete()
+                .objects(usersToDelete)
+                .withDeleteResolver(DELETE_BY_KEYS_RESOLVER)
+                .prepare()
+                .executeAsBlocking();
+
+        final List<User> usersAfterDelete = getAllUsersBlocking();
+
+        assertThat(usersAfterDelete).hasSize(allUsers.size() / 2);
+        assertThat(deleteResults.wasNotDeleted(notStoredUser)).isTrue();
+
+        for (User user : allUsers) {
+            final boolean shouldBeDeleted = usersToDelete.contains(user);
+
+            assertThat(deleteResults.wasDeleted(user)).isEqualTo(shouldBeDeleted);
+            assertThat(usersAfterDelete.contains(user)).isEqualTo(!shouldBeDeleted);
+        }
+    }
+
+    @Test
+    public void deleteCollectionByKeysWithOnlyAggregatedResults() {
+        final List<User> allUsers = putUsersBlocking(10);
+
+        final List<User> usersToDelete = new ArrayList<User>(allUsers.subList(0, 5));
+        usersToDelete.add(User.newInstance(100500L, "not@stored.com", null));
+
+        final DeleteResults<User> deleteResults = storIOSQLite
+                .delete()
+                .objects(usersToDelete)
+                .withDeleteResolver(DELETE_BY_KEYS_RESOLVER)
+                .resultsOfObjects(false)
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(deleteResults.hasResultsOfObjects()).isFalse();
+        assertThat(deleteResults.numberOfRowsDeleted()).isEqualTo(5);
+        assertThat(deleteResults.affectedTables()).containsExactly(UserTableMeta.TABLE);
+        assertThat(deleteResults.affectedTags()).containsExactly(UserTableMeta.NOTIFICATION_TAG);
+        assertThat(getAllUsersBlocking()).containsExactlyElementsOf(allUsers.subList(5, 10));
+    }
+
+    private static final DeleteResolver<User> DELETE_BY_KEYS_RESOLVER = new DefaultDeleteResolver<User>() {
+        @NonNull
+        @Override
+        protected DeleteQuery mapToDeleteQuery(@NonNull User user) {
+            return DeleteQuery.builder()
+                    .table(UserTableMeta.TABLE)
+                    .where(UserTableMeta.COLUMN_ID + " = ?")
+                    .whereArgs(user.id())
+                    .affectsTags(UserTableMeta.NOTIFICATION_TAG)
+                    .build();
+        }
+
+        @NonNull
+        @Override
+        protected String[] deleteKeyColumns() {
+            return new String[]{UserTableMeta.COLUMN_ID};
+        }
+
+        @NonNull
+        @Override
+        protected Object[] mapToDeleteKey(@NonNull User user) {
+            return new Object[]{user.id()};
+        }
+    };
 }
@@ -0,0 +1,145 @@
+package com.pushtorefresh.storio3.sqlite.integration;
+
+import android.database.Cursor;
+import android.support.annotation.NonNull;
+
+import com.pushtorefresh.storio3.sqlite.BuildConfig;
+import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio3.sqlite.operations.get.CursorList;
+import com.pushtorefresh.storio3.sqlite.operations.get.DefaultGetResolver;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.assertj.core.api.Java6Assertions.fail;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class GetCursorListTest extends BaseTest {
+
+    @NonNull
+    private final AtomicInteger numberOfMappings = new AtomicInteger();
+
+    @NonNull
+    private CursorList<User> getCursorList(int cacheSize) {
+        return storIOSQLite
+                .get()
+                .listOfObjects(User.class)
+                .withQuery(UserTableMeta.QUERY_ALL)
+                .withGetResolver(new DefaultGetResolver<User>() {
+                    @NonNull
+                    @Override
+                    public User mapFromCursor(@NonNull StorIOSQLite storIOSQLite, @NonNull Cursor cursor) {
+                        numberOfMappings.incrementAndGet();
+                        return UserTableMeta.GET_RESOLVER.mapFromCursor(storIOSQLite, cursor);
+                    }
+                })
+                .prepare()
+                .executeAsCursorList(cacheSize);
+    }
+
+    @Test
+    public void shouldMapObjectsOnDemand() {
+        final List<User> users = putUsersBlocking(10);
+
+        final CursorList<User> cursorList = getCursorList(2);
+
+        assertThat(cursorList).hasSize(10);
+        assertThat(numberOfMappings.get()).isEqualTo(0);
+
+        assertThat(cursorList.get(7)).isEqualTo(users.get(7));
+        assertThat(cursorList.get(3)).isEqualTo(users.get(3));
+        assertThat(numberOfMappings.get()).isEqualTo(2);
+
+        cursorList.close();
+    }
+
+    @Test
+    public void shouldCacheRecentlyUsedObjects() {
+        putUsersBlocking(10);
+
+        final CursorList<User> cursorList = getCursorList(2);
+
+        cursorList.get(0);
+        cursorList.get(1);
+        cursorList.get(0);
+        assertThat(numberOfMappings.get()).isEqualTo(2);
+
+        // evicts position 1 which was used less recently than position 0
+        cursorList.get(2);
+        cursorList.get(0);
+        assertThat(numberOfMappings.get()).isEqualTo(3);
+
+        cursorList.get(1);
+        assertThat(numberOfMappings.get()).isEqualTo(4);
+
+        cursorList.close();
+    }
+
+    @Test
+    public void shouldBeEqualToMaterializedList() {
+        final List<User> users = putUsersBlocking(5);
+
+        final CursorList<User> cursorList = getCursorList(0);
+
+        assertThat(cursorList).isEqualTo(users);
+
+        cursorList.close();
+    }
+
+    @Test
+    public void shouldNotAllowModifications() {
+        putUsersBlocking(1);
+
+        final CursorList<User> cursorList = getCursorList(1);
+
+        try {
+            cursorList.remove(0);
+            fail("UnsupportedOperationException should be thrown");
+        } catch (UnsupportedOperationException expected) {
+            // ok
+        } finally {
+            cursorList.close();
+        }
+    }
+
+    @Test
+    public void shouldThrowAfterClose() {
+        putUsersBlocking(1);
+
+        final CursorList<User> cursorList = getCursorList(1);
+        cursorList.close();
+        cursorList.close();
+
+        assertThat(cursorList.isClosed()).isTrue();
+
+        try {
+            cursorList.get(0);
+            fail("IllegalStateException should be thrown");
+        } catch (IllegalStateException expected) {
+            assertThat(expected).hasMessage("CursorList is closed");
+        }
+    }
+
+    @Test
+    public void shouldThrowIfPositionIsOutOfBounds() {
+        putUsersBlocking(1);
+
+        final CursorList<User> cursorList = getCursorList(1);
+
+        try {
+            cursorList.get(1);
+            fail("IndexOutOfBoundsException should be thrown");
+        } catch (IndexOutOfBoundsException expected) {
+            assertThat(expected).hasMessage("position = 1, size = 1");
+        } finally {
+            cursorList.close();
+        }
+    }
+}
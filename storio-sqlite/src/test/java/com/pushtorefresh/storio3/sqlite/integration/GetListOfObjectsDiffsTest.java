@@ -0,0 +1,68 @@
+package com.pushtorefresh.storio3.sqlite.integration;
+
+import android.support.annotation.Nullable;
+
+import com.pushtorefresh.storio3.sqlite.BuildConfig;
+import com.pushtorefresh.storio3.sqlite.operations.get.ListDiff;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.List;
+
+import io.reactivex.Scheduler;
+import io.reactivex.subscribers.TestSubscriber;
+
+import static io.reactivex.BackpressureStrategy.LATEST;
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class GetListOfObjectsDiffsTest extends BaseTest {
+
+    @Nullable
+    @Override
+    protected Scheduler defaultRxScheduler() {
+        return null;
+    }
+
+    @Test
+    public void shouldEmitDiffsAgainstPreviousResult() {
+        final List<User> users = putUsersBlocking(2);
+
+        final TestSubscriber<ListDiff<User>> subscriber = storIOSQLite
+                .get()
+                .listOfObjects(User.class)
+                .withQuery(UserTableMeta.QUERY_ALL)
+                .prepare()
+                .asRxFlowableOfDiffs(LATEST)
+                .test();
+
+        subscriber.assertValueCount(1);
+        assertThat(subscriber.values().get(0).inserted()).containsExactly(0, 1);
+
+        final User changedUser = User.newInstance(users.get(0).id(), "changed@example.com");
+        storIOSQLite
+                .put()
+                .object(changedUser)
+                .prepare()
+                .executeAsBlocking();
+
+        subscriber.assertValueCount(2);
+        final ListDiff<User> changed = subscriber.values().get(1);
+        assertThat(changed.changed()).containsExactly(0);
+        assertThat(changed.inserted()).isEmpty();
+        assertThat(changed.removed()).isEmpty();
+
+        deleteUserBlocking(users.get(1));
+
+        subscriber.assertValueCount(3);
+        final ListDiff<User> removed = subscriber.values().get(2);
+        assertThat(removed.removed()).containsExactly(1);
+        assertThat(removed.current()).containsExactly(changedUser);
+
+        subscriber.dispose();
+    }
+}
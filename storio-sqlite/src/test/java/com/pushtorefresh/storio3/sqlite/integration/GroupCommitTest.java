@@ -0,0 +1,176 @@
+package com.pushtorefresh.storio3.sqlite.integration;
+
+import android.support.annotation.NonNull;
+
+import com.pushtorefresh.storio3.StorIOException;
+import com.pushtorefresh.storio3.sqlite.BuildConfig;
+import com.pushtorefresh.storio3.sqlite.Changes;
+import com.pushtorefresh.storio3.sqlite.SQLiteTypeMapping;
+import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio3.sqlite.impl.DefaultStorIOSQLite;
+import com.pushtorefresh.storio3.sqlite.operations.put.PutResolver;
+import com.pushtorefresh.storio3.sqlite.operations.put.PutResult;
+import com.pushtorefresh.storio3.sqlite.queries.RawQuery;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subscribers.TestSubscriber;
+
+import static io.reactivex.BackpressureStrategy.BUFFER;
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class GroupCommitTest extends BaseTest {
+
+    @NonNull
+    private StorIOSQLite newStorIOSQLite(int maxBatchSize, long maxDelayMillis) {
+        return DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .groupCommit(maxBatchSize, maxDelayMillis, TimeUnit.MILLISECONDS)
+                .addTypeMapping(User.class, SQLiteTypeMapping.<User>builder()
+                        .putResolver(UserTableMeta.PUT_RESOLVER)
+                        .getResolver(UserTableMeta.GET_RESOLVER)
+                        .deleteResolver(UserTableMeta.DELETE_RESOLVER)
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void shouldCommitBatchWhenMaxBatchSizeReached() {
+        final StorIOSQLite storIOSQLite = newStorIOSQLite(10, TimeUnit.MINUTES.toMillis(1));
+
+        final TestSubscriber<Changes> changesTestSubscriber = new TestSubscriber<Changes>();
+        storIOSQLite
+                .observeChanges(BUFFER)
+                .subscribe(changesTestSubscriber);
+
+        final List<User> users = TestFactory.newUsers(10);
+        final List<TestObserver<PutResult>> observers = new ArrayList<TestObserver<PutResult>>();
+
+        for (User user : users) {
+            observers.add(storIOSQLite
+                    .put()
+                    .object(user)
+                    .prepare()
+                    .asRxSingle()
+                    .test());
+        }
+
+        for (TestObserver<PutResult> observer : observers) {
+            observer.awaitTerminalEvent(10, TimeUnit.SECONDS);
+            observer.assertNoErrors();
+            observer.assertValueCount(1);
+        }
+
+        assertThat(getAllUsersBlocking()).hasSize(10);
+
+        changesTestSubscriber.assertValueCount(1);
+        final Changes changes = changesTestSubscriber.values().get(0);
+        assertThat(changes.affectedTables()).containsOnly(UserTableMeta.TABLE);
+        assertThat(changes.affectedTags()).containsOnly(UserTableMeta.NOTIFICATION_TAG);
+        changesTestSubscriber.dispose();
+    }
+
+    @Test
+    public void shouldCommitBatchWhenMaxDelayPassed() {
+        final StorIOSQLite storIOSQLite = newStorIOSQLite(100, 50);
+
+        final TestObserver<Void> observer = storIOSQLite
+                .put()
+                .object(TestFactory.newUser())
+                .prepare()
+                .asRxCompletable()
+                .test();
+
+        observer.awaitTerminalEvent(10, TimeUnit.SECONDS);
+        observer.assertNoErrors();
+        observer.assertComplete();
+
+        assertThat(getAllUsersBlocking()).hasSize(1);
+    }
+
+    @Test
+    public void failedOperationShouldNotAffectOthersInBatch() {
+        final StorIOSQLite storIOSQLite = newStorIOSQLite(2, TimeUnit.MINUTES.toMillis(1));
+        final User user = TestFactory.newUser();
+
+        final TestSubscriber<Changes> changesTestSubscriber = new TestSubscriber<Changes>();
+        storIOSQLite
+                .observeChanges(BUFFER)
+                .subscribe(changesTestSubscriber);
+
+        final TestObserver<PutResult> successful = storIOSQLite
+                .put()
+                .object(user)
+                .prepare()
+                .asRxSingle()
+                .test();
+
+        final TestObserver<PutResult> failed = storIOSQLite
+                .put()
+                .object(TestFactory.newUser())
+                .withPutResolver(new PutResolver<User>() {
+                    @NonNull
+                    @Override
+                    public PutResult performPut(@NonNull StorIOSQLite storIOSQLite, @NonNull User object) {
+                        throw new IllegalStateException("test exception");
+                    }
+                })
+                .prepare()
+                .asRxSingle()
+                .test();
+
+        successful.awaitTerminalEvent(10, TimeUnit.SECONDS);
+        successful.assertNoErrors();
+        successful.assertValueCount(1);
+
+        failed.awaitTerminalEvent(10, TimeUnit.SECONDS);
+        failed.assertError(StorIOException.class);
+
+        final List<User> users = getAllUsersBlocking();
+        assertThat(users).hasSize(1);
+        assertThat(users.get(0).equalsExceptId(user)).isTrue();
+
+        // changes of rolled back batch are discarded, only retried put notifies
+        changesTestSubscriber.assertValueCount(1);
+        changesTestSubscriber.dispose();
+    }
+
+    @Test
+    public void executeSQLShouldRunAfterQueuedOperations() {
+        final StorIOSQLite storIOSQLite = newStorIOSQLite(100, TimeUnit.MINUTES.toMillis(1));
+
+        final TestObserver<PutResult> putObserver = storIOSQLite
+                .put()
+                .object(TestFactory.newUser())
+                .prepare()
+                .asRxSingle()
+                .test();
+
+        final TestObserver<Void> executeObserver = storIOSQLite
+                .executeSQL()
+                .withQuery(RawQuery.builder()
+                        .query("DELETE FROM " + UserTableMeta.TABLE)
+                        .build())
+                .prepare()
+                .asRxCompletable()
+                .test();
+
+        putObserver.awaitTerminalEvent(10, TimeUnit.SECONDS);
+        putObserver.assertNoErrors();
+
+        executeObserver.awaitTerminalEvent(10, TimeUnit.SECONDS);
+        executeObserver.assertNoErrors();
+
+        assertThat(getAllUsersBlocking()).isEmpty();
+    }
+}
@@ -3,6 +3,7 @@ package com.pushtorefresh.storio3.sqlite.integration;
 import android.database.Cursor;
 
 import com.pushtorefresh.storio3.sqlite.BuildConfig;
+import com.pushtorefresh.storio3.sqlite.operations.put.PutResults;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -53,6 +54,55 @@ public class InsertTest extends BaseTest {
         cursor.close();
     }
 
+    @Test
+    public void insertCollectionWithBulkInsert() {
+        final List<User> users = TestFactory.newUsers(3);
+        users.add(User.newInstance(null, "user@example.com", null)); // phone is null
+
+        final PutResults<User> putResults = storIOSQLite
+                .put()
+                .objects(users)
+                .useBulkInsert(true)
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(putResults.numberOfInserts()).isEqualTo(users.size());
+        assertThat(putResults.numberOfUpdates()).isEqualTo(0);
+
+        final Cursor cursor = db.query(UserTableMeta.TABLE, null, null, null, null, null, null);
+
+        assertThat(cursor.getCount()).isEqualTo(users.size());
+
+        for (int i = 0; i < users.size(); i++) {
+            assertThat(cursor.moveToNext()).isTrue();
+
+            final User insertedUser = UserTableMeta.GET_RESOLVER.mapFromCursor(storIOSQLite, cursor);
+            assertThat(insertedUser.id()).isEqualTo(putResults.results().get(users.get(i)).insertedId());
+            assertThat(users.get(i).equalsExceptId(insertedUser)).isTrue();
+        }
+
+        cursor.close();
+    }
+
+    @Test
+    public void insertCollectionWithOnlyAggregatedResults() {
+        final List<User> users = TestFactory.newUsers(3);
+
+        final PutResults<User> putResults = storIOSQLite
+                .put()
+                .objects(users)
+                .resultsOfObjects(false)
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(putResults.hasResultsOfObjects()).isFalse();
+        assertThat(putResults.numberOfInserts()).isEqualTo(users.size());
+        assertThat(putResults.numberOfUpdates()).isEqualTo(0);
+        assertThat(putResults.affectedTables()).containsExactly(UserTableMeta.TABLE);
+        assertThat(putResults.affectedTags()).containsExactly(UserTableMeta.NOTIFICATION_TAG);
+        assertThat(getAllUsersBlocking()).hasSize(users.size());
+    }
+
     @Test
     public void insertAndDeleteTwice() {
         final User user = TestFactory.newUser();
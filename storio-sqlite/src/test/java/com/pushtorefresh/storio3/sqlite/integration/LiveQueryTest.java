@@ -0,0 +1,174 @@
+package com.pushtorefresh.storio3.sqlite.integration;
+
+import android.support.annotation.NonNull;
+
+import com.pushtorefresh.storio3.Interceptor;
+import com.pushtorefresh.storio3.operations.PreparedOperation;
+import com.pushtorefresh.storio3.sqlite.BuildConfig;
+import com.pushtorefresh.storio3.sqlite.SQLiteTypeMapping;
+import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio3.sqlite.impl.DefaultStorIOSQLite;
+import com.pushtorefresh.storio3.sqlite.operations.get.PreparedGet;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Flowable;
+import io.reactivex.subscribers.TestSubscriber;
+
+import static io.reactivex.BackpressureStrategy.LATEST;
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class LiveQueryTest extends BaseTest {
+
+    @NonNull
+    private final AtomicInteger numberOfGets = new AtomicInteger();
+
+    @NonNull
+    private StorIOSQLite newStorIOSQLite() {
+        return newStorIOSQLite(true);
+    }
+
+    @NonNull
+    private StorIOSQLite newStorIOSQLite(boolean sharedLiveQueriesEnabled) {
+        return DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .defaultRxScheduler(null)
+                .sharedLiveQueriesEnabled(sharedLiveQueriesEnabled)
+                .addTypeMapping(User.class, SQLiteTypeMapping.<User>builder()
+                        .putResolver(UserTableMeta.PUT_RESOLVER)
+                        .getResolver(UserTableMeta.GET_RESOLVER)
+                        .deleteResolver(UserTableMeta.DELETE_RESOLVER)
+                        .build())
+                .addInterceptor(new Interceptor() {
+                    @Override
+                    public <Result, WrappedResult, Data> Result intercept(@NonNull PreparedOperation<Result, WrappedResult, Data> operation, @NonNull Chain chain) {
+                        if (operation instanceof PreparedGet) {
+                            numberOfGets.incrementAndGet();
+                        }
+                        return chain.proceed(operation);
+                    }
+                })
+                .build();
+    }
+
+    @NonNull
+    private static Flowable<List<User>> allUsers(@NonNull StorIOSQLite storIOSQLite) {
+        return storIOSQLite
+                .get()
+                .listOfObjects(User.class)
+                .withQuery(UserTableMeta.QUERY_ALL)
+                .prepare()
+                .asRxFlowable(LATEST);
+    }
+
+    @Test
+    public void subscribersOfSameQueryShouldShareExecutions() {
+        final StorIOSQLite storIOSQLite = newStorIOSQLite();
+
+        final TestSubscriber<List<User>> first = allUsers(storIOSQLite).test();
+        final TestSubscriber<List<User>> second = allUsers(storIOSQLite).test();
+
+        first.assertValueCount(1);
+        second.assertValueCount(1);
+        assertThat(numberOfGets.get()).isEqualTo(1);
+
+        final User user = TestFactory.newUser();
+        storIOSQLite.put().object(user).prepare().executeAsBlocking();
+
+        first.assertValueCount(2);
+        second.assertValueCount(2);
+        assertThat(second.values().get(1)).hasSize(1);
+        assertThat(numberOfGets.get()).isEqualTo(2);
+
+        first.dispose();
+        second.dispose();
+    }
+
+    @Test
+    public void subscribersShouldNotShareExecutionsByDefault() {
+        final StorIOSQLite storIOSQLite = newStorIOSQLite(false);
+
+        final TestSubscriber<List<User>> first = allUsers(storIOSQLite).test();
+        final TestSubscriber<List<User>> second = allUsers(storIOSQLite).test();
+
+        first.assertValueCount(1);
+        second.assertValueCount(1);
+        assertThat(numberOfGets.get()).isEqualTo(2);
+
+        first.dispose();
+        second.dispose();
+    }
+
+    @Test
+    public void slowSubscriberShouldReceiveLatestResult() {
+        final StorIOSQLite storIOSQLite = newStorIOSQLite();
+
+        final TestSubscriber<List<User>> fast = allUsers(storIOSQLite).test();
+        final TestSubscriber<List<User>> slow = allUsers(storIOSQLite).test(1);
+
+        for (int i = 1; i <= 3; i++) {
+            storIOSQLite.put().object(TestFactory.newUser()).prepare().executeAsBlocking();
+        }
+
+        fast.assertValueCount(4);
+        slow.assertValueCount(1);
+        assertThat(numberOfGets.get()).isEqualTo(4);
+
+        // results not requested by slow subscriber are replaced by the latest one
+        slow.request(10);
+
+        slow.assertValueCount(2);
+        assertThat(slow.values().get(1)).hasSize(3);
+        assertThat(numberOfGets.get()).isEqualTo(4);
+
+        fast.dispose();
+        slow.dispose();
+    }
+
+    @Test
+    public void newSubscriptionShouldExecuteQueryAfterAllSubscribersDisposed() {
+        final StorIOSQLite storIOSQLite = newStorIOSQLite();
+
+        allUsers(storIOSQLite).test().dispose();
+
+        putUsersBlocking(2);
+
+        final TestSubscriber<List<User>> subscriber = allUsers(storIOSQLite).test();
+
+        subscriber.assertValueCount(1);
+        assertThat(subscriber.values().get(0)).hasSize(2);
+        assertThat(numberOfGets.get()).isEqualTo(2);
+
+        subscriber.dispose();
+    }
+
+    @Test
+    public void queriesOfDifferentTypesShouldNotBeShared() {
+        final StorIOSQLite storIOSQLite = newStorIOSQLite();
+
+        final TestSubscriber<List<User>> users = allUsers(storIOSQLite).test();
+
+        final TestSubscriber<Integer> numberOfUsers = storIOSQLite
+                .get()
+                .numberOfResults()
+                .withQuery(UserTableMeta.QUERY_ALL)
+                .prepare()
+                .asRxFlowable(LATEST)
+                .test();
+
+        users.assertValueCount(1);
+        numberOfUsers.assertValue(0);
+        assertThat(numberOfGets.get()).isEqualTo(2);
+
+        users.dispose();
+        numberOfUsers.dispose();
+    }
+}
@@ -140,6 +140,10 @@ public class NotifyAboutChangesTest extends BaseTest {
         // While we in transaction, no changes should be sent.
         testSubscriber.assertValueCount(0);
 
+        storIOSQLite
+                .lowLevel()
+                .setTransactionSuccessful();
+
         storIOSQLite
                 .lowLevel()
                 .endTransaction();
@@ -149,7 +153,59 @@ public class NotifyAboutChangesTest extends BaseTest {
     }
 
     @Test
-    public void shouldReceiveOneNotificationInTransactionWithMultipleThreads() throws InterruptedException {
+    public void shouldNotReceiveNotificationIfTransactionWasRolledBack() {
+        final TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
+
+        storIOSQLite
+                .observeChanges(LATEST)
+                .subscribe(testSubscriber);
+
+        final StorIOSQLite.LowLevel lowLevel = storIOSQLite.lowLevel();
+
+        lowLevel.beginTransaction();
+        lowLevel.notifyAboutChanges(Changes.newInstance("test_table"));
+        // not marked successful
+        lowLevel.endTransaction();
+
+        testSubscriber.assertNoErrors();
+        testSubscriber.assertNoValues();
+    }
+
+    @Test
+    public void shouldNotReceiveNotificationIfNestedTransactionWasRolledBack() {
+        final TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
+
+        storIOSQLite
+                .observeChanges(LATEST)
+                .subscribe(testSubscriber);
+
+        final StorIOSQLite.LowLevel lowLevel = storIOSQLite.lowLevel();
+
+        lowLevel.beginTransaction();
+        lowLevel.notifyAboutChanges(Changes.newInstance("test_table"));
+
+        lowLevel.beginTransaction();
+        lowLevel.notifyAboutChanges(Changes.newInstance("nested_table"));
+        // not marked successful, rolls back the outermost transaction
+        lowLevel.endTransaction();
+
+        lowLevel.setTransactionSuccessful();
+        lowLevel.endTransaction();
+
+        testSubscriber.assertNoErrors();
+        testSubscriber.assertNoValues();
+
+        // next transaction of the thread is not affected
+        lowLevel.beginTransaction();
+        lowLevel.notifyAboutChanges(Changes.newInstance("test_table"));
+        lowLevel.setTransactionSuccessful();
+        lowLevel.endTransaction();
+
+        testSubscriber.assertValues(Changes.newInstance("test_table"));
+    }
+
+    @Test
+    public void shouldNotPostponeNotificationsOfOtherThreadsDuringTransaction() throws InterruptedException {
         final String table = "test_table";
         final int numberOfThreads = 100;
 
@@ -163,6 +219,10 @@ public class NotifyAboutChangesTest extends BaseTest {
                 .lowLevel()
                 .beginTransaction();
 
+        storIOSQLite
+                .lowLevel()
+                .notifyAboutChanges(Changes.newInstance("transaction_table"));
+
         final CountDownLatch startAllThreadsLock = new CountDownLatch(1);
         final CountDownLatch allThreadsFinishedLock = new CountDownLatch(numberOfThreads);
 
@@ -192,23 +252,26 @@ public class NotifyAboutChangesTest extends BaseTest {
 
         assertThat(allThreadsFinishedLock.await(20, SECONDS)).isTrue();
 
-        // While we in transaction, no changes should be sent.
-        testSubscriber.assertValueCount(0);
+        // Changes of other threads are not postponed by transaction of this thread.
+        testSubscriber.assertValueCount(numberOfThreads);
+
+        storIOSQLite
+                .lowLevel()
+                .setTransactionSuccessful();
 
         storIOSQLite
                 .lowLevel()
                 .endTransaction();
 
         testSubscriber.assertNoErrors();
-        testSubscriber.assertValues(Changes.newInstance(table));
+        testSubscriber.assertValueCount(numberOfThreads + 1);
+        assertThat(testSubscriber.values().subList(0, numberOfThreads)).containsOnly(Changes.newInstance(table));
+        assertThat(testSubscriber.values().get(numberOfThreads)).isEqualTo(Changes.newInstance("transaction_table"));
     }
 
     @Test
     @Repeat(times = 20)
-    public void shouldReceiveOneNotificationWithAllAffectedTablesInTransactionWithMultipleThreads() throws InterruptedException {
-        final String table1 = "test_table1";
-        final String table2 = "test_table2";
-
+    public void shouldReceiveOneNotificationWithAllAffectedTablesPerTransactionOfEachThread() throws InterruptedException {
         final int numberOfThreads = ConcurrencyTesting.optimalTestThreadsCount();
 
         final TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
@@ -219,12 +282,12 @@ public class NotifyAboutChangesTest extends BaseTest {
 
         final StorIOSQLite.LowLevel lowLevel = storIOSQLite.lowLevel();
 
-        lowLevel.beginTransaction();
-
         final CountDownLatch startAllThreadsLock = new CountDownLatch(1);
         final CountDownLatch allThreadsFinishedLock = new CountDownLatch(numberOfThreads);
 
         for (int i = 0; i < numberOfThreads; i++) {
+            final String threadTable = "test_table_of_thread" + i;
+
             new Thread(new Runnable() {
                 @Override
                 public void run() {
@@ -235,8 +298,17 @@ public class NotifyAboutChangesTest extends BaseTest {
                         throw new RuntimeException(e);
                     }
 
-                    lowLevel.notifyAboutChanges(Changes.newInstance(table1));
-                    lowLevel.notifyAboutChanges(Changes.newInstance(table2));
+                    lowLevel.beginTransaction();
+                    lowLevel.notifyAboutChanges(Changes.newInstance("test_table"));
+
+                    lowLevel.beginTransaction();
+                    lowLevel.notifyAboutChanges(Changes.newInstance(threadTable));
+                    lowLevel.setTransactionSuccessful();
+                    lowLevel.endTransaction();
+
+                    lowLevel.notifyAboutChanges(Changes.newInstance("test_table"));
+                    lowLevel.setTransactionSuccessful();
+                    lowLevel.endTransaction();
 
                     allThreadsFinishedLock.countDown();
                 }
@@ -249,16 +321,21 @@ public class NotifyAboutChangesTest extends BaseTest {
 
         assertThat(allThreadsFinishedLock.await(25, SECONDS)).isTrue();
 
-        // While we in transaction, no changes should be sent.
-        testSubscriber.assertValueCount(0);
+        testSubscriber.assertNoErrors();
 
-        lowLevel.endTransaction();
+        final Set<String> threadTables = new HashSet<String>();
 
-        testSubscriber.assertNoErrors();
+        for (Changes changes : testSubscriber.values()) {
+            // each transaction sends only its own changes
+            assertThat(changes.affectedTables()).hasSize(2).contains("test_table");
+
+            for (String table : changes.affectedTables()) {
+                threadTables.add(table);
+            }
+        }
 
-        List<Changes> actualChanges = testSubscriber.values();
-        assertThat(actualChanges).hasSize(1);
-        assertThat(actualChanges.get(0).affectedTables()).containsOnly("test_table1", "test_table2");
+        testSubscriber.assertValueCount(numberOfThreads);
+        assertThat(threadTables).hasSize(numberOfThreads + 1);
     }
 
     @Test
@@ -39,7 +39,8 @@ public class ObserveChangesInTableTest extends BaseTest {
                     .subscribe(new Consumer<Changes>() {
                         @Override
                         public void accept(@NonNull Changes changes) {
-                            onNextObtained(changes);
+                            // keys of affected rows are checked by ObserveChangesOfRowsTest
+                            onNextObtained(Changes.newInstance(changes.affectedTables(), changes.affectedTags()));
                         }
                     });
         }
@@ -0,0 +1,143 @@
+package com.pushtorefresh.storio3.sqlite.integration;
+
+import android.content.ContentValues;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.pushtorefresh.storio3.sqlite.BuildConfig;
+import com.pushtorefresh.storio3.sqlite.Changes;
+import com.pushtorefresh.storio3.sqlite.operations.put.DefaultPutResolver;
+import com.pushtorefresh.storio3.sqlite.queries.InsertQuery;
+import com.pushtorefresh.storio3.sqlite.queries.Query;
+import com.pushtorefresh.storio3.sqlite.queries.UpdateQuery;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.List;
+
+import io.reactivex.Scheduler;
+import io.reactivex.subscribers.TestSubscriber;
+
+import static io.reactivex.BackpressureStrategy.LATEST;
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class ObserveChangesOfColumnsTest extends BaseTest {
+
+    @Nullable
+    @Override
+    protected Scheduler defaultRxScheduler() {
+        return null;
+    }
+
+    @NonNull
+    private TestSubscriber<Integer> observeNumberOfUsers(@NonNull Query query) {
+        return storIOSQLite
+                .get()
+                .numberOfResults()
+                .withQuery(query)
+                .prepare()
+                .asRxFlowable(LATEST)
+                .test();
+    }
+
+    private void updatePhones(@NonNull String phone) {
+        final ContentValuesPutResolver putResolver = new ContentValuesPutResolver();
+        storIOSQLite
+                .put()
+                .contentValues(putResolver.contentValuesOfPhone(phone))
+                .withPutResolver(putResolver)
+                .prepare()
+                .executeAsBlocking();
+    }
+
+    @Test
+    public void updateShouldNotifyAboutAffectedColumns() {
+        final List<User> users = putUsersBlocking(1);
+
+        final TestSubscriber<Changes> changes = storIOSQLite
+                .observeChanges(LATEST)
+                .test();
+
+        updatePhones("+1");
+
+        changes.assertValueCount(1);
+        assertThat(changes.values().get(0).affectedColumns(UserTableMeta.TABLE))
+                .containsOnly(UserTableMeta.COLUMN_PHONE);
+
+        deleteUsersBlocking(users);
+
+        changes.assertValueCount(2);
+        assertThat(changes.values().get(1).affectedColumns(UserTableMeta.TABLE)).isNull();
+
+        changes.dispose();
+    }
+
+    @Test
+    public void queryShouldNotRepeatOnChangesOfOtherColumns() {
+        putUsersBlocking(2);
+
+        final TestSubscriber<Integer> emails = observeNumberOfUsers(Query.builder()
+                .table(UserTableMeta.TABLE)
+                .columns(UserTableMeta.COLUMN_EMAIL)
+                .build());
+
+        final TestSubscriber<Integer> phones = observeNumberOfUsers(Query.builder()
+                .table(UserTableMeta.TABLE)
+                .where(UserTableMeta.COLUMN_PHONE + " IS NOT NULL")
+                .observesColumns(UserTableMeta.COLUMN_PHONE)
+                .build());
+
+        updatePhones("+1");
+
+        emails.assertValues(2);
+        phones.assertValues(0, 2);
+
+        putUserBlocking();
+
+        emails.assertValues(2, 3);
+        phones.assertValues(0, 2, 2);
+
+        emails.dispose();
+        phones.dispose();
+    }
+
+    /**
+     * Updates phone of all users.
+     */
+    private static class ContentValuesPutResolver extends DefaultPutResolver<ContentValues> {
+
+        @NonNull
+        ContentValues contentValuesOfPhone(@NonNull String phone) {
+            final ContentValues contentValues = new ContentValues(1);
+            contentValues.put(UserTableMeta.COLUMN_PHONE, phone);
+            return contentValues;
+        }
+
+        @NonNull
+        @Override
+        protected InsertQuery mapToInsertQuery(@NonNull ContentValues object) {
+            return InsertQuery.builder()
+                    .table(UserTableMeta.TABLE)
+                    .build();
+        }
+
+        @NonNull
+        @Override
+        protected UpdateQuery mapToUpdateQuery(@NonNull ContentValues object) {
+            return UpdateQuery.builder()
+                    .table(UserTableMeta.TABLE)
+                    .build();
+        }
+
+        @NonNull
+        @Override
+        protected ContentValues mapToContentValues(@NonNull ContentValues object) {
+            return object;
+        }
+    }
+}
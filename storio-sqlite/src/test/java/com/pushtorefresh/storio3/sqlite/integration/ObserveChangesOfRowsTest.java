@@ -0,0 +1,137 @@
+package com.pushtorefresh.storio3.sqlite.integration;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.pushtorefresh.storio3.Optional;
+import com.pushtorefresh.storio3.sqlite.BuildConfig;
+import com.pushtorefresh.storio3.sqlite.Changes;
+import com.pushtorefresh.storio3.sqlite.queries.Query;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import io.reactivex.Scheduler;
+import io.reactivex.subscribers.TestSubscriber;
+
+import static io.reactivex.BackpressureStrategy.BUFFER;
+import static io.reactivex.BackpressureStrategy.LATEST;
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class ObserveChangesOfRowsTest extends BaseTest {
+
+    @Nullable
+    @Override
+    protected Scheduler defaultRxScheduler() {
+        return null;
+    }
+
+    @NonNull
+    private TestSubscriber<Optional<User>> observeUser(long id) {
+        return storIOSQLite
+                .get()
+                .object(User.class)
+                .withQuery(Query.builder()
+                        .table(UserTableMeta.TABLE)
+                        .where(UserTableMeta.COLUMN_ID + " = ?")
+                        .whereArgs(id)
+                        .build())
+                .prepare()
+                .asRxFlowable(LATEST)
+                .test();
+    }
+
+    @Test
+    public void putShouldNotifyAboutKeysOfAffectedRows() {
+        final TestSubscriber<Changes> changes = storIOSQLite
+                .observeChanges(BUFFER)
+                .test();
+
+        putUserBlocking(User.newInstance(1L, "first@example.com"));
+        storIOSQLite
+                .put()
+                .object(User.newInstance(1L, "updated@example.com"))
+                .prepare()
+                .executeAsBlocking();
+
+        changes.assertValueCount(2);
+        assertThat(changes.values().get(0).affectedKeys(UserTableMeta.TABLE, UserTableMeta.COLUMN_ID)).containsOnly("1");
+        assertThat(changes.values().get(1).affectedKeys(UserTableMeta.TABLE, UserTableMeta.COLUMN_ID)).containsOnly("1");
+
+        changes.dispose();
+    }
+
+    @Test
+    public void deleteShouldNotifyAboutKeysOfAffectedRows() {
+        final User user = putUserBlocking(User.newInstance(1L, "first@example.com"));
+
+        final TestSubscriber<Changes> changes = storIOSQLite
+                .observeChanges(BUFFER)
+                .test();
+
+        deleteUserBlocking(user);
+
+        changes.assertValueCount(1);
+        assertThat(changes.values().get(0).affectedKeys(UserTableMeta.TABLE, UserTableMeta.COLUMN_ID)).containsOnly("1");
+
+        changes.dispose();
+    }
+
+    @Test
+    public void getObjectByKeyShouldNotRepeatOnChangesOfOtherRows() {
+        putUserBlocking(User.newInstance(1L, "first@example.com"));
+        putUserBlocking(User.newInstance(2L, "second@example.com"));
+
+        final TestSubscriber<Optional<User>> subscriber = observeUser(1L);
+        subscriber.assertValueCount(1);
+
+        storIOSQLite
+                .put()
+                .object(User.newInstance(2L, "updated@example.com"))
+                .prepare()
+                .executeAsBlocking();
+        putUserBlocking(User.newInstance(3L, "third@example.com"));
+
+        subscriber.assertValueCount(1);
+
+        final User updated = User.newInstance(1L, "updated@example.com");
+        storIOSQLite
+                .put()
+                .object(updated)
+                .prepare()
+                .executeAsBlocking();
+
+        subscriber.assertValueCount(2);
+        assertThat(subscriber.values().get(1)).isEqualTo(Optional.of(updated));
+
+        subscriber.dispose();
+    }
+
+    @Test
+    public void getObjectByKeyShouldRepeatOnChangesWithUnknownRows() {
+        putUserBlocking(User.newInstance(1L, "first@example.com"));
+
+        final TestSubscriber<Optional<User>> subscriber = observeUser(1L);
+
+        storIOSQLite
+                .lowLevel()
+                .notifyAboutChanges(Changes.newInstance(UserTableMeta.TABLE));
+
+        subscriber.assertValueCount(2);
+
+        storIOSQLite
+                .delete()
+                .byQuery(UserTableMeta.DELETE_QUERY_ALL)
+                .prepare()
+                .executeAsBlocking();
+
+        subscriber.assertValueCount(3);
+        assertThat(subscriber.values().get(2)).isEqualTo(Optional.<User>empty());
+
+        subscriber.dispose();
+    }
+}
@@ -0,0 +1,132 @@
+package com.pushtorefresh.storio3.sqlite.integration;
+
+import com.pushtorefresh.storio3.sqlite.BuildConfig;
+import com.pushtorefresh.storio3.sqlite.operations.get.PagedListOfObjects;
+import com.pushtorefresh.storio3.sqlite.queries.Query;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class PagedQueryTest extends BaseTest {
+
+    @Test
+    public void shouldLoadPagesByKey() {
+        putUsersBlocking(25);
+        final List<User> allUsers = getAllUsersBlocking();
+
+        final PagedListOfObjects<User> pages = storIOSQLite
+                .get()
+                .listOfObjects(User.class)
+                .withQuery(UserTableMeta.QUERY_ALL)
+                .paged(10, UserTableMeta.COLUMN_ID)
+                .prepare();
+
+        assertThat(pages.loadNextPage()).isEqualTo(allUsers.subList(0, 10));
+        assertThat(pages.hasMorePages()).isTrue();
+
+        assertThat(pages.loadNextPage()).isEqualTo(allUsers.subList(10, 20));
+        assertThat(pages.hasMorePages()).isTrue();
+
+        assertThat(pages.loadNextPage()).isEqualTo(allUsers.subList(20, 25));
+        assertThat(pages.hasMorePages()).isFalse();
+
+        assertThat(pages.loadNextPage()).isEmpty();
+        assertThat(pages.numberOfLoadedPages()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldLoadPagesByCompositeKeyWithWhereClause() {
+        final List<User> users = new ArrayList<User>();
+        for (int i = 0; i < 30; i++) {
+            users.add(User.newInstance(null, i % 2 == 0 ? "a@example.com" : "b@example.com"));
+        }
+        putUsersBlocking(users);
+
+        final List<User> allUsers = getAllUsersBlocking();
+        final long minId = allUsers.get(4).id();
+
+        final List<User> expectedUsers = new ArrayList<User>();
+        for (User user : allUsers) {
+            if (user.id() >= minId && user.email().startsWith("a")) {
+                expectedUsers.add(user);
+            }
+        }
+        for (User user : allUsers) {
+            if (user.id() >= minId && user.email().startsWith("b")) {
+                expectedUsers.add(user);
+            }
+        }
+
+        final PagedListOfObjects<User> pages = storIOSQLite
+                .get()
+                .listOfObjects(User.class)
+                .withQuery(Query.builder()
+                        .table(UserTableMeta.TABLE)
+                        .where(UserTableMeta.COLUMN_ID + " >= ?")
+                        .whereArgs(minId)
+                        .build())
+                .paged(10, UserTableMeta.COLUMN_EMAIL, UserTableMeta.COLUMN_ID)
+                .prefetchNextPage(true)
+                .prepare();
+
+        final List<User> loadedUsers = new ArrayList<User>();
+        loadedUsers.addAll(pages.loadNextPage());
+        loadedUsers.addAll(pages.loadNextPage());
+        loadedUsers.addAll(pages.loadNextPage());
+
+        assertThat(pages.hasMorePages()).isFalse();
+        assertThat(expectedUsers).hasSize(26);
+        assertThat(loadedUsers).isEqualTo(expectedUsers);
+    }
+
+    @Test
+    public void pageShouldNotBeShiftedByInsertsIntoPreviousPages() {
+        putUsersBlocking(20);
+        final List<User> allUsers = getAllUsersBlocking();
+
+        final PagedListOfObjects<User> pages = storIOSQLite
+                .get()
+                .listOfObjects(User.class)
+                .withQuery(UserTableMeta.QUERY_ALL)
+                .paged(10, UserTableMeta.COLUMN_ID)
+                .prepare();
+
+        pages.loadNextPage();
+        pages.loadNextPage();
+
+        // inserted into the first page
+        putUserBlocking(User.newInstance(allUsers.get(0).id() - 1, "new@example.com"));
+
+        assertThat(pages.page(0).executeAsBlocking()).hasSize(11);
+        assertThat(pages.page(1).executeAsBlocking()).isEqualTo(allUsers.subList(10, 20));
+    }
+
+    @Test
+    public void nextPageShouldContainRowsAddedAfterLastPage() {
+        putUsersBlocking(5);
+
+        final PagedListOfObjects<User> pages = storIOSQLite
+                .get()
+                .listOfObjects(User.class)
+                .withQuery(UserTableMeta.QUERY_ALL)
+                .paged(10, UserTableMeta.COLUMN_ID)
+                .prepare();
+
+        assertThat(pages.loadNextPage()).hasSize(5);
+        assertThat(pages.hasMorePages()).isFalse();
+
+        putUsersBlocking(3);
+
+        assertThat(pages.loadNextPage()).hasSize(3);
+        assertThat(pages.numberOfLoadedPages()).isEqualTo(2);
+    }
+}
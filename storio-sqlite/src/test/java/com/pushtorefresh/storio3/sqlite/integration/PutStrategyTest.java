@@ -0,0 +1,151 @@
+package com.pushtorefresh.storio3.sqlite.integration;
+
+import android.content.ContentValues;
+import android.support.annotation.NonNull;
+
+import com.pushtorefresh.storio3.StorIOException;
+import com.pushtorefresh.storio3.sqlite.BuildConfig;
+import com.pushtorefresh.storio3.sqlite.operations.put.DefaultPutResolver;
+import com.pushtorefresh.storio3.sqlite.operations.put.PutResolver;
+import com.pushtorefresh.storio3.sqlite.operations.put.PutResult;
+import com.pushtorefresh.storio3.sqlite.operations.put.PutStrategy;
+import com.pushtorefresh.storio3.sqlite.queries.InsertQuery;
+import com.pushtorefresh.storio3.sqlite.queries.UpdateQuery;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.List;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.assertj.core.api.Java6Assertions.fail;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class PutStrategyTest extends BaseTest {
+
+    @Test
+    public void updateFirstShouldInsertAndUpdate() {
+        insertAndUpdate(PutStrategy.UPDATE_FIRST);
+    }
+
+    @Test
+    public void insertFirstShouldInsertAndUpdate() {
+        insertAndUpdate(PutStrategy.INSERT_FIRST);
+    }
+
+    @Test
+    public void queryFirstShouldInsertAndUpdate() {
+        insertAndUpdate(PutStrategy.QUERY_FIRST);
+    }
+
+    @Test
+    public void updateFirstShouldThrowIfObjectViolatesNotNullConstraint() {
+        shouldThrowIfObjectViolatesNotNullConstraint(PutStrategy.UPDATE_FIRST);
+    }
+
+    @Test
+    public void insertFirstShouldThrowIfObjectViolatesNotNullConstraint() {
+        shouldThrowIfObjectViolatesNotNullConstraint(PutStrategy.INSERT_FIRST);
+    }
+
+    @Test
+    public void queryFirstShouldThrowIfObjectViolatesNotNullConstraint() {
+        shouldThrowIfObjectViolatesNotNullConstraint(PutStrategy.QUERY_FIRST);
+    }
+
+    private void shouldThrowIfObjectViolatesNotNullConstraint(@NonNull PutStrategy putStrategy) {
+        // email is NOT NULL
+        //noinspection ConstantConditions
+        final User user = User.newInstance(null, null, "1-999-547867");
+
+        try {
+            storIOSQLite
+                    .put()
+                    .object(user)
+                    .withPutResolver(newPutResolver(putStrategy))
+                    .prepare()
+                    .executeAsBlocking();
+
+            fail("StorIOException should be thrown");
+        } catch (StorIOException expected) {
+            // ok
+        }
+
+        assertThat(getAllUsersBlocking()).isEmpty();
+    }
+
+    private void insertAndUpdate(@NonNull PutStrategy putStrategy) {
+        final PutResolver<User> putResolver = newPutResolver(putStrategy);
+
+        final User user = User.newInstance(null, "user@example.com", null);
+
+        final PutResult insertResult = storIOSQLite
+                .put()
+                .object(user)
+                .withPutResolver(putResolver)
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(insertResult.wasInserted()).isTrue();
+        assertThat(insertResult.insertedId()).isNotNull();
+
+        final User userForUpdate = User.newInstance(insertResult.insertedId(), user.email(), "1-999-547867");
+
+        final PutResult updateResult = storIOSQLite
+                .put()
+                .object(userForUpdate)
+                .withPutResolver(putResolver)
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(updateResult.wasUpdated()).isTrue();
+        assertThat(updateResult.numberOfRowsUpdated()).isEqualTo(1);
+
+        final List<User> storedUsers = getAllUsersBlocking();
+        assertThat(storedUsers).containsExactly(userForUpdate);
+    }
+
+    @NonNull
+    private static PutResolver<User> newPutResolver(@NonNull final PutStrategy putStrategy) {
+        return new DefaultPutResolver<User>() {
+            @NonNull
+            @Override
+            protected InsertQuery mapToInsertQuery(@NonNull User user) {
+                return InsertQuery.builder()
+                        .table(UserTableMeta.TABLE)
+                        .build();
+            }
+
+            @NonNull
+            @Override
+            protected UpdateQuery mapToUpdateQuery(@NonNull User user) {
+                return UpdateQuery.builder()
+                        .table(UserTableMeta.TABLE)
+                        .where(UserTableMeta.COLUMN_ID + " = ?")
+                        .whereArgs(user.id())
+                        .build();
+            }
+
+            @NonNull
+            @Override
+            protected ContentValues mapToContentValues(@NonNull User user) {
+                final ContentValues contentValues = new ContentValues(3);
+
+                contentValues.put(UserTableMeta.COLUMN_ID, user.id());
+                contentValues.put(UserTableMeta.COLUMN_EMAIL, user.email());
+                contentValues.put(UserTableMeta.COLUMN_PHONE, user.phone());
+
+                return contentValues;
+            }
+
+            @NonNull
+            @Override
+            protected PutStrategy putStrategy() {
+                return putStrategy;
+            }
+        };
+    }
+}
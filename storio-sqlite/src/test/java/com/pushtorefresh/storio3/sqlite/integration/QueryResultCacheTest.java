@@ -0,0 +1,152 @@
+package com.pushtorefresh.storio3.sqlite.integration;
+
+import android.support.annotation.NonNull;
+
+import com.pushtorefresh.storio3.sqlite.BuildConfig;
+import com.pushtorefresh.storio3.sqlite.Changes;
+import com.pushtorefresh.storio3.sqlite.SQLiteTypeMapping;
+import com.pushtorefresh.storio3.sqlite.impl.DefaultStorIOSQLite;
+import com.pushtorefresh.storio3.sqlite.queries.Query;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.List;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class QueryResultCacheTest extends BaseTest {
+
+    @NonNull
+    private DefaultStorIOSQLite newStorIOSQLite(int queryResultCacheSize) {
+        return DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .queryResultCacheSize(queryResultCacheSize)
+                .addTypeMapping(User.class, SQLiteTypeMapping.<User>builder()
+                        .putResolver(UserTableMeta.PUT_RESOLVER)
+                        .getResolver(UserTableMeta.GET_RESOLVER)
+                        .deleteResolver(UserTableMeta.DELETE_RESOLVER)
+                        .build())
+                .build();
+    }
+
+    @NonNull
+    private static List<User> getAllUsers(@NonNull DefaultStorIOSQLite storIOSQLite) {
+        return storIOSQLite
+                .get()
+                .listOfObjects(User.class)
+                .withQuery(UserTableMeta.QUERY_ALL)
+                .prepare()
+                .executeAsBlocking();
+    }
+
+    @Test
+    public void shouldReturnCachedResultUntilTableChanged() {
+        final DefaultStorIOSQLite storIOSQLite = newStorIOSQLite(100);
+        putUsersBlocking(3);
+
+        final List<User> users = getAllUsers(storIOSQLite);
+        assertThat(users).hasSize(3);
+        assertThat(getAllUsers(storIOSQLite)).isSameAs(users);
+
+        assertThat(storIOSQLite.queryResultCacheMissCount()).isEqualTo(1);
+        assertThat(storIOSQLite.queryResultCacheHitCount()).isEqualTo(1);
+
+        storIOSQLite
+                .put()
+                .object(TestFactory.newUser())
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(getAllUsers(storIOSQLite)).hasSize(4);
+        assertThat(storIOSQLite.queryResultCacheMissCount()).isEqualTo(2);
+        assertThat(storIOSQLite.queryResultCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotInvalidateResultByChangesOfOtherTables() {
+        final DefaultStorIOSQLite storIOSQLite = newStorIOSQLite(100);
+        putUsersBlocking(3);
+
+        final List<User> users = getAllUsers(storIOSQLite);
+
+        storIOSQLite.lowLevel().notifyAboutChanges(Changes.newInstance(TweetTableMeta.TABLE));
+
+        assertThat(getAllUsers(storIOSQLite)).isSameAs(users);
+        assertThat(storIOSQLite.queryResultCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldInvalidateResultByObservedTag() {
+        final DefaultStorIOSQLite storIOSQLite = newStorIOSQLite(100);
+        putUsersBlocking(3);
+
+        final Query query = UserTableMeta.QUERY_ALL
+                .toBuilder()
+                .observesTags("custom_tag")
+                .build();
+
+        final Integer numberOfUsers = storIOSQLite
+                .get()
+                .numberOfResults()
+                .withQuery(query)
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(numberOfUsers).isEqualTo(3);
+
+        storIOSQLite.lowLevel().notifyAboutChanges(Changes.newInstance("other_table", "custom_tag"));
+
+        storIOSQLite
+                .get()
+                .numberOfResults()
+                .withQuery(query)
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(storIOSQLite.queryResultCacheMissCount()).isEqualTo(2);
+        assertThat(storIOSQLite.queryResultCacheHitCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedResultsWhenSizeExceeded() {
+        final DefaultStorIOSQLite storIOSQLite = newStorIOSQLite(5);
+        putUsersBlocking(3);
+
+        final Query firstUser = UserTableMeta.QUERY_ALL.toBuilder().limit(1).build();
+
+        // 1 + 3 objects
+        storIOSQLite.get().listOfObjects(User.class).withQuery(firstUser).prepare().executeAsBlocking();
+        getAllUsers(storIOSQLite);
+
+        // 3 + 3 objects, first result is evicted
+        storIOSQLite.get().listOfObjects(User.class).withQuery(UserTableMeta.QUERY_ALL.toBuilder().orderBy(UserTableMeta.COLUMN_ID).build()).prepare().executeAsBlocking();
+
+        storIOSQLite.get().listOfObjects(User.class).withQuery(firstUser).prepare().executeAsBlocking();
+
+        assertThat(storIOSQLite.queryResultCacheMissCount()).isEqualTo(4);
+        assertThat(storIOSQLite.queryResultCacheHitCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldNotCacheReadsInsideOfTransaction() {
+        final DefaultStorIOSQLite storIOSQLite = newStorIOSQLite(100);
+        putUsersBlocking(3);
+
+        storIOSQLite.lowLevel().beginTransaction();
+
+        try {
+            getAllUsers(storIOSQLite);
+            getAllUsers(storIOSQLite);
+        } finally {
+            storIOSQLite.lowLevel().endTransaction();
+        }
+
+        assertThat(storIOSQLite.queryResultCacheMissCount()).isEqualTo(0);
+        assertThat(storIOSQLite.queryResultCacheHitCount()).isEqualTo(0);
+    }
+}
@@ -393,4 +393,22 @@ public class RxQueryTest extends BaseTest {
         testObserver.assertValue(users.size());
         testObserver.assertComplete();
     }
+
+    @Test
+    public void queryListOfObjectsAsFlowableOfRows() {
+        final List<User> users = putUsersBlocking(100);
+
+        final TestSubscriber<User> testSubscriber = storIOSQLite
+                .get()
+                .listOfObjects(User.class)
+                .withQuery(UserTableMeta.QUERY_ALL)
+                .prepare()
+                .asRxFlowableOfRows()
+                .test();
+
+        testSubscriber.awaitTerminalEvent(5, SECONDS);
+        testSubscriber.assertNoErrors();
+        testSubscriber.assertValueSequence(users);
+        testSubscriber.assertComplete();
+    }
 }
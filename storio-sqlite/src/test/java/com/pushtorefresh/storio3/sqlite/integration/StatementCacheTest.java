@@ -0,0 +1,151 @@
+package com.pushtorefresh.storio3.sqlite.integration;
+
+import android.support.annotation.NonNull;
+
+import com.pushtorefresh.storio3.sqlite.BuildConfig;
+import com.pushtorefresh.storio3.sqlite.SQLiteTypeMapping;
+import com.pushtorefresh.storio3.sqlite.impl.DefaultStorIOSQLite;
+import com.pushtorefresh.storio3.sqlite.queries.RawQuery;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.List;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class StatementCacheTest extends BaseTest {
+
+    @NonNull
+    private DefaultStorIOSQLite newStorIOSQLite(int statementCacheSize) {
+        return DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .statementCacheSize(statementCacheSize)
+                .addTypeMapping(User.class, SQLiteTypeMapping.<User>builder()
+                        .putResolver(UserTableMeta.PUT_RESOLVER)
+                        .getResolver(UserTableMeta.GET_RESOLVER)
+                        .deleteResolver(UserTableMeta.DELETE_RESOLVER)
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void shouldReuseStatementsOfSameShape() {
+        final DefaultStorIOSQLite storIOSQLite = newStorIOSQLite(4);
+        final List<User> users = TestFactory.newUsers(3);
+
+        storIOSQLite
+                .put()
+                .objects(users)
+                .prepare()
+                .executeAsBlocking();
+
+        // one compilation for insert, others are taken from cache
+        assertThat(storIOSQLite.statementCacheMissCount()).isEqualTo(1);
+        assertThat(storIOSQLite.statementCacheHitCount()).isEqualTo(2);
+
+        storIOSQLite
+                .put()
+                .objects(users)
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(storIOSQLite.statementCacheMissCount()).isEqualTo(2);
+        assertThat(storIOSQLite.statementCacheHitCount()).isEqualTo(4);
+
+        storIOSQLite
+                .delete()
+                .objects(users)
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(storIOSQLite.statementCacheMissCount()).isEqualTo(3);
+        assertThat(storIOSQLite.statementCacheHitCount()).isEqualTo(6);
+
+        assertThat(getAllUsersBlocking()).isEmpty();
+    }
+
+    @Test
+    public void shouldWriteSameDataAsWithoutCache() {
+        final DefaultStorIOSQLite storIOSQLite = newStorIOSQLite(4);
+
+        final User user = User.newInstance(null, "user@example.com", null);
+
+        storIOSQLite
+                .put()
+                .object(user)
+                .prepare()
+                .executeAsBlocking();
+
+        final User updatedUser = User.newInstance(user.id(), "new@example.com", "1-999-547867");
+
+        storIOSQLite
+                .put()
+                .object(updatedUser)
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(getAllUsersBlocking()).containsExactly(updatedUser);
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedStatements() {
+        final DefaultStorIOSQLite storIOSQLite = newStorIOSQLite(1);
+        final User user = putUserBlocking();
+
+        storIOSQLite
+                .lowLevel()
+                .executeSQL(RawQuery.builder()
+                        .query("UPDATE " + UserTableMeta.TABLE + " SET " + UserTableMeta.COLUMN_PHONE + " = ?")
+                        .args("1")
+                        .build());
+
+        storIOSQLite
+                .delete()
+                .object(user)
+                .prepare()
+                .executeAsBlocking();
+
+        // delete statement evicted update statement
+        storIOSQLite
+                .lowLevel()
+                .executeSQL(RawQuery.builder()
+                        .query("UPDATE " + UserTableMeta.TABLE + " SET " + UserTableMeta.COLUMN_PHONE + " = ?")
+                        .args("2")
+                        .build());
+
+        assertThat(storIOSQLite.statementCacheMissCount()).isEqualTo(3);
+        assertThat(storIOSQLite.statementCacheHitCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void schemaChangeShouldEvictStatements() {
+        final DefaultStorIOSQLite storIOSQLite = newStorIOSQLite(4);
+
+        storIOSQLite
+                .put()
+                .object(TestFactory.newUser())
+                .prepare()
+                .executeAsBlocking();
+
+        storIOSQLite
+                .lowLevel()
+                .executeSQL(RawQuery.builder()
+                        .query("CREATE TABLE IF NOT EXISTS some_table (_id INTEGER PRIMARY KEY)")
+                        .build());
+
+        storIOSQLite
+                .put()
+                .object(TestFactory.newUser())
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(storIOSQLite.statementCacheMissCount()).isEqualTo(2);
+        assertThat(storIOSQLite.statementCacheHitCount()).isEqualTo(0);
+        assertThat(getAllUsersBlocking()).hasSize(2);
+    }
+}
@@ -0,0 +1,158 @@
+package com.pushtorefresh.storio3.sqlite.integration;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.pushtorefresh.storio3.StorIOException;
+import com.pushtorefresh.storio3.sqlite.BuildConfig;
+import com.pushtorefresh.storio3.sqlite.Changes;
+import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio3.sqlite.operations.delete.DeleteResult;
+import com.pushtorefresh.storio3.sqlite.operations.delete.PreparedDeleteObject;
+import com.pushtorefresh.storio3.sqlite.operations.execute.PreparedExecuteSQL;
+import com.pushtorefresh.storio3.sqlite.operations.put.PreparedPutCollectionOfObjects;
+import com.pushtorefresh.storio3.sqlite.operations.put.PutResults;
+import com.pushtorefresh.storio3.sqlite.operations.transaction.PreparedTransaction;
+import com.pushtorefresh.storio3.sqlite.operations.transaction.TransactionResult;
+import com.pushtorefresh.storio3.sqlite.queries.RawQuery;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.List;
+
+import io.reactivex.Scheduler;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subscribers.TestSubscriber;
+
+import static io.reactivex.BackpressureStrategy.BUFFER;
+import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.assertj.core.api.Java6Assertions.fail;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class TransactionTest extends BaseTest {
+
+    @Nullable
+    @Override
+    protected Scheduler defaultRxScheduler() {
+        return null;
+    }
+
+    @Test
+    public void shouldExecuteOperationsInTransactionWithOneNotification() {
+        final User existingUser = putUserBlocking();
+
+        final TestSubscriber<Changes> changes = storIOSQLite
+                .observeChanges(BUFFER)
+                .test();
+
+        final List<User> newUsers = TestFactory.newUsers(2);
+
+        final PreparedPutCollectionOfObjects<User> putUsers = storIOSQLite
+                .put()
+                .objects(newUsers)
+                .prepare();
+
+        final PreparedDeleteObject<User> deleteUser = storIOSQLite
+                .delete()
+                .object(existingUser)
+                .prepare();
+
+        final PreparedExecuteSQL executeSQL = storIOSQLite
+                .executeSQL()
+                .withQuery(RawQuery.builder()
+                        .query("UPDATE " + UserTableMeta.TABLE + " SET " + UserTableMeta.COLUMN_PHONE + " = '+1'")
+                        .affectsTables(UserTableMeta.TABLE)
+                        .affectsTags("transaction_tag")
+                        .build())
+                .prepare();
+
+        final TransactionResult result = storIOSQLite
+                .transaction()
+                .operation(putUsers)
+                .operation(deleteUser)
+                .operation(executeSQL)
+                .prepare()
+                .executeAsBlocking();
+
+        final PutResults<User> putResults = result.resultOf(putUsers);
+        final DeleteResult deleteResult = result.resultOf(deleteUser);
+
+        assertThat(result.results()).hasSize(3);
+        //noinspection ConstantConditions
+        assertThat(putResults.numberOfInserts()).isEqualTo(2);
+        //noinspection ConstantConditions
+        assertThat(deleteResult.numberOfRowsDeleted()).isEqualTo(1);
+
+        final List<User> storedUsers = getAllUsersBlocking();
+        assertThat(storedUsers).hasSize(2);
+        assertThat(storedUsers.get(0).phone()).isEqualTo("+1");
+
+        changes.assertValueCount(1);
+        assertThat(changes.values().get(0).affectedTables()).containsOnly(UserTableMeta.TABLE);
+        assertThat(changes.values().get(0).affectedTags()).contains("transaction_tag");
+
+        changes.dispose();
+    }
+
+    @Test
+    public void shouldRollbackAllOperationsIfOneFails() {
+        try {
+            storIOSQLite
+                    .transaction()
+                    .operation(storIOSQLite
+                            .put()
+                            .objects(TestFactory.newUsers(3))
+                            .prepare())
+                    .task(new PreparedTransaction.Task<Object>() {
+                        @Override
+                        public Object execute(@NonNull StorIOSQLite storIOSQLite) {
+                            throw new IllegalStateException("test exception");
+                        }
+                    })
+                    .prepare()
+                    .executeAsBlocking();
+
+            fail("StorIOException should be thrown");
+        } catch (StorIOException expected) {
+            assertThat(expected.getCause()).hasMessage("test exception");
+        }
+
+        assertThat(getAllUsersBlocking()).isEmpty();
+    }
+
+    @Test
+    public void asRxSingleShouldEmitResultsOfTasks() {
+        final List<User> users = putUsersBlocking(2);
+
+        final PreparedTransaction.Task<Integer> countUsers = new PreparedTransaction.Task<Integer>() {
+            @Override
+            public Integer execute(@NonNull StorIOSQLite storIOSQLite) {
+                return storIOSQLite
+                        .get()
+                        .numberOfResults()
+                        .withQuery(UserTableMeta.QUERY_ALL)
+                        .prepare()
+                        .executeAsBlocking();
+            }
+        };
+
+        final TestObserver<TransactionResult> testObserver = storIOSQLite
+                .transaction()
+                .operation(storIOSQLite
+                        .delete()
+                        .object(users.get(0))
+                        .prepare())
+                .task(countUsers)
+                .prepare()
+                .asRxSingle()
+                .test();
+
+        testObserver.assertNoErrors();
+        testObserver.assertValueCount(1);
+        assertThat(testObserver.values().get(0).resultOf(countUsers)).isEqualTo(1);
+    }
+}
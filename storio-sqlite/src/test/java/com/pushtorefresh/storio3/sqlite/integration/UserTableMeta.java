@@ -2,7 +2,9 @@ package com.pushtorefresh.storio3.sqlite.integration;
 
 import android.content.ContentValues;
 import android.database.Cursor;
+import android.database.sqlite.SQLiteStatement;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
 import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio3.sqlite.operations.delete.DefaultDeleteResolver;
@@ -75,6 +77,29 @@ public class UserTableMeta {
             return contentValues;
         }
 
+        @NonNull
+        @Override
+        protected String[] insertStatementColumns() {
+            return new String[]{COLUMN_ID, COLUMN_EMAIL, COLUMN_PHONE};
+        }
+
+        @Override
+        protected void bindToStatement(@NonNull SQLiteStatement statement, @NonNull User user) {
+            if (user.id() == null) {
+                statement.bindNull(1);
+            } else {
+                statement.bindLong(1, user.id());
+            }
+
+            statement.bindString(2, user.email());
+
+            if (user.phone() == null) {
+                statement.bindNull(3);
+            } else {
+                statement.bindString(3, user.phone());
+            }
+        }
+
         @NonNull
         @Override
         public PutResult performPut(@NonNull StorIOSQLite storIOSQLite, @NonNull User object) {
@@ -97,6 +122,12 @@ public class UserTableMeta {
                     cursor.getString(cursor.getColumnIndex(COLUMN_PHONE))
             );
         }
+
+        @Nullable
+        @Override
+        public Object primaryKey(@NonNull User user) {
+            return user.id();
+        }
     };
     static final DeleteResolver<User> DELETE_RESOLVER = new DefaultDeleteResolver<User>() {
         @NonNull
@@ -0,0 +1,127 @@
+package com.pushtorefresh.storio3.sqlite.integration;
+
+import android.support.annotation.NonNull;
+
+import com.pushtorefresh.storio3.sqlite.BuildConfig;
+import com.pushtorefresh.storio3.sqlite.SQLiteTypeMapping;
+import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio3.sqlite.impl.DefaultStorIOSQLite;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class WriteAheadLoggingTest extends BaseTest {
+
+    @NonNull
+    private StorIOSQLite newStorIOSQLite() {
+        return DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .writeAheadLoggingEnabled(true)
+                .addTypeMapping(User.class, SQLiteTypeMapping.<User>builder()
+                        .putResolver(UserTableMeta.PUT_RESOLVER)
+                        .getResolver(UserTableMeta.GET_RESOLVER)
+                        .deleteResolver(UserTableMeta.DELETE_RESOLVER)
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void shouldEnableWriteAheadLogging() {
+        newStorIOSQLite();
+
+        assertThat(sqLiteOpenHelper.getWritableDatabase().isWriteAheadLoggingEnabled()).isTrue();
+    }
+
+    @Test
+    public void readsShouldSeeCommittedChanges() {
+        final StorIOSQLite storIOSQLite = newStorIOSQLite();
+        final User user = TestFactory.newUser();
+
+        storIOSQLite
+                .put()
+                .object(user)
+                .prepare()
+                .executeAsBlocking();
+
+        final List<User> users = getUsers(storIOSQLite);
+
+        assertThat(users).hasSize(1);
+        assertThat(users.get(0).equalsExceptId(user)).isTrue();
+    }
+
+    @Test
+    public void readsInTransactionShouldSeeUncommittedChanges() {
+        final StorIOSQLite storIOSQLite = newStorIOSQLite();
+
+        storIOSQLite.lowLevel().beginTransaction();
+
+        try {
+            storIOSQLite
+                    .put()
+                    .object(TestFactory.newUser())
+                    .prepare()
+                    .executeAsBlocking();
+
+            assertThat(getUsers(storIOSQLite)).hasSize(1);
+        } finally {
+            storIOSQLite.lowLevel().endTransaction();
+        }
+
+        // transaction was not successful
+        assertThat(getUsers(storIOSQLite)).isEmpty();
+    }
+
+    @Test
+    public void readsFromOtherThreadShouldNotWaitForWriteTransaction() throws InterruptedException {
+        final StorIOSQLite storIOSQLite = newStorIOSQLite();
+
+        storIOSQLite.lowLevel().beginTransaction();
+
+        try {
+            storIOSQLite
+                    .put()
+                    .object(TestFactory.newUser())
+                    .prepare()
+                    .executeAsBlocking();
+
+            final AtomicReference<List<User>> usersFromOtherThread = new AtomicReference<List<User>>();
+
+            final Thread reader = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    usersFromOtherThread.set(getUsers(storIOSQLite));
+                }
+            });
+
+            reader.start();
+            reader.join(10000);
+
+            // uncommitted changes are not visible to other threads
+            assertThat(usersFromOtherThread.get()).isEmpty();
+        } finally {
+            storIOSQLite.lowLevel().setTransactionSuccessful();
+            storIOSQLite.lowLevel().endTransaction();
+        }
+
+        assertThat(getUsers(storIOSQLite)).hasSize(1);
+    }
+
+    @NonNull
+    private static List<User> getUsers(@NonNull StorIOSQLite storIOSQLite) {
+        return storIOSQLite
+                .get()
+                .listOfObjects(User.class)
+                .withQuery(UserTableMeta.QUERY_ALL)
+                .prepare()
+                .executeAsBlocking();
+    }
+}
@@ -22,15 +22,28 @@ public class SchedulerChecker {
     @NonNull
     private final TestScheduler scheduler;
 
-    private SchedulerChecker(@NonNull StorIOSQLite storIOSQLite) {
+    private final boolean writes;
+
+    private SchedulerChecker(@NonNull StorIOSQLite storIOSQLite, boolean writes) {
         this.storIOSQLite = storIOSQLite;
+        this.writes = writes;
         scheduler = new TestScheduler();
-        when(storIOSQLite.defaultRxScheduler()).thenReturn(scheduler);
+
+        if (writes) {
+            when(storIOSQLite.defaultRxWriteScheduler()).thenReturn(scheduler);
+        } else {
+            when(storIOSQLite.defaultRxScheduler()).thenReturn(scheduler);
+        }
     }
 
     @NonNull
     public static SchedulerChecker create(@NonNull StorIOSQLite storIOSQLite) {
-        return new SchedulerChecker(storIOSQLite);
+        return new SchedulerChecker(storIOSQLite, false);
+    }
+
+    @NonNull
+    public static SchedulerChecker createForWrites(@NonNull StorIOSQLite storIOSQLite) {
+        return new SchedulerChecker(storIOSQLite, true);
     }
 
     public void checkAsFlowable(@NonNull PreparedOperation operation) {
@@ -51,7 +64,11 @@ public class SchedulerChecker {
     private void check(@NonNull PreparedOperation operation) {
         final PreparedOperation operationSpy = spy(operation);
 
-        verify(storIOSQLite).defaultRxScheduler();
+        if (writes) {
+            verify(storIOSQLite).defaultRxWriteScheduler();
+        } else {
+            verify(storIOSQLite).defaultRxScheduler();
+        }
 
         operationSpy.asRxFlowable(MISSING).subscribe();
 
@@ -1,18 +1,27 @@
 package com.pushtorefresh.storio3.sqlite.operations.delete;
 
+import android.database.Cursor;
 import android.support.annotation.NonNull;
 
 import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio3.sqlite.queries.DeleteQuery;
+import com.pushtorefresh.storio3.sqlite.queries.Query;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
 import static org.assertj.core.api.Java6Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -56,7 +65,122 @@ public class DefaultDeleteResolverTest {
         assertThat(deleteResult.affectedTags()).isEqualTo(testTags);
     }
 
+    @Test
+    public void keysWhereForSingleKeyColumn() {
+        assertThat(DefaultDeleteResolver.keysWhere(new String[]{"id"}, 3))
+                .isEqualTo("id IN (?, ?, ?)");
+    }
+
+    @Test
+    public void keysWhereForCompositeKey() {
+        assertThat(DefaultDeleteResolver.keysWhere(new String[]{"a", "b"}, 2))
+                .isEqualTo("(a = ? AND b = ?) OR (a = ? AND b = ?)");
+    }
+
+    @Test
+    public void performDeleteByKeysShouldSplitKeysIntoStatements() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.LowLevel lowLevel = mock(StorIOSQLite.LowLevel.class);
+        final Cursor cursor = mock(Cursor.class);
+
+        when(storIOSQLite.lowLevel()).thenReturn(lowLevel);
+        when(lowLevel.query(any(Query.class))).thenReturn(cursor);
+        // only first key of each statement exists
+        when(cursor.moveToNext()).thenReturn(true, false, true, false);
+        when(cursor.getType(0)).thenReturn(Cursor.FIELD_TYPE_INTEGER);
+        when(cursor.getLong(0)).thenReturn(0L, 999L);
+
+        final DefaultDeleteResolver<TestItem> defaultDeleteResolver = new DefaultDeleteResolver<TestItem>() {
+            @NonNull
+            @Override
+            protected DeleteQuery mapToDeleteQuery(@NonNull TestItem testItem) {
+                return DeleteQuery.builder()
+                        .table("test_table")
+                        .affectsTags("test_tag")
+                        .build();
+            }
+
+            @NonNull
+            @Override
+            protected Object[] mapToDeleteKey(@NonNull TestItem testItem) {
+                return new Object[]{testItem.id};
+            }
+        };
+
+        final List<TestItem> items = new ArrayList<TestItem>();
+        for (int i = 0; i < 1000; i++) {
+            items.add(new TestItem(i));
+        }
+
+        final Map<TestItem, DeleteResult> results = new HashMap<TestItem, DeleteResult>();
+        defaultDeleteResolver.performDeleteByKeys(storIOSQLite, new String[]{"id"}, items, results);
+
+        verify(lowLevel).beginTransaction();
+        verify(lowLevel, times(2)).query(any(Query.class));
+        verify(lowLevel, times(2)).delete(any(DeleteQuery.class));
+        verify(lowLevel).setTransactionSuccessful();
+        verify(lowLevel).endTransaction();
+        verify(cursor, times(2)).close();
+
+        assertThat(results).hasSize(1000);
+        assertThat(results.get(items.get(0)).numberOfRowsDeleted()).isEqualTo(1);
+        assertThat(results.get(items.get(1)).numberOfRowsDeleted()).isEqualTo(0);
+        assertThat(results.get(items.get(999)).numberOfRowsDeleted()).isEqualTo(1);
+        assertThat(results.get(items.get(999)).affectedTables()).isEqualTo(singleton("test_table"));
+        assertThat(results.get(items.get(999)).affectedTags()).isEqualTo(singleton("test_tag"));
+    }
+
+    @Test
+    public void performDeleteByKeysShouldDeleteObjectsOneByOneIfKeysCanNotBeCompared() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.LowLevel lowLevel = mock(StorIOSQLite.LowLevel.class);
+
+        when(storIOSQLite.lowLevel()).thenReturn(lowLevel);
+        when(lowLevel.delete(any(DeleteQuery.class))).thenReturn(1, 0);
+
+        final DefaultDeleteResolver<TestItem> defaultDeleteResolver = new DefaultDeleteResolver<TestItem>() {
+            @NonNull
+            @Override
+            protected DeleteQuery mapToDeleteQuery(@NonNull TestItem testItem) {
+                return DeleteQuery.builder()
+                        .table("test_table")
+                        .where("value = ?")
+                        .whereArgs(testItem.id * 1e20)
+                        .build();
+            }
+
+            @NonNull
+            @Override
+            protected Object[] mapToDeleteKey(@NonNull TestItem testItem) {
+                // text representation of REAL differs in Java and SQLite: 1.0E20 and 1.0e+20
+                return new Object[]{testItem.id * 1e20};
+            }
+        };
+
+        final List<TestItem> items = asList(new TestItem(1), new TestItem(2));
+
+        final Map<TestItem, DeleteResult> results = new HashMap<TestItem, DeleteResult>();
+        final DeleteResult deleteResult = defaultDeleteResolver.performDeleteByKeys(storIOSQLite, new String[]{"value"}, items, results);
+
+        verify(lowLevel, never()).query(any(Query.class));
+        verify(lowLevel, times(2)).delete(any(DeleteQuery.class));
+
+        assertThat(deleteResult.numberOfRowsDeleted()).isEqualTo(1);
+        assertThat(results.get(items.get(0)).numberOfRowsDeleted()).isEqualTo(1);
+        assertThat(results.get(items.get(1)).numberOfRowsDeleted()).isEqualTo(0);
+    }
+
     private static class TestItem {
 
+        private final long id;
+
+        TestItem() {
+            this(0);
+        }
+
+        TestItem(long id) {
+            this.id = id;
+        }
+
     }
 }
@@ -7,6 +7,8 @@ import org.junit.Test;
 import java.util.HashMap;
 import java.util.Map;
 
+import static java.util.Collections.singleton;
+
 import nl.jqno.equalsverifier.EqualsVerifier;
 
 import static org.assertj.core.api.Java6Assertions.assertThat;
@@ -40,6 +42,36 @@ public class DeleteResultsTest {
         assertThat(deleteResults.wasNotDeleted("should not be deleted")).isTrue();
     }
 
+    @Test
+    public void aggregatedResultsOfResults() {
+        final Map<String, DeleteResult> results = new HashMap<String, DeleteResult>();
+        results.put("deleted", DeleteResult.newInstance(2, "test_table", "test_tag"));
+        results.put("not deleted", DeleteResult.newInstance(0, "other_table", "other_tag"));
+
+        final DeleteResults<String> deleteResults = DeleteResults.newInstance(results);
+
+        assertThat(deleteResults.hasResultsOfObjects()).isTrue();
+        assertThat(deleteResults.numberOfRowsDeleted()).isEqualTo(2);
+        assertThat(deleteResults.affectedTables()).containsExactly("test_table");
+        assertThat(deleteResults.affectedTags()).containsExactly("test_tag");
+    }
+
+    @Test
+    public void onlyAggregatedResults() {
+        final DeleteResults<String> deleteResults = DeleteResults.newInstance(3, singleton("test_table"), singleton("test_tag"));
+
+        assertThat(deleteResults.hasResultsOfObjects()).isFalse();
+        assertThat(deleteResults.numberOfRowsDeleted()).isEqualTo(3);
+        assertThat(deleteResults.affectedTables()).containsExactly("test_table");
+        assertThat(deleteResults.affectedTags()).containsExactly("test_tag");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void wasDeletedShouldThrowIfOnlyAggregatedResults() {
+        DeleteResults.<String>newInstance(3, singleton("test_table"), singleton("test_tag"))
+                .wasDeleted("testString");
+    }
+
     @Test
     public void verifyEqualsAndHashCodeImplementation() {
         EqualsVerifier
@@ -184,7 +184,7 @@ class DeleteStub {
                 .testAction(new Consumer<DeleteResults<TestItem>>() {
                     @Override
                     public void accept(DeleteResults<TestItem> deleteResults) {
-                        verify(storIOSQLite).defaultRxScheduler();
+                        verify(storIOSQLite).defaultRxWriteScheduler();
                         verifyBehaviorForMultipleObjects(deleteResults);
                     }
                 })
@@ -198,7 +198,7 @@ class DeleteStub {
                 .testAction(new Consumer<DeleteResults<TestItem>>() {
                     @Override
                     public void accept(DeleteResults<TestItem> deleteResults) {
-                        verify(storIOSQLite).defaultRxScheduler();
+                        verify(storIOSQLite).defaultRxWriteScheduler();
                         verifyBehaviorForMultipleObjects(deleteResults);
                     }
                 })
@@ -220,7 +220,7 @@ class DeleteStub {
                 .testAction(new Consumer<DeleteResult>() {
                     @Override
                     public void accept(DeleteResult deleteResult) {
-                        verify(storIOSQLite).defaultRxScheduler();
+                        verify(storIOSQLite).defaultRxWriteScheduler();
                         verifyBehaviorForOneObject(deleteResult);
                     }
                 })
@@ -238,7 +238,7 @@ class DeleteStub {
                 .testAction(new Consumer<DeleteResult>() {
                     @Override
                     public void accept(DeleteResult deleteResult) {
-                        verify(storIOSQLite).defaultRxScheduler();
+                        verify(storIOSQLite).defaultRxWriteScheduler();
                         verifyBehaviorForOneObject(deleteResult);
                     }
                 })
@@ -100,7 +100,7 @@ public class PreparedDeleteByQueryTest {
         testSubscriber.assertNoErrors();
         testSubscriber.assertValue(stub.expectedDeleteResult);
 
-        verify(stub.storIOSQLite).defaultRxScheduler();
+        verify(stub.storIOSQLite).defaultRxWriteScheduler();
         stub.verifyBehaviour();
     }
 
@@ -120,7 +120,7 @@ public class PreparedDeleteByQueryTest {
         testObserver.assertNoErrors();
         testObserver.assertValue(stub.expectedDeleteResult);
 
-        verify(stub.storIOSQLite).defaultRxScheduler();
+        verify(stub.storIOSQLite).defaultRxWriteScheduler();
         stub.verifyBehaviour();
     }
 
@@ -140,7 +140,7 @@ public class PreparedDeleteByQueryTest {
         testObserver.assertNoErrors();
         testObserver.assertNoValues();
 
-        verify(stub.storIOSQLite).defaultRxScheduler();
+        verify(stub.storIOSQLite).defaultRxWriteScheduler();
         stub.verifyBehaviour();
     }
 
@@ -206,7 +206,7 @@ public class PreparedDeleteByQueryTest {
         assertThat(cause).hasMessage("test exception");
 
         verify(deleteResolver).performDelete(same(storIOSQLite), any(DeleteQuery.class));
-        verify(storIOSQLite).defaultRxScheduler();
+        verify(storIOSQLite).defaultRxWriteScheduler();
         verify(storIOSQLite).interceptors();
         verifyNoMoreInteractions(storIOSQLite, lowLevel, deleteResolver);
     }
@@ -243,7 +243,7 @@ public class PreparedDeleteByQueryTest {
         assertThat(cause).hasMessage("test exception");
 
         verify(deleteResolver).performDelete(same(storIOSQLite), any(DeleteQuery.class));
-        verify(storIOSQLite).defaultRxScheduler();
+        verify(storIOSQLite).defaultRxWriteScheduler();
         verify(storIOSQLite).interceptors();
         verifyNoMoreInteractions(storIOSQLite, lowLevel, deleteResolver);
     }
@@ -279,7 +279,7 @@ public class PreparedDeleteByQueryTest {
         IllegalStateException cause = (IllegalStateException) expected.getCause();
         assertThat(cause).hasMessage("test exception");
 
-        verify(storIOSQLite).defaultRxScheduler();
+        verify(storIOSQLite).defaultRxWriteScheduler();
         verify(deleteResolver).performDelete(same(storIOSQLite), any(DeleteQuery.class));
         verify(storIOSQLite).interceptors();
         verifyNoMoreInteractions(storIOSQLite, lowLevel, deleteResolver);
@@ -322,7 +322,7 @@ public class PreparedDeleteByQueryTest {
     @Test
     public void deleteByQueryFlowableExecutesOnSpecifiedScheduler() {
         final DeleteByQueryStub stub = new DeleteByQueryStub();
-        final SchedulerChecker schedulerChecker = SchedulerChecker.create(stub.storIOSQLite);
+        final SchedulerChecker schedulerChecker = SchedulerChecker.createForWrites(stub.storIOSQLite);
 
         final PreparedDeleteByQuery operation = new PreparedDeleteByQuery.Builder(stub.storIOSQLite, stub.deleteQuery)
                 .withDeleteResolver(stub.deleteResolver)
@@ -334,7 +334,7 @@ public class PreparedDeleteByQueryTest {
     @Test
     public void deleteByQuerySingleExecutesOnSpecifiedScheduler() {
         final DeleteByQueryStub stub = new DeleteByQueryStub();
-        final SchedulerChecker schedulerChecker = SchedulerChecker.create(stub.storIOSQLite);
+        final SchedulerChecker schedulerChecker = SchedulerChecker.createForWrites(stub.storIOSQLite);
 
         final PreparedDeleteByQuery operation = new PreparedDeleteByQuery.Builder(stub.storIOSQLite, stub.deleteQuery)
                 .withDeleteResolver(stub.deleteResolver)
@@ -346,7 +346,7 @@ public class PreparedDeleteByQueryTest {
     @Test
     public void deleteByQueryCompletableExecutesOnSpecifiedScheduler() {
         final DeleteByQueryStub stub = new DeleteByQueryStub();
-        final SchedulerChecker schedulerChecker = SchedulerChecker.create(stub.storIOSQLite);
+        final SchedulerChecker schedulerChecker = SchedulerChecker.createForWrites(stub.storIOSQLite);
 
         final PreparedDeleteByQuery operation = new PreparedDeleteByQuery.Builder(stub.storIOSQLite, stub.deleteQuery)
                 .withDeleteResolver(stub.deleteResolver)
@@ -1,13 +1,16 @@
 package com.pushtorefresh.storio3.sqlite.operations.delete;
 
 import com.pushtorefresh.storio3.StorIOException;
+import com.pushtorefresh.storio3.sqlite.Changes;
 import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio3.sqlite.operations.BatchProgressListener;
 import com.pushtorefresh.storio3.sqlite.operations.SchedulerChecker;
 import com.pushtorefresh.storio3.sqlite.queries.DeleteQuery;
 
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 
 import java.util.Collection;
 import java.util.List;
@@ -25,8 +28,10 @@ import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
 import static org.assertj.core.api.Java6Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -415,7 +420,7 @@ public class PreparedDeleteCollectionOfObjectsTest {
             verify(storIOSQLite).delete();
             verify(storIOSQLite).interceptors();
             verify(storIOSQLite).lowLevel();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(lowLevel).typeMapping(TestItem.class);
             verify(lowLevel, never()).delete(any(DeleteQuery.class));
             verifyNoMoreInteractions(storIOSQLite, lowLevel);
@@ -451,7 +456,7 @@ public class PreparedDeleteCollectionOfObjectsTest {
             verify(storIOSQLite).delete();
             verify(storIOSQLite).interceptors();
             verify(storIOSQLite).lowLevel();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(lowLevel).typeMapping(TestItem.class);
             verify(lowLevel, never()).delete(any(DeleteQuery.class));
             verifyNoMoreInteractions(storIOSQLite, lowLevel);
@@ -487,7 +492,7 @@ public class PreparedDeleteCollectionOfObjectsTest {
             verify(storIOSQLite).delete();
             verify(storIOSQLite).interceptors();
             verify(storIOSQLite).lowLevel();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(lowLevel).typeMapping(TestItem.class);
             verify(lowLevel, never()).delete(any(DeleteQuery.class));
             verifyNoMoreInteractions(storIOSQLite, lowLevel);
@@ -556,7 +561,7 @@ public class PreparedDeleteCollectionOfObjectsTest {
             verify(storIOSQLite).delete();
             verify(storIOSQLite).interceptors();
             verify(storIOSQLite).lowLevel();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(lowLevel).typeMapping(TestItem.class);
             verify(lowLevel, never()).delete(any(DeleteQuery.class));
             verifyNoMoreInteractions(storIOSQLite, lowLevel);
@@ -592,7 +597,7 @@ public class PreparedDeleteCollectionOfObjectsTest {
             verify(storIOSQLite).delete();
             verify(storIOSQLite).interceptors();
             verify(storIOSQLite).lowLevel();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(lowLevel).typeMapping(TestItem.class);
             verify(lowLevel, never()).delete(any(DeleteQuery.class));
             verifyNoMoreInteractions(storIOSQLite, lowLevel);
@@ -628,7 +633,7 @@ public class PreparedDeleteCollectionOfObjectsTest {
             verify(storIOSQLite).delete();
             verify(storIOSQLite).interceptors();
             verify(storIOSQLite).lowLevel();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(lowLevel).typeMapping(TestItem.class);
             verify(lowLevel, never()).delete(any(DeleteQuery.class));
             verifyNoMoreInteractions(storIOSQLite, lowLevel);
@@ -726,7 +731,7 @@ public class PreparedDeleteCollectionOfObjectsTest {
 
             verify(storIOSQLite).lowLevel();
             verify(storIOSQLite).interceptors();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(deleteResolver).performDelete(same(storIOSQLite), any());
             verifyNoMoreInteractions(storIOSQLite, lowLevel, deleteResolver);
         }
@@ -769,7 +774,7 @@ public class PreparedDeleteCollectionOfObjectsTest {
 
             verify(storIOSQLite).lowLevel();
             verify(storIOSQLite).interceptors();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(deleteResolver).performDelete(same(storIOSQLite), any());
             verifyNoMoreInteractions(storIOSQLite, lowLevel, deleteResolver);
         }
@@ -812,7 +817,7 @@ public class PreparedDeleteCollectionOfObjectsTest {
 
             verify(storIOSQLite).lowLevel();
             verify(storIOSQLite).interceptors();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(deleteResolver).performDelete(same(storIOSQLite), any());
             verifyNoMoreInteractions(storIOSQLite, lowLevel, deleteResolver);
         }
@@ -821,7 +826,7 @@ public class PreparedDeleteCollectionOfObjectsTest {
         public void deleteCollectionOfObjectsFlowableExecutesOnSpecifiedScheduler() {
             final DeleteStub deleteStub
                     = DeleteStub.newStubForMultipleObjectsWithoutTypeMappingWithoutTransaction();
-            final SchedulerChecker schedulerChecker = SchedulerChecker.create(deleteStub.storIOSQLite);
+            final SchedulerChecker schedulerChecker = SchedulerChecker.createForWrites(deleteStub.storIOSQLite);
 
             final PreparedDeleteCollectionOfObjects<TestItem> operation = deleteStub.storIOSQLite
                     .delete()
@@ -836,7 +841,7 @@ public class PreparedDeleteCollectionOfObjectsTest {
         public void deleteCollectionOfObjectsSingleExecutesOnSpecifiedScheduler() {
             final DeleteStub deleteStub
                     = DeleteStub.newStubForMultipleObjectsWithoutTypeMappingWithoutTransaction();
-            final SchedulerChecker schedulerChecker = SchedulerChecker.create(deleteStub.storIOSQLite);
+            final SchedulerChecker schedulerChecker = SchedulerChecker.createForWrites(deleteStub.storIOSQLite);
 
             final PreparedDeleteCollectionOfObjects<TestItem> operation = deleteStub.storIOSQLite
                     .delete()
@@ -851,7 +856,7 @@ public class PreparedDeleteCollectionOfObjectsTest {
         public void deleteCollectionOfObjectsCompletableExecutesOnSpecifiedScheduler() {
             final DeleteStub deleteStub
                     = DeleteStub.newStubForMultipleObjectsWithoutTypeMappingWithoutTransaction();
-            final SchedulerChecker schedulerChecker = SchedulerChecker.create(deleteStub.storIOSQLite);
+            final SchedulerChecker schedulerChecker = SchedulerChecker.createForWrites(deleteStub.storIOSQLite);
 
             final PreparedDeleteCollectionOfObjects<TestItem> operation = deleteStub.storIOSQLite
                     .delete()
@@ -861,5 +866,42 @@ public class PreparedDeleteCollectionOfObjectsTest {
 
             schedulerChecker.checkAsCompletable(operation);
         }
+
+        @Test
+        public void shouldDeleteInBatchesBlocking() {
+            final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+            final StorIOSQLite.LowLevel lowLevel = mock(StorIOSQLite.LowLevel.class);
+
+            when(storIOSQLite.lowLevel()).thenReturn(lowLevel);
+
+            //noinspection unchecked
+            final DeleteResolver<Object> deleteResolver = mock(DeleteResolver.class);
+
+            when(deleteResolver.performDelete(same(storIOSQLite), any()))
+                    .thenReturn(DeleteResult.newInstance(1, "test_table"));
+
+            final BatchProgressListener progressListener = mock(BatchProgressListener.class);
+
+            final List<Object> objects = asList(new Object(), new Object(), new Object());
+
+            final DeleteResults<Object> deleteResults = new PreparedDeleteCollectionOfObjects.Builder<Object>(storIOSQLite, objects)
+                    .withDeleteResolver(deleteResolver)
+                    .batchSize(2)
+                    .withProgressListener(progressListener)
+                    .prepare()
+                    .executeAsBlocking();
+
+            assertThat(deleteResults.results()).hasSize(3);
+
+            verify(lowLevel, times(2)).beginTransaction();
+            verify(lowLevel, times(2)).setTransactionSuccessful();
+            verify(lowLevel, times(2)).endTransaction();
+            verify(lowLevel, times(2)).notifyAboutChanges(Changes.newInstance("test_table"));
+
+            final InOrder inOrder = inOrder(progressListener);
+            inOrder.verify(progressListener).onBatchCommitted(2, 3);
+            inOrder.verify(progressListener).onBatchCommitted(3, 3);
+            inOrder.verifyNoMoreInteractions();
+        }
     }
 }
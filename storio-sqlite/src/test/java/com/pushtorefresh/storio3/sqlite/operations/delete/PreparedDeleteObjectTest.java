@@ -213,7 +213,7 @@ public class PreparedDeleteObjectTest {
 
             verify(storIOSQLite).delete();
             verify(storIOSQLite).lowLevel();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(storIOSQLite).interceptors();
             verify(lowLevel).typeMapping(TestItem.class);
             verify(lowLevel, never()).delete(any(DeleteQuery.class));
@@ -245,7 +245,7 @@ public class PreparedDeleteObjectTest {
 
             verify(storIOSQLite).delete();
             verify(storIOSQLite).lowLevel();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(storIOSQLite).interceptors();
             verify(lowLevel).typeMapping(TestItem.class);
             verify(lowLevel, never()).delete(any(DeleteQuery.class));
@@ -277,7 +277,7 @@ public class PreparedDeleteObjectTest {
 
             verify(storIOSQLite).delete();
             verify(storIOSQLite).lowLevel();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(storIOSQLite).interceptors();
             verify(lowLevel).typeMapping(TestItem.class);
             verify(lowLevel, never()).delete(any(DeleteQuery.class));
@@ -303,7 +303,7 @@ public class PreparedDeleteObjectTest {
         @Test
         public void deleteObjectFlowableExecutesOnSpecifiedScheduler() {
             final DeleteStub deleteStub = DeleteStub.newStubForOneObjectWithoutTypeMapping();
-            final SchedulerChecker schedulerChecker = SchedulerChecker.create(deleteStub.storIOSQLite);
+            final SchedulerChecker schedulerChecker = SchedulerChecker.createForWrites(deleteStub.storIOSQLite);
 
             final PreparedDeleteObject<TestItem> operation = deleteStub.storIOSQLite
                     .delete()
@@ -317,7 +317,7 @@ public class PreparedDeleteObjectTest {
         @Test
         public void deleteObjectSingleExecutesOnSpecifiedScheduler() {
             final DeleteStub deleteStub = DeleteStub.newStubForOneObjectWithoutTypeMapping();
-            final SchedulerChecker schedulerChecker = SchedulerChecker.create(deleteStub.storIOSQLite);
+            final SchedulerChecker schedulerChecker = SchedulerChecker.createForWrites(deleteStub.storIOSQLite);
 
             final PreparedDeleteObject<TestItem> operation = deleteStub.storIOSQLite
                     .delete()
@@ -331,7 +331,7 @@ public class PreparedDeleteObjectTest {
         @Test
         public void deleteObjectCompletableExecutesOnSpecifiedScheduler() {
             final DeleteStub deleteStub = DeleteStub.newStubForOneObjectWithoutTypeMapping();
-            final SchedulerChecker schedulerChecker = SchedulerChecker.create(deleteStub.storIOSQLite);
+            final SchedulerChecker schedulerChecker = SchedulerChecker.createForWrites(deleteStub.storIOSQLite);
 
             final PreparedDeleteObject<TestItem> operation = deleteStub.storIOSQLite
                     .delete()
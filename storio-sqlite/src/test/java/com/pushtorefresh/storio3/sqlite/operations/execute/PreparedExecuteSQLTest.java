@@ -63,7 +63,7 @@ public class PreparedExecuteSQLTest {
                 .prepare()
                 .executeAsBlocking();
 
-        verify(stub.storIOSQLite, never()).defaultRxScheduler();
+        verify(stub.storIOSQLite, never()).defaultRxWriteScheduler();
         stub.verifyBehavior();
     }
 
@@ -77,7 +77,7 @@ public class PreparedExecuteSQLTest {
                 .prepare()
                 .executeAsBlocking();
 
-        verify(stub.storIOSQLite, never()).defaultRxScheduler();
+        verify(stub.storIOSQLite, never()).defaultRxWriteScheduler();
         stub.verifyBehavior();
     }
 
@@ -91,7 +91,7 @@ public class PreparedExecuteSQLTest {
                 .prepare()
                 .executeAsBlocking();
 
-        verify(stub.storIOSQLite, never()).defaultRxScheduler();
+        verify(stub.storIOSQLite, never()).defaultRxWriteScheduler();
         stub.verifyBehavior();
     }
 
@@ -105,7 +105,7 @@ public class PreparedExecuteSQLTest {
                 .prepare()
                 .asRxFlowable(MISSING);
 
-        verify(stub.storIOSQLite).defaultRxScheduler();
+        verify(stub.storIOSQLite).defaultRxWriteScheduler();
         stub.verifyBehavior(flowable);
     }
 
@@ -119,7 +119,7 @@ public class PreparedExecuteSQLTest {
                 .prepare()
                 .asRxSingle();
 
-        verify(stub.storIOSQLite).defaultRxScheduler();
+        verify(stub.storIOSQLite).defaultRxWriteScheduler();
         stub.verifyBehavior(single);
     }
 
@@ -133,7 +133,7 @@ public class PreparedExecuteSQLTest {
                 .prepare()
                 .asRxSingle();
 
-        verify(stub.storIOSQLite).defaultRxScheduler();
+        verify(stub.storIOSQLite).defaultRxWriteScheduler();
         stub.verifyBehavior(single);
     }
 
@@ -147,7 +147,7 @@ public class PreparedExecuteSQLTest {
                 .prepare()
                 .asRxCompletable();
 
-        verify(stub.storIOSQLite).defaultRxScheduler();
+        verify(stub.storIOSQLite).defaultRxWriteScheduler();
         stub.verifyBehavior(completable);
     }
 
@@ -161,7 +161,7 @@ public class PreparedExecuteSQLTest {
                 .prepare()
                 .asRxCompletable();
 
-        verify(stub.storIOSQLite).defaultRxScheduler();
+        verify(stub.storIOSQLite).defaultRxWriteScheduler();
         stub.verifyBehavior(completable);
     }
 
@@ -175,14 +175,14 @@ public class PreparedExecuteSQLTest {
                 .prepare()
                 .asRxFlowable(MISSING);
 
-        verify(stub.storIOSQLite).defaultRxScheduler();
+        verify(stub.storIOSQLite).defaultRxWriteScheduler();
         stub.verifyBehavior(flowable);
     }
 
     @Test
     public void executeSQLFlowableExecutesOnSpecifiedScheduler() {
         final Stub stub = Stub.newInstanceApplyNotEmptyAffectedTablesAndTags();
-        final SchedulerChecker schedulerChecker = SchedulerChecker.create(stub.storIOSQLite);
+        final SchedulerChecker schedulerChecker = SchedulerChecker.createForWrites(stub.storIOSQLite);
 
         final PreparedExecuteSQL operation = stub.storIOSQLite
                 .executeSQL()
@@ -195,7 +195,7 @@ public class PreparedExecuteSQLTest {
     @Test
     public void executeSQLSingleExecutesOnSpecifiedScheduler() {
         final Stub stub = Stub.newInstanceApplyNotEmptyAffectedTablesAndTags();
-        final SchedulerChecker schedulerChecker = SchedulerChecker.create(stub.storIOSQLite);
+        final SchedulerChecker schedulerChecker = SchedulerChecker.createForWrites(stub.storIOSQLite);
 
         final PreparedExecuteSQL operation = stub.storIOSQLite
                 .executeSQL()
@@ -208,7 +208,7 @@ public class PreparedExecuteSQLTest {
     @Test
     public void executeSQLCompletableExecutesOnSpecifiedScheduler() {
         final Stub stub = Stub.newInstanceApplyNotEmptyAffectedTablesAndTags();
-        final SchedulerChecker schedulerChecker = SchedulerChecker.create(stub.storIOSQLite);
+        final SchedulerChecker schedulerChecker = SchedulerChecker.createForWrites(stub.storIOSQLite);
 
         final PreparedExecuteSQL operation = stub.storIOSQLite
                 .executeSQL()
@@ -265,7 +265,7 @@ public class PreparedExecuteSQLTest {
         assertThat(cause).hasMessage("test exception");
 
         verify(stub.storIOSQLite).executeSQL();
-        verify(stub.storIOSQLite).defaultRxScheduler();
+        verify(stub.storIOSQLite).defaultRxWriteScheduler();
         verify(stub.storIOSQLite).lowLevel();
         verify(stub.lowLevel).executeSQL(stub.rawQuery);
         verify(stub.storIOSQLite).interceptors();
@@ -299,7 +299,7 @@ public class PreparedExecuteSQLTest {
         assertThat(cause).hasMessage("test exception");
 
         verify(stub.storIOSQLite).executeSQL();
-        verify(stub.storIOSQLite).defaultRxScheduler();
+        verify(stub.storIOSQLite).defaultRxWriteScheduler();
         verify(stub.storIOSQLite).lowLevel();
         verify(stub.lowLevel).executeSQL(stub.rawQuery);
         verify(stub.storIOSQLite).interceptors();
@@ -333,7 +333,7 @@ public class PreparedExecuteSQLTest {
         assertThat(cause).hasMessage("test exception");
 
         verify(stub.storIOSQLite).executeSQL();
-        verify(stub.storIOSQLite).defaultRxScheduler();
+        verify(stub.storIOSQLite).defaultRxWriteScheduler();
         verify(stub.storIOSQLite).lowLevel();
         verify(stub.lowLevel).executeSQL(stub.rawQuery);
         verify(stub.storIOSQLite).interceptors();
@@ -0,0 +1,121 @@
+package com.pushtorefresh.storio3.sqlite.operations.get;
+
+import android.database.Cursor;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+public class ListDiffTest {
+
+    /**
+     * Key of "key:content" is "key".
+     */
+    @NonNull
+    private final GetResolver<String> keyedResolver = new DefaultGetResolver<String>() {
+        @NonNull
+        @Override
+        public String mapFromCursor(@NonNull StorIOSQLite storIOSQLite, @NonNull Cursor cursor) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Nullable
+        @Override
+        public Object primaryKey(@NonNull String object) {
+            return object.substring(0, object.indexOf(':'));
+        }
+    };
+
+    @NonNull
+    private ListDiff<String> diff(@NonNull List<String> previous, @NonNull List<String> current) {
+        return ListDiff.calculate(previous, current, keyedResolver, ListDiff.EQUALS);
+    }
+
+    @Test
+    public void allObjectsShouldBeInsertedIntoEmptyList() {
+        final ListDiff<String> diff = diff(Collections.<String>emptyList(), asList("a:1", "b:1"));
+
+        assertThat(diff.inserted()).containsExactly(0, 1);
+        assertThat(diff.removed()).isEmpty();
+        assertThat(diff.moved()).isEmpty();
+        assertThat(diff.changed()).isEmpty();
+        assertThat(diff.current()).containsExactly("a:1", "b:1");
+    }
+
+    @Test
+    public void equalListsShouldHaveEmptyDiff() {
+        final ListDiff<String> diff = diff(asList("a:1", "b:1"), asList("a:1", "b:1"));
+
+        assertThat(diff.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void shouldFindInsertedAndRemovedObjects() {
+        final ListDiff<String> diff = diff(asList("a:1", "b:1", "c:1"), asList("a:1", "d:1", "c:1", "e:1"));
+
+        assertThat(diff.inserted()).containsExactly(1, 3);
+        assertThat(diff.removed()).containsExactly(1);
+        assertThat(diff.moved()).isEmpty();
+        assertThat(diff.changed()).isEmpty();
+    }
+
+    @Test
+    public void shouldFindChangedObjectsByPrimaryKey() {
+        final ListDiff<String> diff = diff(asList("a:1", "b:1"), asList("a:1", "b:2"));
+
+        assertThat(diff.changed()).containsExactly(1);
+        assertThat(diff.inserted()).isEmpty();
+        assertThat(diff.removed()).isEmpty();
+    }
+
+    @Test
+    public void shouldUseContentEquality() {
+        final ListDiff<String> diff = ListDiff.calculate(
+                asList("a:1", "b:1"),
+                asList("a:1", "b:2"),
+                keyedResolver,
+                new ListDiff.ContentEquality<String>() {
+                    @Override
+                    public boolean areContentsEqual(@NonNull String previous, @NonNull String current) {
+                        return true;
+                    }
+                }
+        );
+
+        assertThat(diff.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void shouldFindMinimalMoves() {
+        final ListDiff<String> diff = diff(asList("a:1", "b:1", "c:1", "d:1"), asList("d:1", "a:1", "b:1", "c:1"));
+
+        assertThat(diff.moved()).containsExactly(new ListDiff.Move(3, 0));
+        assertThat(diff.inserted()).isEmpty();
+        assertThat(diff.removed()).isEmpty();
+    }
+
+    @Test
+    public void shouldMatchObjectsWithoutPrimaryKeyByEquals() {
+        final GetResolver<String> resolver = new DefaultGetResolver<String>() {
+            @NonNull
+            @Override
+            public String mapFromCursor(@NonNull StorIOSQLite storIOSQLite, @NonNull Cursor cursor) {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        final ListDiff<String> diff = ListDiff.calculate(asList("a:1", "b:1"), asList("b:1", "a:2"), resolver, ListDiff.EQUALS);
+
+        assertThat(diff.inserted()).containsExactly(1);
+        assertThat(diff.removed()).containsExactly(0);
+        assertThat(diff.changed()).isEmpty();
+    }
+}
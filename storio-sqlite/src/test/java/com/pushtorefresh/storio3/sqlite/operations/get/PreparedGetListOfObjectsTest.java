@@ -22,6 +22,7 @@ import io.reactivex.observers.TestObserver;
 import io.reactivex.subscribers.TestSubscriber;
 
 import static io.reactivex.BackpressureStrategy.LATEST;
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
 import static org.assertj.core.api.Java6Assertions.assertThat;
 import static org.mockito.Matchers.any;
@@ -553,7 +554,9 @@ public class PreparedGetListOfObjectsTest {
                 verify(cursor).close();
 
                 verify(getResolver).performGet(eq(storIOSQLite), any(Query.class));
+                verify(getResolver).mappedColumns();
                 verify(getResolver).mapFromCursor(storIOSQLite, cursor);
+                verify(getResolver).columnIndices(cursor);
                 verify(cursor).getCount();
                 verify(cursor).moveToNext();
                 verify(storIOSQLite).interceptors();
@@ -613,7 +616,9 @@ public class PreparedGetListOfObjectsTest {
             verify(storIOSQLite).observeChanges(LATEST);
 
             verify(getResolver).performGet(eq(storIOSQLite), any(Query.class));
+            verify(getResolver).mappedColumns();
             verify(getResolver).mapFromCursor(storIOSQLite, cursor);
+            verify(getResolver).columnIndices(cursor);
             verify(cursor).getCount();
             verify(cursor).moveToNext();
             verify(storIOSQLite).defaultRxScheduler();
@@ -670,7 +675,9 @@ public class PreparedGetListOfObjectsTest {
 
             //noinspection unchecked
             verify(getResolver).performGet(eq(storIOSQLite), any(Query.class));
+            verify(getResolver).mappedColumns();
             verify(getResolver).mapFromCursor(storIOSQLite, cursor);
+            verify(getResolver).columnIndices(cursor);
             verify(cursor).getCount();
             verify(cursor).moveToNext();
             verify(storIOSQLite).defaultRxScheduler();
@@ -738,5 +745,258 @@ public class PreparedGetListOfObjectsTest {
             verify(getStub.getResolver, times(getStub.items.size()))
                     .mapFromCursor(eq(getStub.storIOSQLite), any(Cursor.class));
         }
+
+        @Test
+        public void pagedShouldThrowExceptionForRawQuery() {
+            final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+
+            try {
+                new PreparedGetListOfObjects.Builder<Object>(storIOSQLite, Object.class)
+                        .withQuery(RawQuery.builder().query("SELECT * FROM test_table").build())
+                        .paged(10, "_id");
+                failBecauseExceptionWasNotThrown(IllegalStateException.class);
+            } catch (IllegalStateException expected) {
+                assertThat(expected).hasMessage("Paged Get Operation requires Query, RawQuery is not supported");
+            }
+        }
+
+        @Test
+        public void pagedShouldThrowExceptionIfQueryHasOrderBy() {
+            final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+            final Query query = Query.builder().table("test_table").orderBy("_id").build();
+
+            try {
+                new PreparedGetListOfObjects.Builder<Object>(storIOSQLite, Object.class)
+                        .withQuery(query)
+                        .paged(10, "_id");
+                failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+            } catch (IllegalArgumentException expected) {
+                assertThat(expected).hasMessage("Paged query must not have orderBy or limit, " +
+                        "pages are ordered by key columns, query = " + query);
+            }
+        }
+
+        @Test
+        public void shouldResolveColumnIndicesOncePerCursor() {
+            final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+
+            //noinspection unchecked
+            final GetResolver<Object> getResolver = mock(GetResolver.class);
+
+            final Cursor cursor = mock(Cursor.class);
+
+            when(cursor.getCount()).thenReturn(2);
+
+            when(cursor.moveToNext()).thenReturn(true, true, false);
+
+            when(getResolver.performGet(eq(storIOSQLite), any(Query.class)))
+                    .thenReturn(cursor);
+
+            final int[] columnIndices = {0, 1};
+
+            when(getResolver.columnIndices(cursor))
+                    .thenReturn(columnIndices);
+
+            final Object first = new Object();
+            final Object second = new Object();
+
+            when(getResolver.mapFromCursor(storIOSQLite, cursor, columnIndices))
+                    .thenReturn(first, second);
+
+            final List<Object> objects = new PreparedGetListOfObjects<Object>(
+                    storIOSQLite,
+                    Object.class,
+                    Query.builder().table("test_table").build(),
+                    getResolver
+            ).executeAsBlocking();
+
+            assertThat(objects).containsExactly(first, second);
+
+            verify(getResolver).performGet(eq(storIOSQLite), any(Query.class));
+            verify(getResolver).mappedColumns();
+            verify(getResolver).columnIndices(cursor);
+            verify(getResolver, times(2)).mapFromCursor(storIOSQLite, cursor, columnIndices);
+            verify(getResolver, never()).mapFromCursor(storIOSQLite, cursor);
+            verify(cursor).getCount();
+            verify(cursor, times(3)).moveToNext();
+            verify(cursor).close();
+            verify(storIOSQLite).interceptors();
+
+            verifyNoMoreInteractions(storIOSQLite, getResolver, cursor);
+        }
+
+        @Test
+        public void shouldRequestMappedColumnsIfQueryDoesNotSpecifyColumns() {
+            final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+
+            //noinspection unchecked
+            final GetResolver<Object> getResolver = mock(GetResolver.class);
+
+            final Cursor cursor = mock(Cursor.class);
+
+            when(getResolver.mappedColumns()).thenReturn(asList("a", "b"));
+
+            when(getResolver.performGet(eq(storIOSQLite), any(Query.class)))
+                    .thenReturn(cursor);
+
+            new PreparedGetListOfObjects<Object>(
+                    storIOSQLite,
+                    Object.class,
+                    Query.builder().table("test_table").where("c = ?").whereArgs(1).build(),
+                    getResolver
+            ).executeAsBlocking();
+
+            new PreparedGetListOfObjects<Object>(
+                    storIOSQLite,
+                    Object.class,
+                    Query.builder().table("test_table").columns("c").build(),
+                    getResolver
+            ).executeAsBlocking();
+
+            verify(getResolver).performGet(storIOSQLite, Query.builder()
+                    .table("test_table")
+                    .columns("a", "b")
+                    .where("c = ?")
+                    .whereArgs(1)
+                    .build());
+
+            verify(getResolver).performGet(storIOSQLite, Query.builder()
+                    .table("test_table")
+                    .columns("c")
+                    .build());
+        }
+
+        @Test
+        public void asRxFlowableOfRowsShouldEmitRowsOnRequest() {
+            final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+
+            //noinspection unchecked
+            final GetResolver<Object> getResolver = mock(GetResolver.class);
+
+            final Cursor cursor = mock(Cursor.class);
+
+            when(cursor.moveToNext()).thenReturn(true, true, false);
+
+            when(getResolver.performGet(eq(storIOSQLite), any(Query.class)))
+                    .thenReturn(cursor);
+
+            final Object first = new Object();
+            final Object second = new Object();
+
+            when(getResolver.mapFromCursor(storIOSQLite, cursor))
+                    .thenReturn(first, second);
+
+            final PreparedGetListOfObjects<Object> preparedGetListOfObjects =
+                    new PreparedGetListOfObjects<Object>(
+                            storIOSQLite,
+                            Object.class,
+                            Query.builder().table("test_table").build(),
+                            getResolver
+                    );
+
+            final TestSubscriber<Object> testSubscriber = new TestSubscriber<Object>(1);
+
+            preparedGetListOfObjects
+                    .asRxFlowableOfRows()
+                    .subscribe(testSubscriber);
+
+            testSubscriber.assertValue(first);
+            testSubscriber.assertNotTerminated();
+            verify(cursor).moveToNext();
+            verify(cursor, never()).close();
+
+            testSubscriber.request(2);
+
+            testSubscriber.assertValues(first, second);
+            testSubscriber.assertComplete();
+
+            verify(cursor).close();
+
+            verify(getResolver).performGet(eq(storIOSQLite), any(Query.class));
+            verify(getResolver).mappedColumns();
+            verify(getResolver, times(2)).mapFromCursor(storIOSQLite, cursor);
+            verify(getResolver).columnIndices(cursor);
+            verify(cursor, times(3)).moveToNext();
+            verify(storIOSQLite).defaultRxScheduler();
+
+            verifyNoMoreInteractions(storIOSQLite, getResolver, cursor);
+        }
+
+        @Test
+        public void asRxFlowableOfRowsShouldCloseCursorOnCancel() {
+            final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+
+            //noinspection unchecked
+            final GetResolver<Object> getResolver = mock(GetResolver.class);
+
+            final Cursor cursor = mock(Cursor.class);
+
+            when(cursor.moveToNext()).thenReturn(true);
+
+            when(getResolver.performGet(eq(storIOSQLite), any(RawQuery.class)))
+                    .thenReturn(cursor);
+
+            when(getResolver.mapFromCursor(storIOSQLite, cursor))
+                    .thenReturn(new Object());
+
+            final PreparedGetListOfObjects<Object> preparedGetListOfObjects =
+                    new PreparedGetListOfObjects<Object>(
+                            storIOSQLite,
+                            Object.class,
+                            RawQuery.builder().query("SELECT * FROM test_table").build(),
+                            getResolver
+                    );
+
+            final TestSubscriber<Object> testSubscriber = preparedGetListOfObjects
+                    .asRxFlowableOfRows()
+                    .take(3)
+                    .test();
+
+            testSubscriber.assertValueCount(3);
+            testSubscriber.assertComplete();
+
+            verify(cursor).close();
+            verify(cursor, times(3)).moveToNext();
+        }
+
+        @Test
+        public void asRxFlowableOfRowsShouldCloseCursorInCaseOfException() {
+            final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+
+            //noinspection unchecked
+            final GetResolver<Object> getResolver = mock(GetResolver.class);
+
+            final Cursor cursor = mock(Cursor.class);
+
+            when(cursor.moveToNext()).thenReturn(true);
+
+            when(getResolver.performGet(eq(storIOSQLite), any(Query.class)))
+                    .thenReturn(cursor);
+
+            when(getResolver.mapFromCursor(storIOSQLite, cursor))
+                    .thenThrow(new IllegalStateException("test exception"));
+
+            final PreparedGetListOfObjects<Object> preparedGetListOfObjects =
+                    new PreparedGetListOfObjects<Object>(
+                            storIOSQLite,
+                            Object.class,
+                            Query.builder().table("test_table").build(),
+                            getResolver
+                    );
+
+            final TestSubscriber<Object> testSubscriber = preparedGetListOfObjects
+                    .asRxFlowableOfRows()
+                    .test();
+
+            testSubscriber.assertNoValues();
+            testSubscriber.assertError(StorIOException.class);
+
+            StorIOException storIOException = (StorIOException) testSubscriber.errors().get(0);
+
+            IllegalStateException cause = (IllegalStateException) storIOException.getCause();
+            assertThat(cause).hasMessage("test exception");
+
+            verify(cursor).close();
+        }
     }
 }
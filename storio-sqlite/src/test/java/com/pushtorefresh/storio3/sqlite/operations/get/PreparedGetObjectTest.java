@@ -735,7 +735,9 @@ public class PreparedGetObjectTest {
                 verify(cursor).close();
 
                 verify(getResolver).performGet(eq(storIOSQLite), any(Query.class));
+                verify(getResolver).mappedColumns();
                 verify(getResolver).mapFromCursor(storIOSQLite, cursor);
+                verify(getResolver).columnIndices(cursor);
                 verify(cursor).getCount();
                 verify(cursor).moveToNext();
                 verify(storIOSQLite).interceptors();
@@ -794,7 +796,9 @@ public class PreparedGetObjectTest {
 
             verify(storIOSQLite).observeChanges(LATEST);
             verify(getResolver).performGet(eq(storIOSQLite), any(Query.class));
+            verify(getResolver).mappedColumns();
             verify(getResolver).mapFromCursor(storIOSQLite, cursor);
+            verify(getResolver).columnIndices(cursor);
             verify(cursor).getCount();
             verify(cursor).moveToNext();
             verify(storIOSQLite).defaultRxScheduler();
@@ -851,7 +855,9 @@ public class PreparedGetObjectTest {
 
             //noinspection unchecked
             verify(getResolver).performGet(eq(storIOSQLite), any(Query.class));
+            verify(getResolver).mappedColumns();
             verify(getResolver).mapFromCursor(storIOSQLite, cursor);
+            verify(getResolver).columnIndices(cursor);
             verify(cursor).getCount();
             verify(cursor).moveToNext();
             verify(storIOSQLite).defaultRxScheduler();
@@ -908,7 +914,9 @@ public class PreparedGetObjectTest {
 
             //noinspection unchecked
             verify(getResolver).performGet(eq(storIOSQLite), any(Query.class));
+            verify(getResolver).mappedColumns();
             verify(getResolver).mapFromCursor(storIOSQLite, cursor);
+            verify(getResolver).columnIndices(cursor);
             verify(cursor).getCount();
             verify(cursor).moveToNext();
             verify(storIOSQLite).defaultRxScheduler();
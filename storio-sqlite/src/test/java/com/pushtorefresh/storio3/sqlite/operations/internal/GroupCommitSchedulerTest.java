@@ -0,0 +1,125 @@
+package com.pushtorefresh.storio3.sqlite.operations.internal;
+
+import android.database.sqlite.SQLiteOpenHelper;
+import android.support.annotation.NonNull;
+
+import com.pushtorefresh.storio3.operations.PreparedOperation;
+import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio3.sqlite.impl.DefaultStorIOSQLite;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.observers.TestObserver;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GroupCommitSchedulerTest {
+
+    private StorIOSQLite storIOSQLite;
+
+    private StorIOSQLite.LowLevel lowLevel;
+
+    @Before
+    public void setUp() {
+        storIOSQLite = mock(StorIOSQLite.class);
+        lowLevel = mock(StorIOSQLite.LowLevel.class);
+        when(storIOSQLite.lowLevel()).thenReturn(lowLevel);
+    }
+
+    @NonNull
+    private static GroupCommitScheduler newScheduler(int maxBatchSize, long maxDelayMillis) {
+        return new GroupCommitScheduler(maxBatchSize, maxDelayMillis, TimeUnit.MILLISECONDS, Executors.defaultThreadFactory());
+    }
+
+    @SuppressWarnings("unchecked")
+    @NonNull
+    private static PreparedOperation<String, String, Object> newOperation(String result) {
+        final PreparedOperation<String, String, Object> operation = mock(PreparedOperation.class);
+        when(operation.executeAsBlocking()).thenReturn(result);
+        return operation;
+    }
+
+    @Test
+    public void groupCommitShouldUseGroupCommitScheduler() {
+        final StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(mock(SQLiteOpenHelper.class))
+                .groupCommit(10, 1, TimeUnit.MILLISECONDS)
+                .build();
+
+        assertThat(storIOSQLite.defaultRxWriteScheduler()).isInstanceOf(GroupCommitScheduler.class);
+    }
+
+    @Test
+    public void nullResultShouldBeSignaledAsError() {
+        final GroupCommitScheduler scheduler = newScheduler(1, 1);
+
+        final TestObserver<String> testObserver = scheduler
+                .enqueue(storIOSQLite, newOperation(null))
+                .test();
+
+        testObserver.awaitTerminalEvent(5, TimeUnit.SECONDS);
+        testObserver.assertError(NullPointerException.class);
+    }
+
+    @Test
+    public void shouldExecuteOperationsOneByOneIfCommitFailed() {
+        final GroupCommitScheduler scheduler = newScheduler(2, TimeUnit.MINUTES.toMillis(1));
+
+        doThrow(new IllegalStateException("disk is full"))
+                .doNothing()
+                .when(lowLevel).endTransaction();
+
+        final PreparedOperation<String, String, Object> operation1 = newOperation("1");
+        final PreparedOperation<String, String, Object> operation2 = newOperation("2");
+
+        final TestObserver<String> testObserver1 = scheduler.enqueue(storIOSQLite, operation1).test();
+        final TestObserver<String> testObserver2 = scheduler.enqueue(storIOSQLite, operation2).test();
+
+        testObserver1.awaitTerminalEvent(5, TimeUnit.SECONDS);
+        testObserver2.awaitTerminalEvent(5, TimeUnit.SECONDS);
+
+        // executed in the batch and then on their own
+        verify(operation1, times(2)).executeAsBlocking();
+        verify(operation2, times(2)).executeAsBlocking();
+
+        testObserver1.assertValue("1");
+        testObserver1.assertNoErrors();
+        testObserver2.assertValue("2");
+        testObserver2.assertNoErrors();
+    }
+
+    @Test
+    public void flushByBatchSizeShouldCancelDelayedFlush() throws InterruptedException {
+        final GroupCommitScheduler scheduler = newScheduler(2, 500);
+
+        final PreparedOperation<String, String, Object> operation1 = newOperation("1");
+        final PreparedOperation<String, String, Object> operation2 = newOperation("2");
+        final PreparedOperation<String, String, Object> operation3 = newOperation("3");
+
+        scheduler.enqueue(storIOSQLite, operation1).test();
+        scheduler.enqueue(storIOSQLite, operation2).test();
+
+        verify(operation2, timeout(1000)).executeAsBlocking();
+
+        Thread.sleep(300);
+        scheduler.enqueue(storIOSQLite, operation3).test();
+
+        // delayed flush of the first batch would have flushed third operation earlier
+        Thread.sleep(300);
+        verify(operation3, never()).executeAsBlocking();
+
+        verify(operation3, timeout(1000)).executeAsBlocking();
+    }
+}
@@ -2,9 +2,11 @@ package com.pushtorefresh.storio3.sqlite.operations.put;
 
 import android.content.ContentValues;
 import android.database.Cursor;
+import android.database.sqlite.SQLiteConstraintException;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import com.pushtorefresh.storio3.StorIOException;
 import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio3.sqlite.queries.InsertQuery;
 import com.pushtorefresh.storio3.sqlite.queries.Query;
@@ -229,6 +231,212 @@ public class DefaultPutResolverTest {
         assertThat(putResult.affectedTags()).isEqualTo(tags);
     }
 
+    /**
+     * Verifies behavior of {@link PutStrategy#UPDATE_FIRST} for "insert"
+     */
+    @Test
+    public void updateFirstShouldInsertIfNothingWasUpdated() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.LowLevel lowLevel = mock(StorIOSQLite.LowLevel.class);
+        final TestItem testItem = new TestItem(1L);
+
+        when(storIOSQLite.lowLevel())
+                .thenReturn(lowLevel);
+
+        when(lowLevel.update(any(UpdateQuery.class), any(ContentValues.class)))
+                .thenReturn(0); // No rows were updated -> insert should be performed
+
+        final Long expectedInsertedId = 24L;
+
+        when(lowLevel.insert(any(InsertQuery.class), any(ContentValues.class)))
+                .thenReturn(expectedInsertedId);
+
+        final PutResolver<TestItem> putResolver = newPutResolver(PutStrategy.UPDATE_FIRST);
+        final ContentValues expectedContentValues = TestItem.MAP_TO_CONTENT_VALUES.apply(testItem);
+
+        final PutResult putResult = putResolver.performPut(storIOSQLite, testItem);
+
+        // no query and no transaction should occur
+        verify(lowLevel, never()).query(any(Query.class));
+        verify(lowLevel, never()).beginTransaction();
+
+        verify(lowLevel).update(any(UpdateQuery.class), eq(expectedContentValues));
+        verify(lowLevel).insert(any(InsertQuery.class), eq(expectedContentValues));
+
+        assertThat(putResult.wasInserted()).isTrue();
+        assertThat(putResult.insertedId()).isEqualTo(expectedInsertedId);
+        assertThat(putResult.affectedTables()).containsExactly(TestItem.TABLE);
+    }
+
+    /**
+     * Verifies behavior of {@link PutStrategy#UPDATE_FIRST} for object without key
+     */
+    @Test
+    public void updateFirstShouldNotUpdateIfKeyIsNull() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.LowLevel lowLevel = mock(StorIOSQLite.LowLevel.class);
+        final TestItem testItem = new TestItem(null);
+
+        when(storIOSQLite.lowLevel())
+                .thenReturn(lowLevel);
+
+        final Long expectedInsertedId = 24L;
+
+        when(lowLevel.insert(any(InsertQuery.class), any(ContentValues.class)))
+                .thenReturn(expectedInsertedId);
+
+        final PutResult putResult = newPutResolver(PutStrategy.UPDATE_FIRST).performPut(storIOSQLite, testItem);
+
+        verify(lowLevel, never()).update(any(UpdateQuery.class), any(ContentValues.class));
+        verify(lowLevel).insert(any(InsertQuery.class), any(ContentValues.class));
+
+        assertThat(putResult.wasInserted()).isTrue();
+        assertThat(putResult.insertedId()).isEqualTo(expectedInsertedId);
+    }
+
+    /**
+     * Verifies behavior of {@link PutStrategy#UPDATE_FIRST} for "update"
+     */
+    @Test
+    public void updateFirstShouldNotInsertIfSomethingWasUpdated() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.LowLevel lowLevel = mock(StorIOSQLite.LowLevel.class);
+        final TestItem testItem = new TestItem(1L);
+
+        when(storIOSQLite.lowLevel())
+                .thenReturn(lowLevel);
+
+        when(lowLevel.update(any(UpdateQuery.class), any(ContentValues.class)))
+                .thenReturn(1);
+
+        final PutResult putResult = newPutResolver(PutStrategy.UPDATE_FIRST).performPut(storIOSQLite, testItem);
+
+        verify(lowLevel, never()).query(any(Query.class));
+        verify(lowLevel, never()).beginTransaction();
+        verify(lowLevel, never()).insert(any(InsertQuery.class), any(ContentValues.class));
+
+        assertThat(putResult.wasUpdated()).isTrue();
+        assertThat(putResult.numberOfRowsUpdated()).isEqualTo(1);
+    }
+
+    /**
+     * Verifies behavior of {@link PutStrategy#INSERT_FIRST} for "insert"
+     */
+    @Test
+    public void insertFirstShouldNotUpdateIfInsertSucceeded() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.LowLevel lowLevel = mock(StorIOSQLite.LowLevel.class);
+        final TestItem testItem = new TestItem(null);
+
+        when(storIOSQLite.lowLevel())
+                .thenReturn(lowLevel);
+
+        final Long expectedInsertedId = 24L;
+
+        when(lowLevel.insert(any(InsertQuery.class), any(ContentValues.class)))
+                .thenReturn(expectedInsertedId);
+
+        final PutResult putResult = newPutResolver(PutStrategy.INSERT_FIRST).performPut(storIOSQLite, testItem);
+
+        verify(lowLevel, never()).query(any(Query.class));
+        verify(lowLevel, never()).beginTransaction();
+        verify(lowLevel).insert(any(InsertQuery.class), any(ContentValues.class));
+        verify(lowLevel, never()).update(any(UpdateQuery.class), any(ContentValues.class));
+
+        assertThat(putResult.wasInserted()).isTrue();
+        assertThat(putResult.insertedId()).isEqualTo(expectedInsertedId);
+    }
+
+    /**
+     * Verifies behavior of {@link PutStrategy#INSERT_FIRST} for "update"
+     */
+    @Test
+    public void insertFirstShouldUpdateIfInsertFailed() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.LowLevel lowLevel = mock(StorIOSQLite.LowLevel.class);
+        final TestItem testItem = new TestItem(1L);
+
+        when(storIOSQLite.lowLevel())
+                .thenReturn(lowLevel);
+
+        when(lowLevel.insert(any(InsertQuery.class), any(ContentValues.class)))
+                .thenThrow(new SQLiteConstraintException("UNIQUE constraint failed")); // Row already exists -> update should be performed
+
+        when(lowLevel.update(any(UpdateQuery.class), any(ContentValues.class)))
+                .thenReturn(1);
+
+        final PutResult putResult = newPutResolver(PutStrategy.INSERT_FIRST).performPut(storIOSQLite, testItem);
+
+        verify(lowLevel, never()).query(any(Query.class));
+        verify(lowLevel, never()).beginTransaction();
+        verify(lowLevel).update(any(UpdateQuery.class), any(ContentValues.class));
+
+        assertThat(putResult.wasUpdated()).isTrue();
+        assertThat(putResult.numberOfRowsUpdated()).isEqualTo(1);
+    }
+
+    /**
+     * Verifies behavior of {@link PutStrategy#INSERT_FIRST} for object violating constraint
+     */
+    @Test
+    public void insertFirstShouldThrowIfInsertFailedAndNothingWasUpdated() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.LowLevel lowLevel = mock(StorIOSQLite.LowLevel.class);
+        final TestItem testItem = new TestItem(null);
+        final SQLiteConstraintException constraintException = new SQLiteConstraintException("NOT NULL constraint failed");
+
+        when(storIOSQLite.lowLevel())
+                .thenReturn(lowLevel);
+
+        when(lowLevel.insert(any(InsertQuery.class), any(ContentValues.class)))
+                .thenThrow(constraintException);
+
+        when(lowLevel.update(any(UpdateQuery.class), any(ContentValues.class)))
+                .thenReturn(0);
+
+        try {
+            newPutResolver(PutStrategy.INSERT_FIRST).performPut(storIOSQLite, testItem);
+            fail("StorIOException should be thrown");
+        } catch (StorIOException expected) {
+            assertThat(expected).hasCause(constraintException);
+        }
+    }
+
+    @NonNull
+    private static PutResolver<TestItem> newPutResolver(@NonNull final PutStrategy putStrategy) {
+        return new DefaultPutResolver<TestItem>() {
+            @NonNull
+            @Override
+            protected InsertQuery mapToInsertQuery(@NonNull TestItem object) {
+                return InsertQuery.builder()
+                        .table(TestItem.TABLE)
+                        .build();
+            }
+
+            @NonNull
+            @Override
+            protected UpdateQuery mapToUpdateQuery(@NonNull TestItem object) {
+                return UpdateQuery.builder()
+                        .table(TestItem.TABLE)
+                        .where(TestItem.COLUMN_ID + " = ?")
+                        .whereArgs(object.getId())
+                        .build();
+            }
+
+            @NonNull
+            @Override
+            protected ContentValues mapToContentValues(@NonNull TestItem object) {
+                return TestItem.MAP_TO_CONTENT_VALUES.apply(object);
+            }
+
+            @NonNull
+            @Override
+            protected PutStrategy putStrategy() {
+                return putStrategy;
+            }
+        };
+    }
+
     private static class TestItem {
 
         final static String TABLE = "someTable";
@@ -3,7 +3,9 @@ package com.pushtorefresh.storio3.sqlite.operations.put;
 import android.content.ContentValues;
 
 import com.pushtorefresh.storio3.StorIOException;
+import com.pushtorefresh.storio3.sqlite.Changes;
 import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio3.sqlite.operations.BatchProgressListener;
 import com.pushtorefresh.storio3.sqlite.operations.SchedulerChecker;
 import com.pushtorefresh.storio3.sqlite.queries.InsertQuery;
 import com.pushtorefresh.storio3.sqlite.queries.UpdateQuery;
@@ -11,6 +13,7 @@ import com.pushtorefresh.storio3.sqlite.queries.UpdateQuery;
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 
 import java.util.Collection;
 import java.util.List;
@@ -28,8 +31,10 @@ import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
 import static org.assertj.core.api.Java6Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -418,7 +423,7 @@ public class PreparedPutCollectionOfObjectsTest {
 
             verify(storIOSQLite).put();
             verify(storIOSQLite).lowLevel();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(storIOSQLite).interceptors();
             verify(lowLevel).typeMapping(TestItem.class);
             verify(lowLevel, never()).insert(any(InsertQuery.class), any(ContentValues.class));
@@ -455,7 +460,7 @@ public class PreparedPutCollectionOfObjectsTest {
 
             verify(storIOSQLite).put();
             verify(storIOSQLite).lowLevel();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(storIOSQLite).interceptors();
             verify(lowLevel).typeMapping(TestItem.class);
             verify(lowLevel, never()).insert(any(InsertQuery.class), any(ContentValues.class));
@@ -492,7 +497,7 @@ public class PreparedPutCollectionOfObjectsTest {
 
             verify(storIOSQLite).put();
             verify(storIOSQLite).lowLevel();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(storIOSQLite).interceptors();
             verify(lowLevel).typeMapping(TestItem.class);
             verify(lowLevel, never()).insert(any(InsertQuery.class), any(ContentValues.class));
@@ -563,7 +568,7 @@ public class PreparedPutCollectionOfObjectsTest {
 
             verify(storIOSQLite).put();
             verify(storIOSQLite).lowLevel();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(storIOSQLite).interceptors();
             verify(lowLevel).typeMapping(TestItem.class);
             verify(lowLevel, never()).insert(any(InsertQuery.class), any(ContentValues.class));
@@ -600,7 +605,7 @@ public class PreparedPutCollectionOfObjectsTest {
 
             verify(storIOSQLite).put();
             verify(storIOSQLite).lowLevel();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(storIOSQLite).interceptors();
             verify(lowLevel).typeMapping(TestItem.class);
             verify(lowLevel, never()).insert(any(InsertQuery.class), any(ContentValues.class));
@@ -637,7 +642,7 @@ public class PreparedPutCollectionOfObjectsTest {
 
             verify(storIOSQLite).put();
             verify(storIOSQLite).lowLevel();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(storIOSQLite).interceptors();
             verify(lowLevel).typeMapping(TestItem.class);
             verify(lowLevel, never()).insert(any(InsertQuery.class), any(ContentValues.class));
@@ -742,7 +747,7 @@ public class PreparedPutCollectionOfObjectsTest {
             verify(lowLevel).endTransaction();
 
             verify(storIOSQLite).lowLevel();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(storIOSQLite).interceptors();
             verify(putResolver).performPut(same(storIOSQLite), any());
             verifyNoMoreInteractions(storIOSQLite, lowLevel, putResolver);
@@ -786,7 +791,7 @@ public class PreparedPutCollectionOfObjectsTest {
             verify(lowLevel).endTransaction();
 
             verify(storIOSQLite).lowLevel();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(storIOSQLite).interceptors();
             verify(putResolver).performPut(same(storIOSQLite), any());
             verifyNoMoreInteractions(storIOSQLite, lowLevel, putResolver);
@@ -830,7 +835,7 @@ public class PreparedPutCollectionOfObjectsTest {
             verify(lowLevel).endTransaction();
 
             verify(storIOSQLite).lowLevel();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(storIOSQLite).interceptors();
             verify(putResolver).performPut(same(storIOSQLite), any());
             verifyNoMoreInteractions(storIOSQLite, lowLevel, putResolver);
@@ -915,7 +920,7 @@ public class PreparedPutCollectionOfObjectsTest {
             verify(lowLevel, never()).endTransaction();
 
             verify(storIOSQLite).lowLevel();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(storIOSQLite).interceptors();
             verify(putResolver).performPut(same(storIOSQLite), any());
             verifyNoMoreInteractions(storIOSQLite, lowLevel, putResolver);
@@ -961,7 +966,7 @@ public class PreparedPutCollectionOfObjectsTest {
             verify(lowLevel, never()).endTransaction();
 
             verify(storIOSQLite).lowLevel();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(storIOSQLite).interceptors();
             verify(putResolver).performPut(same(storIOSQLite), any());
             verifyNoMoreInteractions(storIOSQLite, lowLevel, putResolver);
@@ -1007,7 +1012,7 @@ public class PreparedPutCollectionOfObjectsTest {
             verify(lowLevel, never()).endTransaction();
 
             verify(storIOSQLite).lowLevel();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(storIOSQLite).interceptors();
             verify(putResolver).performPut(same(storIOSQLite), any());
             verifyNoMoreInteractions(storIOSQLite, lowLevel, putResolver);
@@ -1017,7 +1022,7 @@ public class PreparedPutCollectionOfObjectsTest {
         public void putCollectionOfObjectsFlowableExecutesOnSpecifiedScheduler() {
             final PutObjectsStub putStub
                     = PutObjectsStub.newPutStubForMultipleObjectsWithTypeMappingWithTransaction();
-            final SchedulerChecker schedulerChecker = SchedulerChecker.create(putStub.storIOSQLite);
+            final SchedulerChecker schedulerChecker = SchedulerChecker.createForWrites(putStub.storIOSQLite);
 
             final PreparedPutCollectionOfObjects<TestItem> operation = putStub.storIOSQLite
                     .put()
@@ -1031,7 +1036,7 @@ public class PreparedPutCollectionOfObjectsTest {
         public void putCollectionOfObjectsSingleExecutesOnSpecifiedScheduler() {
             final PutObjectsStub putStub
                     = PutObjectsStub.newPutStubForMultipleObjectsWithTypeMappingWithTransaction();
-            final SchedulerChecker schedulerChecker = SchedulerChecker.create(putStub.storIOSQLite);
+            final SchedulerChecker schedulerChecker = SchedulerChecker.createForWrites(putStub.storIOSQLite);
 
             final PreparedPutCollectionOfObjects<TestItem> operation = putStub.storIOSQLite
                     .put()
@@ -1045,7 +1050,7 @@ public class PreparedPutCollectionOfObjectsTest {
         public void putCollectionOfObjectsCompletableExecutesOnSpecifiedScheduler() {
             final PutObjectsStub putStub
                     = PutObjectsStub.newPutStubForMultipleObjectsWithTypeMappingWithTransaction();
-            final SchedulerChecker schedulerChecker = SchedulerChecker.create(putStub.storIOSQLite);
+            final SchedulerChecker schedulerChecker = SchedulerChecker.createForWrites(putStub.storIOSQLite);
 
             final PreparedPutCollectionOfObjects<TestItem> operation = putStub.storIOSQLite
                     .put()
@@ -1082,5 +1087,57 @@ public class PreparedPutCollectionOfObjectsTest {
 
             putStub.verifyBehaviorForMultipleObjects(putResults);
         }
+
+        @Test
+        public void shouldCommitInBatchesBlocking() {
+            final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+            final StorIOSQLite.LowLevel lowLevel = mock(StorIOSQLite.LowLevel.class);
+
+            when(storIOSQLite.lowLevel()).thenReturn(lowLevel);
+
+            //noinspection unchecked
+            final PutResolver<Object> putResolver = mock(PutResolver.class);
+
+            when(putResolver.performPut(same(storIOSQLite), any()))
+                    .thenReturn(PutResult.newInsertResult(1, "test_table"));
+
+            final BatchProgressListener progressListener = mock(BatchProgressListener.class);
+
+            final List<Object> objects = asList(new Object(), new Object(), new Object(), new Object(), new Object());
+
+            final PutResults<Object> putResults = new PreparedPutCollectionOfObjects.Builder<Object>(storIOSQLite, objects)
+                    .withPutResolver(putResolver)
+                    .batchSize(2)
+                    .withProgressListener(progressListener)
+                    .prepare()
+                    .executeAsBlocking();
+
+            assertThat(putResults.numberOfInserts()).isEqualTo(5);
+
+            verify(lowLevel, times(3)).beginTransaction();
+            verify(lowLevel, times(3)).setTransactionSuccessful();
+            verify(lowLevel, times(3)).endTransaction();
+            verify(lowLevel, times(3)).notifyAboutChanges(Changes.newInstance("test_table"));
+
+            final InOrder inOrder = inOrder(progressListener);
+            inOrder.verify(progressListener).onBatchCommitted(2, 5);
+            inOrder.verify(progressListener).onBatchCommitted(4, 5);
+            inOrder.verify(progressListener).onBatchCommitted(5, 5);
+            inOrder.verifyNoMoreInteractions();
+        }
+
+        @Test
+        public void shouldNotAcceptNegativeBatchSize() {
+            final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+
+            try {
+                new PreparedPutCollectionOfObjects.Builder<Object>(storIOSQLite, singletonList(new Object()))
+                        .batchSize(-1);
+
+                failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+            } catch (IllegalArgumentException expected) {
+                assertThat(expected).hasMessage("batchSize must be >= 0, but was: -1");
+            }
+        }
     }
 }
@@ -250,7 +250,7 @@ public class PreparedPutContentValuesIterableTest {
         verify(lowLevel).endTransaction();
 
         verify(storIOSQLite).lowLevel();
-        verify(storIOSQLite).defaultRxScheduler();
+        verify(storIOSQLite).defaultRxWriteScheduler();
         verify(storIOSQLite).interceptors();
         verify(putResolver).performPut(same(storIOSQLite), any(ContentValues.class));
         verifyNoMoreInteractions(storIOSQLite, lowLevel, putResolver);
@@ -295,7 +295,7 @@ public class PreparedPutContentValuesIterableTest {
         verify(lowLevel).endTransaction();
 
         verify(storIOSQLite).lowLevel();
-        verify(storIOSQLite).defaultRxScheduler();
+        verify(storIOSQLite).defaultRxWriteScheduler();
         verify(storIOSQLite).interceptors();
         verify(putResolver).performPut(same(storIOSQLite), any(ContentValues.class));
         verifyNoMoreInteractions(storIOSQLite, lowLevel, putResolver);
@@ -340,7 +340,7 @@ public class PreparedPutContentValuesIterableTest {
         verify(lowLevel).endTransaction();
 
         verify(storIOSQLite).lowLevel();
-        verify(storIOSQLite).defaultRxScheduler();
+        verify(storIOSQLite).defaultRxWriteScheduler();
         verify(storIOSQLite).interceptors();
         verify(putResolver).performPut(same(storIOSQLite), any(ContentValues.class));
         verifyNoMoreInteractions(storIOSQLite, lowLevel, putResolver);
@@ -417,7 +417,7 @@ public class PreparedPutContentValuesIterableTest {
         verify(lowLevel, never()).endTransaction();
 
         verify(storIOSQLite).lowLevel();
-        verify(storIOSQLite).defaultRxScheduler();
+        verify(storIOSQLite).defaultRxWriteScheduler();
         verify(storIOSQLite).interceptors();
         verify(putResolver).performPut(same(storIOSQLite), any(ContentValues.class));
         verifyNoMoreInteractions(storIOSQLite, lowLevel, putResolver);
@@ -459,7 +459,7 @@ public class PreparedPutContentValuesIterableTest {
         verify(lowLevel, never()).endTransaction();
 
         verify(storIOSQLite).lowLevel();
-        verify(storIOSQLite).defaultRxScheduler();
+        verify(storIOSQLite).defaultRxWriteScheduler();
         verify(storIOSQLite).interceptors();
         verify(putResolver).performPut(same(storIOSQLite), any(ContentValues.class));
         verifyNoMoreInteractions(storIOSQLite, lowLevel, putResolver);
@@ -501,7 +501,7 @@ public class PreparedPutContentValuesIterableTest {
         verify(lowLevel, never()).endTransaction();
 
         verify(storIOSQLite).lowLevel();
-        verify(storIOSQLite).defaultRxScheduler();
+        verify(storIOSQLite).defaultRxWriteScheduler();
         verify(storIOSQLite).interceptors();
         verify(putResolver).performPut(same(storIOSQLite), any(ContentValues.class));
         verifyNoMoreInteractions(storIOSQLite, lowLevel, putResolver);
@@ -510,7 +510,7 @@ public class PreparedPutContentValuesIterableTest {
     @Test
     public void putMultipleFlowableExecutesOnSpecifiedScheduler() {
         final PutContentValuesStub putStub = PutContentValuesStub.newPutStubForMultipleContentValues(true);
-        final SchedulerChecker schedulerChecker = SchedulerChecker.create(putStub.storIOSQLite);
+        final SchedulerChecker schedulerChecker = SchedulerChecker.createForWrites(putStub.storIOSQLite);
 
         final PreparedPutContentValuesIterable operation = putStub.storIOSQLite
                 .put()
@@ -524,7 +524,7 @@ public class PreparedPutContentValuesIterableTest {
     @Test
     public void putMultipleSingleExecutesOnSpecifiedScheduler() {
         final PutContentValuesStub putStub = PutContentValuesStub.newPutStubForMultipleContentValues(true);
-        final SchedulerChecker schedulerChecker = SchedulerChecker.create(putStub.storIOSQLite);
+        final SchedulerChecker schedulerChecker = SchedulerChecker.createForWrites(putStub.storIOSQLite);
 
         final PreparedPutContentValuesIterable operation = putStub.storIOSQLite
                 .put()
@@ -538,7 +538,7 @@ public class PreparedPutContentValuesIterableTest {
     @Test
     public void putMultipleCompletableExecutesOnSpecifiedScheduler() {
         final PutContentValuesStub putStub = PutContentValuesStub.newPutStubForMultipleContentValues(true);
-        final SchedulerChecker schedulerChecker = SchedulerChecker.create(putStub.storIOSQLite);
+        final SchedulerChecker schedulerChecker = SchedulerChecker.createForWrites(putStub.storIOSQLite);
 
         final PreparedPutContentValuesIterable operation = putStub.storIOSQLite
                 .put()
@@ -602,7 +602,7 @@ public class PreparedPutContentValuesIterableTest {
         verify(stub.storIOSQLite).lowLevel();
         verify(stub.lowLevel).beginTransaction();
         verify(stub.lowLevel).endTransaction();
-        verify(stub.storIOSQLite).defaultRxScheduler();
+        verify(stub.storIOSQLite).defaultRxWriteScheduler();
         verify(stub.storIOSQLite).interceptors();
         verifyNoMoreInteractions(stub.storIOSQLite, stub.lowLevel);
     }
@@ -639,7 +639,7 @@ public class PreparedPutContentValuesIterableTest {
         verify(stub.storIOSQLite).lowLevel();
         verify(stub.lowLevel).beginTransaction();
         verify(stub.lowLevel).endTransaction();
-        verify(stub.storIOSQLite).defaultRxScheduler();
+        verify(stub.storIOSQLite).defaultRxWriteScheduler();
         verify(stub.storIOSQLite).interceptors();
         verifyNoMoreInteractions(stub.storIOSQLite, stub.lowLevel);
     }
@@ -676,7 +676,7 @@ public class PreparedPutContentValuesIterableTest {
         verify(stub.storIOSQLite).lowLevel();
         verify(stub.lowLevel).beginTransaction();
         verify(stub.lowLevel).endTransaction();
-        verify(stub.storIOSQLite).defaultRxScheduler();
+        verify(stub.storIOSQLite).defaultRxWriteScheduler();
         verify(stub.storIOSQLite).interceptors();
         verifyNoMoreInteractions(stub.storIOSQLite, stub.lowLevel);
     }
@@ -150,7 +150,7 @@ public class PreparedPutContentValuesTest {
         assertThat(cause).hasMessage("test exception");
 
         verify(stub.storIOSQLite).put();
-        verify(stub.storIOSQLite).defaultRxScheduler();
+        verify(stub.storIOSQLite).defaultRxWriteScheduler();
         verify(stub.storIOSQLite).interceptors();
         verifyNoMoreInteractions(stub.storIOSQLite, stub.lowLevel);
     }
@@ -186,7 +186,7 @@ public class PreparedPutContentValuesTest {
         assertThat(cause).hasMessage("test exception");
 
         verify(stub.storIOSQLite).put();
-        verify(stub.storIOSQLite).defaultRxScheduler();
+        verify(stub.storIOSQLite).defaultRxWriteScheduler();
         verify(stub.storIOSQLite).interceptors();
         verifyNoMoreInteractions(stub.storIOSQLite, stub.lowLevel);
     }
@@ -222,7 +222,7 @@ public class PreparedPutContentValuesTest {
         assertThat(cause).hasMessage("test exception");
 
         verify(stub.storIOSQLite).put();
-        verify(stub.storIOSQLite).defaultRxScheduler();
+        verify(stub.storIOSQLite).defaultRxWriteScheduler();
         verify(stub.storIOSQLite).interceptors();
         verifyNoMoreInteractions(stub.storIOSQLite, stub.lowLevel);
     }
@@ -199,7 +199,7 @@ public class PreparedPutObjectTest {
                             "db was not affected by this operation, please add type mapping for this type");
 
             verify(storIOSQLite).lowLevel();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(storIOSQLite).interceptors();
             verify(lowLevel).typeMapping(Object.class);
             verifyNoMoreInteractions(storIOSQLite, lowLevel);
@@ -235,7 +235,7 @@ public class PreparedPutObjectTest {
                     "db was not affected by this operation, please add type mapping for this type");
 
             verify(storIOSQLite).lowLevel();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(storIOSQLite).interceptors();
             verify(lowLevel).typeMapping(Object.class);
             verifyNoMoreInteractions(storIOSQLite, lowLevel);
@@ -271,7 +271,7 @@ public class PreparedPutObjectTest {
                     "db was not affected by this operation, please add type mapping for this type");
 
             verify(storIOSQLite).lowLevel();
-            verify(storIOSQLite).defaultRxScheduler();
+            verify(storIOSQLite).defaultRxWriteScheduler();
             verify(storIOSQLite).interceptors();
             verify(lowLevel).typeMapping(Object.class);
             verifyNoMoreInteractions(storIOSQLite, lowLevel);
@@ -297,7 +297,7 @@ public class PreparedPutObjectTest {
         @Test
         public void putObjectFlowableExecutesOnSpecifiedScheduler() {
             final PutObjectsStub putStub = PutObjectsStub.newPutStubForOneObjectWithTypeMapping();
-            final SchedulerChecker schedulerChecker = SchedulerChecker.create(putStub.storIOSQLite);
+            final SchedulerChecker schedulerChecker = SchedulerChecker.createForWrites(putStub.storIOSQLite);
 
             final PreparedPutObject<TestItem> operation = putStub.storIOSQLite
                     .put()
@@ -310,7 +310,7 @@ public class PreparedPutObjectTest {
         @Test
         public void putObjectAsSingleExecutesOnSpecifiedScheduler() {
             final PutObjectsStub putStub = PutObjectsStub.newPutStubForOneObjectWithTypeMapping();
-            final SchedulerChecker schedulerChecker = SchedulerChecker.create(putStub.storIOSQLite);
+            final SchedulerChecker schedulerChecker = SchedulerChecker.createForWrites(putStub.storIOSQLite);
 
             final PreparedPutObject<TestItem> operation = putStub.storIOSQLite
                     .put()
@@ -323,7 +323,7 @@ public class PreparedPutObjectTest {
         @Test
         public void putObjectAsCompletableExecutesOnSpecifiedScheduler() {
             final PutObjectsStub putStub = PutObjectsStub.newPutStubForOneObjectWithTypeMapping();
-            final SchedulerChecker schedulerChecker = SchedulerChecker.create(putStub.storIOSQLite);
+            final SchedulerChecker schedulerChecker = SchedulerChecker.createForWrites(putStub.storIOSQLite);
 
             final PreparedPutObject<TestItem> operation = putStub.storIOSQLite
                     .put()
@@ -263,7 +263,7 @@ class PutObjectsStub {
                 .testAction(new Consumer<PutResults<TestItem>>() {
                     @Override
                     public void accept(PutResults<TestItem> testItemPutResults) {
-                        verify(storIOSQLite).defaultRxScheduler();
+                        verify(storIOSQLite).defaultRxWriteScheduler();
                         verifyBehaviorForMultipleObjects(testItemPutResults);
                     }
                 })
@@ -277,7 +277,7 @@ class PutObjectsStub {
                 .testAction(new Consumer<PutResults<TestItem>>() {
                     @Override
                     public void accept(PutResults<TestItem> testItemPutResults) {
-                        verify(storIOSQLite).defaultRxScheduler();
+                        verify(storIOSQLite).defaultRxWriteScheduler();
                         verifyBehaviorForMultipleObjects(testItemPutResults);
                     }
                 })
@@ -300,7 +300,7 @@ class PutObjectsStub {
                 .testAction(new Consumer<PutResult>() {
                     @Override
                     public void accept(PutResult putResult) {
-                        verify(storIOSQLite).defaultRxScheduler();
+                        verify(storIOSQLite).defaultRxWriteScheduler();
                         verifyBehaviorForOneObject(putResult);
                     }
                 })
@@ -314,7 +314,7 @@ class PutObjectsStub {
                 .testAction(new Consumer<PutResult>() {
                     @Override
                     public void accept(PutResult putResult) {
-                        verify(storIOSQLite).defaultRxScheduler();
+                        verify(storIOSQLite).defaultRxWriteScheduler();
                         verifyBehaviorForOneObject(putResult);
                     }
                 })
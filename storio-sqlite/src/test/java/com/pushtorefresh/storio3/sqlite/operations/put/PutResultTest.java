@@ -307,6 +307,25 @@ public class PutResultTest {
         PutResult.newUpdateResult(1, "table", "");
     }
 
+    @Test
+    public void changesShouldHaveKeysOfSingleAffectedTable() {
+        final PutResult putResult = PutResult.newUpdateResult(1, "table")
+                .withAffectedKeys("id", singleton("1"));
+
+        assertThat(putResult.toChanges().affectedKeys("table", "id")).containsOnly("1");
+    }
+
+    @Test
+    public void changesShouldNotHaveKeysIfSeveralTablesWereAffected() {
+        final PutResult putResult = PutResult.newUpdateResult(1, new HashSet<String>(asList("table1", "table2")))
+                .withAffectedKeys("id", singleton("1"));
+
+        assertThat(putResult.keyedTable()).isNull();
+        assertThat(putResult.toChanges().affectedTables()).containsOnly("table1", "table2");
+        assertThat(putResult.toChanges().affectedKeys("table1", "id")).isNull();
+        assertThat(putResult.toChanges().affectedKeys("table2", "id")).isNull();
+    }
+
     @Test
     public void verifyEqualsAndHashCodeImplementation() {
         EqualsVerifier
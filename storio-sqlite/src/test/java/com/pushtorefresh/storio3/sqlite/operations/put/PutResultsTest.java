@@ -9,6 +9,7 @@ import java.util.Map;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
 
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Java6Assertions.assertThat;
 
@@ -64,6 +65,36 @@ public class PutResultsTest {
         assertThat(putResults.numberOfUpdates()).isEqualTo(6);
     }
 
+    @Test
+    public void affectedTablesAndTagsShouldBeCollectedFromChangedResults() {
+        final Map<String, PutResult> putResultMap = new HashMap<String, PutResult>();
+
+        putResultMap.put("insert", PutResult.newInsertResult(1L, "affected_table", "affected_tag"));
+        putResultMap.put("no update", PutResult.newUpdateResult(0, "not_affected_table", "not_affected_tag"));
+
+        final PutResults<String> putResults = PutResults.newInstance(putResultMap);
+
+        assertThat(putResults.hasResultsOfObjects()).isTrue();
+        assertThat(putResults.affectedTables()).containsExactly("affected_table");
+        assertThat(putResults.affectedTags()).containsExactly("affected_tag");
+    }
+
+    @Test
+    public void onlyAggregatedResults() {
+        final PutResults<String> putResults = PutResults.newInstance(3, 2, singleton("affected_table"), singleton("affected_tag"));
+
+        assertThat(putResults.hasResultsOfObjects()).isFalse();
+        assertThat(putResults.numberOfInserts()).isEqualTo(3);
+        assertThat(putResults.numberOfUpdates()).isEqualTo(2);
+        assertThat(putResults.affectedTables()).containsExactly("affected_table");
+        assertThat(putResults.affectedTags()).containsExactly("affected_tag");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void resultsShouldThrowIfOnlyAggregatedResults() {
+        PutResults.newInstance(3, 2, singleton("affected_table"), singleton("affected_tag")).results();
+    }
+
     @Test
     public void verifyEqualsAndHashCodeImplementation() {
         EqualsVerifier
@@ -0,0 +1,73 @@
+package com.pushtorefresh.storio3.sqlite.operations.transaction;
+
+import com.pushtorefresh.storio3.operations.PreparedOperation;
+import com.pushtorefresh.storio3.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio3.test.ToStringChecker;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class TransactionResultTest {
+
+    @SuppressWarnings("ConstantConditions")
+    @Test(expected = NullPointerException.class)
+    public void nullResults() {
+        TransactionResult.newInstance(Collections.emptyList(), null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowDifferentNumberOfResults() {
+        TransactionResult.newInstance(Arrays.<Object>asList("operation"), Collections.emptyList());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void resultOf() {
+        final PreparedOperation<String, String, Object> operation = mock(PreparedOperation.class);
+        final PreparedTransaction.Task<Integer> task = new PreparedTransaction.Task<Integer>() {
+            @Override
+            public Integer execute(StorIOSQLite storIOSQLite) {
+                return 1;
+            }
+        };
+
+        final TransactionResult transactionResult = TransactionResult.newInstance(
+                Arrays.<Object>asList(operation, task, operation),
+                Arrays.<Object>asList("first", 1, "second")
+        );
+
+        assertThat(transactionResult.results()).containsExactly("first", 1, "second");
+        assertThat(transactionResult.resultOf(operation)).isEqualTo("second");
+        assertThat(transactionResult.resultOf(task)).isEqualTo(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test(expected = IllegalArgumentException.class)
+    public void resultOfOtherOperation() {
+        TransactionResult
+                .newInstance(Collections.emptyList(), Collections.emptyList())
+                .resultOf(mock(PreparedOperation.class));
+    }
+
+    @Test
+    public void verifyEqualsAndHashCodeImplementation() {
+        EqualsVerifier
+                .forClass(TransactionResult.class)
+                .allFieldsShouldBeUsed()
+                .verify();
+    }
+
+    @Test
+    public void checkToStringImplementation() {
+        ToStringChecker
+                .forClass(TransactionResult.class)
+                .check();
+    }
+}
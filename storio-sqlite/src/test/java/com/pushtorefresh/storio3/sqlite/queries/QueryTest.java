@@ -240,6 +240,7 @@ public class QueryTest {
                 .orderBy(orderBy)
                 .limit(limit)
                 .observesTags(tag)
+                .observesColumns("column1")
                 .build();
 
         final Query secondQuery = firstQuery.toBuilder().build();
@@ -282,6 +283,28 @@ public class QueryTest {
         assertThat(query.observesTags()).isEqualTo(singleton("second_call_vararg"));
     }
 
+    @Test
+    public void observesColumnsVarargShouldRewrite() {
+        Query query = Query.builder()
+                .table("table")
+                .observesColumns("first_call_vararg")
+                .observesColumns("second_call_vararg", "second_call_vararg_2")
+                .build();
+
+        assertThat(query.observesColumns()).containsOnly("second_call_vararg", "second_call_vararg_2");
+    }
+
+    @Test
+    public void observesColumnsCollectionAllowsNull() {
+        Query query = Query.builder()
+                .table("table")
+                .observesColumns(singletonList("first_call_collection"))
+                .observesColumns(null)
+                .build();
+
+        assertThat(query.observesColumns()).isEmpty();
+    }
+
     @Test
     public void observesTagsCollectionAllowsNull() {
         Query query = Query.builder()
@@ -216,6 +216,26 @@ public class RawQueryTest {
         assertThat(rawQuery.observesTables()).isEqualTo(singleton("second_call_collection"));
     }
 
+    @Test
+    public void observesColumnsShouldBeEmptyByDefault() {
+        RawQuery rawQuery = RawQuery.builder()
+                .query("lalala I know SQL")
+                .build();
+
+        assertThat(rawQuery.observesColumns()).isEmpty();
+    }
+
+    @Test
+    public void observesColumnsVarargShouldRewrite() {
+        RawQuery rawQuery = RawQuery.builder()
+                .query("lalala I know SQL")
+                .observesColumns("first_call_vararg")
+                .observesColumns("second_call_vararg")
+                .build();
+
+        assertThat(rawQuery.observesColumns()).isEqualTo(singleton("second_call_vararg"));
+    }
+
     @Test
     public void observesTagsCollectionShouldRewrite() {
         RawQuery rawQuery = RawQuery.builder()